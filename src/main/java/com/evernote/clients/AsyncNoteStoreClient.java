@@ -0,0 +1,1104 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.evernote.edam.notestore.ClientUsageMetrics;
+import com.evernote.edam.notestore.NoteCollectionCounts;
+import com.evernote.edam.notestore.NoteEmailParameters;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteList;
+import com.evernote.edam.notestore.NoteVersionId;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.edam.notestore.RelatedQuery;
+import com.evernote.edam.notestore.RelatedResult;
+import com.evernote.edam.notestore.RelatedResultSpec;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LazyMap;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.ResourceAttributes;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.SharedNotebook;
+import com.evernote.edam.type.SharedNotebookRecipientSettings;
+import com.evernote.edam.type.Tag;
+import com.evernote.edam.userstore.AuthenticationResult;
+import com.evernote.thrift.TException;
+
+/**
+ * An asynchronous counterpart of {@link NoteStoreClient}. Every call is
+ * submitted to an {@link Executor} and returns a {@link Future} right away;
+ * the optional {@link OnClientCallback} is notified when the call completes.
+ * 
+ * Each call leases its own {@link NoteStoreClient}, so any number of calls may
+ * be in flight at once, limited only by the executor. Share a
+ * {@link com.evernote.thrift.transport.THttpConnectionPool} through the
+ * {@link ClientFactory} to keep the connections behind them warm.
+ * 
+ * This class is thread safe.
+ */
+public class AsyncNoteStoreClient {
+
+  private final StoreClientPool<NoteStoreClient> pool;
+  private final Executor executor;
+
+  AsyncNoteStoreClient(StoreClientPool<NoteStoreClient> pool,
+      Executor executor) {
+    if (pool == null || executor == null) {
+      throw new IllegalArgumentException(
+          "StoreClientPool and Executor must not be null.");
+    }
+    this.pool = pool;
+    this.executor = executor;
+  }
+
+  /**
+   * @return authToken inserted into calls
+   */
+  String getToken() {
+    return pool.getToken();
+  }
+
+  /**
+   * A call against a {@link NoteStoreClient} to be run on the executor.
+   */
+  interface ClientCall<T> {
+    T call(NoteStoreClient client) throws Exception;
+  }
+
+  <T> Future<T> execute(final ClientCall<T> call,
+      final OnClientCallback<T> callback) {
+    FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+      public T call() throws Exception {
+        T result;
+        NoteStoreClient client = null;
+        boolean reusable = false;
+        try {
+          client = pool.lease();
+          result = call.call(client);
+          reusable = true;
+        } catch (Exception e) {
+          // EDAM errors arrive as complete responses, the client is fine
+          reusable = !(e instanceof TException)
+              && !(e instanceof RuntimeException);
+          release(client, reusable);
+          client = null;
+          if (callback != null) {
+            try {
+              callback.onException(e);
+            } catch (RuntimeException ignored) {
+              ;
+            }
+          }
+          throw e;
+        } finally {
+          release(client, reusable);
+        }
+        // The client is back in the pool before the callback runs, and a
+        // throwing callback does not turn a successful call into a failure
+        if (callback != null) {
+          try {
+            callback.onSuccess(result);
+          } catch (RuntimeException ignored) {
+            ;
+          }
+        }
+        return result;
+      }
+    });
+    executor.execute(task);
+    return task;
+  }
+
+  private void release(NoteStoreClient client, boolean reusable) {
+    if (client != null) {
+      if (reusable) {
+        pool.release(client);
+      } else {
+        pool.invalidate(client);
+      }
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncState()
+   */
+  public Future<SyncState> getSyncState(OnClientCallback<SyncState> callback) {
+    return execute(new ClientCall<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getSyncState();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncStateWithMetrics(ClientUsageMetrics)
+   */
+  public Future<SyncState> getSyncStateWithMetrics(
+      final ClientUsageMetrics clientMetrics,
+      OnClientCallback<SyncState> callback) {
+    return execute(new ClientCall<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getSyncStateWithMetrics(clientMetrics);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncChunk(int, int, boolean)
+   */
+  public Future<SyncChunk> getSyncChunk(final int afterUSN,
+      final int maxEntries, final boolean fullSyncOnly,
+      OnClientCallback<SyncChunk> callback) {
+    return execute(new ClientCall<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getSyncChunk(afterUSN, maxEntries, fullSyncOnly);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter)
+   */
+  public Future<SyncChunk> getFilteredSyncChunk(final int afterUSN,
+      final int maxEntries, final SyncChunkFilter filter,
+      OnClientCallback<SyncChunk> callback) {
+    return execute(new ClientCall<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getFilteredSyncChunk(afterUSN, maxEntries, filter);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncState(LinkedNotebook)
+   */
+  public Future<SyncState> getLinkedNotebookSyncState(
+      final LinkedNotebook linkedNotebook,
+      OnClientCallback<SyncState> callback) {
+    return execute(new ClientCall<SyncState>() {
+      public SyncState call(NoteStoreClient client) throws Exception {
+        return client.getLinkedNotebookSyncState(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int,
+   *      boolean)
+   */
+  public Future<SyncChunk> getLinkedNotebookSyncChunk(
+      final LinkedNotebook linkedNotebook, final int afterUSN,
+      final int maxEntries, final boolean fullSyncOnly,
+      OnClientCallback<SyncChunk> callback) {
+    return execute(new ClientCall<SyncChunk>() {
+      public SyncChunk call(NoteStoreClient client) throws Exception {
+        return client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+            maxEntries, fullSyncOnly);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listNotebooks()
+   */
+  public Future<List<Notebook>> listNotebooks(
+      OnClientCallback<List<Notebook>> callback) {
+    return execute(new ClientCall<List<Notebook>>() {
+      public List<Notebook> call(NoteStoreClient client) throws Exception {
+        return client.listNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNotebook(String)
+   */
+  public Future<Notebook> getNotebook(final String guid,
+      OnClientCallback<Notebook> callback) {
+    return execute(new ClientCall<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getDefaultNotebook()
+   */
+  public Future<Notebook> getDefaultNotebook(
+      OnClientCallback<Notebook> callback) {
+    return execute(new ClientCall<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getDefaultNotebook();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createNotebook(Notebook)
+   */
+  public Future<Notebook> createNotebook(final Notebook notebook,
+      OnClientCallback<Notebook> callback) {
+    return execute(new ClientCall<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.createNotebook(notebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateNotebook(Notebook)
+   */
+  public Future<Integer> updateNotebook(final Notebook notebook,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateNotebook(notebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotebook(String)
+   */
+  public Future<Integer> expungeNotebook(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listTags()
+   */
+  public Future<List<Tag>> listTags(OnClientCallback<List<Tag>> callback) {
+    return execute(new ClientCall<List<Tag>>() {
+      public List<Tag> call(NoteStoreClient client) throws Exception {
+        return client.listTags();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listTagsByNotebook(String)
+   */
+  public Future<List<Tag>> listTagsByNotebook(final String notebookGuid,
+      OnClientCallback<List<Tag>> callback) {
+    return execute(new ClientCall<List<Tag>>() {
+      public List<Tag> call(NoteStoreClient client) throws Exception {
+        return client.listTagsByNotebook(notebookGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getTag(String)
+   */
+  public Future<Tag> getTag(final String guid, OnClientCallback<Tag> callback) {
+    return execute(new ClientCall<Tag>() {
+      public Tag call(NoteStoreClient client) throws Exception {
+        return client.getTag(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createTag(Tag)
+   */
+  public Future<Tag> createTag(final Tag tag, OnClientCallback<Tag> callback) {
+    return execute(new ClientCall<Tag>() {
+      public Tag call(NoteStoreClient client) throws Exception {
+        return client.createTag(tag);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateTag(Tag)
+   */
+  public Future<Integer> updateTag(final Tag tag,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateTag(tag);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#untagAll(String)
+   */
+  public Future<Void> untagAll(final String guid,
+      OnClientCallback<Void> callback) {
+    return execute(new ClientCall<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.untagAll(guid);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeTag(String)
+   */
+  public Future<Integer> expungeTag(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeTag(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listSearches()
+   */
+  public Future<List<SavedSearch>> listSearches(
+      OnClientCallback<List<SavedSearch>> callback) {
+    return execute(new ClientCall<List<SavedSearch>>() {
+      public List<SavedSearch> call(NoteStoreClient client) throws Exception {
+        return client.listSearches();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getSearch(String)
+   */
+  public Future<SavedSearch> getSearch(final String guid,
+      OnClientCallback<SavedSearch> callback) {
+    return execute(new ClientCall<SavedSearch>() {
+      public SavedSearch call(NoteStoreClient client) throws Exception {
+        return client.getSearch(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createSearch(SavedSearch)
+   */
+  public Future<SavedSearch> createSearch(final SavedSearch search,
+      OnClientCallback<SavedSearch> callback) {
+    return execute(new ClientCall<SavedSearch>() {
+      public SavedSearch call(NoteStoreClient client) throws Exception {
+        return client.createSearch(search);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateSearch(SavedSearch)
+   */
+  public Future<Integer> updateSearch(final SavedSearch search,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateSearch(search);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSearch(String)
+   */
+  public Future<Integer> expungeSearch(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeSearch(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#findNotes(NoteFilter, int, int)
+   */
+  public Future<NoteList> findNotes(final NoteFilter filter, final int offset,
+      final int maxNotes, OnClientCallback<NoteList> callback) {
+    return execute(new ClientCall<NoteList>() {
+      public NoteList call(NoteStoreClient client) throws Exception {
+        return client.findNotes(filter, offset, maxNotes);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteOffset(NoteFilter, String)
+   */
+  public Future<Integer> findNoteOffset(final NoteFilter filter,
+      final String guid, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.findNoteOffset(filter, guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#findNotesMetadata(NoteFilter, int, int,
+   *      NotesMetadataResultSpec)
+   */
+  public Future<NotesMetadataList> findNotesMetadata(final NoteFilter filter,
+      final int offset, final int maxNotes,
+      final NotesMetadataResultSpec resultSpec,
+      OnClientCallback<NotesMetadataList> callback) {
+    return execute(new ClientCall<NotesMetadataList>() {
+      public NotesMetadataList call(NoteStoreClient client) throws Exception {
+        return client.findNotesMetadata(filter, offset, maxNotes, resultSpec);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteCounts(NoteFilter, boolean)
+   */
+  public Future<NoteCollectionCounts> findNoteCounts(final NoteFilter filter,
+      final boolean withTrash,
+      OnClientCallback<NoteCollectionCounts> callback) {
+    return execute(new ClientCall<NoteCollectionCounts>() {
+      public NoteCollectionCounts call(
+          NoteStoreClient client) throws Exception {
+        return client.findNoteCounts(filter, withTrash);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNote(String, boolean, boolean, boolean, boolean)
+   */
+  public Future<Note> getNote(final String guid, final boolean withContent,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData,
+      OnClientCallback<Note> callback) {
+    return execute(new ClientCall<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.getNote(guid, withContent, withResourcesData,
+            withResourcesRecognition, withResourcesAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationData(String)
+   */
+  public Future<LazyMap> getNoteApplicationData(final String guid,
+      OnClientCallback<LazyMap> callback) {
+    return execute(new ClientCall<LazyMap>() {
+      public LazyMap call(NoteStoreClient client) throws Exception {
+        return client.getNoteApplicationData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationDataEntry(String, String)
+   */
+  public Future<String> getNoteApplicationDataEntry(final String guid,
+      final String key, OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#setNoteApplicationDataEntry(String, String, String)
+   */
+  public Future<Integer> setNoteApplicationDataEntry(final String guid,
+      final String key, final String value,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.setNoteApplicationDataEntry(guid, key, value);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#unsetNoteApplicationDataEntry(String, String)
+   */
+  public Future<Integer> unsetNoteApplicationDataEntry(final String guid,
+      final String key, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.unsetNoteApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteContent(String)
+   */
+  public Future<String> getNoteContent(final String guid,
+      OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteContent(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteSearchText(String, boolean, boolean)
+   */
+  public Future<String> getNoteSearchText(final String guid,
+      final boolean noteOnly, final boolean tokenizeForIndexing,
+      OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getNoteSearchText(guid, noteOnly, tokenizeForIndexing);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceSearchText(String)
+   */
+  public Future<String> getResourceSearchText(final String guid,
+      OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getResourceSearchText(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteTagNames(String)
+   */
+  public Future<List<String>> getNoteTagNames(final String guid,
+      OnClientCallback<List<String>> callback) {
+    return execute(new ClientCall<List<String>>() {
+      public List<String> call(NoteStoreClient client) throws Exception {
+        return client.getNoteTagNames(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createNote(Note)
+   */
+  public Future<Note> createNote(final Note note,
+      OnClientCallback<Note> callback) {
+    return execute(new ClientCall<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.createNote(note);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateNote(Note)
+   */
+  public Future<Note> updateNote(final Note note,
+      OnClientCallback<Note> callback) {
+    return execute(new ClientCall<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.updateNote(note);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#deleteNote(String)
+   */
+  public Future<Integer> deleteNote(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.deleteNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNote(String)
+   */
+  public Future<Integer> expungeNote(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotes(List)
+   */
+  public Future<Integer> expungeNotes(final List<String> noteGuids,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeNotes(noteGuids);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeInactiveNotes()
+   */
+  public Future<Integer> expungeInactiveNotes(
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeInactiveNotes();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#copyNote(String, String)
+   */
+  public Future<Note> copyNote(final String noteGuid,
+      final String toNotebookGuid, OnClientCallback<Note> callback) {
+    return execute(new ClientCall<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.copyNote(noteGuid, toNotebookGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listNoteVersions(String)
+   */
+  public Future<List<NoteVersionId>> listNoteVersions(final String noteGuid,
+      OnClientCallback<List<NoteVersionId>> callback) {
+    return execute(new ClientCall<List<NoteVersionId>>() {
+      public List<NoteVersionId> call(NoteStoreClient client) throws Exception {
+        return client.listNoteVersions(noteGuid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteVersion(String, int, boolean, boolean, boolean)
+   */
+  public Future<Note> getNoteVersion(final String noteGuid,
+      final int updateSequenceNum, final boolean withResourcesData,
+      final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData,
+      OnClientCallback<Note> callback) {
+    return execute(new ClientCall<Note>() {
+      public Note call(NoteStoreClient client) throws Exception {
+        return client.getNoteVersion(noteGuid, updateSequenceNum,
+            withResourcesData, withResourcesRecognition,
+            withResourcesAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResource(String, boolean, boolean, boolean,
+   *      boolean)
+   */
+  public Future<Resource> getResource(final String guid, final boolean withData,
+      final boolean withRecognition, final boolean withAttributes,
+      final boolean withAlternateData, OnClientCallback<Resource> callback) {
+    return execute(new ClientCall<Resource>() {
+      public Resource call(NoteStoreClient client) throws Exception {
+        return client.getResource(guid, withData, withRecognition,
+            withAttributes, withAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationData(String)
+   */
+  public Future<LazyMap> getResourceApplicationData(final String guid,
+      OnClientCallback<LazyMap> callback) {
+    return execute(new ClientCall<LazyMap>() {
+      public LazyMap call(NoteStoreClient client) throws Exception {
+        return client.getResourceApplicationData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationDataEntry(String, String)
+   */
+  public Future<String> getResourceApplicationDataEntry(final String guid,
+      final String key, OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.getResourceApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#setResourceApplicationDataEntry(String, String,
+   *      String)
+   */
+  public Future<Integer> setResourceApplicationDataEntry(final String guid,
+      final String key, final String value,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.setResourceApplicationDataEntry(guid, key, value);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#unsetResourceApplicationDataEntry(String, String)
+   */
+  public Future<Integer> unsetResourceApplicationDataEntry(final String guid,
+      final String key, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.unsetResourceApplicationDataEntry(guid, key);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateResource(Resource)
+   */
+  public Future<Integer> updateResource(final Resource resource,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateResource(resource);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceData(String)
+   */
+  public Future<byte[]> getResourceData(final String guid,
+      OnClientCallback<byte[]> callback) {
+    return execute(new ClientCall<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceByHash(String, byte[], boolean, boolean,
+   *      boolean)
+   */
+  public Future<Resource> getResourceByHash(final String noteGuid,
+      final byte[] contentHash, final boolean withData,
+      final boolean withRecognition, final boolean withAlternateData,
+      OnClientCallback<Resource> callback) {
+    return execute(new ClientCall<Resource>() {
+      public Resource call(NoteStoreClient client) throws Exception {
+        return client.getResourceByHash(noteGuid, contentHash, withData,
+            withRecognition, withAlternateData);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceRecognition(String)
+   */
+  public Future<byte[]> getResourceRecognition(final String guid,
+      OnClientCallback<byte[]> callback) {
+    return execute(new ClientCall<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceRecognition(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAlternateData(String)
+   */
+  public Future<byte[]> getResourceAlternateData(final String guid,
+      OnClientCallback<byte[]> callback) {
+    return execute(new ClientCall<byte[]>() {
+      public byte[] call(NoteStoreClient client) throws Exception {
+        return client.getResourceAlternateData(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAttributes(String)
+   */
+  public Future<ResourceAttributes> getResourceAttributes(final String guid,
+      OnClientCallback<ResourceAttributes> callback) {
+    return execute(new ClientCall<ResourceAttributes>() {
+      public ResourceAttributes call(NoteStoreClient client) throws Exception {
+        return client.getResourceAttributes(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getPublicNotebook(int, String)
+   */
+  public Future<Notebook> getPublicNotebook(final int userId,
+      final String publicUri, OnClientCallback<Notebook> callback) {
+    return execute(new ClientCall<Notebook>() {
+      public Notebook call(NoteStoreClient client) throws Exception {
+        return client.getPublicNotebook(userId, publicUri);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createSharedNotebook(SharedNotebook)
+   */
+  public Future<SharedNotebook> createSharedNotebook(
+      final SharedNotebook sharedNotebook,
+      OnClientCallback<SharedNotebook> callback) {
+    return execute(new ClientCall<SharedNotebook>() {
+      public SharedNotebook call(NoteStoreClient client) throws Exception {
+        return client.createSharedNotebook(sharedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateSharedNotebook(SharedNotebook)
+   */
+  public Future<Integer> updateSharedNotebook(
+      final SharedNotebook sharedNotebook, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateSharedNotebook(sharedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#sendMessageToSharedNotebookMembers(String, String,
+   *      List)
+   */
+  public Future<Integer> sendMessageToSharedNotebookMembers(
+      final String notebookGuid, final String messageText,
+      final List<String> recipients, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.sendMessageToSharedNotebookMembers(notebookGuid,
+            messageText, recipients);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listSharedNotebooks()
+   */
+  public Future<List<SharedNotebook>> listSharedNotebooks(
+      OnClientCallback<List<SharedNotebook>> callback) {
+    return execute(new ClientCall<List<SharedNotebook>>() {
+      public List<SharedNotebook> call(
+          NoteStoreClient client) throws Exception {
+        return client.listSharedNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSharedNotebooks(List)
+   */
+  public Future<Integer> expungeSharedNotebooks(
+      final List<Long> sharedNotebookIds, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeSharedNotebooks(sharedNotebookIds);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#createLinkedNotebook(LinkedNotebook)
+   */
+  public Future<LinkedNotebook> createLinkedNotebook(
+      final LinkedNotebook linkedNotebook,
+      OnClientCallback<LinkedNotebook> callback) {
+    return execute(new ClientCall<LinkedNotebook>() {
+      public LinkedNotebook call(NoteStoreClient client) throws Exception {
+        return client.createLinkedNotebook(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#updateLinkedNotebook(LinkedNotebook)
+   */
+  public Future<Integer> updateLinkedNotebook(
+      final LinkedNotebook linkedNotebook, OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.updateLinkedNotebook(linkedNotebook);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#listLinkedNotebooks()
+   */
+  public Future<List<LinkedNotebook>> listLinkedNotebooks(
+      OnClientCallback<List<LinkedNotebook>> callback) {
+    return execute(new ClientCall<List<LinkedNotebook>>() {
+      public List<LinkedNotebook> call(
+          NoteStoreClient client) throws Exception {
+        return client.listLinkedNotebooks();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#expungeLinkedNotebook(String)
+   */
+  public Future<Integer> expungeLinkedNotebook(final String guid,
+      OnClientCallback<Integer> callback) {
+    return execute(new ClientCall<Integer>() {
+      public Integer call(NoteStoreClient client) throws Exception {
+        return client.expungeLinkedNotebook(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNotebook(String)
+   */
+  public Future<AuthenticationResult> authenticateToSharedNotebook(
+      final String shareKey, OnClientCallback<AuthenticationResult> callback) {
+    return execute(new ClientCall<AuthenticationResult>() {
+      public AuthenticationResult call(
+          NoteStoreClient client) throws Exception {
+        return client.authenticateToSharedNotebook(shareKey);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#getSharedNotebookByAuth()
+   */
+  public Future<SharedNotebook> getSharedNotebookByAuth(
+      OnClientCallback<SharedNotebook> callback) {
+    return execute(new ClientCall<SharedNotebook>() {
+      public SharedNotebook call(NoteStoreClient client) throws Exception {
+        return client.getSharedNotebookByAuth();
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#emailNote(NoteEmailParameters)
+   */
+  public Future<Void> emailNote(final NoteEmailParameters parameters,
+      OnClientCallback<Void> callback) {
+    return execute(new ClientCall<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.emailNote(parameters);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#shareNote(String)
+   */
+  public Future<String> shareNote(final String guid,
+      OnClientCallback<String> callback) {
+    return execute(new ClientCall<String>() {
+      public String call(NoteStoreClient client) throws Exception {
+        return client.shareNote(guid);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#stopSharingNote(String)
+   */
+  public Future<Void> stopSharingNote(final String guid,
+      OnClientCallback<Void> callback) {
+    return execute(new ClientCall<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.stopSharingNote(guid);
+        return null;
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNote(String, String, String)
+   */
+  public Future<AuthenticationResult> authenticateToSharedNote(
+      final String guid, final String noteKey, final String authenticationToken,
+      OnClientCallback<AuthenticationResult> callback) {
+    return execute(new ClientCall<AuthenticationResult>() {
+      public AuthenticationResult call(
+          NoteStoreClient client) throws Exception {
+        return client.authenticateToSharedNote(guid, noteKey,
+            authenticationToken);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#findRelated(RelatedQuery, RelatedResultSpec)
+   */
+  public Future<RelatedResult> findRelated(final RelatedQuery query,
+      final RelatedResultSpec resultSpec,
+      OnClientCallback<RelatedResult> callback) {
+    return execute(new ClientCall<RelatedResult>() {
+      public RelatedResult call(NoteStoreClient client) throws Exception {
+        return client.findRelated(query, resultSpec);
+      }
+    }, callback);
+  }
+
+  /**
+   * @see NoteStoreClient#setSharedNotebookRecipientSettings(String, long,
+   *      SharedNotebookRecipientSettings)
+   */
+  public Future<Void> setSharedNotebookRecipientSettings(
+      final String authenticationToken, final long sharedNotebookId,
+      final SharedNotebookRecipientSettings recipientSettings,
+      OnClientCallback<Void> callback) {
+    return execute(new ClientCall<Void>() {
+      public Void call(NoteStoreClient client) throws Exception {
+        client.setSharedNotebookRecipientSettings(authenticationToken,
+            sharedNotebookId, recipientSettings);
+        return null;
+      }
+    }, callback);
+  }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.evernote.edam.type.Note;
+
+/**
+ * Fetches many notes at once, making up to
+ * {@link #setMaxConcurrency(int)} {@link NoteStoreClient#getNote} calls in
+ * parallel instead of one after another. Each note is handed to a
+ * {@link BulkNoteHandler} as soon as it arrives, in no particular order, and
+ * a note that fails to load is reported without stopping the others.
+ * 
+ * The client must be safe for concurrent use, typically a
+ * {@link PooledNoteStoreClient} for the shard that holds the notes; its pool
+ * size caps the number of connections actually open at once. A client
+ * created by a {@link ClientFactory} with a {@link RateLimitScheduler} waits
+ * out rate limits before every call, so the workers back off together when
+ * the service asks them to.
+ * 
+ * This class is thread safe.
+ */
+public class BulkNoteFetcher {
+
+  public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+  private final NoteStoreClient client;
+
+  private volatile int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+  private volatile Executor executor;
+
+  /**
+   * @param client
+   *          the client to fetch with, shared by every worker
+   */
+  public BulkNoteFetcher(NoteStoreClient client) {
+    if (client == null) {
+      throw new IllegalArgumentException("client must not be null");
+    }
+    this.client = client;
+  }
+
+  /**
+   * @param maxConcurrency
+   *          the most notes fetched at the same time
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("maxConcurrency must be positive");
+    }
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * @param executor
+   *          runs the fetches. If null, the default, each run starts its own
+   *          background threads and stops them when done.
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Fetches every note in <i>guids</i> and returns once all of them have
+   * been delivered to <i>handler</i> or failed.
+   * 
+   * @see NoteStoreClient#getNote(String, boolean, boolean, boolean, boolean)
+   * 
+   * @throws InterruptedException
+   *           if interrupted while waiting. No further fetches are started;
+   *           those in flight may still be reported.
+   * @throws RuntimeException
+   *           the first exception thrown by <i>handler</i> itself, once every
+   *           note has been fetched
+   */
+  public void getNotes(Collection<String> guids, final boolean withContent,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData, final BulkNoteHandler handler)
+      throws InterruptedException {
+    if (handler == null) {
+      throw new IllegalArgumentException("handler must not be null");
+    }
+    if (guids.isEmpty()) {
+      return;
+    }
+    Queue<String> queue = new ConcurrentLinkedQueue<String>(guids);
+    ParallelWork<String> work = new ParallelWork<String>(guids.size()) {
+      @Override
+      void work(String guid) {
+        Note note;
+        try {
+          note = client.getNote(guid, withContent, withResourcesData,
+              withResourcesRecognition, withResourcesAlternateData);
+        } catch (Exception e) {
+          handler.onException(guid, e);
+          return;
+        }
+        handler.onNote(guid, note);
+      }
+    };
+    int workers = Math.min(maxConcurrency, guids.size());
+
+    Executor runner = executor;
+    ExecutorService ownExecutor = null;
+    if (runner == null) {
+      ownExecutor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "BulkNoteFetcher-fetch");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      runner = ownExecutor;
+    }
+    try {
+      for (int i = 0; i < workers; i++) {
+        runner.execute(work.worker(queue));
+      }
+      work.await();
+    } finally {
+      // Only left non-empty by an interruption or a rejected worker
+      queue.clear();
+      if (ownExecutor != null) {
+        ownExecutor.shutdown();
+      }
+    }
+  }
+}
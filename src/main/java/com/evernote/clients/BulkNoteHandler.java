@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import com.evernote.edam.type.Note;
+
+/**
+ * Receives the notes of a {@link BulkNoteFetcher} run as they arrive. Methods
+ * are called from the fetcher's worker threads, several at once for
+ * different notes, and must be thread safe.
+ */
+public interface BulkNoteHandler {
+
+  void onNote(String guid, Note note);
+
+  /**
+   * @param exception
+   *          the {@link com.evernote.edam.error.EDAMNotFoundException},
+   *          {@link com.evernote.edam.error.EDAMUserException},
+   *          {@link com.evernote.edam.error.EDAMSystemException},
+   *          {@link com.evernote.thrift.TException} or runtime exception that
+   *          failed the fetch of <i>guid</i>
+   */
+  void onException(String guid, Exception exception);
+}
@@ -0,0 +1,1426 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.notestore.ClientUsageMetrics;
+import com.evernote.edam.notestore.NoteCollectionCounts;
+import com.evernote.edam.notestore.NoteEmailParameters;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteList;
+import com.evernote.edam.notestore.NoteStore;
+import com.evernote.edam.notestore.NoteVersionId;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.edam.notestore.RelatedQuery;
+import com.evernote.edam.notestore.RelatedResult;
+import com.evernote.edam.notestore.RelatedResultSpec;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncChunkVisitor;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.LazyMap;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.ResourceAttributes;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.SharedNotebook;
+import com.evernote.edam.type.SharedNotebookRecipientSettings;
+import com.evernote.edam.type.Tag;
+import com.evernote.edam.userstore.AuthenticationResult;
+import com.evernote.thrift.TBase;
+import com.evernote.thrift.TBaseHelper;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * A {@link NoteStoreClient} that keeps the notebook, tag and saved search
+ * lists of the account in memory. {@link #listNotebooks()},
+ * {@link #listTags()}, {@link #listTagsByNotebook(String)} and
+ * {@link #listSearches()} first ask {@link #getSyncState()} for the account's
+ * update count, and answer from memory if nothing in the account has changed
+ * since the list was fetched. Any change to the account, including to notes,
+ * moves the update count and causes the lists to be fetched again on next
+ * use.
+ * 
+ * {@link #setRevalidateInterval(long)} lets a validated update count be
+ * trusted for a while, so that bursts of list calls cost no round trip at
+ * all. Changes made through this client drop the cached lists immediately,
+ * including note changes that may create tags or move notes between
+ * notebooks; changes made elsewhere may then go unnoticed for up to the
+ * interval.
+ * 
+ * Lists are returned as deep copies, so callers may modify them freely.
+ * 
+ * It can also keep resource bodies by their hash and note content by its
+ * update sequence number, see {@link #setResourceCache(BlobCache)} and
+ * {@link #setContentCache(BlobCache)}. This class is as thread safe as its
+ * delegate.
+ */
+public class CachingNoteStoreClient extends NoteStoreClient {
+
+  /** The most resource guids whose body hash is remembered */
+  static final int MAX_RESOURCE_HASHES = 10000;
+  /** The most note guids whose cached content version is remembered */
+  static final int MAX_CONTENT_VERSIONS = 10000;
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private final NoteStoreClient delegate;
+
+  private volatile long revalidateInterval = 0;
+  private volatile Validation validation;
+  private volatile CachedList<Notebook> notebooks;
+  private volatile CachedList<Tag> tags;
+  private volatile CachedList<SavedSearch> searches;
+  private final Map<String, CachedList<Tag>> tagsByNotebook =
+      new ConcurrentHashMap<String, CachedList<Tag>>();
+
+  private volatile BlobCache resourceCache;
+  // Resource bodies never change, so neither does the hash of a guid
+  private final Map<String, byte[]> resourceHashes =
+      newLruMap(MAX_RESOURCE_HASHES);
+
+  private volatile BlobCache contentCache;
+  // The update sequence number of the content last cached for a note
+  private final Map<String, Integer> contentVersions =
+      newLruMap(MAX_CONTENT_VERSIONS);
+
+  /**
+   * @param delegate
+   *          makes the calls that can't be answered from memory
+   */
+  public CachingNoteStoreClient(NoteStoreClient delegate) {
+    super(delegate.getToken());
+    this.delegate = delegate;
+  }
+
+  /**
+   * Calls made directly on the returned client bypass the cache.
+   * 
+   * @see NoteStoreClient#getClient()
+   */
+  @Override
+  public NoteStore.Client getClient() {
+    return delegate.getClient();
+  }
+
+  /**
+   * @param millis
+   *          how long an update count read from {@link #getSyncState()} is
+   *          trusted before it is read again. 0, the default, reads it on
+   *          every list call.
+   */
+  public void setRevalidateInterval(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("millis must not be negative");
+    }
+    this.revalidateInterval = millis;
+  }
+
+  /**
+   * Resource bodies are immutable, so a body downloaded once can stand in for
+   * every later download of the same MD5 hash, whether by the same resource,
+   * a copy of its note, an older version or another user's shared note. With
+   * a cache set, {@link #getNote}, {@link #getNoteVersion},
+   * {@link #getResource}, {@link #getResourceByHash} and
+   * {@link #getResourceData(String)} fetch resource metadata without the
+   * bodies and take each body from the cache, downloading only the missing
+   * ones with {@link #getResourceData(String)}. Cached bodies are checked
+   * against their hash before use.
+   * 
+   * A note whose resources are all missing thus costs one call per resource
+   * in addition to the note itself. Streaming
+   * {@link #getResourceData(String, WritableByteChannel, byte[])} is
+   * answered from the cache but does not fill it.
+   * 
+   * @param resourceCache
+   *          holds resource bodies by the hex encoded MD5 hash, typically a
+   *          {@link MemoryBlobCache} in front of a {@link DiskBlobCache}. Null,
+   *          the default, caches no resources.
+   */
+  public void setResourceCache(BlobCache resourceCache) {
+    this.resourceCache = resourceCache;
+  }
+
+  /**
+   * A note's content is fixed by its guid and update sequence number, so it
+   * need not be downloaded again until the note changes. With a cache set,
+   * {@link #getNoteContent(String, int)} answers from the cache whenever it
+   * holds the requested version. {@link #getNoteContent(String)} and
+   * {@link #getNote} with content first fetch the metadata of a note whose
+   * content was cached before, and download the content only if its update
+   * sequence number has moved since.
+   * 
+   * @param contentCache
+   *          holds note content as UTF-8. A {@link MemoryBlobCache} weighs
+   *          each note by its content length, and may spill to a
+   *          {@link DiskBlobCache}. Null, the default, caches no content.
+   */
+  public void setContentCache(BlobCache contentCache) {
+    this.contentCache = contentCache;
+  }
+
+  /**
+   * Like {@link #getNoteContent(String)}, but for a caller that already knows
+   * the update sequence number of the note, for example from its
+   * {@link com.evernote.edam.notestore.NoteMetadata}. The content is served
+   * without any call if the content cache holds that version.
+   * 
+   * @see #setContentCache(BlobCache)
+   */
+  public String getNoteContent(String guid, int updateSequenceNum)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    BlobCache cache = contentCache;
+    if (cache == null) {
+      return delegate.getNoteContent(guid);
+    }
+    String content = cachedContent(cache, guid, updateSequenceNum);
+    if (content != null) {
+      return content;
+    }
+    return fetchContent(cache, guid).getContent();
+  }
+
+  /**
+   * Drops every cached list, so that the next call of each fetches it again.
+   * The resource and content caches are left alone, as their entries never
+   * change.
+   */
+  public void invalidate() {
+    validation = null;
+    notebooks = null;
+    tags = null;
+    searches = null;
+    tagsByNotebook.clear();
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncState()
+   */
+  @Override
+  public SyncState getSyncState() throws EDAMUserException, EDAMSystemException,
+      TException {
+    return delegate.getSyncState();
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncStateWithMetrics(ClientUsageMetrics)
+   */
+  @Override
+  public SyncState getSyncStateWithMetrics(ClientUsageMetrics clientMetrics)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return delegate.getSyncStateWithMetrics(clientMetrics);
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncChunk(int, int, boolean)
+   */
+  @Override
+  public SyncChunk getSyncChunk(int afterUSN, int maxEntries,
+      boolean fullSyncOnly) throws EDAMUserException, EDAMSystemException,
+      TException {
+    return delegate.getSyncChunk(afterUSN, maxEntries, fullSyncOnly);
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncChunk(int, int, boolean, SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getSyncChunk(int afterUSN, int maxEntries,
+      boolean fullSyncOnly, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return delegate.getSyncChunk(afterUSN, maxEntries, fullSyncOnly,
+        visitor);
+  }
+
+  /**
+   * @see NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter)
+   */
+  @Override
+  public SyncChunk getFilteredSyncChunk(int afterUSN, int maxEntries,
+      SyncChunkFilter filter) throws EDAMUserException, EDAMSystemException,
+      TException {
+    return delegate.getFilteredSyncChunk(afterUSN, maxEntries, filter);
+  }
+
+  /**
+   * @see NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter,
+   *      SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getFilteredSyncChunk(int afterUSN, int maxEntries,
+      SyncChunkFilter filter, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return delegate.getFilteredSyncChunk(afterUSN, maxEntries, filter,
+        visitor);
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncState(LinkedNotebook)
+   */
+  @Override
+  public SyncState getLinkedNotebookSyncState(LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getLinkedNotebookSyncState(linkedNotebook);
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int,
+   *      boolean)
+   */
+  @Override
+  public SyncChunk getLinkedNotebookSyncChunk(LinkedNotebook linkedNotebook,
+      int afterUSN, int maxEntries, boolean fullSyncOnly)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+        maxEntries, fullSyncOnly);
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int,
+   *      boolean, SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getLinkedNotebookSyncChunk(LinkedNotebook linkedNotebook,
+      int afterUSN, int maxEntries, boolean fullSyncOnly,
+      SyncChunkVisitor visitor) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return delegate.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+        maxEntries, fullSyncOnly, visitor);
+  }
+
+  /**
+   * @see NoteStoreClient#listNotebooks()
+   */
+  @Override
+  public List<Notebook> listNotebooks() throws EDAMUserException,
+      EDAMSystemException, TException {
+    int updateCount = currentUpdateCount();
+    List<Notebook> cached = lookup(notebooks, updateCount);
+    if (cached != null) {
+      return cached;
+    }
+    List<Notebook> fetched = delegate.listNotebooks();
+    notebooks = new CachedList<Notebook>(updateCount, fetched);
+    return copy(fetched);
+  }
+
+  /**
+   * @see NoteStoreClient#getNotebook(String)
+   */
+  @Override
+  public Notebook getNotebook(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getNotebook(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getDefaultNotebook()
+   */
+  @Override
+  public Notebook getDefaultNotebook() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return delegate.getDefaultNotebook();
+  }
+
+  /**
+   * @see NoteStoreClient#createNotebook(Notebook)
+   */
+  @Override
+  public Notebook createNotebook(Notebook notebook) throws EDAMUserException,
+      EDAMSystemException, TException {
+    // Invalidated even on failure, the change may have been made anyway
+    try {
+      return delegate.createNotebook(notebook);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#updateNotebook(Notebook)
+   */
+  @Override
+  public int updateNotebook(Notebook notebook) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.updateNotebook(notebook);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotebook(String)
+   */
+  @Override
+  public int expungeNotebook(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.expungeNotebook(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#listTags()
+   */
+  @Override
+  public List<Tag> listTags() throws EDAMUserException, EDAMSystemException,
+      TException {
+    int updateCount = currentUpdateCount();
+    List<Tag> cached = lookup(tags, updateCount);
+    if (cached != null) {
+      return cached;
+    }
+    List<Tag> fetched = delegate.listTags();
+    tags = new CachedList<Tag>(updateCount, fetched);
+    return copy(fetched);
+  }
+
+  /**
+   * @see NoteStoreClient#listTagsByNotebook(String)
+   */
+  @Override
+  public List<Tag> listTagsByNotebook(String notebookGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    if (notebookGuid == null) {
+      return delegate.listTagsByNotebook(notebookGuid);
+    }
+    int updateCount = currentUpdateCount();
+    List<Tag> cached = lookup(tagsByNotebook.get(notebookGuid), updateCount);
+    if (cached != null) {
+      return cached;
+    }
+    List<Tag> fetched = delegate.listTagsByNotebook(notebookGuid);
+    tagsByNotebook.put(notebookGuid, new CachedList<Tag>(updateCount, fetched));
+    return copy(fetched);
+  }
+
+  /**
+   * @see NoteStoreClient#getTag(String)
+   */
+  @Override
+  public Tag getTag(String guid) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return delegate.getTag(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#createTag(Tag)
+   */
+  @Override
+  public Tag createTag(Tag tag) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    try {
+      return delegate.createTag(tag);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#updateTag(Tag)
+   */
+  @Override
+  public int updateTag(Tag tag) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    try {
+      return delegate.updateTag(tag);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#untagAll(String)
+   */
+  @Override
+  public void untagAll(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      delegate.untagAll(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeTag(String)
+   */
+  @Override
+  public int expungeTag(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.expungeTag(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#listSearches()
+   */
+  @Override
+  public List<SavedSearch> listSearches() throws EDAMUserException,
+      EDAMSystemException, TException {
+    int updateCount = currentUpdateCount();
+    List<SavedSearch> cached = lookup(searches, updateCount);
+    if (cached != null) {
+      return cached;
+    }
+    List<SavedSearch> fetched = delegate.listSearches();
+    searches = new CachedList<SavedSearch>(updateCount, fetched);
+    return copy(fetched);
+  }
+
+  /**
+   * @see NoteStoreClient#getSearch(String)
+   */
+  @Override
+  public SavedSearch getSearch(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getSearch(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#createSearch(SavedSearch)
+   */
+  @Override
+  public SavedSearch createSearch(SavedSearch search) throws EDAMUserException,
+      EDAMSystemException, TException {
+    try {
+      return delegate.createSearch(search);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#updateSearch(SavedSearch)
+   */
+  @Override
+  public int updateSearch(SavedSearch search) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.updateSearch(search);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSearch(String)
+   */
+  @Override
+  public int expungeSearch(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.expungeSearch(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#findNotes(NoteFilter, int, int)
+   */
+  @Override
+  public NoteList findNotes(NoteFilter filter, int offset, int maxNotes)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.findNotes(filter, offset, maxNotes);
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteOffset(NoteFilter, String)
+   */
+  @Override
+  public int findNoteOffset(NoteFilter filter, String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.findNoteOffset(filter, guid);
+  }
+
+  /**
+   * @see NoteStoreClient#findNotesMetadata(NoteFilter, int, int,
+   *      NotesMetadataResultSpec)
+   */
+  @Override
+  public NotesMetadataList findNotesMetadata(NoteFilter filter, int offset,
+      int maxNotes, NotesMetadataResultSpec resultSpec)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.findNotesMetadata(filter, offset, maxNotes, resultSpec);
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteCounts(NoteFilter, boolean)
+   */
+  @Override
+  public NoteCollectionCounts findNoteCounts(NoteFilter filter,
+      boolean withTrash) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return delegate.findNoteCounts(filter, withTrash);
+  }
+
+  /**
+   * @see NoteStoreClient#getNote(String, boolean, boolean, boolean, boolean)
+   */
+  @Override
+  public Note getNote(String guid, boolean withContent,
+      boolean withResourcesData, boolean withResourcesRecognition,
+      boolean withResourcesAlternateData) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    BlobCache resources = resourceCache;
+    BlobCache contents = withContent ? contentCache : null;
+    boolean attach = resources != null && withResourcesData;
+    Note note;
+    if (contents != null && isContentCached(guid)) {
+      note = delegate.getNote(guid, false, withResourcesData && !attach,
+          withResourcesRecognition, withResourcesAlternateData);
+      String content = cachedContent(contents, guid,
+          note.getUpdateSequenceNum());
+      if (content == null) {
+        content = fetchContent(contents, guid).getContent();
+      }
+      note.setContent(content);
+    } else {
+      note = delegate.getNote(guid, withContent, withResourcesData && !attach,
+          withResourcesRecognition, withResourcesAlternateData);
+      if (contents != null) {
+        rememberContent(contents, note);
+      }
+    }
+    if (attach) {
+      attachBodies(resources, note);
+    }
+    return note;
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationData(String)
+   */
+  @Override
+  public LazyMap getNoteApplicationData(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getNoteApplicationData(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationDataEntry(String, String)
+   */
+  @Override
+  public String getNoteApplicationDataEntry(String guid, String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getNoteApplicationDataEntry(guid, key);
+  }
+
+  /**
+   * @see NoteStoreClient#setNoteApplicationDataEntry(String, String, String)
+   */
+  @Override
+  public int setNoteApplicationDataEntry(String guid, String key, String value)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.setNoteApplicationDataEntry(guid, key, value);
+  }
+
+  /**
+   * @see NoteStoreClient#unsetNoteApplicationDataEntry(String, String)
+   */
+  @Override
+  public int unsetNoteApplicationDataEntry(String guid, String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.unsetNoteApplicationDataEntry(guid, key);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteContent(String)
+   */
+  @Override
+  public String getNoteContent(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    BlobCache cache = contentCache;
+    if (cache == null) {
+      return delegate.getNoteContent(guid);
+    }
+    if (isContentCached(guid)) {
+      Note note = delegate.getNote(guid, false, false, false, false);
+      String content = cachedContent(cache, guid, note.getUpdateSequenceNum());
+      if (content != null) {
+        return content;
+      }
+    }
+    return fetchContent(cache, guid).getContent();
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteSearchText(String, boolean, boolean)
+   */
+  @Override
+  public String getNoteSearchText(String guid, boolean noteOnly,
+      boolean tokenizeForIndexing) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getNoteSearchText(guid, noteOnly, tokenizeForIndexing);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceSearchText(String)
+   */
+  @Override
+  public String getResourceSearchText(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getResourceSearchText(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteTagNames(String)
+   */
+  @Override
+  public List<String> getNoteTagNames(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getNoteTagNames(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#createNote(Note)
+   */
+  @Override
+  public Note createNote(Note note) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.createNote(note);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#updateNote(Note)
+   */
+  @Override
+  public Note updateNote(Note note) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.updateNote(note);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#deleteNote(String)
+   */
+  @Override
+  public int deleteNote(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.deleteNote(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNote(String)
+   */
+  @Override
+  public int expungeNote(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.expungeNote(guid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotes(List)
+   */
+  @Override
+  public int expungeNotes(List<String> noteGuids) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return delegate.expungeNotes(noteGuids);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#expungeInactiveNotes()
+   */
+  @Override
+  public int expungeInactiveNotes() throws EDAMUserException,
+      EDAMSystemException, TException {
+    try {
+      return delegate.expungeInactiveNotes();
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#copyNote(String, String)
+   */
+  @Override
+  public Note copyNote(String noteGuid, String toNotebookGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    try {
+      return delegate.copyNote(noteGuid, toNotebookGuid);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#listNoteVersions(String)
+   */
+  @Override
+  public List<NoteVersionId> listNoteVersions(String noteGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.listNoteVersions(noteGuid);
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteVersion(String, int, boolean, boolean, boolean)
+   */
+  @Override
+  public Note getNoteVersion(String noteGuid, int updateSequenceNum,
+      boolean withResourcesData, boolean withResourcesRecognition,
+      boolean withResourcesAlternateData) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    BlobCache cache = resourceCache;
+    if (cache == null || !withResourcesData) {
+      return delegate.getNoteVersion(noteGuid, updateSequenceNum,
+          withResourcesData, withResourcesRecognition,
+          withResourcesAlternateData);
+    }
+    Note note = delegate.getNoteVersion(noteGuid, updateSequenceNum, false,
+        withResourcesRecognition, withResourcesAlternateData);
+    attachBodies(cache, note);
+    return note;
+  }
+
+  /**
+   * @see NoteStoreClient#getResource(String, boolean, boolean, boolean,
+   *      boolean)
+   */
+  @Override
+  public Resource getResource(String guid, boolean withData,
+      boolean withRecognition, boolean withAttributes,
+      boolean withAlternateData) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    BlobCache cache = resourceCache;
+    if (cache == null || !withData) {
+      return delegate.getResource(guid, withData, withRecognition,
+          withAttributes, withAlternateData);
+    }
+    byte[] hash = knownHash(guid);
+    byte[] body = hash == null ? null : cachedBody(cache, hash);
+    if (body != null) {
+      Resource resource = delegate.getResource(guid, false, withRecognition,
+          withAttributes, withAlternateData);
+      if (resource.isSetData()) {
+        resource.getData().setBody(body);
+      }
+      return resource;
+    }
+    Resource resource = delegate.getResource(guid, true, withRecognition,
+        withAttributes, withAlternateData);
+    remember(cache, resource);
+    return resource;
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationData(String)
+   */
+  @Override
+  public LazyMap getResourceApplicationData(String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getResourceApplicationData(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationDataEntry(String, String)
+   */
+  @Override
+  public String getResourceApplicationDataEntry(String guid, String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getResourceApplicationDataEntry(guid, key);
+  }
+
+  /**
+   * @see NoteStoreClient#setResourceApplicationDataEntry(String, String,
+   *      String)
+   */
+  @Override
+  public int setResourceApplicationDataEntry(String guid, String key,
+      String value) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return delegate.setResourceApplicationDataEntry(guid, key, value);
+  }
+
+  /**
+   * @see NoteStoreClient#unsetResourceApplicationDataEntry(String, String)
+   */
+  @Override
+  public int unsetResourceApplicationDataEntry(String guid, String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.unsetResourceApplicationDataEntry(guid, key);
+  }
+
+  /**
+   * @see NoteStoreClient#updateResource(Resource)
+   */
+  @Override
+  public int updateResource(Resource resource) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.updateResource(resource);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceData(String, WritableByteChannel,
+   *      byte[])
+   */
+  @Override
+  public int getResourceData(String guid, WritableByteChannel out,
+      byte[] bodyHash) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    BlobCache cache = resourceCache;
+    byte[] body = cache == null || bodyHash == null ? null : cachedBody(
+        cache, bodyHash);
+    if (body == null) {
+      // Streamed bodies are meant to stay off the heap, so are not cached
+      return delegate.getResourceData(guid, out, bodyHash);
+    }
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(body);
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new TTransportException(e);
+    }
+    return body.length;
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceData(String)
+   */
+  @Override
+  public byte[] getResourceData(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    BlobCache cache = resourceCache;
+    if (cache == null) {
+      return delegate.getResourceData(guid);
+    }
+    byte[] hash = knownHash(guid);
+    byte[] body = hash == null ? null : cachedBody(cache, hash);
+    if (body == null) {
+      body = delegate.getResourceData(guid);
+      hash = newMd5Digest().digest(body);
+      cache.put(toHex(hash), body.clone());
+      rememberHash(guid, hash);
+    }
+    return body;
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceByHash(String, byte[], boolean, boolean,
+   *      boolean)
+   */
+  @Override
+  public Resource getResourceByHash(String noteGuid, byte[] contentHash,
+      boolean withData, boolean withRecognition, boolean withAlternateData)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    BlobCache cache = resourceCache;
+    if (cache == null || !withData || contentHash == null) {
+      return delegate.getResourceByHash(noteGuid, contentHash, withData,
+          withRecognition, withAlternateData);
+    }
+    byte[] body = cachedBody(cache, contentHash);
+    if (body != null) {
+      Resource resource = delegate.getResourceByHash(noteGuid, contentHash,
+          false, withRecognition, withAlternateData);
+      rememberHash(resource.getGuid(), contentHash);
+      if (resource.isSetData()) {
+        resource.getData().setBody(body);
+      }
+      return resource;
+    }
+    Resource resource = delegate.getResourceByHash(noteGuid, contentHash, true,
+        withRecognition, withAlternateData);
+    remember(cache, resource);
+    return resource;
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceRecognition(String)
+   */
+  @Override
+  public byte[] getResourceRecognition(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getResourceRecognition(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAlternateData(String, WritableByteChannel,
+   *      byte[])
+   */
+  @Override
+  public int getResourceAlternateData(String guid, WritableByteChannel out,
+      byte[] bodyHash) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return delegate.getResourceAlternateData(guid, out, bodyHash);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAlternateData(String)
+   */
+  @Override
+  public byte[] getResourceAlternateData(String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getResourceAlternateData(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAttributes(String)
+   */
+  @Override
+  public ResourceAttributes getResourceAttributes(String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return delegate.getResourceAttributes(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#getPublicNotebook(int, String)
+   */
+  @Override
+  public Notebook getPublicNotebook(int userId, String publicUri)
+      throws EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.getPublicNotebook(userId, publicUri);
+  }
+
+  /**
+   * @see NoteStoreClient#createSharedNotebook(SharedNotebook)
+   */
+  @Override
+  public SharedNotebook createSharedNotebook(SharedNotebook sharedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    try {
+      return delegate.createSharedNotebook(sharedNotebook);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#updateSharedNotebook(SharedNotebook)
+   */
+  @Override
+  public int updateSharedNotebook(SharedNotebook sharedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    try {
+      return delegate.updateSharedNotebook(sharedNotebook);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#sendMessageToSharedNotebookMembers(String, String,
+   *      List)
+   */
+  @Override
+  public int sendMessageToSharedNotebookMembers(String notebookGuid,
+      String messageText, List<String> recipients) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.sendMessageToSharedNotebookMembers(notebookGuid,
+        messageText, recipients);
+  }
+
+  /**
+   * @see NoteStoreClient#listSharedNotebooks()
+   */
+  @Override
+  public List<SharedNotebook> listSharedNotebooks() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.listSharedNotebooks();
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSharedNotebooks(List)
+   */
+  @Override
+  public int expungeSharedNotebooks(List<Long> sharedNotebookIds)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    try {
+      return delegate.expungeSharedNotebooks(sharedNotebookIds);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * @see NoteStoreClient#createLinkedNotebook(LinkedNotebook)
+   */
+  @Override
+  public LinkedNotebook createLinkedNotebook(LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return delegate.createLinkedNotebook(linkedNotebook);
+  }
+
+  /**
+   * @see NoteStoreClient#updateLinkedNotebook(LinkedNotebook)
+   */
+  @Override
+  public int updateLinkedNotebook(LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return delegate.updateLinkedNotebook(linkedNotebook);
+  }
+
+  /**
+   * @see NoteStoreClient#listLinkedNotebooks()
+   */
+  @Override
+  public List<LinkedNotebook> listLinkedNotebooks() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.listLinkedNotebooks();
+  }
+
+  /**
+   * @see NoteStoreClient#expungeLinkedNotebook(String)
+   */
+  @Override
+  public int expungeLinkedNotebook(String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.expungeLinkedNotebook(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNotebook(String)
+   */
+  @Override
+  public AuthenticationResult authenticateToSharedNotebook(String shareKey)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return delegate.authenticateToSharedNotebook(shareKey);
+  }
+
+  /**
+   * @see NoteStoreClient#getSharedNotebookByAuth()
+   */
+  @Override
+  public SharedNotebook getSharedNotebookByAuth() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.getSharedNotebookByAuth();
+  }
+
+  /**
+   * @see NoteStoreClient#emailNote(NoteEmailParameters)
+   */
+  @Override
+  public void emailNote(NoteEmailParameters parameters)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    delegate.emailNote(parameters);
+  }
+
+  /**
+   * @see NoteStoreClient#shareNote(String)
+   */
+  @Override
+  public String shareNote(String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.shareNote(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#stopSharingNote(String)
+   */
+  @Override
+  public void stopSharingNote(String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    delegate.stopSharingNote(guid);
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNote(String, String, String)
+   */
+  @Override
+  public AuthenticationResult authenticateToSharedNote(String guid,
+      String noteKey, String authenticationToken) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return delegate.authenticateToSharedNote(guid, noteKey,
+        authenticationToken);
+  }
+
+  /**
+   * @see NoteStoreClient#findRelated(RelatedQuery, RelatedResultSpec)
+   */
+  @Override
+  public RelatedResult findRelated(RelatedQuery query,
+      RelatedResultSpec resultSpec) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return delegate.findRelated(query, resultSpec);
+  }
+
+  /**
+   * @see NoteStoreClient#setSharedNotebookRecipientSettings(String, long,
+   *      SharedNotebookRecipientSettings)
+   */
+  @Override
+  public void setSharedNotebookRecipientSettings(String authenticationToken,
+      long sharedNotebookId, SharedNotebookRecipientSettings recipientSettings)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    delegate.setSharedNotebookRecipientSettings(authenticationToken,
+        sharedNotebookId, recipientSettings);
+  }
+
+  private int currentUpdateCount() throws EDAMUserException,
+      EDAMSystemException, TException {
+    long interval = revalidateInterval;
+    Validation last = validation;
+    long now = System.currentTimeMillis();
+    if (interval > 0 && last != null && now - last.validatedAt < interval) {
+      return last.updateCount;
+    }
+    int updateCount = delegate.getSyncState().getUpdateCount();
+    validation = new Validation(updateCount, now);
+    return updateCount;
+  }
+
+  private void attachBodies(BlobCache cache, Note note)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    if (note.isSetResources()) {
+      for (Resource resource : note.getResources()) {
+        attachBody(cache, resource);
+      }
+    }
+  }
+
+  /**
+   * Completes a resource fetched without its body, from the cache if it has
+   * the body and from the service otherwise.
+   */
+  private void attachBody(BlobCache cache, Resource resource)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    Data data = resource.getData();
+    if (data == null || data.getBodyHash() == null) {
+      return;
+    }
+    rememberHash(resource.getGuid(), data.getBodyHash());
+    byte[] body = cachedBody(cache, data.getBodyHash());
+    if (body == null) {
+      body = delegate.getResourceData(resource.getGuid());
+      cache.put(toHex(data.getBodyHash()), body.clone());
+    }
+    data.setBody(body);
+  }
+
+  private void remember(BlobCache cache, Resource resource) {
+    Data data = resource.getData();
+    if (data == null || data.getBodyHash() == null || !data.isSetBody()) {
+      return;
+    }
+    rememberHash(resource.getGuid(), data.getBodyHash());
+    cache.put(toHex(data.getBodyHash()), data.getBody().clone());
+  }
+
+  /**
+   * @return a private copy of the cached body with <i>hash</i>, or null if
+   *         the cache has none or holds one that doesn't match
+   */
+  private static byte[] cachedBody(BlobCache cache, byte[] hash) {
+    String key = toHex(hash);
+    byte[] body = cache.get(key);
+    if (body == null) {
+      return null;
+    }
+    if (!MessageDigest.isEqual(hash, newMd5Digest().digest(body))) {
+      cache.remove(key);
+      return null;
+    }
+    return body.clone();
+  }
+
+  private byte[] knownHash(String guid) {
+    synchronized (resourceHashes) {
+      return resourceHashes.get(guid);
+    }
+  }
+
+  private void rememberHash(String guid, byte[] hash) {
+    if (guid != null) {
+      synchronized (resourceHashes) {
+        resourceHashes.put(guid, hash);
+      }
+    }
+  }
+
+  /**
+   * Downloads the content of a note together with the update sequence number
+   * it belongs to, and caches it.
+   */
+  private Note fetchContent(BlobCache cache, String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    Note note = delegate.getNote(guid, true, false, false, false);
+    rememberContent(cache, note);
+    return note;
+  }
+
+  private void rememberContent(BlobCache cache, Note note) {
+    if (note.getGuid() == null || !note.isSetContent()
+        || !note.isSetUpdateSequenceNum()) {
+      return;
+    }
+    cache.put(contentKey(note.getGuid(), note.getUpdateSequenceNum()),
+        TBaseHelper.byteBufferToByteArray(UTF8.encode(note.getContent())));
+    synchronized (contentVersions) {
+      contentVersions.put(note.getGuid(),
+          Integer.valueOf(note.getUpdateSequenceNum()));
+    }
+  }
+
+  private static String cachedContent(BlobCache cache, String guid,
+      int updateSequenceNum) {
+    byte[] content = cache.get(contentKey(guid, updateSequenceNum));
+    return content == null ? null : TBaseHelper.decodeUtf8(ByteBuffer
+        .wrap(content));
+  }
+
+  private boolean isContentCached(String guid) {
+    synchronized (contentVersions) {
+      return contentVersions.containsKey(guid);
+    }
+  }
+
+  private static String contentKey(String guid, int updateSequenceNum) {
+    return guid + "." + updateSequenceNum;
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+      hex.append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  private static <V> Map<String, V> newLruMap(final int maxEntries) {
+    return new LinkedHashMap<String, V>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  private static <T extends TBase<T>> List<T> lookup(CachedList<T> entry,
+      int updateCount) {
+    if (entry == null || entry.updateCount != updateCount) {
+      return null;
+    }
+    return copy(entry.items);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends TBase<T>> List<T> copy(List<T> items) {
+    if (items == null) {
+      return null;
+    }
+    List<T> copy = new ArrayList<T>(items.size());
+    for (T item : items) {
+      copy.add((T) item.deepCopy());
+    }
+    return copy;
+  }
+
+  private static class Validation {
+    final int updateCount;
+    final long validatedAt;
+
+    Validation(int updateCount, long validatedAt) {
+      this.updateCount = updateCount;
+      this.validatedAt = validatedAt;
+    }
+  }
+
+  private static class CachedList<T> {
+    final int updateCount;
+    final List<T> items;
+
+    CachedList(int updateCount, List<T> items) {
+      this.updateCount = updateCount;
+      this.items = items;
+    }
+  }
+}
@@ -0,0 +1,1414 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.notestore.ClientUsageMetrics;
+import com.evernote.edam.notestore.NoteCollectionCounts;
+import com.evernote.edam.notestore.NoteEmailParameters;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteList;
+import com.evernote.edam.notestore.NoteVersionId;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+import com.evernote.edam.notestore.RelatedQuery;
+import com.evernote.edam.notestore.RelatedResult;
+import com.evernote.edam.notestore.RelatedResultSpec;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncChunkVisitor;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LazyMap;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.ResourceAttributes;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.SharedNotebook;
+import com.evernote.edam.type.SharedNotebookRecipientSettings;
+import com.evernote.edam.type.Tag;
+import com.evernote.edam.userstore.AuthenticationResult;
+import com.evernote.thrift.TException;
+
+/**
+ * Base of the {@link NoteStoreClient} wrappers that run every call the same
+ * way. Each NoteStore method hands a {@link NoteStoreCall} to
+ * {@link #execute(NoteStoreCall)}, which decides on which client and under
+ * which conditions it runs.
+ */
+abstract class CallingNoteStoreClient extends NoteStoreClient {
+
+  CallingNoteStoreClient(String token) {
+    super(token);
+  }
+
+  /**
+   * Runs <i>call</i> and returns its result, or throws what it threw.
+   */
+  abstract <T, U extends Exception, N extends Exception> T execute(
+      NoteStoreCall<T, U, N> call) throws U, N, EDAMSystemException, TException;
+
+
+  /**
+   * @see NoteStoreClient#getSyncState()
+   */
+  @Override
+  public SyncState getSyncState() throws EDAMUserException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<SyncState, EDAMUserException, RuntimeException>() {
+          public SyncState call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getSyncState();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncStateWithMetrics(ClientUsageMetrics)
+   */
+  @Override
+  public SyncState getSyncStateWithMetrics(
+      final ClientUsageMetrics clientMetrics) throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SyncState, EDAMUserException, RuntimeException>() {
+          public SyncState call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getSyncStateWithMetrics(clientMetrics);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncChunk(int, int, boolean)
+   */
+  @Override
+  public SyncChunk getSyncChunk(final int afterUSN, final int maxEntries,
+      final boolean fullSyncOnly) throws EDAMUserException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException, RuntimeException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getSyncChunk(afterUSN, maxEntries, fullSyncOnly);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getSyncChunk(int, int, boolean, SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getSyncChunk(final int afterUSN, final int maxEntries,
+      final boolean fullSyncOnly, final SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException, RuntimeException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getSyncChunk(afterUSN, maxEntries, fullSyncOnly,
+                visitor);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter)
+   */
+  @Override
+  public SyncChunk getFilteredSyncChunk(final int afterUSN,
+      final int maxEntries, final SyncChunkFilter filter)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException, RuntimeException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getFilteredSyncChunk(afterUSN, maxEntries, filter);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter,
+   *      SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getFilteredSyncChunk(final int afterUSN,
+      final int maxEntries, final SyncChunkFilter filter,
+      final SyncChunkVisitor visitor) throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException, RuntimeException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.getFilteredSyncChunk(afterUSN, maxEntries, filter,
+                visitor);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncState(LinkedNotebook)
+   */
+  @Override
+  public SyncState getLinkedNotebookSyncState(
+      final LinkedNotebook linkedNotebook) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<SyncState, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SyncState call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getLinkedNotebookSyncState(linkedNotebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int,
+   *      boolean)
+   */
+  @Override
+  public SyncChunk getLinkedNotebookSyncChunk(
+      final LinkedNotebook linkedNotebook, final int afterUSN,
+      final int maxEntries, final boolean fullSyncOnly)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+                maxEntries, fullSyncOnly);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getLinkedNotebookSyncChunk(LinkedNotebook, int, int,
+   *      boolean, SyncChunkVisitor)
+   */
+  @Override
+  public SyncChunk getLinkedNotebookSyncChunk(
+      final LinkedNotebook linkedNotebook, final int afterUSN,
+      final int maxEntries, final boolean fullSyncOnly,
+      final SyncChunkVisitor visitor) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<SyncChunk, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SyncChunk call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+                maxEntries, fullSyncOnly, visitor);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listNotebooks()
+   */
+  @Override
+  public List<Notebook> listNotebooks() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<List<Notebook>, EDAMUserException,
+            RuntimeException>() {
+          public List<Notebook> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.listNotebooks();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNotebook(String)
+   */
+  @Override
+  public Notebook getNotebook(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Notebook, EDAMUserException,
+            EDAMNotFoundException>() {
+          public Notebook call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNotebook(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getDefaultNotebook()
+   */
+  @Override
+  public Notebook getDefaultNotebook() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<Notebook, EDAMUserException, RuntimeException>() {
+          public Notebook call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, TException {
+            return client.getDefaultNotebook();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createNotebook(Notebook)
+   */
+  @Override
+  public Notebook createNotebook(final Notebook notebook)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<Notebook, EDAMUserException, RuntimeException>() {
+          public Notebook call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, TException {
+            return client.createNotebook(notebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateNotebook(Notebook)
+   */
+  @Override
+  public int updateNotebook(final Notebook notebook) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.updateNotebook(notebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotebook(String)
+   */
+  @Override
+  public int expungeNotebook(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.expungeNotebook(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listTags()
+   */
+  @Override
+  public List<Tag> listTags() throws EDAMUserException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<List<Tag>, EDAMUserException, RuntimeException>() {
+          public List<Tag> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.listTags();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listTagsByNotebook(String)
+   */
+  @Override
+  public List<Tag> listTagsByNotebook(final String notebookGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<List<Tag>, EDAMUserException,
+            EDAMNotFoundException>() {
+          public List<Tag> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.listTagsByNotebook(notebookGuid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getTag(String)
+   */
+  @Override
+  public Tag getTag(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Tag, EDAMUserException, EDAMNotFoundException>() {
+          public Tag call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getTag(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createTag(Tag)
+   */
+  @Override
+  public Tag createTag(final Tag tag) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Tag, EDAMUserException, EDAMNotFoundException>() {
+          public Tag call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.createTag(tag);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateTag(Tag)
+   */
+  @Override
+  public int updateTag(final Tag tag) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.updateTag(tag);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#untagAll(String)
+   */
+  @Override
+  public void untagAll(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    execute(
+        new NoteStoreCall<Void, EDAMUserException, EDAMNotFoundException>() {
+          public Void call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            client.untagAll(guid);
+            return null;
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeTag(String)
+   */
+  @Override
+  public int expungeTag(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.expungeTag(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listSearches()
+   */
+  @Override
+  public List<SavedSearch> listSearches() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<List<SavedSearch>, EDAMUserException,
+            RuntimeException>() {
+          public List<SavedSearch> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.listSearches();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getSearch(String)
+   */
+  @Override
+  public SavedSearch getSearch(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<SavedSearch, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SavedSearch call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getSearch(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createSearch(SavedSearch)
+   */
+  @Override
+  public SavedSearch createSearch(final SavedSearch search)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SavedSearch, EDAMUserException, RuntimeException>() {
+          public SavedSearch call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException, TException {
+            return client.createSearch(search);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateSearch(SavedSearch)
+   */
+  @Override
+  public int updateSearch(final SavedSearch search) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.updateSearch(search);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSearch(String)
+   */
+  @Override
+  public int expungeSearch(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.expungeSearch(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#findNotes(NoteFilter, int, int)
+   */
+  @Override
+  public NoteList findNotes(final NoteFilter filter, final int offset,
+      final int maxNotes) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<NoteList, EDAMUserException,
+            EDAMNotFoundException>() {
+          public NoteList call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.findNotes(filter, offset, maxNotes);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteOffset(NoteFilter, String)
+   */
+  @Override
+  public int findNoteOffset(final NoteFilter filter, final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.findNoteOffset(filter, guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#findNotesMetadata(NoteFilter, int, int,
+   *      NotesMetadataResultSpec)
+   */
+  @Override
+  public NotesMetadataList findNotesMetadata(final NoteFilter filter,
+      final int offset, final int maxNotes,
+      final NotesMetadataResultSpec resultSpec) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<NotesMetadataList, EDAMUserException,
+            EDAMNotFoundException>() {
+          public NotesMetadataList call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.findNotesMetadata(filter, offset, maxNotes,
+                resultSpec);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#findNoteCounts(NoteFilter, boolean)
+   */
+  @Override
+  public NoteCollectionCounts findNoteCounts(final NoteFilter filter,
+      final boolean withTrash) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<NoteCollectionCounts, EDAMUserException,
+            EDAMNotFoundException>() {
+          public NoteCollectionCounts call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.findNoteCounts(filter, withTrash);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNote(String, boolean, boolean, boolean, boolean)
+   */
+  @Override
+  public Note getNote(final String guid, final boolean withContent,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Note, EDAMUserException, EDAMNotFoundException>() {
+          public Note call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNote(guid, withContent, withResourcesData,
+                withResourcesRecognition, withResourcesAlternateData);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationData(String)
+   */
+  @Override
+  public LazyMap getNoteApplicationData(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<LazyMap, EDAMUserException, EDAMNotFoundException>() {
+          public LazyMap call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNoteApplicationData(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteApplicationDataEntry(String, String)
+   */
+  @Override
+  public String getNoteApplicationDataEntry(final String guid, final String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNoteApplicationDataEntry(guid, key);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#setNoteApplicationDataEntry(String, String, String)
+   */
+  @Override
+  public int setNoteApplicationDataEntry(final String guid, final String key,
+      final String value) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.setNoteApplicationDataEntry(guid, key, value);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#unsetNoteApplicationDataEntry(String, String)
+   */
+  @Override
+  public int unsetNoteApplicationDataEntry(final String guid, final String key)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.unsetNoteApplicationDataEntry(guid, key);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteContent(String)
+   */
+  @Override
+  public String getNoteContent(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNoteContent(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteSearchText(String, boolean, boolean)
+   */
+  @Override
+  public String getNoteSearchText(final String guid, final boolean noteOnly,
+      final boolean tokenizeForIndexing) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNoteSearchText(guid, noteOnly,
+                tokenizeForIndexing);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceSearchText(String)
+   */
+  @Override
+  public String getResourceSearchText(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceSearchText(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteTagNames(String)
+   */
+  @Override
+  public List<String> getNoteTagNames(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<List<String>, EDAMUserException,
+            EDAMNotFoundException>() {
+          public List<String> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getNoteTagNames(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createNote(Note)
+   */
+  @Override
+  public Note createNote(final Note note) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Note, EDAMUserException, EDAMNotFoundException>() {
+          public Note call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.createNote(note);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateNote(Note)
+   */
+  @Override
+  public Note updateNote(final Note note) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Note, EDAMUserException, EDAMNotFoundException>() {
+          public Note call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.updateNote(note);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#deleteNote(String)
+   */
+  @Override
+  public int deleteNote(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.deleteNote(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNote(String)
+   */
+  @Override
+  public int expungeNote(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.expungeNote(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeNotes(List)
+   */
+  @Override
+  public int expungeNotes(final List<String> noteGuids)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.expungeNotes(noteGuids);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeInactiveNotes()
+   */
+  @Override
+  public int expungeInactiveNotes() throws EDAMUserException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, RuntimeException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, TException {
+            return client.expungeInactiveNotes();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#copyNote(String, String)
+   */
+  @Override
+  public Note copyNote(final String noteGuid, final String toNotebookGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Note, EDAMUserException, EDAMNotFoundException>() {
+          public Note call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.copyNote(noteGuid, toNotebookGuid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listNoteVersions(String)
+   */
+  @Override
+  public List<NoteVersionId> listNoteVersions(final String noteGuid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<List<NoteVersionId>, EDAMUserException,
+            EDAMNotFoundException>() {
+          public List<NoteVersionId> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.listNoteVersions(noteGuid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getNoteVersion(String, int, boolean, boolean, boolean)
+   */
+  @Override
+  public Note getNoteVersion(final String noteGuid, final int updateSequenceNum,
+      final boolean withResourcesData, final boolean withResourcesRecognition,
+      final boolean withResourcesAlternateData) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Note, EDAMUserException, EDAMNotFoundException>() {
+          public Note call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getNoteVersion(noteGuid, updateSequenceNum,
+                withResourcesData, withResourcesRecognition,
+                withResourcesAlternateData);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResource(String, boolean, boolean, boolean,
+   *      boolean)
+   */
+  @Override
+  public Resource getResource(final String guid, final boolean withData,
+      final boolean withRecognition, final boolean withAttributes,
+      final boolean withAlternateData) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Resource, EDAMUserException,
+            EDAMNotFoundException>() {
+          public Resource call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResource(guid, withData, withRecognition,
+                withAttributes, withAlternateData);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationData(String)
+   */
+  @Override
+  public LazyMap getResourceApplicationData(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<LazyMap, EDAMUserException, EDAMNotFoundException>() {
+          public LazyMap call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceApplicationData(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceApplicationDataEntry(String, String)
+   */
+  @Override
+  public String getResourceApplicationDataEntry(final String guid,
+      final String key) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceApplicationDataEntry(guid, key);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#setResourceApplicationDataEntry(String, String,
+   *      String)
+   */
+  @Override
+  public int setResourceApplicationDataEntry(final String guid,
+      final String key, final String value) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.setResourceApplicationDataEntry(guid, key, value);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#unsetResourceApplicationDataEntry(String, String)
+   */
+  @Override
+  public int unsetResourceApplicationDataEntry(final String guid,
+      final String key) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.unsetResourceApplicationDataEntry(guid, key);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateResource(Resource)
+   */
+  @Override
+  public int updateResource(final Resource resource) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.updateResource(resource);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceData(String, WritableByteChannel,
+   *      byte[])
+   */
+  @Override
+  public int getResourceData(final String guid, final WritableByteChannel out,
+      final byte[] bodyHash) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceData(guid, out, bodyHash);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceData(String)
+   */
+  @Override
+  public byte[] getResourceData(final String guid) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<byte[], EDAMUserException, EDAMNotFoundException>() {
+          public byte[] call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceData(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceByHash(String, byte[], boolean, boolean,
+   *      boolean)
+   */
+  @Override
+  public Resource getResourceByHash(final String noteGuid,
+      final byte[] contentHash, final boolean withData,
+      final boolean withRecognition, final boolean withAlternateData)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Resource, EDAMUserException,
+            EDAMNotFoundException>() {
+          public Resource call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceByHash(noteGuid, contentHash, withData,
+                withRecognition, withAlternateData);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceRecognition(String)
+   */
+  @Override
+  public byte[] getResourceRecognition(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<byte[], EDAMUserException, EDAMNotFoundException>() {
+          public byte[] call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceRecognition(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAlternateData(String, WritableByteChannel,
+   *      byte[])
+   */
+  @Override
+  public int getResourceAlternateData(final String guid,
+      final WritableByteChannel out, final byte[] bodyHash)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceAlternateData(guid, out, bodyHash);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAlternateData(String)
+   */
+  @Override
+  public byte[] getResourceAlternateData(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<byte[], EDAMUserException, EDAMNotFoundException>() {
+          public byte[] call(NoteStoreClient client) throws EDAMUserException,
+              EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getResourceAlternateData(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getResourceAttributes(String)
+   */
+  @Override
+  public ResourceAttributes getResourceAttributes(final String guid)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return execute(
+        new NoteStoreCall<ResourceAttributes, EDAMUserException,
+            EDAMNotFoundException>() {
+          public ResourceAttributes call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.getResourceAttributes(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getPublicNotebook(int, String)
+   */
+  @Override
+  public Notebook getPublicNotebook(final int userId, final String publicUri)
+      throws EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<Notebook, RuntimeException, EDAMNotFoundException>() {
+          public Notebook call(NoteStoreClient client)
+              throws EDAMSystemException, EDAMNotFoundException, TException {
+            return client.getPublicNotebook(userId, publicUri);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createSharedNotebook(SharedNotebook)
+   */
+  @Override
+  public SharedNotebook createSharedNotebook(
+      final SharedNotebook sharedNotebook) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SharedNotebook, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SharedNotebook call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.createSharedNotebook(sharedNotebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateSharedNotebook(SharedNotebook)
+   */
+  @Override
+  public int updateSharedNotebook(final SharedNotebook sharedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.updateSharedNotebook(sharedNotebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#sendMessageToSharedNotebookMembers(String, String,
+   *      List)
+   */
+  @Override
+  public int sendMessageToSharedNotebookMembers(final String notebookGuid,
+      final String messageText, final List<String> recipients)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.sendMessageToSharedNotebookMembers(notebookGuid,
+                messageText, recipients);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listSharedNotebooks()
+   */
+  @Override
+  public List<SharedNotebook> listSharedNotebooks() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<List<SharedNotebook>, EDAMUserException,
+            EDAMNotFoundException>() {
+          public List<SharedNotebook> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.listSharedNotebooks();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeSharedNotebooks(List)
+   */
+  @Override
+  public int expungeSharedNotebooks(final List<Long> sharedNotebookIds)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.expungeSharedNotebooks(sharedNotebookIds);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#createLinkedNotebook(LinkedNotebook)
+   */
+  @Override
+  public LinkedNotebook createLinkedNotebook(
+      final LinkedNotebook linkedNotebook) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<LinkedNotebook, EDAMUserException,
+            EDAMNotFoundException>() {
+          public LinkedNotebook call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.createLinkedNotebook(linkedNotebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#updateLinkedNotebook(LinkedNotebook)
+   */
+  @Override
+  public int updateLinkedNotebook(final LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.updateLinkedNotebook(linkedNotebook);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#listLinkedNotebooks()
+   */
+  @Override
+  public List<LinkedNotebook> listLinkedNotebooks() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<List<LinkedNotebook>, EDAMUserException,
+            EDAMNotFoundException>() {
+          public List<LinkedNotebook> call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.listLinkedNotebooks();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#expungeLinkedNotebook(String)
+   */
+  @Override
+  public int expungeLinkedNotebook(final String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<Integer, EDAMUserException, EDAMNotFoundException>() {
+          public Integer call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.expungeLinkedNotebook(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNotebook(String)
+   */
+  @Override
+  public AuthenticationResult authenticateToSharedNotebook(
+      final String shareKey) throws EDAMUserException, EDAMNotFoundException,
+      EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<AuthenticationResult, EDAMUserException,
+            EDAMNotFoundException>() {
+          public AuthenticationResult call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.authenticateToSharedNotebook(shareKey);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#getSharedNotebookByAuth()
+   */
+  @Override
+  public SharedNotebook getSharedNotebookByAuth() throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<SharedNotebook, EDAMUserException,
+            EDAMNotFoundException>() {
+          public SharedNotebook call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.getSharedNotebookByAuth();
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#emailNote(NoteEmailParameters)
+   */
+  @Override
+  public void emailNote(final NoteEmailParameters parameters)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    execute(
+        new NoteStoreCall<Void, EDAMUserException, EDAMNotFoundException>() {
+          public Void call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            client.emailNote(parameters);
+            return null;
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#shareNote(String)
+   */
+  @Override
+  public String shareNote(final String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    return execute(
+        new NoteStoreCall<String, EDAMUserException, EDAMNotFoundException>() {
+          public String call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            return client.shareNote(guid);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#stopSharingNote(String)
+   */
+  @Override
+  public void stopSharingNote(final String guid) throws EDAMUserException,
+      EDAMNotFoundException, EDAMSystemException, TException {
+    execute(
+        new NoteStoreCall<Void, EDAMUserException, EDAMNotFoundException>() {
+          public Void call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            client.stopSharingNote(guid);
+            return null;
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#authenticateToSharedNote(String, String, String)
+   */
+  @Override
+  public AuthenticationResult authenticateToSharedNote(final String guid,
+      final String noteKey, final String authenticationToken)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    return execute(
+        new NoteStoreCall<AuthenticationResult, EDAMUserException,
+            EDAMNotFoundException>() {
+          public AuthenticationResult call(NoteStoreClient client)
+              throws EDAMUserException, EDAMNotFoundException,
+              EDAMSystemException, TException {
+            return client.authenticateToSharedNote(guid, noteKey,
+                authenticationToken);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#findRelated(RelatedQuery, RelatedResultSpec)
+   */
+  @Override
+  public RelatedResult findRelated(final RelatedQuery query,
+      final RelatedResultSpec resultSpec) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return execute(
+        new NoteStoreCall<RelatedResult, EDAMUserException,
+            EDAMNotFoundException>() {
+          public RelatedResult call(NoteStoreClient client)
+              throws EDAMUserException, EDAMSystemException,
+              EDAMNotFoundException, TException {
+            return client.findRelated(query, resultSpec);
+          }
+        });
+  }
+
+  /**
+   * @see NoteStoreClient#setSharedNotebookRecipientSettings(String, long,
+   *      SharedNotebookRecipientSettings)
+   */
+  @Override
+  public void setSharedNotebookRecipientSettings(
+      final String authenticationToken, final long sharedNotebookId,
+      final SharedNotebookRecipientSettings recipientSettings)
+      throws EDAMUserException, EDAMNotFoundException, EDAMSystemException,
+      TException {
+    execute(
+        new NoteStoreCall<Void, EDAMUserException, EDAMNotFoundException>() {
+          public Void call(NoteStoreClient client) throws EDAMUserException,
+              EDAMNotFoundException, EDAMSystemException, TException {
+            client.setSharedNotebookRecipientSettings(authenticationToken,
+                sharedNotebookId, recipientSettings);
+            return null;
+          }
+        });
+  }
+}
@@ -26,6 +26,7 @@
 package com.evernote.clients;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,8 +39,11 @@ import com.evernote.edam.userstore.AuthenticationResult;
 import com.evernote.edam.userstore.Constants;
 import com.evernote.thrift.TException;
 import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TProjection;
 import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TStringInterner;
 import com.evernote.thrift.transport.THttpClient;
+import com.evernote.thrift.transport.THttpConnectionPool;
 import com.evernote.thrift.transport.TTransportException;
 
 /**
@@ -57,6 +61,13 @@ public class ClientFactory {
   private EvernoteAuth evernoteAuth;
   private String userAgent;
   private Map<String, String> customHeaders;
+  private THttpConnectionPool connectionPool;
+  private boolean bufferResponses;
+  private int chunkSize;
+  private RateLimitScheduler rateLimitScheduler;
+  private TStringInterner stringInterner;
+  private boolean lazyDecoding;
+  private TProjection projection;
 
   /**
    * @param auth
@@ -107,6 +118,56 @@ public class ClientFactory {
         this.evernoteAuth.getToken());
   }
 
+  /**
+   * Create a new asynchronous NoteStore client whose calls run on
+   * <i>executor</i>. Unlike {@link #createNoteStoreClient()}, the returned
+   * client is thread safe and may have many calls in flight at once.
+   * 
+   * @param executor
+   *          runs the calls, typically a bounded thread pool
+   * @throws TException
+   * @throws EDAMSystemException
+   * @throws EDAMUserException
+   */
+  public AsyncNoteStoreClient createAsyncNoteStoreClient(Executor executor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    String noteStoreUrl = this.evernoteAuth.getNoteStoreUrl();
+    if (noteStoreUrl == null) {
+      noteStoreUrl = createUserStoreClient().getNoteStoreUrl();
+      this.evernoteAuth.setNoteStoreUrl(noteStoreUrl);
+    }
+    return new AsyncNoteStoreClient(new StoreClientPool<NoteStoreClient>(this,
+        NoteStoreClient.class, noteStoreUrl, this.evernoteAuth.getToken(), 0),
+        executor);
+  }
+
+  /**
+   * Create a thread safe NoteStore client. The returned client can be shared
+   * by any number of threads; each call borrows one of at most
+   * <i>maxClients</i> underlying connections, and callers beyond that wait
+   * for one to become free.
+   * 
+   * @param maxClients
+   *          the most calls that may run at once
+   * @throws TException
+   * @throws EDAMSystemException
+   * @throws EDAMUserException
+   */
+  public PooledNoteStoreClient createPooledNoteStoreClient(int maxClients)
+      throws EDAMUserException, EDAMSystemException, TException {
+    if (maxClients <= 0) {
+      throw new IllegalArgumentException("maxClients must be positive");
+    }
+    String noteStoreUrl = this.evernoteAuth.getNoteStoreUrl();
+    if (noteStoreUrl == null) {
+      noteStoreUrl = createUserStoreClient().getNoteStoreUrl();
+      this.evernoteAuth.setNoteStoreUrl(noteStoreUrl);
+    }
+    return new PooledNoteStoreClient(new StoreClientPool<NoteStoreClient>(
+        this, NoteStoreClient.class, noteStoreUrl,
+        this.evernoteAuth.getToken(), maxClients));
+  }
+
   /**
    * Creates a LinkedNoteStoreClient from a {@link LinkedNotebook} synchronously
    * 
@@ -165,7 +226,9 @@ public class ClientFactory {
    */
   <T> T createStoreClient(Class<T> clientClass, String url, String token)
       throws TTransportException {
-    THttpClient transport = new THttpClient(url);
+    THttpClient transport = new THttpClient(url, connectionPool);
+    transport.setBufferResponse(bufferResponses);
+    transport.setChunkedStreamingMode(chunkSize);
 
     transport.setCustomHeader(USER_AGENT_KEY, generateUserAgent());
     if (customHeaders != null) {
@@ -174,14 +237,23 @@ public class ClientFactory {
       }
     }
 
-    TProtocol protocol = new TBinaryProtocol(transport);
+    TBinaryProtocol protocol = new TBinaryProtocol(transport);
+    protocol.setStringInterner(stringInterner);
+    protocol.setLazyDecoding(lazyDecoding);
+    protocol.setProjection(projection);
+    T client;
     try {
-      return clientClass.getDeclaredConstructor(TProtocol.class,
+      client = clientClass.getDeclaredConstructor(TProtocol.class,
           TProtocol.class, String.class).newInstance(protocol, protocol, token);
     } catch (Throwable e) {
       throw new RuntimeException("Couldn't create " + clientClass.getName()
           + " due to the error.", e);
     }
+    if (rateLimitScheduler != null && clientClass == NoteStoreClient.class) {
+      return clientClass.cast(new RateLimitedNoteStoreClient(
+          (NoteStoreClient) client, rateLimitScheduler));
+    }
+    return client;
   }
 
   /**
@@ -226,4 +298,100 @@ public class ClientFactory {
     this.customHeaders = customHeaders;
   }
 
+  /**
+   * Share a pool of persistent HTTP connections between every client this
+   * factory creates. Clients created before this call keep opening a new
+   * connection per request.
+   * 
+   * @param connectionPool
+   *          the pool to lease connections from, or null to disable pooling
+   */
+  public void setConnectionPool(THttpConnectionPool connectionPool) {
+    this.connectionPool = connectionPool;
+  }
+
+  /**
+   * Read each response completely into memory before decoding it. This trades
+   * one buffer the size of the largest response for far fewer stream reads
+   * while decoding, and is worthwhile for sync chunks and note lists.
+   * 
+   * @param bufferResponses
+   */
+  public void setBufferResponses(boolean bufferResponses) {
+    this.bufferResponses = bufferResponses;
+  }
+
+  /**
+   * Stream requests larger than <i>chunkSize</i> bytes to the service while
+   * they are being serialized, using chunked transfer encoding. Recommended
+   * when uploading notes with large resources.
+   * 
+   * @param chunkSize
+   *          the chunk size in bytes, or 0 to send every request in one piece
+   */
+  public void setChunkedStreamingMode(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Hold NoteStore calls while the service's rate limit is in effect for
+   * their user, instead of letting every call fail. Share one scheduler
+   * between all factories of an application so that the windows are seen by
+   * every client.
+   * 
+   * @param rateLimitScheduler
+   *          the scheduler, or null to pass rate limit errors straight through
+   */
+  public void setRateLimitScheduler(RateLimitScheduler rateLimitScheduler) {
+    this.rateLimitScheduler = rateLimitScheduler;
+  }
+
+  /**
+   * Decode the GUIDs in responses through <i>stringInterner</i>, so that the
+   * notebook and tag GUIDs repeated across notes, chunks and accounts are held
+   * once in memory. Share one interner between all factories of an
+   * application.
+   * 
+   * @param stringInterner
+   *          the interner, or null to give every decoded GUID its own string
+   */
+  public void setStringInterner(TStringInterner stringInterner) {
+    this.stringInterner = stringInterner;
+  }
+
+  /**
+   * Leave note content and resource bodies undecoded until they are first
+   * read through {@link com.evernote.edam.type.Note#getContent()} or
+   * {@link com.evernote.edam.type.Data#getBody()}. Speeds up code that
+   * fetches notes but mostly looks at their metadata. Large bodies in
+   * buffered responses (see {@link #setBufferResponses(boolean)}) are then
+   * kept as slices of the response instead of being copied.
+   * 
+   * @param lazyDecoding
+   *          true to decode lazily
+   */
+  public void setLazyDecoding(boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+  }
+
+  /**
+   * Decode only the fields listed in <i>projection</i> for the struct types it
+   * covers, skipping the rest of each response. Structs read this way are
+   * incomplete, so use a separate factory for clients that update what they
+   * read.
+   * 
+   * @param projection
+   *          the fields to decode, or null to decode everything
+   */
+  public void setProjection(TProjection projection) {
+    this.projection = projection;
+  }
+
+  /**
+   * @return the pool shared by clients from this factory, or null
+   */
+  public THttpConnectionPool getConnectionPool() {
+    return connectionPool;
+  }
+
 }
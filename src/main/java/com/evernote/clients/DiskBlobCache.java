@@ -0,0 +1,233 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link BlobCache} that keeps each value in a file of its own under one
+ * directory, and holds at most <i>maxBytes</i> of values, deleting the least
+ * recently used ones first. Entries left in the directory by an earlier
+ * instance are picked up again, so the cache survives restarts.
+ * 
+ * Keys become file names and may only contain letters, digits, '.', '_' and
+ * '-'. A value that can't be read or written is treated as missing; the
+ * cache never fails the call it serves.
+ * 
+ * Only one instance may use a directory at a time.
+ */
+public class DiskBlobCache implements BlobCache {
+
+  private static final Pattern KEY = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+  private static final String SUFFIX = ".blob";
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final File directory;
+  private final long maxBytes;
+
+  // Access ordered, so iteration starts at the least recently used entry
+  private final LinkedHashMap<String, Entry> entries =
+      new LinkedHashMap<String, Entry>(16, 0.75f, true);
+  private long size = 0;
+
+  /**
+   * @throws IOException
+   *           if <i>directory</i> does not exist and can't be created
+   */
+  public DiskBlobCache(File directory, long maxBytes) throws IOException {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Couldn't create " + directory);
+    }
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+
+    File[] files = directory.listFiles();
+    Arrays.sort(files, new Comparator<File>() {
+      public int compare(File a, File b) {
+        long diff = a.lastModified() - b.lastModified();
+        return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+      }
+    });
+    synchronized (this) {
+      for (File file : files) {
+        String name = file.getName();
+        if (name.endsWith(TEMP_SUFFIX)) {
+          // Left behind by a write that never completed
+          file.delete();
+        } else if (name.endsWith(SUFFIX)) {
+          entries.put(name.substring(0, name.length() - SUFFIX.length()),
+              new Entry(file.length()));
+          size += file.length();
+        }
+      }
+      evict();
+    }
+  }
+
+  public byte[] get(String key) {
+    checkKey(key);
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+    }
+    // Read outside the lock; a put may replace the file meanwhile
+    File file = fileOf(key);
+    try {
+      byte[] value = readFully(file);
+      // Keeps the order of use across restarts
+      file.setLastModified(System.currentTimeMillis());
+      return value;
+    } catch (IOException e) {
+      synchronized (this) {
+        // Only drop the entry that failed, not one put since
+        if (entries.get(key) == entry) {
+          remove(key);
+        }
+      }
+      return null;
+    }
+  }
+
+  public void put(String key, byte[] value) {
+    checkKey(key);
+    if (value.length > maxBytes) {
+      return;
+    }
+    File temp = null;
+    try {
+      temp = File.createTempFile("blob", TEMP_SUFFIX, directory);
+      OutputStream out = new FileOutputStream(temp);
+      try {
+        out.write(value);
+      } finally {
+        out.close();
+      }
+      synchronized (this) {
+        File file = fileOf(key);
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+          size -= previous.length;
+        }
+        file.delete();
+        if (!temp.renameTo(file)) {
+          return;
+        }
+        temp = null;
+        entries.put(key, new Entry(value.length));
+        size += value.length;
+        evict();
+      }
+    } catch (IOException e) {
+      // Not cached then
+    } finally {
+      if (temp != null) {
+        temp.delete();
+      }
+    }
+  }
+
+  public synchronized void remove(String key) {
+    checkKey(key);
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      size -= entry.length;
+    }
+    fileOf(key).delete();
+  }
+
+  /** @return the total length of the values on disk */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  private void evict() {
+    for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet()
+        .iterator(); size > maxBytes && it.hasNext();) {
+      Map.Entry<String, Entry> entry = it.next();
+      size -= entry.getValue().length;
+      fileOf(entry.getKey()).delete();
+      it.remove();
+    }
+  }
+
+  private File fileOf(String key) {
+    return new File(directory, key + SUFFIX);
+  }
+
+  private static void checkKey(String key) {
+    if (key == null || !KEY.matcher(key).matches()) {
+      throw new IllegalArgumentException("Invalid cache key: " + key);
+    }
+  }
+
+  private static byte[] readFully(File file) throws IOException {
+    FileInputStream in = new FileInputStream(file);
+    try {
+      // The length of the file opened, even if a put has replaced it since
+      long length = in.getChannel().size();
+      byte[] value = new byte[(int) length];
+      int read = 0;
+      while (read < value.length) {
+        int n = in.read(value, read, value.length - read);
+        if (n < 0) {
+          throw new IOException("Truncated cache entry " + file);
+        }
+        read += n;
+      }
+      return value;
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * A value on disk. Entries are compared by identity, so a reader can tell
+   * whether the value it read is still the current one.
+   */
+  private static class Entry {
+    final long length;
+
+    Entry(long length) {
+      this.length = length;
+    }
+  }
+}
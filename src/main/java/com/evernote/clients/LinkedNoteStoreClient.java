@@ -25,8 +25,11 @@
  */
 package com.evernote.clients;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.evernote.edam.error.EDAMErrorCode;
 import com.evernote.edam.error.EDAMNotFoundException;
 import com.evernote.edam.error.EDAMSystemException;
 import com.evernote.edam.error.EDAMUserException;
@@ -42,11 +45,19 @@ import com.evernote.thrift.TException;
  * notestore. It maintains two {@link LinkedNoteStoreClient} objects, one points
  * to the users personal store and the other to linked notebooks shard.
  * 
+ * The {@link SharedNotebook} behind a linked notebook and its corresponding
+ * {@link Notebook}, including its restrictions, are cached for
+ * {@link #setCacheTimeToLive(long)} and never past the expiration of the
+ * shared notebook authentication, so that repeated writes and permission
+ * checks cost one call each instead of two or three.
  * 
  * @author @tylersmithnet
  * @author kentaro suzuki
  */
 public class LinkedNoteStoreClient {
+
+  public static final long DEFAULT_CACHE_TTL = 5 * 60 * 1000L;
+
   /**
    * References users main note store
    */
@@ -54,12 +65,43 @@ public class LinkedNoteStoreClient {
   private NoteStoreClient linkedNoteStoreClient;
   private AuthenticationResult authenticationResult;
 
+  // Local time at which authenticationResult expires
+  private final long authExpiresAt;
+  private long cacheTtl = DEFAULT_CACHE_TTL;
+  // Keyed by share key, guarded by this
+  private final Map<String, CachedNotebook> notebookCache =
+      new HashMap<String, CachedNotebook>();
+
   LinkedNoteStoreClient(NoteStoreClient mainNoteStoreClient,
       NoteStoreClient linkedNoteStoreClient,
       AuthenticationResult authenticationResult) {
     this.mainNoteStoreClient = mainNoteStoreClient;
     this.linkedNoteStoreClient = linkedNoteStoreClient;
     this.authenticationResult = authenticationResult;
+    this.authExpiresAt = expiresAt(authenticationResult);
+  }
+
+  /**
+   * @param millis
+   *          how long a resolved shared notebook and notebook are reused. 0
+   *          disables the cache.
+   */
+  public synchronized void setCacheTimeToLive(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("TTL must not be negative");
+    }
+    cacheTtl = millis;
+    if (millis == 0) {
+      notebookCache.clear();
+    }
+  }
+
+  /**
+   * Drops every cached shared notebook and notebook, for example after their
+   * permissions were changed.
+   */
+  public synchronized void invalidateCache() {
+    notebookCache.clear();
   }
 
   /**
@@ -102,9 +144,21 @@ public class LinkedNoteStoreClient {
       throws EDAMUserException, EDAMSystemException, TException,
       EDAMNotFoundException {
 
-    SharedNotebook sharedNotebook = getClient().getSharedNotebookByAuth();
+    SharedNotebook sharedNotebook =
+        lookup(linkedNotebook, false).sharedNotebook;
     note.setNotebookGuid(sharedNotebook.getNotebookGuid());
-    return getClient().createNote(note);
+    try {
+      return getClient().createNote(note);
+    } catch (EDAMUserException e) {
+      if (e.getErrorCode() == EDAMErrorCode.PERMISSION_DENIED) {
+        // Share revoked or downgraded, resolve again next time
+        invalidate(linkedNotebook);
+      }
+      throw e;
+    } catch (EDAMNotFoundException e) {
+      invalidate(linkedNotebook);
+      throw e;
+    }
 
   }
 
@@ -128,8 +182,7 @@ public class LinkedNoteStoreClient {
   public Notebook getCorrespondingNotebook(LinkedNotebook linkedNotebook)
       throws TException, EDAMUserException, EDAMSystemException,
       EDAMNotFoundException {
-    SharedNotebook sharedNotebook = getClient().getSharedNotebookByAuth();
-    return getClient().getNotebook(sharedNotebook.getNotebookGuid());
+    return lookup(linkedNotebook, true).notebook.deepCopy();
   }
 
   /**
@@ -140,8 +193,61 @@ public class LinkedNoteStoreClient {
   public boolean isNotebookWritable(LinkedNotebook linkedNotebook)
       throws EDAMUserException, TException, EDAMSystemException,
       EDAMNotFoundException {
-    Notebook notebook = getCorrespondingNotebook(linkedNotebook);
+    Notebook notebook = lookup(linkedNotebook, true).notebook;
     return !notebook.getRestrictions().isNoCreateNotes();
   }
 
+  /**
+   * Returns the cached entry for <i>linkedNotebook</i>, resolving whatever is
+   * missing or expired.
+   */
+  private synchronized CachedNotebook lookup(LinkedNotebook linkedNotebook,
+      boolean withNotebook) throws EDAMUserException, EDAMSystemException,
+      TException, EDAMNotFoundException {
+    String key = linkedNotebook == null ? null : linkedNotebook.getShareKey();
+    long now = System.currentTimeMillis();
+    CachedNotebook entry = notebookCache.get(key);
+    if (entry == null || now >= entry.expiresAt) {
+      entry = new CachedNotebook(getClient().getSharedNotebookByAuth(),
+          Math.min(now + cacheTtl, authExpiresAt));
+      if (cacheTtl > 0) {
+        notebookCache.put(key, entry);
+      } else {
+        notebookCache.remove(key);
+      }
+    }
+    if (withNotebook && entry.notebook == null) {
+      entry.notebook = getClient().getNotebook(
+          entry.sharedNotebook.getNotebookGuid());
+    }
+    return entry;
+  }
+
+  private synchronized void invalidate(LinkedNotebook linkedNotebook) {
+    notebookCache.remove(linkedNotebook == null ? null : linkedNotebook
+        .getShareKey());
+  }
+
+  private static long expiresAt(AuthenticationResult authenticationResult) {
+    if (authenticationResult == null
+        || !authenticationResult.isSetExpiration()
+        || !authenticationResult.isSetCurrentTime()) {
+      return Long.MAX_VALUE;
+    }
+    // Server clock to local clock
+    return System.currentTimeMillis() + authenticationResult.getExpiration()
+        - authenticationResult.getCurrentTime();
+  }
+
+  private static class CachedNotebook {
+    final SharedNotebook sharedNotebook;
+    final long expiresAt;
+    Notebook notebook;
+
+    CachedNotebook(SharedNotebook sharedNotebook, long expiresAt) {
+      this.sharedNotebook = sharedNotebook;
+      this.expiresAt = expiresAt;
+    }
+  }
+
 }
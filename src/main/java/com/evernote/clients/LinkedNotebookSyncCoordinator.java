@@ -0,0 +1,235 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.thrift.TException;
+
+/**
+ * Synchronizes many linked notebooks at once. Notebooks are grouped by the
+ * shard that holds them and each shard is worked by at most
+ * {@link #setMaxConcurrencyPerShard(int)} syncs at a time, so that accounts
+ * with hundreds of linked notebooks spread the load over every shard instead
+ * of walking them one after another or flooding one.
+ * 
+ * Each notebook is synchronized by a {@link SyncEngine}. The authenticated
+ * {@link LinkedNoteStoreClient} for a share key is created on first use and
+ * kept for later runs, until a sync through it fails.
+ * 
+ * This class is thread safe, but runs of the same notebook must not overlap.
+ */
+public class LinkedNotebookSyncCoordinator {
+
+  public static final int DEFAULT_MAX_CONCURRENCY_PER_SHARD = 2;
+
+  private final ClientFactory factory;
+  private final Executor executor;
+  private final Map<String, LinkedNoteStoreClient> clients =
+      new ConcurrentHashMap<String, LinkedNoteStoreClient>();
+
+  private volatile int maxConcurrencyPerShard =
+      DEFAULT_MAX_CONCURRENCY_PER_SHARD;
+  private volatile Executor prefetchExecutor;
+
+  /**
+   * @param factory
+   *          creates the clients of the linked notebooks
+   * @param executor
+   *          runs the syncs, typically a bounded thread pool. Its size caps
+   *          the total number of syncs running at once.
+   */
+  public LinkedNotebookSyncCoordinator(ClientFactory factory,
+      Executor executor) {
+    if (factory == null || executor == null) {
+      throw new IllegalArgumentException(
+          "ClientFactory and Executor must not be null.");
+    }
+    this.factory = factory;
+    this.executor = executor;
+  }
+
+  /**
+   * @param maxConcurrencyPerShard
+   *          the most notebooks of one shard synchronized at the same time
+   */
+  public void setMaxConcurrencyPerShard(int maxConcurrencyPerShard) {
+    if (maxConcurrencyPerShard <= 0) {
+      throw new IllegalArgumentException(
+          "maxConcurrencyPerShard must be positive");
+    }
+    this.maxConcurrencyPerShard = maxConcurrencyPerShard;
+  }
+
+  /**
+   * @param prefetchExecutor
+   *          passed to {@link SyncEngine#setExecutor(Executor)} for every
+   *          notebook
+   */
+  public void setPrefetchExecutor(Executor prefetchExecutor) {
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  /**
+   * @return the number of share keys with a cached client
+   */
+  public int getCachedClients() {
+    return clients.size();
+  }
+
+  /**
+   * Synchronizes every notebook in <i>linkedNotebooks</i> and returns once all
+   * of them have completed or failed. The outcome of each is reported to
+   * <i>handler</i>; a failure does not stop the others.
+   * 
+   * @throws InterruptedException
+   *           if interrupted while waiting. Syncs already started run to
+   *           completion in the background.
+   * @throws RuntimeException
+   *           the first exception thrown by <i>handler</i> itself, once every
+   *           notebook has been worked
+   */
+  public void sync(Collection<LinkedNotebook> linkedNotebooks,
+      final LinkedNotebookSyncHandler handler) throws InterruptedException {
+    if (handler == null) {
+      throw new IllegalArgumentException("handler must not be null");
+    }
+    Map<String, Queue<LinkedNotebook>> shards =
+        new LinkedHashMap<String, Queue<LinkedNotebook>>();
+    for (LinkedNotebook linkedNotebook : linkedNotebooks) {
+      String shard = shardOf(linkedNotebook);
+      Queue<LinkedNotebook> queue = shards.get(shard);
+      if (queue == null) {
+        queue = new ConcurrentLinkedQueue<LinkedNotebook>();
+        shards.put(shard, queue);
+      }
+      queue.add(linkedNotebook);
+    }
+
+    // Each shard gets as many workers as it may run syncs at once; a worker
+    // takes notebooks off its shard's queue until it is empty. Workers are
+    // submitted round robin so that a bounded executor starts on every shard
+    // before it starts a second sync on any of them.
+    ParallelWork<LinkedNotebook> work = new ParallelWork<LinkedNotebook>(
+        linkedNotebooks.size()) {
+      @Override
+      void work(LinkedNotebook linkedNotebook) {
+        int updateCount;
+        try {
+          updateCount = sync(linkedNotebook, handler);
+        } catch (Exception e) {
+          handler.onException(linkedNotebook, e);
+          return;
+        }
+        handler.onComplete(linkedNotebook, updateCount);
+      }
+    };
+    int perShard = maxConcurrencyPerShard;
+    List<Runnable> workers = new ArrayList<Runnable>();
+    for (int round = 0; round < perShard; round++) {
+      for (Queue<LinkedNotebook> queue : shards.values()) {
+        if (queue.size() > round) {
+          workers.add(work.worker(queue));
+        }
+      }
+    }
+    for (Runnable worker : workers) {
+      executor.execute(worker);
+    }
+    work.await();
+  }
+
+  /**
+   * Synchronizes one notebook on the calling thread.
+   * 
+   * @return the update count the notebook is now current with
+   */
+  int sync(LinkedNotebook linkedNotebook, LinkedNotebookSyncHandler handler)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    LinkedNoteStoreClient client = getClient(linkedNotebook);
+    boolean failed = true;
+    try {
+      // A client is not thread safe; only duplicate entries share one
+      synchronized (client) {
+        SyncEngine engine = new SyncEngine(client.getClient(), linkedNotebook);
+        engine.setExecutor(prefetchExecutor);
+        int updateCount = engine.sync(handler.getAfterUSN(linkedNotebook),
+            handler.getSink(linkedNotebook));
+        failed = false;
+        return updateCount;
+      }
+    } finally {
+      if (failed) {
+        clients.remove(keyOf(linkedNotebook));
+      }
+    }
+  }
+
+  private LinkedNoteStoreClient getClient(LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    String key = keyOf(linkedNotebook);
+    LinkedNoteStoreClient client = clients.get(key);
+    if (client == null) {
+      // Two workers may race to authenticate the same key; the loser's client
+      // is used once and dropped.
+      client = createClient(linkedNotebook);
+      clients.put(key, client);
+    }
+    return client;
+  }
+
+  LinkedNoteStoreClient createClient(LinkedNotebook linkedNotebook)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    return factory.createLinkedNoteStoreClient(linkedNotebook);
+  }
+
+  static String shardOf(LinkedNotebook linkedNotebook) {
+    if (linkedNotebook.isSetShardId()) {
+      return linkedNotebook.getShardId();
+    }
+    return String.valueOf(linkedNotebook.getNoteStoreUrl());
+  }
+
+  private static String keyOf(LinkedNotebook linkedNotebook) {
+    return linkedNotebook.getNoteStoreUrl() + "#"
+        + linkedNotebook.getShareKey();
+  }
+}
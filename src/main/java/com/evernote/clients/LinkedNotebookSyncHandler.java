@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import com.evernote.edam.type.LinkedNotebook;
+
+/**
+ * Supplies the per notebook state of a
+ * {@link LinkedNotebookSyncCoordinator} run and receives its outcome. Methods
+ * are called from the coordinator's worker threads, several at once for
+ * different notebooks, and must be thread safe.
+ */
+public interface LinkedNotebookSyncHandler {
+
+  /**
+   * @return the update count the local copy of <i>linkedNotebook</i> is
+   *         current with, or 0 to synchronize it in full
+   */
+  int getAfterUSN(LinkedNotebook linkedNotebook);
+
+  /**
+   * @return the sink that applies the chunks of <i>linkedNotebook</i>. It is
+   *         only called from one thread.
+   */
+  SyncChunkSink getSink(LinkedNotebook linkedNotebook);
+
+  /**
+   * @param updateCount
+   *          the update count <i>linkedNotebook</i> is now current with
+   */
+  void onComplete(LinkedNotebook linkedNotebook, int updateCount);
+
+  /**
+   * @param exception
+   *          the {@link com.evernote.edam.error.EDAMUserException},
+   *          {@link com.evernote.edam.error.EDAMSystemException},
+   *          {@link com.evernote.edam.error.EDAMNotFoundException},
+   *          {@link com.evernote.thrift.TException} or runtime exception that
+   *          ended the sync of <i>linkedNotebook</i>
+   */
+  void onException(LinkedNotebook linkedNotebook, Exception exception);
+}
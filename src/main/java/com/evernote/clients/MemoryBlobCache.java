@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link BlobCache} on the heap that holds at most <i>maxBytes</i> of
+ * values, dropping the least recently used ones first. Values larger than
+ * the whole cache are not kept.
+ * 
+ * It may sit in front of a slower, larger cache such as a
+ * {@link DiskBlobCache}. Values are then written to both, and a value only
+ * found in the slower cache is brought back into memory when read.
+ */
+public class MemoryBlobCache implements BlobCache {
+
+  private final long maxBytes;
+  private final BlobCache next;
+
+  // Access ordered, so iteration starts at the least recently used entry
+  private final LinkedHashMap<String, byte[]> entries =
+      new LinkedHashMap<String, byte[]>(16, 0.75f, true);
+  private long size = 0;
+
+  // Metrics, guarded by this
+  private long hits = 0;
+  private long misses = 0;
+
+  public MemoryBlobCache(long maxBytes) {
+    this(maxBytes, null);
+  }
+
+  /**
+   * @param next
+   *          the cache consulted on a miss, and written through to
+   */
+  public MemoryBlobCache(long maxBytes, BlobCache next) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+    this.maxBytes = maxBytes;
+    this.next = next;
+  }
+
+  public byte[] get(String key) {
+    synchronized (this) {
+      byte[] value = entries.get(key);
+      if (value != null || next == null) {
+        if (value != null) {
+          hits++;
+        } else {
+          misses++;
+        }
+        return value;
+      }
+    }
+    byte[] value = next.get(key);
+    synchronized (this) {
+      if (value != null) {
+        hits++;
+        store(key, value);
+      } else {
+        misses++;
+      }
+    }
+    return value;
+  }
+
+  public void put(String key, byte[] value) {
+    synchronized (this) {
+      store(key, value);
+    }
+    if (next != null) {
+      next.put(key, value);
+    }
+  }
+
+  public void remove(String key) {
+    synchronized (this) {
+      byte[] value = entries.remove(key);
+      if (value != null) {
+        size -= value.length;
+      }
+    }
+    if (next != null) {
+      next.remove(key);
+    }
+  }
+
+  /** @return the total length of the values held in memory */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /** @return reads answered by this cache or the one behind it */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /** @return reads that found no value */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  private void store(String key, byte[] value) {
+    byte[] previous = entries.remove(key);
+    if (previous != null) {
+      size -= previous.length;
+    }
+    if (value.length > maxBytes) {
+      return;
+    }
+    entries.put(key, value);
+    size += value.length;
+    for (Iterator<Map.Entry<String, byte[]>> it = entries.entrySet()
+        .iterator(); size > maxBytes && it.hasNext();) {
+      size -= it.next().getValue().length;
+      it.remove();
+    }
+  }
+}
@@ -25,6 +25,9 @@
  */
 package com.evernote.clients;
 
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
 import com.evernote.edam.error.EDAMNotFoundException;
@@ -44,6 +47,7 @@ import com.evernote.edam.notestore.RelatedResult;
 import com.evernote.edam.notestore.RelatedResultSpec;
 import com.evernote.edam.notestore.SyncChunk;
 import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncChunkVisitor;
 import com.evernote.edam.notestore.SyncState;
 import com.evernote.edam.type.LazyMap;
 import com.evernote.edam.type.LinkedNotebook;
@@ -78,6 +82,17 @@ public class NoteStoreClient {
     this.token = token;
   }
 
+  /**
+   * For subclasses that are not backed by a single {@link NoteStore.Client}.
+   */
+  NoteStoreClient(String token) {
+    if (token == null) {
+      throw new IllegalArgumentException("Token must not be null.");
+    }
+    this.client = null;
+    this.token = token;
+  }
+
   NoteStoreClient(TProtocol iprot, TProtocol oprot, String token) {
     if (iprot == null || oprot == null || token == null) {
       throw new IllegalArgumentException(
@@ -131,6 +146,21 @@ public class NoteStoreClient {
         fullSyncOnly);
   }
 
+  /**
+   * Like {@link #getSyncChunk(int, int, boolean)}, but passes each entry to
+   * <i>visitor</i> as it is decoded instead of collecting it in the returned
+   * chunk, which only carries the scalar fields.
+   * 
+   * @see NoteStore.Client#getSyncChunk(String, int, int, boolean,
+   *      com.evernote.edam.notestore.SyncChunkVisitor)
+   */
+  public SyncChunk getSyncChunk(int afterUSN, int maxEntries,
+      boolean fullSyncOnly, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return getClient().getSyncChunk(getToken(), afterUSN, maxEntries,
+        fullSyncOnly, visitor);
+  }
+
   /**
    * @see NoteStore.Client#getFilteredSyncChunk(String, int, int,
    *      com.evernote.edam.notestore.SyncChunkFilter)
@@ -142,6 +172,22 @@ public class NoteStoreClient {
         filter);
   }
 
+  /**
+   * Like {@link #getFilteredSyncChunk(int, int, SyncChunkFilter)}, but passes
+   * each entry to <i>visitor</i> as it is decoded instead of collecting it in
+   * the returned chunk, which only carries the scalar fields.
+   * 
+   * @see NoteStore.Client#getFilteredSyncChunk(String, int, int,
+   *      com.evernote.edam.notestore.SyncChunkFilter,
+   *      com.evernote.edam.notestore.SyncChunkVisitor)
+   */
+  public SyncChunk getFilteredSyncChunk(int afterUSN, int maxEntries,
+      SyncChunkFilter filter, SyncChunkVisitor visitor)
+      throws EDAMUserException, EDAMSystemException, TException {
+    return getClient().getFilteredSyncChunk(getToken(), afterUSN, maxEntries,
+        filter, visitor);
+  }
+
   /**
    * @see NoteStore.Client#getLinkedNotebookSyncState(String,
    *      com.evernote.edam.type.LinkedNotebook)
@@ -165,6 +211,24 @@ public class NoteStoreClient {
         afterUSN, maxEntries, fullSyncOnly);
   }
 
+  /**
+   * Like
+   * {@link #getLinkedNotebookSyncChunk(LinkedNotebook, int, int, boolean)},
+   * but passes each entry to <i>visitor</i> as it is decoded instead of
+   * collecting it in the returned chunk, which only carries the scalar fields.
+   * 
+   * @see NoteStore.Client#getLinkedNotebookSyncChunk(String,
+   *      com.evernote.edam.type.LinkedNotebook, int, int, boolean,
+   *      com.evernote.edam.notestore.SyncChunkVisitor)
+   */
+  public SyncChunk getLinkedNotebookSyncChunk(LinkedNotebook linkedNotebook,
+      int afterUSN, int maxEntries, boolean fullSyncOnly,
+      SyncChunkVisitor visitor) throws EDAMUserException, EDAMSystemException,
+      EDAMNotFoundException, TException {
+    return getClient().getLinkedNotebookSyncChunk(getToken(), linkedNotebook,
+        afterUSN, maxEntries, fullSyncOnly, visitor);
+  }
+
   /**
    * @see NoteStore.Client#listNotebooks(String)
    */
@@ -590,6 +654,34 @@ public class NoteStoreClient {
     return getClient().getResourceData(getToken(), guid);
   }
 
+  /**
+   * Like {@link #getResourceData(String)}, but writes the body to <i>out</i>
+   * in bounded pieces as it is read, so that large resources can be saved
+   * without holding them in memory. Only clients whose responses are not
+   * buffered (see {@link ClientFactory#setBufferResponses(boolean)}) keep
+   * the whole body off the heap.
+   * 
+   * @param bodyHash
+   *          the MD5 the body must have, normally
+   *          {@code resource.getData().getBodyHash()}, or null to skip the check
+   * @return the length of the body
+   * @throws TException
+   *           if the body does not match <i>bodyHash</i>; what was written
+   *           to <i>out</i> should then be discarded
+   * @see NoteStore.Client#getResourceData(String, String, WritableByteChannel,
+   *      MessageDigest)
+   */
+  public int getResourceData(String guid, WritableByteChannel out, byte[] bodyHash)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    MessageDigest digest = bodyHash == null ? null : newMd5Digest();
+    int length = getClient().getResourceData(getToken(), guid, out, digest);
+    if (digest != null && !MessageDigest.isEqual(bodyHash, digest.digest())) {
+      throw new TException("Resource " + guid + " does not match its hash");
+    }
+    return length;
+  }
+
   /**
    * @see NoteStore.Client#getResourceByHash(String, String, byte[], boolean,
    *      boolean, boolean)
@@ -618,6 +710,34 @@ public class NoteStoreClient {
     return getClient().getResourceAlternateData(getToken(), guid);
   }
 
+  /**
+   * Like {@link #getResourceAlternateData(String)}, but writes the alternate data to <i>out</i>
+   * in bounded pieces as it is read, so that large resources can be saved
+   * without holding them in memory. Only clients whose responses are not
+   * buffered (see {@link ClientFactory#setBufferResponses(boolean)}) keep
+   * the whole alternate data off the heap.
+   * 
+   * @param bodyHash
+   *          the MD5 the alternate data must have, normally
+   *          {@code resource.getAlternateData().getBodyHash()}, or null to skip the check
+   * @return the length of the alternate data
+   * @throws TException
+   *           if the alternate data does not match <i>bodyHash</i>; what was written
+   *           to <i>out</i> should then be discarded
+   * @see NoteStore.Client#getResourceAlternateData(String, String, WritableByteChannel,
+   *      MessageDigest)
+   */
+  public int getResourceAlternateData(String guid, WritableByteChannel out, byte[] bodyHash)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    MessageDigest digest = bodyHash == null ? null : newMd5Digest();
+    int length = getClient().getResourceAlternateData(getToken(), guid, out, digest);
+    if (digest != null && !MessageDigest.isEqual(bodyHash, digest.digest())) {
+      throw new TException("Resource " + guid + " does not match its hash");
+    }
+    return length;
+  }
+
   /**
    * @see NoteStore.Client#getResourceAttributes(String, String)
    */
@@ -796,4 +916,13 @@ public class NoteStoreClient {
         sharedNotebookId, recipientSettings);
   }
 
+  static MessageDigest newMd5Digest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support MD5
+      throw new RuntimeException(e);
+    }
+  }
+
 }
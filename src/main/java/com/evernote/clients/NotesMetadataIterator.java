@@ -0,0 +1,312 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+
+/**
+ * Iterates over every note matching a filter, paging through
+ * {@link NoteStoreClient#findNotesMetadata(NoteFilter, int, int, NotesMetadataResultSpec)}
+ * as it goes.
+ * 
+ * The first page is fetched on the first call to {@link #hasNext()}. Once it
+ * has told how many notes match, up to {@link #setMaxConcurrentPages(int)}
+ * of the following pages are requested at once, and more are requested as
+ * the earlier ones are consumed. Notes are returned in the order of the
+ * filter either way. Fetching pages concurrently needs a client that may be
+ * shared between threads, such as a {@link PooledNoteStoreClient}.
+ * 
+ * Even one page at a time is fetched on a background thread while the caller
+ * iterates. Unless the client is safe for concurrent use, it must not be used
+ * for anything else, such as loading the notes returned, until
+ * {@link #hasNext()} has returned false or {@link #close()} has returned.
+ * 
+ * Pages are addressed by offset, so notes that are created or deleted during
+ * the iteration can cause others to be skipped or returned twice.
+ * 
+ * Call {@link #close()} when abandoning an iteration before its end, to stop
+ * the fetches still in flight.
+ */
+public class NotesMetadataIterator implements Iterator<NoteMetadata> {
+
+  /** The most notes the service returns per findNotesMetadata call */
+  public static final int DEFAULT_PAGE_SIZE = 250;
+  public static final int DEFAULT_MAX_CONCURRENT_PAGES = 1;
+
+  private final NoteStoreClient client;
+  private final NoteFilter filter;
+  private final NotesMetadataResultSpec resultSpec;
+
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private int maxConcurrentPages = DEFAULT_MAX_CONCURRENT_PAGES;
+  private Executor executor;
+
+  private boolean started;
+  private int totalNotes = -1;
+  private int nextOffset;
+  private Executor fetcher;
+  private ExecutorService ownExecutor;
+  private final LinkedList<PageFetch> pending = new LinkedList<PageFetch>();
+  private Iterator<NoteMetadata> page = Collections.<NoteMetadata> emptyList()
+      .iterator();
+
+  /**
+   * @param client
+   *          the client to search with
+   * @param filter
+   *          selects the notes to return, and their order
+   * @param resultSpec
+   *          selects the fields returned for each note
+   */
+  public NotesMetadataIterator(NoteStoreClient client, NoteFilter filter,
+      NotesMetadataResultSpec resultSpec) {
+    if (client == null) {
+      throw new IllegalArgumentException("client must not be null");
+    }
+    this.client = client;
+    this.filter = filter;
+    this.resultSpec = resultSpec;
+  }
+
+  /**
+   * @param pageSize
+   *          the number of notes requested per call, at most
+   *          {@link #DEFAULT_PAGE_SIZE}
+   */
+  public void setPageSize(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be positive");
+    }
+    checkNotStarted();
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * @param maxConcurrentPages
+   *          the number of pages requested at once after the first. More than
+   *          one requires a client that is safe for concurrent use.
+   */
+  public void setMaxConcurrentPages(int maxConcurrentPages) {
+    if (maxConcurrentPages < 1) {
+      throw new IllegalArgumentException("maxConcurrentPages must be positive");
+    }
+    checkNotStarted();
+    this.maxConcurrentPages = maxConcurrentPages;
+  }
+
+  /**
+   * @param executor
+   *          runs the page fetches. If null, the default, the iterator starts
+   *          its own background threads and stops them when done.
+   */
+  public void setExecutor(Executor executor) {
+    checkNotStarted();
+    this.executor = executor;
+  }
+
+  /**
+   * @return the number of matching notes reported by the first page, or -1
+   *         if it has not been fetched yet
+   */
+  public int getTotalNotes() {
+    return totalNotes;
+  }
+
+  /**
+   * @throws PageException
+   *           if a page could not be fetched
+   */
+  public boolean hasNext() {
+    if (!started) {
+      start();
+    }
+    while (!page.hasNext()) {
+      if (pending.isEmpty()) {
+        close();
+        return false;
+      }
+      NotesMetadataList list = await(pending.removeFirst());
+      page = list.isSetNotes() ? list.getNotes().iterator() : Collections
+          .<NoteMetadata> emptyList().iterator();
+      schedule();
+    }
+    return true;
+  }
+
+  /**
+   * @throws PageException
+   *           if a page could not be fetched
+   */
+  public NoteMetadata next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return page.next();
+  }
+
+  /**
+   * @throws UnsupportedOperationException
+   *           always
+   */
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Cancels the fetches still in flight, waits for those already talking to
+   * the service to return, and stops the background threads started by this
+   * iterator. The client is free for other use once this returns. The
+   * iterator returns no further notes afterwards.
+   */
+  public void close() {
+    started = true;
+    for (PageFetch task : pending) {
+      task.cancel(true);
+    }
+    for (PageFetch task : pending) {
+      task.cancelAndWait();
+    }
+    pending.clear();
+    page = Collections.<NoteMetadata> emptyList().iterator();
+    if (ownExecutor != null) {
+      ownExecutor.shutdownNow();
+      ownExecutor = null;
+    }
+  }
+
+  private void start() {
+    started = true;
+    NotesMetadataList first;
+    try {
+      first = client.findNotesMetadata(filter, 0, pageSize, resultSpec);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PageException(0, e);
+    }
+    totalNotes = first.getTotalNotes();
+    int returned = first.getNotesSize();
+    if (returned > 0 && returned < pageSize) {
+      // The service capped the page; keep later pages contiguous
+      pageSize = returned;
+    }
+    nextOffset = first.getStartIndex() + returned;
+    page = returned > 0 ? first.getNotes().iterator() : Collections
+        .<NoteMetadata> emptyList().iterator();
+
+    fetcher = executor;
+    if (fetcher == null && nextOffset < totalNotes) {
+      ownExecutor = Executors.newFixedThreadPool(maxConcurrentPages,
+          new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+              Thread thread = new Thread(r, "NotesMetadataIterator-fetch");
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+      fetcher = ownExecutor;
+    }
+    schedule();
+  }
+
+  private void schedule() {
+    while (pending.size() < maxConcurrentPages && nextOffset < totalNotes) {
+      PageFetch task = new PageFetch(nextOffset, pageSize);
+      pending.addLast(task);
+      nextOffset += pageSize;
+      fetcher.execute(task);
+    }
+  }
+
+  private NotesMetadataList await(PageFetch task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new PageException(task.offset, e);
+    } catch (ExecutionException e) {
+      close();
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new PageException(task.offset, cause);
+    }
+  }
+
+  private void checkNotStarted() {
+    if (started) {
+      throw new IllegalStateException("Iteration has already started");
+    }
+  }
+
+  private class PageFetch extends ClientTask<NotesMetadataList> {
+    final int offset;
+
+    PageFetch(final int offset, final int maxNotes) {
+      super(new Callable<NotesMetadataList>() {
+        public NotesMetadataList call() throws Exception {
+          return client.findNotesMetadata(filter, offset, maxNotes, resultSpec);
+        }
+      });
+      this.offset = offset;
+    }
+  }
+
+  /**
+   * Thrown from {@link NotesMetadataIterator#hasNext()} and
+   * {@link NotesMetadataIterator#next()} when a page could not be fetched.
+   * The cause is the EDAMUserException, EDAMSystemException,
+   * EDAMNotFoundException or other TException thrown by
+   * {@link NoteStoreClient#findNotesMetadata}. The iterator is closed once
+   * this has been thrown.
+   */
+  public static class PageException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    PageException(int offset, Throwable cause) {
+      super("Couldn't fetch notes metadata near offset " + offset, cause);
+    }
+  }
+}
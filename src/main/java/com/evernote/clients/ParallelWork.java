@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A batch of items worked off by workers that poll shared queues, as used by
+ * {@link BulkNoteFetcher} and {@link LinkedNotebookSyncCoordinator}. Every
+ * item is counted down once worked, even if reporting its outcome throws, so
+ * that {@link #await()} always returns.
+ */
+abstract class ParallelWork<T> {
+
+  private final CountDownLatch done;
+  private final AtomicReference<Throwable> failure =
+      new AtomicReference<Throwable>();
+
+  /**
+   * @param items
+   *          the number of items across every queue handed to
+   *          {@link #worker(Queue)}
+   */
+  ParallelWork(int items) {
+    done = new CountDownLatch(items);
+  }
+
+  /**
+   * Works one item and reports its outcome to the caller's handler. Failures
+   * of the work itself are reported there; anything thrown out of this method
+   * is a failure of the handler.
+   */
+  abstract void work(T item);
+
+  /**
+   * @return a worker that works the items of <i>queue</i> until it is empty
+   */
+  Runnable worker(final Queue<T> queue) {
+    return new Runnable() {
+      public void run() {
+        T item;
+        while ((item = queue.poll()) != null) {
+          // A throwing handler must not end the worker, or the items left in
+          // its queue are never counted down
+          try {
+            work(item);
+          } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+          } catch (Error e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            done.countDown();
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Waits until every item has been worked.
+   * 
+   * @throws RuntimeException
+   *           the first exception a handler threw, if any
+   */
+  void await() throws InterruptedException {
+    done.await();
+    Throwable t = failure.get();
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t instanceof Error) {
+      throw (Error) t;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.NoteStore;
+import com.evernote.thrift.TException;
+
+/**
+ * A thread safe {@link NoteStoreClient}. Every call leases a client from a
+ * bounded pool for its token and NoteStore URL, makes the call, and returns
+ * the client, so any number of threads may share one instance without
+ * external locking. At most <i>maxClients</i> calls run at once; further
+ * callers wait for a client to be returned.
+ * 
+ * Unlike other {@link NoteStoreClient}s, this class has no single
+ * {@link NoteStore.Client} behind it, so {@link #getClient()} throws
+ * UnsupportedOperationException. Callers that need the generated client should
+ * use {@link ClientFactory#createNoteStoreClient()} instead.
+ */
+public class PooledNoteStoreClient extends CallingNoteStoreClient {
+
+  private final StoreClientPool<NoteStoreClient> pool;
+
+  PooledNoteStoreClient(StoreClientPool<NoteStoreClient> pool) {
+    super(pool.getToken());
+    this.pool = pool;
+  }
+
+  /**
+   * @throws UnsupportedOperationException
+   *           always, as calls are spread over several underlying clients
+   */
+  @Override
+  public NoteStore.Client getClient() {
+    throw new UnsupportedOperationException(
+        "PooledNoteStoreClient is not backed by a single NoteStore.Client");
+  }
+
+  /**
+   * @return the number of underlying clients created so far
+   */
+  public int getCreatedClients() {
+    return pool.getCreatedClients();
+  }
+
+  /**
+   * @return the number of underlying clients not currently in use
+   */
+  public int getIdleClients() {
+    return pool.getIdleClients();
+  }
+
+  /**
+   * Runs a call on a leased client. A client whose call failed with a
+   * {@link TException} or an unchecked exception may have left its transport
+   * half read and is invalidated; EDAM errors arrive as complete responses, so
+   * the client goes back to the pool.
+   */
+  @Override
+  <T, U extends Exception, N extends Exception> T execute(
+      NoteStoreCall<T, U, N> call) throws U, N, EDAMSystemException, TException {
+    NoteStoreClient client = pool.lease();
+    boolean reusable = true;
+    try {
+      return call.call(client);
+    } catch (TException e) {
+      reusable = false;
+      throw e;
+    } catch (RuntimeException e) {
+      reusable = false;
+      throw e;
+    } finally {
+      if (reusable) {
+        pool.release(client);
+      } else {
+        pool.invalidate(client);
+      }
+    }
+  }
+}
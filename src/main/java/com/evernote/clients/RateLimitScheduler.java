@@ -0,0 +1,295 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * Tracks the rate limit windows reported by the service through
+ * {@link EDAMErrorCode#RATE_LIMIT_REACHED} and holds new calls until the
+ * window for their user, or for their whole API key, has passed.
+ * 
+ * Share one scheduler between every client of an application through
+ * {@link ClientFactory#setRateLimitScheduler(RateLimitScheduler)}. Waiting
+ * callers block without polling and are released together when the window
+ * expires.
+ * 
+ * This class is thread safe.
+ */
+public class RateLimitScheduler {
+
+  private static final Pattern CONSUMER_KEY_REGEX = Pattern
+      .compile(":A=([^:]+):");
+  private static final Pattern USER_ID_REGEX = Pattern
+      .compile("(?:^|:)U=([^:]+):");
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition windowChanged = lock.newCondition();
+
+  // All guarded by lock
+  private final Map<String, Long> blockedUntil = new HashMap<String, Long>();
+  private boolean apiKeyWide = false;
+  private int maxRetries = 0;
+  private int queueDepth = 0;
+  private long delayedCalls = 0;
+  private long rateLimitedCalls = 0;
+  private long totalWaitMillis = 0;
+
+  /**
+   * @param apiKeyWide
+   *          if true, a rate limit reported for one user also holds calls for
+   *          every other user of the same API key
+   */
+  public void setApiKeyWide(boolean apiKeyWide) {
+    lock.lock();
+    try {
+      this.apiKeyWide = apiKeyWide;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @param maxRetries
+   *          how many times a call rejected with RATE_LIMIT_REACHED is retried
+   *          once its window has passed, before the exception is thrown to the
+   *          caller. The default is 0.
+   */
+  public void setMaxRetries(int maxRetries) {
+    lock.lock();
+    try {
+      this.maxRetries = maxRetries;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of calls currently held back
+   */
+  public int getQueueDepth() {
+    lock.lock();
+    try {
+      return queueDepth;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of calls that have had to wait for a window
+   */
+  public long getDelayedCalls() {
+    lock.lock();
+    try {
+      return delayedCalls;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of calls the service rejected with RATE_LIMIT_REACHED
+   */
+  public long getRateLimitedCalls() {
+    lock.lock();
+    try {
+      return rateLimitedCalls;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the total time, in milliseconds, calls have spent held back
+   */
+  public long getTotalWaitMillis() {
+    lock.lock();
+    try {
+      return totalWaitMillis;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return how long, in milliseconds, a new call made with <i>token</i> would
+   *         be held back, or 0 if it may proceed now
+   */
+  public long getRemainingWaitMillis(String token) {
+    lock.lock();
+    try {
+      return Math.max(0, windowEnd(token) - System.currentTimeMillis());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records a rate limit window of <i>seconds</i> for the user of
+   * <i>token</i>, and for its API key if the scheduler is API key wide.
+   */
+  public void rateLimitReached(String token, int seconds) {
+    long until = System.currentTimeMillis()
+        + TimeUnit.SECONDS.toMillis(seconds);
+    lock.lock();
+    try {
+      rateLimitedCalls++;
+      extend(userKey(token), until);
+      if (apiKeyWide && apiKey(token) != null) {
+        extend(apiKey(token), until);
+      }
+      windowChanged.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until calls made with <i>token</i> are outside every rate limit
+   * window.
+   * 
+   * @throws TTransportException
+   *           if the thread is interrupted while waiting
+   */
+  void acquire(String token) throws TTransportException {
+    lock.lock();
+    try {
+      long start = System.currentTimeMillis();
+      boolean queued = false;
+      try {
+        while (true) {
+          long wait = windowEnd(token) - System.currentTimeMillis();
+          if (wait <= 0) {
+            break;
+          }
+          if (!queued) {
+            queued = true;
+            queueDepth++;
+            delayedCalls++;
+          }
+          windowChanged.await(wait, TimeUnit.MILLISECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TTransportException(TTransportException.TIMED_OUT,
+            "Interrupted waiting for rate limit window");
+      } finally {
+        if (queued) {
+          queueDepth--;
+          totalWaitMillis += System.currentTimeMillis() - start;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Inspects an exception thrown by a call made with <i>token</i>.
+   * 
+   * @param attempt
+   *          zero for the first try of the call
+   * @return true if it was a rate limit and the call should be retried
+   */
+  boolean onSystemException(String token, EDAMSystemException e, int attempt) {
+    if (e.getErrorCode() != EDAMErrorCode.RATE_LIMIT_REACHED) {
+      return false;
+    }
+    rateLimitReached(token, e.getRateLimitDuration());
+    lock.lock();
+    try {
+      return attempt < maxRetries;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long windowEnd(String token) {
+    purgeExpired();
+    long end = 0;
+    Long user = blockedUntil.get(userKey(token));
+    if (user != null) {
+      end = user.longValue();
+    }
+    Long api = apiKey(token) == null ? null : blockedUntil.get(apiKey(token));
+    if (api != null) {
+      end = Math.max(end, api.longValue());
+    }
+    return end;
+  }
+
+  private void extend(String key, long until) {
+    Long current = blockedUntil.get(key);
+    if (current == null || current.longValue() < until) {
+      blockedUntil.put(key, Long.valueOf(until));
+    }
+  }
+
+  private void purgeExpired() {
+    long now = System.currentTimeMillis();
+    for (Iterator<Long> it = blockedUntil.values().iterator(); it.hasNext();) {
+      if (it.next().longValue() <= now) {
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Rate limits apply to an API key and user pair.
+   */
+  static String userKey(String token) {
+    String user = find(USER_ID_REGEX, token);
+    if (user == null) {
+      return "T=" + token;
+    }
+    return "A=" + find(CONSUMER_KEY_REGEX, token) + ":U=" + user;
+  }
+
+  /**
+   * @return the API key part of <i>token</i>, or null if it has none
+   */
+  static String apiKey(String token) {
+    String consumerKey = find(CONSUMER_KEY_REGEX, token);
+    return consumerKey == null ? null : "A=" + consumerKey;
+  }
+
+  private static String find(Pattern pattern, String token) {
+    Matcher matcher = pattern.matcher(token);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.NoteStore;
+import com.evernote.thrift.TException;
+
+/**
+ * A {@link NoteStoreClient} that cooperates with a {@link RateLimitScheduler}.
+ * Each call waits until its user is outside any known rate limit window, and
+ * a RATE_LIMIT_REACHED error opens a new window for every client sharing the
+ * scheduler. The call itself may then be retried, see
+ * {@link RateLimitScheduler#setMaxRetries(int)}.
+ */
+public class RateLimitedNoteStoreClient extends CallingNoteStoreClient {
+
+  private final NoteStoreClient delegate;
+  private final RateLimitScheduler scheduler;
+
+  RateLimitedNoteStoreClient(NoteStoreClient delegate,
+      RateLimitScheduler scheduler) {
+    super(delegate.getToken());
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Calls made directly on the returned client bypass the scheduler.
+   * 
+   * @see NoteStoreClient#getClient()
+   */
+  @Override
+  public NoteStore.Client getClient() {
+    return delegate.getClient();
+  }
+
+  /**
+   * Runs a call on the delegate once the scheduler lets it through, and again
+   * for as long as the scheduler asks for a retry after a rate limit error.
+   */
+  @Override
+  <T, U extends Exception, N extends Exception> T execute(
+      NoteStoreCall<T, U, N> call) throws U, N, EDAMSystemException, TException {
+    for (int attempt = 0;; attempt++) {
+      scheduler.acquire(getToken());
+      try {
+        return call.call(delegate);
+      } catch (EDAMSystemException e) {
+        if (!scheduler.onSystemException(getToken(), e, attempt)) {
+          throw e;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.evernote.thrift.TServiceClient;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * A bounded pool of store clients for a single token and service URL. Each
+ * client owns its own protocol and transport, so a leased client can be used
+ * without locking while other threads use theirs.
+ * 
+ * @param <T>
+ *          the store client type, e.g. {@link NoteStoreClient}
+ */
+class StoreClientPool<T> {
+
+  private final ClientFactory factory;
+  private final Class<T> clientClass;
+  private final String url;
+  private final String token;
+
+  private final Semaphore permits;
+  private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<T>();
+  private final AtomicInteger created = new AtomicInteger();
+
+  /**
+   * @param maxClients
+   *          the most clients that may be leased at once, or 0 for no limit
+   */
+  StoreClientPool(ClientFactory factory, Class<T> clientClass, String url,
+      String token, int maxClients) {
+    if (maxClients < 0) {
+      throw new IllegalArgumentException("maxClients must not be negative");
+    }
+    this.factory = factory;
+    this.clientClass = clientClass;
+    this.url = url;
+    this.token = token;
+    this.permits = maxClients > 0 ? new Semaphore(maxClients, true) : null;
+  }
+
+  String getUrl() {
+    return url;
+  }
+
+  String getToken() {
+    return token;
+  }
+
+  /**
+   * @return clients created since the pool was created
+   */
+  int getCreatedClients() {
+    return created.get();
+  }
+
+  /**
+   * @return clients waiting in the pool
+   */
+  int getIdleClients() {
+    return idle.size();
+  }
+
+  /**
+   * Leases a client, waiting for one to be returned if the pool is at
+   * capacity. Pair every lease with {@link #release(Object)} or
+   * {@link #invalidate(Object)}.
+   */
+  T lease() throws TTransportException {
+    if (permits != null) {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new TTransportException(TTransportException.TIMED_OUT,
+            "Interrupted waiting for a client to " + url);
+      }
+    }
+    T client = idle.poll();
+    if (client != null) {
+      return client;
+    }
+    try {
+      client = newClient();
+    } catch (TTransportException e) {
+      releasePermit();
+      throw e;
+    } catch (RuntimeException e) {
+      releasePermit();
+      throw e;
+    }
+    created.incrementAndGet();
+    return client;
+  }
+
+  T newClient() throws TTransportException {
+    return factory.createStoreClient(clientClass, url, token);
+  }
+
+  /**
+   * Returns a client after a call that completed, successfully or with an
+   * EDAM error, leaving its transport ready for the next request.
+   */
+  void release(T client) {
+    idle.offer(client);
+    releasePermit();
+  }
+
+  /**
+   * Drops a client whose last call failed part way through, so its
+   * transport may hold a half written request. Its transports are closed,
+   * which hands any pooled HTTP connection they hold back to its pool.
+   */
+  void invalidate(T client) {
+    try {
+      TServiceClient service = serviceOf(client);
+      if (service != null) {
+        service.getInputProtocol().getTransport().close();
+        service.getOutputProtocol().getTransport().close();
+      }
+    } finally {
+      releasePermit();
+    }
+  }
+
+  private static TServiceClient serviceOf(Object client) {
+    if (client instanceof NoteStoreClient) {
+      return ((NoteStoreClient) client).getClient();
+    } else if (client instanceof UserStoreClient) {
+      return ((UserStoreClient) client).getClient();
+    }
+    return null;
+  }
+
+  private void releasePermit() {
+    if (permits != null) {
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.error.EDAMUserException;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkFilter;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.transport.TTransportException;
+
+/**
+ * Drives full and incremental synchronization of an account, or of a single
+ * linked notebook, against the NoteStore.
+ * 
+ * A sync reads the {@link SyncState} and then pages through sync chunks from
+ * the requested USN until the chunk high USN reaches the update count. The
+ * request for the next chunk is issued as soon as the current one arrives, so
+ * it travels over the network while the {@link SyncChunkSink} applies the
+ * current chunk. The number of entries asked for per chunk is adjusted after
+ * every response so that each round trip takes about
+ * {@link #setTargetLatencyMillis(long)}.
+ * 
+ * The engine uses its client from one thread at a time, but not always from
+ * the caller's thread; the sink must not use the same client while a sync is
+ * running. An engine runs one sync at a time and may be reused afterwards.
+ */
+public class SyncEngine {
+
+  public static final int DEFAULT_INITIAL_ENTRIES = 100;
+  public static final int DEFAULT_MIN_ENTRIES = 10;
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+  public static final long DEFAULT_TARGET_LATENCY = 2000L;
+
+  private final NoteStoreClient client;
+  private final LinkedNotebook linkedNotebook;
+
+  private SyncChunkFilter filter;
+  private Executor executor;
+  private int minEntries = DEFAULT_MIN_ENTRIES;
+  private int maxEntries = DEFAULT_MAX_ENTRIES;
+  private int nextEntries = DEFAULT_INITIAL_ENTRIES;
+  private long targetLatencyMillis = DEFAULT_TARGET_LATENCY;
+
+  private SyncState lastSyncState;
+
+  /**
+   * @param client
+   *          the client of the account to synchronize
+   */
+  public SyncEngine(NoteStoreClient client) {
+    this(client, null);
+  }
+
+  /**
+   * @param client
+   *          a client on the shard of the linked notebook, authenticated to the
+   *          shared notebook as returned by
+   *          {@link LinkedNoteStoreClient#getClient()}
+   * @param linkedNotebook
+   *          the linked notebook to synchronize
+   */
+  public SyncEngine(NoteStoreClient client, LinkedNotebook linkedNotebook) {
+    if (client == null) {
+      throw new IllegalArgumentException("client must not be null");
+    }
+    this.client = client;
+    this.linkedNotebook = linkedNotebook;
+  }
+
+  /**
+   * @param filter
+   *          selects the entries returned by an account sync through
+   *          {@link NoteStoreClient#getFilteredSyncChunk(int, int, SyncChunkFilter)}.
+   *          If null, the default, every entry is returned through
+   *          {@link NoteStoreClient#getSyncChunk(int, int, boolean)}. Linked
+   *          notebook syncs are not filtered.
+   */
+  public void setFilter(SyncChunkFilter filter) {
+    this.filter = filter;
+  }
+
+  /**
+   * @param executor
+   *          runs the chunk prefetches. If null, the default, each sync starts
+   *          its own background thread and stops it when done.
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Bounds the number of entries requested per chunk.
+   * 
+   * @param minEntries
+   *          the lower bound, at least 1
+   * @param maxEntries
+   *          the upper bound, at least <i>minEntries</i>
+   */
+  public void setEntryLimits(int minEntries, int maxEntries) {
+    if (minEntries < 1 || maxEntries < minEntries) {
+      throw new IllegalArgumentException("Invalid entry limits " + minEntries
+          + ".." + maxEntries);
+    }
+    this.minEntries = minEntries;
+    this.maxEntries = maxEntries;
+    nextEntries = clamp(nextEntries);
+  }
+
+  /**
+   * @param millis
+   *          the duration of a chunk round trip that the entry count is
+   *          adjusted toward. Longer chunks mean fewer round trips but a later
+   *          first chunk and more work lost if a request fails.
+   */
+  public void setTargetLatencyMillis(long millis) {
+    if (millis <= 0) {
+      throw new IllegalArgumentException("Target latency must be positive");
+    }
+    targetLatencyMillis = millis;
+  }
+
+  /**
+   * @return the number of entries that will be requested for the next chunk
+   */
+  public int getNextEntries() {
+    return nextEntries;
+  }
+
+  /**
+   * @return the sync state read by the most recent sync, or null. Persist its
+   *         current time to pass as the <i>lastSyncTime</i> of the next
+   *         {@link #sync(int, long, SyncChunkSink)}.
+   */
+  public SyncState getLastSyncState() {
+    return lastSyncState;
+  }
+
+  /**
+   * Synchronizes everything from the beginning.
+   * 
+   * @return the update count the local store is now current with
+   */
+  public int fullSync(SyncChunkSink sink) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return sync(0, sink);
+  }
+
+  /**
+   * Synchronizes the changes made after <i>afterUSN</i>, falling back to a full
+   * sync when the service requires one because <i>lastSyncTime</i> is older
+   * than the sync state's fullSyncBefore.
+   * 
+   * @param afterUSN
+   *          the update count returned by the previous sync
+   * @param lastSyncTime
+   *          the current time of the sync state read by the previous sync
+   * @return the update count the local store is now current with
+   */
+  public int sync(int afterUSN, long lastSyncTime, SyncChunkSink sink)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    SyncState state = readSyncState();
+    if (state.getFullSyncBefore() > lastSyncTime) {
+      afterUSN = 0;
+    }
+    return sync(state, afterUSN, sink);
+  }
+
+  /**
+   * Synchronizes the changes made after <i>afterUSN</i>, or everything if it is
+   * 0. Chunks are passed to <i>sink</i> in order as they arrive.
+   * 
+   * @param afterUSN
+   *          the update count returned by the previous sync
+   * @return the update count the local store is now current with
+   */
+  public int sync(int afterUSN, SyncChunkSink sink) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    return sync(readSyncState(), afterUSN, sink);
+  }
+
+  private SyncState readSyncState() throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    SyncState state = linkedNotebook == null ? client.getSyncState() : client
+        .getLinkedNotebookSyncState(linkedNotebook);
+    lastSyncState = state;
+    return state;
+  }
+
+  private int sync(SyncState state, int afterUSN, SyncChunkSink sink)
+      throws EDAMUserException, EDAMSystemException, EDAMNotFoundException,
+      TException {
+    if (sink == null) {
+      throw new IllegalArgumentException("sink must not be null");
+    }
+    if (state.getUpdateCount() <= afterUSN) {
+      return afterUSN;
+    }
+
+    ExecutorService ownExecutor = null;
+    Executor prefetcher = executor;
+    if (prefetcher == null) {
+      ownExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "SyncEngine-prefetch");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      prefetcher = ownExecutor;
+    }
+
+    ClientTask<Fetch> pending = null;
+    try {
+      pending = prefetch(prefetcher, afterUSN, nextEntries);
+      while (true) {
+        Fetch fetch = await(pending);
+        pending = null;
+        SyncChunk chunk = fetch.chunk;
+        adapt(fetch.requested, countEntries(chunk), fetch.millis);
+
+        if (!chunk.isSetChunkHighUSN()) {
+          // Nothing left after afterUSN, possibly expunged since the state
+          return Math.max(afterUSN, chunk.getUpdateCount());
+        }
+        afterUSN = chunk.getChunkHighUSN();
+        boolean more = afterUSN < chunk.getUpdateCount();
+        if (more) {
+          pending = prefetch(prefetcher, afterUSN, nextEntries);
+        }
+        sink.onChunk(chunk);
+        if (!more) {
+          return afterUSN;
+        }
+      }
+    } finally {
+      if (pending != null) {
+        pending.cancelAndWait();
+      }
+      if (ownExecutor != null) {
+        ownExecutor.shutdownNow();
+      }
+    }
+  }
+
+  private ClientTask<Fetch> prefetch(Executor prefetcher, final int afterUSN,
+      final int entries) {
+    ClientTask<Fetch> task = new ClientTask<Fetch>(new Callable<Fetch>() {
+      public Fetch call() throws Exception {
+        long start = System.currentTimeMillis();
+        SyncChunk chunk;
+        if (linkedNotebook != null) {
+          chunk = client.getLinkedNotebookSyncChunk(linkedNotebook, afterUSN,
+              entries, false);
+        } else if (filter != null) {
+          chunk = client.getFilteredSyncChunk(afterUSN, entries, filter);
+        } else {
+          chunk = client.getSyncChunk(afterUSN, entries, false);
+        }
+        return new Fetch(chunk, entries, System.currentTimeMillis() - start);
+      }
+    });
+    prefetcher.execute(task);
+    return task;
+  }
+
+  private static Fetch await(FutureTask<Fetch> task) throws EDAMUserException,
+      EDAMSystemException, EDAMNotFoundException, TException {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TTransportException(TTransportException.TIMED_OUT,
+          "Interrupted waiting for sync chunk");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof EDAMUserException) {
+        throw (EDAMUserException) cause;
+      } else if (cause instanceof EDAMSystemException) {
+        throw (EDAMSystemException) cause;
+      } else if (cause instanceof EDAMNotFoundException) {
+        throw (EDAMNotFoundException) cause;
+      } else if (cause instanceof TException) {
+        throw (TException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new TException(cause);
+    }
+  }
+
+  /**
+   * Moves the entry count halfway toward the count that would have taken the
+   * target latency at the observed per entry cost. Chunks that came back short
+   * of the request are at the end of the account and say little about cost, so
+   * they only ever shrink the count.
+   */
+  private void adapt(int requested, int entries, long millis) {
+    if (entries == 0) {
+      return;
+    }
+    long ideal = targetLatencyMillis * entries / Math.max(millis, 1);
+    if (entries < requested && ideal > nextEntries) {
+      return;
+    }
+    long next = ((long) nextEntries + ideal) / 2;
+    nextEntries = clamp((int) Math.min(next, Integer.MAX_VALUE));
+  }
+
+  private int clamp(int entries) {
+    return Math.max(minEntries, Math.min(maxEntries, entries));
+  }
+
+  static int countEntries(SyncChunk chunk) {
+    return chunk.getNotesSize() + chunk.getNotebooksSize()
+        + chunk.getTagsSize() + chunk.getSearchesSize()
+        + chunk.getResourcesSize() + chunk.getExpungedNotesSize()
+        + chunk.getExpungedNotebooksSize() + chunk.getExpungedTagsSize()
+        + chunk.getExpungedSearchesSize() + chunk.getLinkedNotebooksSize()
+        + chunk.getExpungedLinkedNotebooksSize();
+  }
+
+  private static class Fetch {
+    final SyncChunk chunk;
+    final int requested;
+    final long millis;
+
+    Fetch(SyncChunk chunk, int requested, long millis) {
+      this.chunk = chunk;
+      this.requested = requested;
+      this.millis = millis;
+    }
+  }
+}
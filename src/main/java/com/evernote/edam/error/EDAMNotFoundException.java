@@ -146,7 +146,10 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetIdentifier() ? this.identifier.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetKey() ? this.key.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(EDAMNotFoundException other) {
@@ -179,31 +182,33 @@ public class EDAMNotFoundException extends Exception implements TBase<EDAMNotFou
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // IDENTIFIER
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.identifier = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // KEY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.key = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
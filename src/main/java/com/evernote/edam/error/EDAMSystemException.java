@@ -43,7 +43,7 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
 
   // isset id assignments
   private static final int __RATELIMITDURATION_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public EDAMSystemException() {
   }
@@ -59,7 +59,7 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
    * Performs a deep copy on <i>other</i>.
    */
   public EDAMSystemException(EDAMSystemException other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetErrorCode()) {
       this.errorCode = other.errorCode;
     }
@@ -144,16 +144,16 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
   }
 
   public void unsetRateLimitDuration() {
-    __isset_vector[__RATELIMITDURATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID);
   }
 
   /** Returns true if field rateLimitDuration is set (has been asigned a value) and false otherwise */
   public boolean isSetRateLimitDuration() {
-    return __isset_vector[__RATELIMITDURATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID);
   }
 
   public void setRateLimitDurationIsSet(boolean value) {
-    __isset_vector[__RATELIMITDURATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RATELIMITDURATION_ISSET_ID, value);
   }
 
   @Override
@@ -201,7 +201,11 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetErrorCode() ? this.errorCode.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetMessage() ? this.message.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRateLimitDuration() ? this.rateLimitDuration : 0);
+    return hashCode;
   }
 
   public int compareTo(EDAMSystemException other) {
@@ -243,39 +247,41 @@ public class EDAMSystemException extends Exception implements TBase<EDAMSystemEx
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // ERROR_CODE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.errorCode = EDAMErrorCode.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // MESSAGE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.message = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // RATE_LIMIT_DURATION
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.rateLimitDuration = iprot.readI32();
             setRateLimitDurationIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
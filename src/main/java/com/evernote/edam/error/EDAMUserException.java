@@ -165,7 +165,10 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetErrorCode() ? this.errorCode.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetParameter() ? this.parameter.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(EDAMUserException other) {
@@ -198,31 +201,33 @@ public class EDAMUserException extends Exception implements TBase<EDAMUserExcept
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // ERROR_CODE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.errorCode = EDAMErrorCode.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // PARAMETER
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.parameter = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
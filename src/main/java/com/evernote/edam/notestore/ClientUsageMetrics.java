@@ -48,7 +48,7 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
 
   // isset id assignments
   private static final int __SESSIONS_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public ClientUsageMetrics() {
   }
@@ -57,7 +57,7 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public ClientUsageMetrics(ClientUsageMetrics other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.sessions = other.sessions;
   }
 
@@ -80,16 +80,16 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
   }
 
   public void unsetSessions() {
-    __isset_vector[__SESSIONS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SESSIONS_ISSET_ID);
   }
 
   /** Returns true if field sessions is set (has been asigned a value) and false otherwise */
   public boolean isSetSessions() {
-    return __isset_vector[__SESSIONS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SESSIONS_ISSET_ID);
   }
 
   public void setSessionsIsSet(boolean value) {
-    __isset_vector[__SESSIONS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SESSIONS_ISSET_ID, value);
   }
 
   @Override
@@ -119,7 +119,9 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetSessions() ? this.sessions : 0);
+    return hashCode;
   }
 
   public int compareTo(ClientUsageMetrics other) {
@@ -143,25 +145,27 @@ public class ClientUsageMetrics implements TBase<ClientUsageMetrics>, java.io.Se
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // SESSIONS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.sessions = iprot.readI32();
             setSessionsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -55,7 +55,7 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
 
   // isset id assignments
   private static final int __TRASHCOUNT_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public NoteCollectionCounts() {
   }
@@ -64,7 +64,7 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public NoteCollectionCounts(NoteCollectionCounts other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetNotebookCounts()) {
       Map<String,Integer> __this__notebookCounts = new HashMap<String,Integer>();
       for (Map.Entry<String, Integer> other_element : other.notebookCounts.entrySet()) {
@@ -187,16 +187,16 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
   }
 
   public void unsetTrashCount() {
-    __isset_vector[__TRASHCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID);
   }
 
   /** Returns true if field trashCount is set (has been asigned a value) and false otherwise */
   public boolean isSetTrashCount() {
-    return __isset_vector[__TRASHCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID);
   }
 
   public void setTrashCountIsSet(boolean value) {
-    __isset_vector[__TRASHCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRASHCOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -244,7 +244,11 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetNotebookCounts() ? this.notebookCounts.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTagCounts() ? this.tagCounts.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTrashCount() ? this.trashCount : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteCollectionCounts other) {
@@ -286,21 +290,23 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NOTEBOOK_COUNTS
-          if (field.type == TType.MAP) {
+          if (fieldType == TType.MAP) {
             {
-              TMap _map76 = iprot.readMapBegin();
-              this.notebookCounts = new HashMap<String,Integer>(2*_map76.size);
-              for (int _i77 = 0; _i77 < _map76.size; ++_i77)
+              int _map76_size = iprot.readMapBeginSize();
+              this.notebookCounts = new HashMap<String,Integer>(2*_map76_size);
+              for (int _i77 = 0; _i77 < _map76_size; ++_i77)
               {
                 String _key78;
                 int _val79;
@@ -311,15 +317,15 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
               iprot.readMapEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TAG_COUNTS
-          if (field.type == TType.MAP) {
+          if (fieldType == TType.MAP) {
             {
-              TMap _map80 = iprot.readMapBegin();
-              this.tagCounts = new HashMap<String,Integer>(2*_map80.size);
-              for (int _i81 = 0; _i81 < _map80.size; ++_i81)
+              int _map80_size = iprot.readMapBeginSize();
+              this.tagCounts = new HashMap<String,Integer>(2*_map80_size);
+              for (int _i81 = 0; _i81 < _map80_size; ++_i81)
               {
                 String _key82;
                 int _val83;
@@ -330,19 +336,19 @@ public class NoteCollectionCounts implements TBase<NoteCollectionCounts>, java.i
               iprot.readMapEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // TRASH_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.trashCount = iprot.readI32();
             setTrashCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -371,7 +371,14 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNote() ? this.note.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetToAddresses() ? this.toAddresses.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetCcAddresses() ? this.ccAddresses.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSubject() ? this.subject.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetMessage() ? this.message.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteEmailParameters other) {
@@ -440,36 +447,38 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NOTE
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.note = new com.evernote.edam.type.Note();
             this.note.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // TO_ADDRESSES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list86 = iprot.readListBegin();
-              this.toAddresses = new ArrayList<String>(_list86.size);
-              for (int _i87 = 0; _i87 < _list86.size; ++_i87)
+              int _list86_size = iprot.readListBeginSize();
+              this.toAddresses = new ArrayList<String>(_list86_size);
+              for (int _i87 = 0; _i87 < _list86_size; ++_i87)
               {
                 String _elem88;
                 _elem88 = iprot.readString();
@@ -478,15 +487,15 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // CC_ADDRESSES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list89 = iprot.readListBegin();
-              this.ccAddresses = new ArrayList<String>(_list89.size);
-              for (int _i90 = 0; _i90 < _list89.size; ++_i90)
+              int _list89_size = iprot.readListBeginSize();
+              this.ccAddresses = new ArrayList<String>(_list89_size);
+              for (int _i90 = 0; _i90 < _list89_size; ++_i90)
               {
                 String _elem91;
                 _elem91 = iprot.readString();
@@ -495,25 +504,25 @@ public class NoteEmailParameters implements TBase<NoteEmailParameters>, java.io.
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // SUBJECT
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.subject = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // MESSAGE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.message = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -104,7 +104,7 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   private static final int __ORDER_ISSET_ID = 0;
   private static final int __ASCENDING_ISSET_ID = 1;
   private static final int __INACTIVE_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public NoteFilter() {
   }
@@ -113,7 +113,7 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public NoteFilter(NoteFilter other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.order = other.order;
     this.ascending = other.ascending;
     if (other.isSetWords()) {
@@ -166,16 +166,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetOrder() {
-    __isset_vector[__ORDER_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ORDER_ISSET_ID);
   }
 
   /** Returns true if field order is set (has been asigned a value) and false otherwise */
   public boolean isSetOrder() {
-    return __isset_vector[__ORDER_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ORDER_ISSET_ID);
   }
 
   public void setOrderIsSet(boolean value) {
-    __isset_vector[__ORDER_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ORDER_ISSET_ID, value);
   }
 
   public boolean isAscending() {
@@ -188,16 +188,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetAscending() {
-    __isset_vector[__ASCENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   /** Returns true if field ascending is set (has been asigned a value) and false otherwise */
   public boolean isSetAscending() {
-    return __isset_vector[__ASCENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   public void setAscendingIsSet(boolean value) {
-    __isset_vector[__ASCENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ASCENDING_ISSET_ID, value);
   }
 
   public String getWords() {
@@ -317,16 +317,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void unsetInactive() {
-    __isset_vector[__INACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INACTIVE_ISSET_ID);
   }
 
   /** Returns true if field inactive is set (has been asigned a value) and false otherwise */
   public boolean isSetInactive() {
-    return __isset_vector[__INACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INACTIVE_ISSET_ID);
   }
 
   public void setInactiveIsSet(boolean value) {
-    __isset_vector[__INACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INACTIVE_ISSET_ID, value);
   }
 
   public String getEmphasized() {
@@ -442,7 +442,16 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetOrder() ? this.order : 0);
+    hashCode = 31 * hashCode + (this.isSetAscending() ? TBaseHelper.hashCode(this.ascending) : 0);
+    hashCode = 31 * hashCode + (this.isSetWords() ? this.words.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookGuid() ? this.notebookGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTagGuids() ? this.tagGuids.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTimeZone() ? this.timeZone.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetInactive() ? TBaseHelper.hashCode(this.inactive) : 0);
+    hashCode = 31 * hashCode + (this.isSetEmphasized() ? this.emphasized.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteFilter other) {
@@ -529,51 +538,53 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // ORDER
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.order = iprot.readI32();
             setOrderIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // ASCENDING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.ascending = iprot.readBool();
             setAscendingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // WORDS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.words = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // NOTEBOOK_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // TAG_GUIDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list44 = iprot.readListBegin();
-              this.tagGuids = new ArrayList<String>(_list44.size);
-              for (int _i45 = 0; _i45 < _list44.size; ++_i45)
+              int _list44_size = iprot.readListBeginSize();
+              this.tagGuids = new ArrayList<String>(_list44_size);
+              for (int _i45 = 0; _i45 < _list44_size; ++_i45)
               {
                 String _elem46;
                 _elem46 = iprot.readString();
@@ -582,33 +593,33 @@ public class NoteFilter implements TBase<NoteFilter>, java.io.Serializable, Clon
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // TIME_ZONE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.timeZone = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // INACTIVE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.inactive = iprot.readBool();
             setInactiveIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // EMPHASIZED
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.emphasized = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
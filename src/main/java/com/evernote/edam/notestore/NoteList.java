@@ -87,7 +87,7 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
   private static final int __STARTINDEX_ISSET_ID = 0;
   private static final int __TOTALNOTES_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public NoteList() {
   }
@@ -109,7 +109,7 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
    * Performs a deep copy on <i>other</i>.
    */
   public NoteList(NoteList other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.startIndex = other.startIndex;
     this.totalNotes = other.totalNotes;
     if (other.isSetNotes()) {
@@ -162,16 +162,16 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
   }
 
   public void unsetStartIndex() {
-    __isset_vector[__STARTINDEX_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   /** Returns true if field startIndex is set (has been asigned a value) and false otherwise */
   public boolean isSetStartIndex() {
-    return __isset_vector[__STARTINDEX_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   public void setStartIndexIsSet(boolean value) {
-    __isset_vector[__STARTINDEX_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __STARTINDEX_ISSET_ID, value);
   }
 
   public int getTotalNotes() {
@@ -184,16 +184,16 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
   }
 
   public void unsetTotalNotes() {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   /** Returns true if field totalNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetTotalNotes() {
-    return __isset_vector[__TOTALNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   public void setTotalNotesIsSet(boolean value) {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOTALNOTES_ISSET_ID, value);
   }
 
   public int getNotesSize() {
@@ -320,16 +320,16 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -404,7 +404,14 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + this.startIndex;
+    hashCode = 31 * hashCode + this.totalNotes;
+    hashCode = 31 * hashCode + (this.isSetNotes() ? this.notes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetStoppedWords() ? this.stoppedWords.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSearchedWords() ? this.searchedWords.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateCount() ? this.updateCount : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteList other) {
@@ -473,37 +480,39 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // START_INDEX
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.startIndex = iprot.readI32();
             setStartIndexIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TOTAL_NOTES
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.totalNotes = iprot.readI32();
             setTotalNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // NOTES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list48 = iprot.readListBegin();
-              this.notes = new ArrayList<com.evernote.edam.type.Note>(_list48.size);
-              for (int _i49 = 0; _i49 < _list48.size; ++_i49)
+              int _list48_size = iprot.readListBeginSize();
+              this.notes = new ArrayList<com.evernote.edam.type.Note>(_list48_size);
+              for (int _i49 = 0; _i49 < _list48_size; ++_i49)
               {
                 com.evernote.edam.type.Note _elem50;
                 _elem50 = new com.evernote.edam.type.Note();
@@ -513,15 +522,15 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // STOPPED_WORDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list51 = iprot.readListBegin();
-              this.stoppedWords = new ArrayList<String>(_list51.size);
-              for (int _i52 = 0; _i52 < _list51.size; ++_i52)
+              int _list51_size = iprot.readListBeginSize();
+              this.stoppedWords = new ArrayList<String>(_list51_size);
+              for (int _i52 = 0; _i52 < _list51_size; ++_i52)
               {
                 String _elem53;
                 _elem53 = iprot.readString();
@@ -530,15 +539,15 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // SEARCHED_WORDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list54 = iprot.readListBegin();
-              this.searchedWords = new ArrayList<String>(_list54.size);
-              for (int _i55 = 0; _i55 < _list54.size; ++_i55)
+              int _list54_size = iprot.readListBeginSize();
+              this.searchedWords = new ArrayList<String>(_list54_size);
+              for (int _i55 = 0; _i55 < _list54_size; ++_i55)
               {
                 String _elem56;
                 _elem56 = iprot.readString();
@@ -547,19 +556,19 @@ public class NoteList implements TBase<NoteList>, java.io.Serializable, Cloneabl
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // UPDATE_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateCount = iprot.readI32();
             setUpdateCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
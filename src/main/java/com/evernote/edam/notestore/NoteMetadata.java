@@ -75,7 +75,7 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   private static final int __DELETED_ISSET_ID = 3;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 4;
   private static final int __LARGESTRESOURCESIZE_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
 
   public NoteMetadata() {
   }
@@ -91,7 +91,7 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
    * Performs a deep copy on <i>other</i>.
    */
   public NoteMetadata(NoteMetadata other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -203,16 +203,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetContentLength() {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field contentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetContentLength() {
-    return __isset_vector[__CONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   public void setContentLengthIsSet(boolean value) {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID, value);
   }
 
   public long getCreated() {
@@ -225,16 +225,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetCreated() {
-    __isset_vector[__CREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   /** Returns true if field created is set (has been asigned a value) and false otherwise */
   public boolean isSetCreated() {
-    return __isset_vector[__CREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   public void setCreatedIsSet(boolean value) {
-    __isset_vector[__CREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATED_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -247,16 +247,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getDeleted() {
@@ -269,16 +269,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetDeleted() {
-    __isset_vector[__DELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   /** Returns true if field deleted is set (has been asigned a value) and false otherwise */
   public boolean isSetDeleted() {
-    return __isset_vector[__DELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   public void setDeletedIsSet(boolean value) {
-    __isset_vector[__DELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DELETED_ISSET_ID, value);
   }
 
   public int getUpdateSequenceNum() {
@@ -291,16 +291,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -420,16 +420,16 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void unsetLargestResourceSize() {
-    __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID);
   }
 
   /** Returns true if field largestResourceSize is set (has been asigned a value) and false otherwise */
   public boolean isSetLargestResourceSize() {
-    return __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID);
   }
 
   public void setLargestResourceSizeIsSet(boolean value) {
-    __isset_vector[__LARGESTRESOURCESIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LARGESTRESOURCESIZE_ISSET_ID, value);
   }
 
   @Override
@@ -558,7 +558,20 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTitle() ? this.title.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContentLength() ? this.contentLength : 0);
+    hashCode = 31 * hashCode + (this.isSetCreated() ? TBaseHelper.hashCode(this.created) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdated() ? TBaseHelper.hashCode(this.updated) : 0);
+    hashCode = 31 * hashCode + (this.isSetDeleted() ? TBaseHelper.hashCode(this.deleted) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateSequenceNum() ? this.updateSequenceNum : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookGuid() ? this.notebookGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTagGuids() ? this.tagGuids.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAttributes() ? this.attributes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLargestResourceMime() ? this.largestResourceMime.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLargestResourceSize() ? this.largestResourceSize : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteMetadata other) {
@@ -681,82 +694,84 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TITLE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.title = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // CONTENT_LENGTH
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.contentLength = iprot.readI32();
             setContentLengthIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // CREATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.created = iprot.readI64();
             setCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.updated = iprot.readI64();
             setUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // DELETED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.deleted = iprot.readI64();
             setDeletedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // NOTEBOOK_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // TAG_GUIDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list60 = iprot.readListBegin();
-              this.tagGuids = new ArrayList<String>(_list60.size);
-              for (int _i61 = 0; _i61 < _list60.size; ++_i61)
+              int _list60_size = iprot.readListBeginSize();
+              this.tagGuids = new ArrayList<String>(_list60_size);
+              for (int _i61 = 0; _i61 < _list60_size; ++_i61)
               {
                 String _elem62;
                 _elem62 = iprot.readString();
@@ -765,34 +780,34 @@ public class NoteMetadata implements TBase<NoteMetadata>, java.io.Serializable,
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // ATTRIBUTES
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.attributes = new com.evernote.edam.type.NoteAttributes();
             this.attributes.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // LARGEST_RESOURCE_MIME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.largestResourceMime = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 21: // LARGEST_RESOURCE_SIZE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.largestResourceSize = iprot.readI32();
             setLargestResourceSizeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
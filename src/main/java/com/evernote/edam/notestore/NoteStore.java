@@ -137,6 +137,18 @@ public class NoteStore {
       return recv_getSyncChunk();
     }
 
+    public SyncChunk getSyncChunk(String authenticationToken, int afterUSN, int maxEntries, boolean fullSyncOnly, SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
+    {
+      send_getSyncChunk(authenticationToken, afterUSN, maxEntries, fullSyncOnly);
+      try {
+        return recv_getSyncChunk(visitor);
+      } catch (RuntimeException e) {
+        // The visitor failed mid-response; drop the unread rest of it
+        iprot_.getTransport().close();
+        throw e;
+      }
+    }
+
     public void send_getSyncChunk(String authenticationToken, int afterUSN, int maxEntries, boolean fullSyncOnly) throws TException
     {
       oprot_.writeMessageBegin(new TMessage("getSyncChunk", TMessageType.CALL, ++seqid_));
@@ -151,6 +163,11 @@ public class NoteStore {
     }
 
     public SyncChunk recv_getSyncChunk() throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
+    {
+      return recv_getSyncChunk(null);
+    }
+
+    public SyncChunk recv_getSyncChunk(SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
     {
       TMessage msg = iprot_.readMessageBegin();
       if (msg.type == TMessageType.EXCEPTION) {
@@ -162,7 +179,7 @@ public class NoteStore {
         throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "getSyncChunk failed: out of sequence response");
       }
       getSyncChunk_result result = new getSyncChunk_result();
-      result.read(iprot_);
+      result.read(iprot_, visitor);
       iprot_.readMessageEnd();
       if (result.isSetSuccess()) {
         return result.success;
@@ -182,6 +199,18 @@ public class NoteStore {
       return recv_getFilteredSyncChunk();
     }
 
+    public SyncChunk getFilteredSyncChunk(String authenticationToken, int afterUSN, int maxEntries, SyncChunkFilter filter, SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
+    {
+      send_getFilteredSyncChunk(authenticationToken, afterUSN, maxEntries, filter);
+      try {
+        return recv_getFilteredSyncChunk(visitor);
+      } catch (RuntimeException e) {
+        // The visitor failed mid-response; drop the unread rest of it
+        iprot_.getTransport().close();
+        throw e;
+      }
+    }
+
     public void send_getFilteredSyncChunk(String authenticationToken, int afterUSN, int maxEntries, SyncChunkFilter filter) throws TException
     {
       oprot_.writeMessageBegin(new TMessage("getFilteredSyncChunk", TMessageType.CALL, ++seqid_));
@@ -196,6 +225,11 @@ public class NoteStore {
     }
 
     public SyncChunk recv_getFilteredSyncChunk() throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
+    {
+      return recv_getFilteredSyncChunk(null);
+    }
+
+    public SyncChunk recv_getFilteredSyncChunk(SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, TException
     {
       TMessage msg = iprot_.readMessageBegin();
       if (msg.type == TMessageType.EXCEPTION) {
@@ -207,7 +241,7 @@ public class NoteStore {
         throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "getFilteredSyncChunk failed: out of sequence response");
       }
       getFilteredSyncChunk_result result = new getFilteredSyncChunk_result();
-      result.read(iprot_);
+      result.read(iprot_, visitor);
       iprot_.readMessageEnd();
       if (result.isSetSuccess()) {
         return result.success;
@@ -273,6 +307,18 @@ public class NoteStore {
       return recv_getLinkedNotebookSyncChunk();
     }
 
+    public SyncChunk getLinkedNotebookSyncChunk(String authenticationToken, com.evernote.edam.type.LinkedNotebook linkedNotebook, int afterUSN, int maxEntries, boolean fullSyncOnly, SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      send_getLinkedNotebookSyncChunk(authenticationToken, linkedNotebook, afterUSN, maxEntries, fullSyncOnly);
+      try {
+        return recv_getLinkedNotebookSyncChunk(visitor);
+      } catch (RuntimeException e) {
+        // The visitor failed mid-response; drop the unread rest of it
+        iprot_.getTransport().close();
+        throw e;
+      }
+    }
+
     public void send_getLinkedNotebookSyncChunk(String authenticationToken, com.evernote.edam.type.LinkedNotebook linkedNotebook, int afterUSN, int maxEntries, boolean fullSyncOnly) throws TException
     {
       oprot_.writeMessageBegin(new TMessage("getLinkedNotebookSyncChunk", TMessageType.CALL, ++seqid_));
@@ -288,6 +334,11 @@ public class NoteStore {
     }
 
     public SyncChunk recv_getLinkedNotebookSyncChunk() throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      return recv_getLinkedNotebookSyncChunk(null);
+    }
+
+    public SyncChunk recv_getLinkedNotebookSyncChunk(SyncChunkVisitor visitor) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
     {
       TMessage msg = iprot_.readMessageBegin();
       if (msg.type == TMessageType.EXCEPTION) {
@@ -299,7 +350,7 @@ public class NoteStore {
         throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "getLinkedNotebookSyncChunk failed: out of sequence response");
       }
       getLinkedNotebookSyncChunk_result result = new getLinkedNotebookSyncChunk_result();
-      result.read(iprot_);
+      result.read(iprot_, visitor);
       iprot_.readMessageEnd();
       if (result.isSetSuccess()) {
         return result.success;
@@ -2439,6 +2490,12 @@ public class NoteStore {
       return recv_getResourceData();
     }
 
+    public int getResourceData(String authenticationToken, String guid, java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      send_getResourceData(authenticationToken, guid);
+      return recv_getResourceData(out, digest);
+    }
+
     public void send_getResourceData(String authenticationToken, String guid) throws TException
     {
       oprot_.writeMessageBegin(new TMessage("getResourceData", TMessageType.CALL, ++seqid_));
@@ -2479,6 +2536,35 @@ public class NoteStore {
       throw new TApplicationException(TApplicationException.MISSING_RESULT, "getResourceData failed: unknown result");
     }
 
+    public int recv_getResourceData(java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      TMessage msg = iprot_.readMessageBegin();
+      if (msg.type == TMessageType.EXCEPTION) {
+        TApplicationException x = TApplicationException.read(iprot_);
+        iprot_.readMessageEnd();
+        throw x;
+      }
+      if (msg.seqid != seqid_) {
+        throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "getResourceData failed: out of sequence response");
+      }
+      getResourceData_result result = new getResourceData_result();
+      result.read(iprot_, out, digest);
+      iprot_.readMessageEnd();
+      if (result.successLength >= 0) {
+        return result.successLength;
+      }
+      if (result.userException != null) {
+        throw result.userException;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      if (result.notFoundException != null) {
+        throw result.notFoundException;
+      }
+      throw new TApplicationException(TApplicationException.MISSING_RESULT, "getResourceData failed: unknown result");
+    }
+
     public com.evernote.edam.type.Resource getResourceByHash(String authenticationToken, String noteGuid, byte[] contentHash, boolean withData, boolean withRecognition, boolean withAlternateData) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
     {
       send_getResourceByHash(authenticationToken, noteGuid, contentHash, withData, withRecognition, withAlternateData);
@@ -2581,6 +2667,12 @@ public class NoteStore {
       return recv_getResourceAlternateData();
     }
 
+    public int getResourceAlternateData(String authenticationToken, String guid, java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      send_getResourceAlternateData(authenticationToken, guid);
+      return recv_getResourceAlternateData(out, digest);
+    }
+
     public void send_getResourceAlternateData(String authenticationToken, String guid) throws TException
     {
       oprot_.writeMessageBegin(new TMessage("getResourceAlternateData", TMessageType.CALL, ++seqid_));
@@ -2621,6 +2713,35 @@ public class NoteStore {
       throw new TApplicationException(TApplicationException.MISSING_RESULT, "getResourceAlternateData failed: unknown result");
     }
 
+    public int recv_getResourceAlternateData(java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
+    {
+      TMessage msg = iprot_.readMessageBegin();
+      if (msg.type == TMessageType.EXCEPTION) {
+        TApplicationException x = TApplicationException.read(iprot_);
+        iprot_.readMessageEnd();
+        throw x;
+      }
+      if (msg.seqid != seqid_) {
+        throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID, "getResourceAlternateData failed: out of sequence response");
+      }
+      getResourceAlternateData_result result = new getResourceAlternateData_result();
+      result.read(iprot_, out, digest);
+      iprot_.readMessageEnd();
+      if (result.successLength >= 0) {
+        return result.successLength;
+      }
+      if (result.userException != null) {
+        throw result.userException;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      if (result.notFoundException != null) {
+        throw result.notFoundException;
+      }
+      throw new TApplicationException(TApplicationException.MISSING_RESULT, "getResourceAlternateData failed: unknown result");
+    }
+
     public com.evernote.edam.type.ResourceAttributes getResourceAttributes(String authenticationToken, String guid) throws com.evernote.edam.error.EDAMUserException, com.evernote.edam.error.EDAMSystemException, com.evernote.edam.error.EDAMNotFoundException, TException
     {
       send_getResourceAttributes(authenticationToken, guid);
@@ -3549,24 +3670,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3689,41 +3812,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncState();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3841,32 +3966,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // CLIENT_METRICS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.clientMetrics = new ClientUsageMetrics();
               this.clientMetrics.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3994,41 +4121,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncState();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4080,7 +4209,7 @@ public class NoteStore {
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
     private static final int __FULLSYNCONLY_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getSyncChunk_args() {
     }
@@ -4089,7 +4218,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getSyncChunk_args(getSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -4128,11 +4257,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -4142,11 +4271,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFullSyncOnly(boolean fullSyncOnly) {
@@ -4156,11 +4285,11 @@ public class NoteStore {
 
     /** Returns true if field fullSyncOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetFullSyncOnly() {
-      return __isset_vector[__FULLSYNCONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID);
     }
 
     public void setFullSyncOnlyIsSet(boolean value) {
-      __isset_vector[__FULLSYNCONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID, value);
     }
 
     public int compareTo(getSyncChunk_args other) {
@@ -4211,48 +4340,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // AFTER_USN
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.afterUSN = iprot.readI32();
               setAfterUSNIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // MAX_ENTRIES
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.maxEntries = iprot.readI32();
               setMaxEntriesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // FULL_SYNC_ONLY
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.fullSyncOnly = iprot.readBool();
               setFullSyncOnlyIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4384,41 +4515,47 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      read(iprot, null);
+    }
+
+    public void read(TProtocol iprot, SyncChunkVisitor visitor) throws TException {
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncChunk();
-              this.success.read(iprot);
+              this.success.read(iprot, visitor);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4469,7 +4606,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public getFilteredSyncChunk_args() {
     }
@@ -4478,7 +4615,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getFilteredSyncChunk_args(getFilteredSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -4518,11 +4655,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -4532,11 +4669,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFilter(SyncChunkFilter filter) {
@@ -4596,48 +4733,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // AFTER_USN
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.afterUSN = iprot.readI32();
               setAfterUSNIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // MAX_ENTRIES
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.maxEntries = iprot.readI32();
               setMaxEntriesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // FILTER
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.filter = new SyncChunkFilter();
               this.filter.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4771,41 +4910,47 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      read(iprot, null);
+    }
+
+    public void read(TProtocol iprot, SyncChunkVisitor visitor) throws TException {
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncChunk();
-              this.success.read(iprot);
+              this.success.read(iprot, visitor);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4923,32 +5068,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // LINKED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.linkedNotebook = new com.evernote.edam.type.LinkedNotebook();
               this.linkedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -5096,49 +5243,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncState();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -5196,7 +5345,7 @@ public class NoteStore {
     private static final int __AFTERUSN_ISSET_ID = 0;
     private static final int __MAXENTRIES_ISSET_ID = 1;
     private static final int __FULLSYNCONLY_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getLinkedNotebookSyncChunk_args() {
     }
@@ -5205,7 +5354,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getLinkedNotebookSyncChunk_args(getLinkedNotebookSyncChunk_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -5257,11 +5406,11 @@ public class NoteStore {
 
     /** Returns true if field afterUSN is set (has been asigned a value) and false otherwise */
     public boolean isSetAfterUSN() {
-      return __isset_vector[__AFTERUSN_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __AFTERUSN_ISSET_ID);
     }
 
     public void setAfterUSNIsSet(boolean value) {
-      __isset_vector[__AFTERUSN_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __AFTERUSN_ISSET_ID, value);
     }
 
     public void setMaxEntries(int maxEntries) {
@@ -5271,11 +5420,11 @@ public class NoteStore {
 
     /** Returns true if field maxEntries is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxEntries() {
-      return __isset_vector[__MAXENTRIES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXENTRIES_ISSET_ID);
     }
 
     public void setMaxEntriesIsSet(boolean value) {
-      __isset_vector[__MAXENTRIES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXENTRIES_ISSET_ID, value);
     }
 
     public void setFullSyncOnly(boolean fullSyncOnly) {
@@ -5285,11 +5434,11 @@ public class NoteStore {
 
     /** Returns true if field fullSyncOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetFullSyncOnly() {
-      return __isset_vector[__FULLSYNCONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID);
     }
 
     public void setFullSyncOnlyIsSet(boolean value) {
-      __isset_vector[__FULLSYNCONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCONLY_ISSET_ID, value);
     }
 
     public int compareTo(getLinkedNotebookSyncChunk_args other) {
@@ -5349,56 +5498,58 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // LINKED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.linkedNotebook = new com.evernote.edam.type.LinkedNotebook();
               this.linkedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // AFTER_USN
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.afterUSN = iprot.readI32();
               setAfterUSNIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // MAX_ENTRIES
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.maxEntries = iprot.readI32();
               setMaxEntriesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // FULL_SYNC_ONLY
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.fullSyncOnly = iprot.readBool();
               setFullSyncOnlyIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -5555,49 +5706,55 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      read(iprot, null);
+    }
+
+    public void read(TProtocol iprot, SyncChunkVisitor visitor) throws TException {
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new SyncChunk();
-              this.success.read(iprot);
+              this.success.read(iprot, visitor);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -5695,24 +5852,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -5839,21 +5998,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list110 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.Notebook>(_list110.size);
-                for (int _i111 = 0; _i111 < _list110.size; ++_i111)
+                int _list110_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.Notebook>(_list110_size);
+                for (int _i111 = 0; _i111 < _list110_size; ++_i111)
                 {
                   com.evernote.edam.type.Notebook _elem112;
                   _elem112 = new com.evernote.edam.type.Notebook();
@@ -5863,27 +6024,27 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6008,31 +6169,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6180,49 +6343,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Notebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6320,24 +6485,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6460,41 +6627,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Notebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6612,32 +6781,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notebook = new com.evernote.edam.type.Notebook();
               this.notebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6765,41 +6936,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Notebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6917,32 +7090,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notebook = new com.evernote.edam.type.Notebook();
               this.notebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -6990,7 +7165,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateNotebook_result() {
     }
@@ -6999,7 +7174,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateNotebook_result(updateNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -7026,11 +7201,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -7096,49 +7271,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -7260,31 +7437,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -7332,7 +7511,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNotebook_result() {
     }
@@ -7341,7 +7520,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNotebook_result(expungeNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -7368,11 +7547,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -7438,49 +7617,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -7578,24 +7759,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -7722,21 +7905,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list114 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.Tag>(_list114.size);
-                for (int _i115 = 0; _i115 < _list114.size; ++_i115)
+                int _list114_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.Tag>(_list114_size);
+                for (int _i115 = 0; _i115 < _list114_size; ++_i115)
                 {
                   com.evernote.edam.type.Tag _elem116;
                   _elem116 = new com.evernote.edam.type.Tag();
@@ -7746,27 +7931,27 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -7891,31 +8076,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTEBOOK_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.notebookGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8067,21 +8254,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list118 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.Tag>(_list118.size);
-                for (int _i119 = 0; _i119 < _list118.size; ++_i119)
+                int _list118_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.Tag>(_list118_size);
+                for (int _i119 = 0; _i119 < _list118_size; ++_i119)
                 {
                   com.evernote.edam.type.Tag _elem120;
                   _elem120 = new com.evernote.edam.type.Tag();
@@ -8091,35 +8280,35 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8248,31 +8437,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8420,49 +8611,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Tag();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8584,32 +8777,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // TAG
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.tag = new com.evernote.edam.type.Tag();
               this.tag.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8757,49 +8952,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Tag();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8921,32 +9118,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // TAG
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.tag = new com.evernote.edam.type.Tag();
               this.tag.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -8994,7 +9193,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateTag_result() {
     }
@@ -9003,7 +9202,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateTag_result(updateTag_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -9030,11 +9229,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -9100,49 +9299,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -9264,31 +9465,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -9416,41 +9619,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -9568,31 +9773,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -9640,7 +9847,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeTag_result() {
     }
@@ -9649,7 +9856,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeTag_result(expungeTag_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -9676,11 +9883,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -9746,49 +9953,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -9886,24 +10095,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10030,21 +10241,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list122 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.SavedSearch>(_list122.size);
-                for (int _i123 = 0; _i123 < _list122.size; ++_i123)
+                int _list122_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.SavedSearch>(_list122_size);
+                for (int _i123 = 0; _i123 < _list122_size; ++_i123)
                 {
                   com.evernote.edam.type.SavedSearch _elem124;
                   _elem124 = new com.evernote.edam.type.SavedSearch();
@@ -10054,27 +10267,27 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10199,31 +10412,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10371,49 +10586,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.SavedSearch();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10535,32 +10752,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SEARCH
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.search = new com.evernote.edam.type.SavedSearch();
               this.search.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10688,41 +10907,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.SavedSearch();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10840,32 +11061,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SEARCH
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.search = new com.evernote.edam.type.SavedSearch();
               this.search.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -10913,7 +11136,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateSearch_result() {
     }
@@ -10922,7 +11145,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateSearch_result(updateSearch_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -10949,11 +11172,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -11019,49 +11242,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -11183,31 +11408,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -11255,7 +11482,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeSearch_result() {
     }
@@ -11264,7 +11491,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeSearch_result(expungeSearch_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -11291,11 +11518,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -11361,49 +11588,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -11458,7 +11687,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __OFFSET_ISSET_ID = 0;
     private static final int __MAXNOTES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public findNotes_args() {
     }
@@ -11467,7 +11696,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNotes_args(findNotes_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -11516,11 +11745,11 @@ public class NoteStore {
 
     /** Returns true if field offset is set (has been asigned a value) and false otherwise */
     public boolean isSetOffset() {
-      return __isset_vector[__OFFSET_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
     public void setOffsetIsSet(boolean value) {
-      __isset_vector[__OFFSET_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
     public void setMaxNotes(int maxNotes) {
@@ -11530,11 +11759,11 @@ public class NoteStore {
 
     /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxNotes() {
-      return __isset_vector[__MAXNOTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
     }
 
     public void setMaxNotesIsSet(boolean value) {
-      __isset_vector[__MAXNOTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
     }
 
     public int compareTo(findNotes_args other) {
@@ -11585,48 +11814,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // FILTER
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.filter = new NoteFilter();
               this.filter.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // OFFSET
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.offset = iprot.readI32();
               setOffsetIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // MAX_NOTES
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.maxNotes = iprot.readI32();
               setMaxNotesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -11780,49 +12011,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new NoteList();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -11968,39 +12201,41 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // FILTER
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.filter = new NoteFilter();
               this.filter.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -12053,7 +12288,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public findNoteOffset_result() {
     }
@@ -12062,7 +12297,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNoteOffset_result(findNoteOffset_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -12089,11 +12324,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -12159,49 +12394,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -12258,7 +12495,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __OFFSET_ISSET_ID = 0;
     private static final int __MAXNOTES_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public findNotesMetadata_args() {
     }
@@ -12267,7 +12504,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNotesMetadata_args(findNotesMetadata_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -12320,11 +12557,11 @@ public class NoteStore {
 
     /** Returns true if field offset is set (has been asigned a value) and false otherwise */
     public boolean isSetOffset() {
-      return __isset_vector[__OFFSET_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
     public void setOffsetIsSet(boolean value) {
-      __isset_vector[__OFFSET_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
     }
 
     public void setMaxNotes(int maxNotes) {
@@ -12334,11 +12571,11 @@ public class NoteStore {
 
     /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
     public boolean isSetMaxNotes() {
-      return __isset_vector[__MAXNOTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
     }
 
     public void setMaxNotesIsSet(boolean value) {
-      __isset_vector[__MAXNOTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
     }
 
     public void setResultSpec(NotesMetadataResultSpec resultSpec) {
@@ -12407,56 +12644,58 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // FILTER
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.filter = new NoteFilter();
               this.filter.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // OFFSET
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.offset = iprot.readI32();
               setOffsetIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // MAX_NOTES
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.maxNotes = iprot.readI32();
               setMaxNotesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // RESULT_SPEC
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.resultSpec = new NotesMetadataResultSpec();
               this.resultSpec.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -12615,49 +12854,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new NotesMetadataList();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -12709,7 +12950,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __WITHTRASH_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public findNoteCounts_args() {
     }
@@ -12718,7 +12959,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public findNoteCounts_args(findNoteCounts_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -12764,11 +13005,11 @@ public class NoteStore {
 
     /** Returns true if field withTrash is set (has been asigned a value) and false otherwise */
     public boolean isSetWithTrash() {
-      return __isset_vector[__WITHTRASH_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHTRASH_ISSET_ID);
     }
 
     public void setWithTrashIsSet(boolean value) {
-      __isset_vector[__WITHTRASH_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHTRASH_ISSET_ID, value);
     }
 
     public int compareTo(findNoteCounts_args other) {
@@ -12810,40 +13051,42 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // FILTER
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.filter = new NoteFilter();
               this.filter.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // WITH_TRASH
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withTrash = iprot.readBool();
               setWithTrashIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -12994,49 +13237,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new NoteCollectionCounts();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -13097,7 +13342,7 @@ public class NoteStore {
     private static final int __WITHRESOURCESDATA_ISSET_ID = 1;
     private static final int __WITHRESOURCESRECOGNITION_ISSET_ID = 2;
     private static final int __WITHRESOURCESALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getNote_args() {
     }
@@ -13106,7 +13351,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNote_args(getNote_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -13161,11 +13406,11 @@ public class NoteStore {
 
     /** Returns true if field withContent is set (has been asigned a value) and false otherwise */
     public boolean isSetWithContent() {
-      return __isset_vector[__WITHCONTENT_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHCONTENT_ISSET_ID);
     }
 
     public void setWithContentIsSet(boolean value) {
-      __isset_vector[__WITHCONTENT_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHCONTENT_ISSET_ID, value);
     }
 
     public void setWithResourcesData(boolean withResourcesData) {
@@ -13175,11 +13420,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesData() {
-      return __isset_vector[__WITHRESOURCESDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID);
     }
 
     public void setWithResourcesDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID, value);
     }
 
     public void setWithResourcesRecognition(boolean withResourcesRecognition) {
@@ -13189,11 +13434,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesRecognition() {
-      return __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID);
     }
 
     public void setWithResourcesRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithResourcesAlternateData(boolean withResourcesAlternateData) {
@@ -13203,11 +13448,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesAlternateData() {
-      return __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithResourcesAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getNote_args other) {
@@ -13276,63 +13521,65 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // WITH_CONTENT
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withContent = iprot.readBool();
               setWithContentIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // WITH_RESOURCES_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesData = iprot.readBool();
               setWithResourcesDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // WITH_RESOURCES_RECOGNITION
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesRecognition = iprot.readBool();
               setWithResourcesRecognitionIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 6: // WITH_RESOURCES_ALTERNATE_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesAlternateData = iprot.readBool();
               setWithResourcesAlternateDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -13492,49 +13739,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Note();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -13656,31 +13905,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -13828,49 +14079,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.LazyMap();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14016,38 +14269,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14200,48 +14455,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14411,45 +14668,47 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // VALUE
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.value = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14507,7 +14766,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setNoteApplicationDataEntry_result() {
     }
@@ -14516,7 +14775,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setNoteApplicationDataEntry_result(setNoteApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -14543,11 +14802,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -14613,49 +14872,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14801,38 +15062,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -14885,7 +15148,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public unsetNoteApplicationDataEntry_result() {
     }
@@ -14894,7 +15157,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public unsetNoteApplicationDataEntry_result(unsetNoteApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -14921,11 +15184,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -14991,49 +15254,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -15155,31 +15420,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -15327,48 +15594,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -15423,7 +15692,7 @@ public class NoteStore {
     // isset id assignments
     private static final int __NOTEONLY_ISSET_ID = 0;
     private static final int __TOKENIZEFORINDEXING_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public getNoteSearchText_args() {
     }
@@ -15432,7 +15701,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNoteSearchText_args(getNoteSearchText_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -15481,11 +15750,11 @@ public class NoteStore {
 
     /** Returns true if field noteOnly is set (has been asigned a value) and false otherwise */
     public boolean isSetNoteOnly() {
-      return __isset_vector[__NOTEONLY_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __NOTEONLY_ISSET_ID);
     }
 
     public void setNoteOnlyIsSet(boolean value) {
-      __isset_vector[__NOTEONLY_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOTEONLY_ISSET_ID, value);
     }
 
     public void setTokenizeForIndexing(boolean tokenizeForIndexing) {
@@ -15495,11 +15764,11 @@ public class NoteStore {
 
     /** Returns true if field tokenizeForIndexing is set (has been asigned a value) and false otherwise */
     public boolean isSetTokenizeForIndexing() {
-      return __isset_vector[__TOKENIZEFORINDEXING_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __TOKENIZEFORINDEXING_ISSET_ID);
     }
 
     public void setTokenizeForIndexingIsSet(boolean value) {
-      __isset_vector[__TOKENIZEFORINDEXING_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOKENIZEFORINDEXING_ISSET_ID, value);
     }
 
     public int compareTo(getNoteSearchText_args other) {
@@ -15550,47 +15819,49 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOTE_ONLY
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.noteOnly = iprot.readBool();
               setNoteOnlyIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // TOKENIZE_FOR_INDEXING
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.tokenizeForIndexing = iprot.readBool();
               setTokenizeForIndexingIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -15744,48 +16015,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -15907,31 +16180,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16079,48 +16354,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16242,31 +16519,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16418,21 +16697,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list126 = iprot.readListBegin();
-                this.success = new ArrayList<String>(_list126.size);
-                for (int _i127 = 0; _i127 < _list126.size; ++_i127)
+                int _list126_size = iprot.readListBeginSize();
+                this.success = new ArrayList<String>(_list126_size);
+                for (int _i127 = 0; _i127 < _list126_size; ++_i127)
                 {
                   String _elem128;
                   _elem128 = iprot.readString();
@@ -16441,35 +16722,35 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16598,32 +16879,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.note = new com.evernote.edam.type.Note();
               this.note.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16771,49 +17054,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Note();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -16935,32 +17220,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.note = new com.evernote.edam.type.Note();
               this.note.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17108,49 +17395,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Note();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17272,31 +17561,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17344,7 +17635,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public deleteNote_result() {
     }
@@ -17353,7 +17644,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public deleteNote_result(deleteNote_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -17380,11 +17671,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -17450,49 +17741,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17614,31 +17907,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17686,7 +17981,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNote_result() {
     }
@@ -17695,7 +17990,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNote_result(expungeNote_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -17722,11 +18017,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -17792,49 +18087,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -17960,28 +18257,30 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_GUIDS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list130 = iprot.readListBegin();
-                this.noteGuids = new ArrayList<String>(_list130.size);
-                for (int _i131 = 0; _i131 < _list130.size; ++_i131)
+                int _list130_size = iprot.readListBeginSize();
+                this.noteGuids = new ArrayList<String>(_list130_size);
+                for (int _i131 = 0; _i131 < _list130_size; ++_i131)
                 {
                   String _elem132;
                   _elem132 = iprot.readString();
@@ -17990,11 +18289,11 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18049,7 +18348,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeNotes_result() {
     }
@@ -18058,7 +18357,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeNotes_result(expungeNotes_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -18085,11 +18384,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -18155,49 +18454,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18295,24 +18596,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18353,7 +18656,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeInactiveNotes_result() {
     }
@@ -18362,7 +18665,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeInactiveNotes_result(expungeInactiveNotes_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -18385,11 +18688,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -18441,41 +18744,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18617,38 +18922,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.noteGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // TO_NOTEBOOK_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.toNotebookGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18801,49 +19108,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Note();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -18965,31 +19274,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.noteGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -19141,21 +19452,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list134 = iprot.readListBegin();
-                this.success = new ArrayList<NoteVersionId>(_list134.size);
-                for (int _i135 = 0; _i135 < _list134.size; ++_i135)
+                int _list134_size = iprot.readListBeginSize();
+                this.success = new ArrayList<NoteVersionId>(_list134_size);
+                for (int _i135 = 0; _i135 < _list134_size; ++_i135)
                 {
                   NoteVersionId _elem136;
                   _elem136 = new NoteVersionId();
@@ -19165,35 +19478,35 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -19261,7 +19574,7 @@ public class NoteStore {
     private static final int __WITHRESOURCESDATA_ISSET_ID = 1;
     private static final int __WITHRESOURCESRECOGNITION_ISSET_ID = 2;
     private static final int __WITHRESOURCESALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getNoteVersion_args() {
     }
@@ -19270,7 +19583,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getNoteVersion_args(getNoteVersion_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -19325,11 +19638,11 @@ public class NoteStore {
 
     /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
     public boolean isSetUpdateSequenceNum() {
-      return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
     }
 
     public void setUpdateSequenceNumIsSet(boolean value) {
-      __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
     }
 
     public void setWithResourcesData(boolean withResourcesData) {
@@ -19339,11 +19652,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesData() {
-      return __isset_vector[__WITHRESOURCESDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID);
     }
 
     public void setWithResourcesDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESDATA_ISSET_ID, value);
     }
 
     public void setWithResourcesRecognition(boolean withResourcesRecognition) {
@@ -19353,11 +19666,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesRecognition() {
-      return __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID);
     }
 
     public void setWithResourcesRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithResourcesAlternateData(boolean withResourcesAlternateData) {
@@ -19367,11 +19680,11 @@ public class NoteStore {
 
     /** Returns true if field withResourcesAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithResourcesAlternateData() {
-      return __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithResourcesAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHRESOURCESALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRESOURCESALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getNoteVersion_args other) {
@@ -19440,63 +19753,65 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.noteGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // UPDATE_SEQUENCE_NUM
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.updateSequenceNum = iprot.readI32();
               setUpdateSequenceNumIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // WITH_RESOURCES_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesData = iprot.readBool();
               setWithResourcesDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // WITH_RESOURCES_RECOGNITION
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesRecognition = iprot.readBool();
               setWithResourcesRecognitionIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 6: // WITH_RESOURCES_ALTERNATE_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withResourcesAlternateData = iprot.readBool();
               setWithResourcesAlternateDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -19656,49 +19971,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Note();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -19759,7 +20076,7 @@ public class NoteStore {
     private static final int __WITHRECOGNITION_ISSET_ID = 1;
     private static final int __WITHATTRIBUTES_ISSET_ID = 2;
     private static final int __WITHALTERNATEDATA_ISSET_ID = 3;
-    private boolean[] __isset_vector = new boolean[4];
+    private byte __isset_bitfield = 0;
 
     public getResource_args() {
     }
@@ -19768,7 +20085,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getResource_args(getResource_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -19823,11 +20140,11 @@ public class NoteStore {
 
     /** Returns true if field withData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithData() {
-      return __isset_vector[__WITHDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHDATA_ISSET_ID);
     }
 
     public void setWithDataIsSet(boolean value) {
-      __isset_vector[__WITHDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHDATA_ISSET_ID, value);
     }
 
     public void setWithRecognition(boolean withRecognition) {
@@ -19837,11 +20154,11 @@ public class NoteStore {
 
     /** Returns true if field withRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithRecognition() {
-      return __isset_vector[__WITHRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID);
     }
 
     public void setWithRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithAttributes(boolean withAttributes) {
@@ -19851,11 +20168,11 @@ public class NoteStore {
 
     /** Returns true if field withAttributes is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAttributes() {
-      return __isset_vector[__WITHATTRIBUTES_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHATTRIBUTES_ISSET_ID);
     }
 
     public void setWithAttributesIsSet(boolean value) {
-      __isset_vector[__WITHATTRIBUTES_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHATTRIBUTES_ISSET_ID, value);
     }
 
     public void setWithAlternateData(boolean withAlternateData) {
@@ -19865,11 +20182,11 @@ public class NoteStore {
 
     /** Returns true if field withAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAlternateData() {
-      return __isset_vector[__WITHALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getResource_args other) {
@@ -19938,63 +20255,65 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // WITH_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withData = iprot.readBool();
               setWithDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // WITH_RECOGNITION
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withRecognition = iprot.readBool();
               setWithRecognitionIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // WITH_ATTRIBUTES
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withAttributes = iprot.readBool();
               setWithAttributesIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 6: // WITH_ALTERNATE_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withAlternateData = iprot.readBool();
               setWithAlternateDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -20154,49 +20473,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Resource();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -20318,31 +20639,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -20490,49 +20813,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.LazyMap();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -20678,38 +21003,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -20862,48 +21189,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21073,45 +21402,47 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // VALUE
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.value = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21169,7 +21500,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setResourceApplicationDataEntry_result() {
     }
@@ -21178,7 +21509,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setResourceApplicationDataEntry_result(setResourceApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21205,11 +21536,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21275,49 +21606,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21463,38 +21796,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.key = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21547,7 +21882,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public unsetResourceApplicationDataEntry_result() {
     }
@@ -21556,7 +21891,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public unsetResourceApplicationDataEntry_result(unsetResourceApplicationDataEntry_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21583,11 +21918,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21653,49 +21988,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21817,32 +22154,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // RESOURCE
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.resource = new com.evernote.edam.type.Resource();
               this.resource.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -21890,7 +22229,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateResource_result() {
     }
@@ -21899,7 +22238,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateResource_result(updateResource_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -21926,11 +22265,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -21996,49 +22335,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -22160,31 +22501,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -22228,6 +22571,8 @@ public class NoteStore {
     private com.evernote.edam.error.EDAMUserException userException;
     private com.evernote.edam.error.EDAMSystemException systemException;
     private com.evernote.edam.error.EDAMNotFoundException notFoundException;
+    // Length of a success value written to the channel passed to read, or -1
+    private int successLength = -1;
 
 
     // isset id assignments
@@ -22333,48 +22678,58 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      read(iprot, null, null);
+    }
+
+    public void read(TProtocol iprot, java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws TException {
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
-              this.success = iprot.readBytes();
+            if (fieldType == TType.STRING) {
+              if (out == null) {
+                this.success = iprot.readBytes();
+              } else {
+                this.successLength = iprot.readBinary(out, digest);
+              }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -22434,7 +22789,7 @@ public class NoteStore {
     private static final int __WITHDATA_ISSET_ID = 0;
     private static final int __WITHRECOGNITION_ISSET_ID = 1;
     private static final int __WITHALTERNATEDATA_ISSET_ID = 2;
-    private boolean[] __isset_vector = new boolean[3];
+    private byte __isset_bitfield = 0;
 
     public getResourceByHash_args() {
     }
@@ -22443,7 +22798,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getResourceByHash_args(getResourceByHash_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -22509,11 +22864,11 @@ public class NoteStore {
 
     /** Returns true if field withData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithData() {
-      return __isset_vector[__WITHDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHDATA_ISSET_ID);
     }
 
     public void setWithDataIsSet(boolean value) {
-      __isset_vector[__WITHDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHDATA_ISSET_ID, value);
     }
 
     public void setWithRecognition(boolean withRecognition) {
@@ -22523,11 +22878,11 @@ public class NoteStore {
 
     /** Returns true if field withRecognition is set (has been asigned a value) and false otherwise */
     public boolean isSetWithRecognition() {
-      return __isset_vector[__WITHRECOGNITION_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID);
     }
 
     public void setWithRecognitionIsSet(boolean value) {
-      __isset_vector[__WITHRECOGNITION_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHRECOGNITION_ISSET_ID, value);
     }
 
     public void setWithAlternateData(boolean withAlternateData) {
@@ -22537,11 +22892,11 @@ public class NoteStore {
 
     /** Returns true if field withAlternateData is set (has been asigned a value) and false otherwise */
     public boolean isSetWithAlternateData() {
-      return __isset_vector[__WITHALTERNATEDATA_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID);
     }
 
     public void setWithAlternateDataIsSet(boolean value) {
-      __isset_vector[__WITHALTERNATEDATA_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WITHALTERNATEDATA_ISSET_ID, value);
     }
 
     public int compareTo(getResourceByHash_args other) {
@@ -22610,62 +22965,64 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.noteGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // CONTENT_HASH
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.contentHash = iprot.readBytes();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // WITH_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withData = iprot.readBool();
               setWithDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // WITH_RECOGNITION
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withRecognition = iprot.readBool();
               setWithRecognitionIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 6: // WITH_ALTERNATE_DATA
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.withAlternateData = iprot.readBool();
               setWithAlternateDataIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -22827,49 +23184,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Resource();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -22991,31 +23350,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23164,48 +23525,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readBytes();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23327,31 +23690,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23395,6 +23760,8 @@ public class NoteStore {
     private com.evernote.edam.error.EDAMUserException userException;
     private com.evernote.edam.error.EDAMSystemException systemException;
     private com.evernote.edam.error.EDAMNotFoundException notFoundException;
+    // Length of a success value written to the channel passed to read, or -1
+    private int successLength = -1;
 
 
     // isset id assignments
@@ -23500,48 +23867,58 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      read(iprot, null, null);
+    }
+
+    public void read(TProtocol iprot, java.nio.channels.WritableByteChannel out, java.security.MessageDigest digest) throws TException {
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
-              this.success = iprot.readBytes();
+            if (fieldType == TType.STRING) {
+              if (out == null) {
+                this.success = iprot.readBytes();
+              } else {
+                this.successLength = iprot.readBinary(out, digest);
+              }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23663,31 +24040,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23835,49 +24214,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.ResourceAttributes();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -23927,7 +24308,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __USERID_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public getPublicNotebook_args() {
     }
@@ -23936,7 +24317,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public getPublicNotebook_args(getPublicNotebook_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.userId = other.userId;
       if (other.isSetPublicUri()) {
         this.publicUri = other.publicUri;
@@ -23960,11 +24341,11 @@ public class NoteStore {
 
     /** Returns true if field userId is set (has been asigned a value) and false otherwise */
     public boolean isSetUserId() {
-      return __isset_vector[__USERID_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
     public void setUserIdIsSet(boolean value) {
-      __isset_vector[__USERID_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
     public void setPublicUri(String publicUri) {
@@ -24006,32 +24387,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USER_ID
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.userId = iprot.readI32();
               setUserIdIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // PUBLIC_URI
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.publicUri = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24157,41 +24540,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.Notebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24309,32 +24694,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SHARED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.sharedNotebook = new com.evernote.edam.type.SharedNotebook();
               this.sharedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24482,49 +24869,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.SharedNotebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24646,32 +25035,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SHARED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.sharedNotebook = new com.evernote.edam.type.SharedNotebook();
               this.sharedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24719,7 +25110,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateSharedNotebook_result() {
     }
@@ -24728,7 +25119,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateSharedNotebook_result(updateSharedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -24755,11 +25146,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -24825,49 +25216,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -24919,7 +25312,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SHAREDNOTEBOOKID_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setSharedNotebookRecipientSettings_args() {
     }
@@ -24928,7 +25321,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setSharedNotebookRecipientSettings_args(setSharedNotebookRecipientSettings_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetAuthenticationToken()) {
         this.authenticationToken = other.authenticationToken;
       }
@@ -24965,11 +25358,11 @@ public class NoteStore {
 
     /** Returns true if field sharedNotebookId is set (has been asigned a value) and false otherwise */
     public boolean isSetSharedNotebookId() {
-      return __isset_vector[__SHAREDNOTEBOOKID_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SHAREDNOTEBOOKID_ISSET_ID);
     }
 
     public void setSharedNotebookIdIsSet(boolean value) {
-      __isset_vector[__SHAREDNOTEBOOKID_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SHAREDNOTEBOOKID_ISSET_ID, value);
     }
 
     public void setRecipientSettings(com.evernote.edam.type.SharedNotebookRecipientSettings recipientSettings) {
@@ -25020,40 +25413,42 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SHARED_NOTEBOOK_ID
-            if (field.type == TType.I64) {
+            if (fieldType == TType.I64) {
               this.sharedNotebookId = iprot.readI64();
               setSharedNotebookIdIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // RECIPIENT_SETTINGS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.recipientSettings = new com.evernote.edam.type.SharedNotebookRecipientSettings();
               this.recipientSettings.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -25104,7 +25499,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public setSharedNotebookRecipientSettings_result() {
     }
@@ -25113,7 +25508,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public setSharedNotebookRecipientSettings_result(setSharedNotebookRecipientSettings_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -25140,11 +25535,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -25210,49 +25605,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -25426,42 +25823,44 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTEBOOK_GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.notebookGuid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // MESSAGE_TEXT
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.messageText = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // RECIPIENTS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list138 = iprot.readListBegin();
-                this.recipients = new ArrayList<String>(_list138.size);
-                for (int _i139 = 0; _i139 < _list138.size; ++_i139)
+                int _list138_size = iprot.readListBeginSize();
+                this.recipients = new ArrayList<String>(_list138_size);
+                for (int _i139 = 0; _i139 < _list138_size; ++_i139)
                 {
                   String _elem140;
                   _elem140 = iprot.readString();
@@ -25470,11 +25869,11 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -25539,7 +25938,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public sendMessageToSharedNotebookMembers_result() {
     }
@@ -25548,7 +25947,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public sendMessageToSharedNotebookMembers_result(sendMessageToSharedNotebookMembers_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -25575,11 +25974,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -25645,49 +26044,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -25785,24 +26186,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -25949,21 +26352,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list142 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.SharedNotebook>(_list142.size);
-                for (int _i143 = 0; _i143 < _list142.size; ++_i143)
+                int _list142_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.SharedNotebook>(_list142_size);
+                for (int _i143 = 0; _i143 < _list142_size; ++_i143)
                 {
                   com.evernote.edam.type.SharedNotebook _elem144;
                   _elem144 = new com.evernote.edam.type.SharedNotebook();
@@ -25973,35 +26378,35 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26134,28 +26539,30 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SHARED_NOTEBOOK_IDS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list146 = iprot.readListBegin();
-                this.sharedNotebookIds = new ArrayList<Long>(_list146.size);
-                for (int _i147 = 0; _i147 < _list146.size; ++_i147)
+                int _list146_size = iprot.readListBeginSize();
+                this.sharedNotebookIds = new ArrayList<Long>(_list146_size);
+                for (int _i147 = 0; _i147 < _list146_size; ++_i147)
                 {
                   long _elem148;
                   _elem148 = iprot.readI64();
@@ -26164,11 +26571,11 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26223,7 +26630,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeSharedNotebooks_result() {
     }
@@ -26232,7 +26639,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeSharedNotebooks_result(expungeSharedNotebooks_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -26259,11 +26666,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -26329,49 +26736,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26493,32 +26902,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // LINKED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.linkedNotebook = new com.evernote.edam.type.LinkedNotebook();
               this.linkedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26666,49 +27077,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.LinkedNotebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26830,32 +27243,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // LINKED_NOTEBOOK
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.linkedNotebook = new com.evernote.edam.type.LinkedNotebook();
               this.linkedNotebook.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -26903,7 +27318,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public updateLinkedNotebook_result() {
     }
@@ -26912,7 +27327,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public updateLinkedNotebook_result(updateLinkedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -26939,11 +27354,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -27009,49 +27424,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -27149,24 +27566,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -27313,21 +27732,23 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.LIST) {
+            if (fieldType == TType.LIST) {
               {
-                TList _list150 = iprot.readListBegin();
-                this.success = new ArrayList<com.evernote.edam.type.LinkedNotebook>(_list150.size);
-                for (int _i151 = 0; _i151 < _list150.size; ++_i151)
+                int _list150_size = iprot.readListBeginSize();
+                this.success = new ArrayList<com.evernote.edam.type.LinkedNotebook>(_list150_size);
+                for (int _i151 = 0; _i151 < _list150_size; ++_i151)
                 {
                   com.evernote.edam.type.LinkedNotebook _elem152;
                   _elem152 = new com.evernote.edam.type.LinkedNotebook();
@@ -27337,35 +27758,35 @@ public class NoteStore {
                 iprot.readListEnd();
               }
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -27494,31 +27915,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -27566,7 +27989,7 @@ public class NoteStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public expungeLinkedNotebook_result() {
     }
@@ -27575,7 +27998,7 @@ public class NoteStore {
      * Performs a deep copy on <i>other</i>.
      */
     public expungeLinkedNotebook_result(expungeLinkedNotebook_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetUserException()) {
         this.userException = new com.evernote.edam.error.EDAMUserException(other.userException);
@@ -27602,11 +28025,11 @@ public class NoteStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     /** Returns true if field userException is set (has been asigned a value) and false otherwise */
@@ -27672,49 +28095,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.I32) {
+            if (fieldType == TType.I32) {
               this.success = iprot.readI32();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -27836,31 +28261,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // SHARE_KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.shareKey = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28008,49 +28435,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.userstore.AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28148,24 +28577,26 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28308,49 +28739,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.SharedNotebook();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28472,32 +28905,34 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // PARAMETERS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.parameters = new NoteEmailParameters();
               this.parameters.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28625,41 +29060,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28777,31 +29214,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -28949,48 +29388,50 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29112,31 +29553,33 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29264,41 +29707,43 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29440,38 +29885,40 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // GUID
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.guid = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOTE_KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.noteKey = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29624,49 +30071,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.userstore.AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29812,40 +30261,42 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // QUERY
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.query = new RelatedQuery();
               this.query.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // RESULT_SPEC
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.resultSpec = new RelatedResultSpec();
               this.resultSpec.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -29998,49 +30449,51 @@ public class NoteStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new RelatedResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
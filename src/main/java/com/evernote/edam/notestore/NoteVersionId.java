@@ -65,7 +65,7 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 0;
   private static final int __UPDATED_ISSET_ID = 1;
   private static final int __SAVED_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public NoteVersionId() {
   }
@@ -90,7 +90,7 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
    * Performs a deep copy on <i>other</i>.
    */
   public NoteVersionId(NoteVersionId other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.updateSequenceNum = other.updateSequenceNum;
     this.updated = other.updated;
     this.saved = other.saved;
@@ -123,16 +123,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -145,16 +145,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getSaved() {
@@ -167,16 +167,16 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void unsetSaved() {
-    __isset_vector[__SAVED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SAVED_ISSET_ID);
   }
 
   /** Returns true if field saved is set (has been asigned a value) and false otherwise */
   public boolean isSetSaved() {
-    return __isset_vector[__SAVED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SAVED_ISSET_ID);
   }
 
   public void setSavedIsSet(boolean value) {
-    __isset_vector[__SAVED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SAVED_ISSET_ID, value);
   }
 
   public String getTitle() {
@@ -256,7 +256,12 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + this.updateSequenceNum;
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.updated);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.saved);
+    hashCode = 31 * hashCode + (this.isSetTitle() ? this.title.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteVersionId other) {
@@ -307,48 +312,50 @@ public class NoteVersionId implements TBase<NoteVersionId>, java.io.Serializable
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.updated = iprot.readI64();
             setUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // SAVED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.saved = iprot.readI64();
             setSavedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // TITLE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.title = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -91,7 +91,7 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   private static final int __STARTINDEX_ISSET_ID = 0;
   private static final int __TOTALNOTES_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public NotesMetadataList() {
   }
@@ -113,7 +113,7 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public NotesMetadataList(NotesMetadataList other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.startIndex = other.startIndex;
     this.totalNotes = other.totalNotes;
     if (other.isSetNotes()) {
@@ -166,16 +166,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetStartIndex() {
-    __isset_vector[__STARTINDEX_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   /** Returns true if field startIndex is set (has been asigned a value) and false otherwise */
   public boolean isSetStartIndex() {
-    return __isset_vector[__STARTINDEX_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __STARTINDEX_ISSET_ID);
   }
 
   public void setStartIndexIsSet(boolean value) {
-    __isset_vector[__STARTINDEX_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __STARTINDEX_ISSET_ID, value);
   }
 
   public int getTotalNotes() {
@@ -188,16 +188,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetTotalNotes() {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   /** Returns true if field totalNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetTotalNotes() {
-    return __isset_vector[__TOTALNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TOTALNOTES_ISSET_ID);
   }
 
   public void setTotalNotesIsSet(boolean value) {
-    __isset_vector[__TOTALNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOTALNOTES_ISSET_ID, value);
   }
 
   public int getNotesSize() {
@@ -324,16 +324,16 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -408,7 +408,14 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + this.startIndex;
+    hashCode = 31 * hashCode + this.totalNotes;
+    hashCode = 31 * hashCode + (this.isSetNotes() ? this.notes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetStoppedWords() ? this.stoppedWords.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSearchedWords() ? this.searchedWords.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateCount() ? this.updateCount : 0);
+    return hashCode;
   }
 
   public int compareTo(NotesMetadataList other) {
@@ -477,37 +484,39 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // START_INDEX
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.startIndex = iprot.readI32();
             setStartIndexIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TOTAL_NOTES
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.totalNotes = iprot.readI32();
             setTotalNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // NOTES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list64 = iprot.readListBegin();
-              this.notes = new ArrayList<NoteMetadata>(_list64.size);
-              for (int _i65 = 0; _i65 < _list64.size; ++_i65)
+              int _list64_size = iprot.readListBeginSize();
+              this.notes = new ArrayList<NoteMetadata>(_list64_size);
+              for (int _i65 = 0; _i65 < _list64_size; ++_i65)
               {
                 NoteMetadata _elem66;
                 _elem66 = new NoteMetadata();
@@ -517,15 +526,15 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // STOPPED_WORDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list67 = iprot.readListBegin();
-              this.stoppedWords = new ArrayList<String>(_list67.size);
-              for (int _i68 = 0; _i68 < _list67.size; ++_i68)
+              int _list67_size = iprot.readListBeginSize();
+              this.stoppedWords = new ArrayList<String>(_list67_size);
+              for (int _i68 = 0; _i68 < _list67_size; ++_i68)
               {
                 String _elem69;
                 _elem69 = iprot.readString();
@@ -534,15 +543,15 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // SEARCHED_WORDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list70 = iprot.readListBegin();
-              this.searchedWords = new ArrayList<String>(_list70.size);
-              for (int _i71 = 0; _i71 < _list70.size; ++_i71)
+              int _list70_size = iprot.readListBeginSize();
+              this.searchedWords = new ArrayList<String>(_list70_size);
+              for (int _i71 = 0; _i71 < _list70_size; ++_i71)
               {
                 String _elem72;
                 _elem72 = iprot.readString();
@@ -551,19 +560,19 @@ public class NotesMetadataList implements TBase<NotesMetadataList>, java.io.Seri
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // UPDATE_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateCount = iprot.readI32();
             setUpdateCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
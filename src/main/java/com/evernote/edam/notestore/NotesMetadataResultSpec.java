@@ -68,7 +68,7 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   private static final int __INCLUDEATTRIBUTES_ISSET_ID = 8;
   private static final int __INCLUDELARGESTRESOURCEMIME_ISSET_ID = 9;
   private static final int __INCLUDELARGESTRESOURCESIZE_ISSET_ID = 10;
-  private boolean[] __isset_vector = new boolean[11];
+  private short __isset_bitfield = 0;
 
   public NotesMetadataResultSpec() {
   }
@@ -77,7 +77,7 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
    * Performs a deep copy on <i>other</i>.
    */
   public NotesMetadataResultSpec(NotesMetadataResultSpec other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeTitle = other.includeTitle;
     this.includeContentLength = other.includeContentLength;
     this.includeCreated = other.includeCreated;
@@ -130,16 +130,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeTitle() {
-    __isset_vector[__INCLUDETITLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID);
   }
 
   /** Returns true if field includeTitle is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTitle() {
-    return __isset_vector[__INCLUDETITLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID);
   }
 
   public void setIncludeTitleIsSet(boolean value) {
-    __isset_vector[__INCLUDETITLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETITLE_ISSET_ID, value);
   }
 
   public boolean isIncludeContentLength() {
@@ -152,16 +152,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeContentLength() {
-    __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field includeContentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeContentLength() {
-    return __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID);
   }
 
   public void setIncludeContentLengthIsSet(boolean value) {
-    __isset_vector[__INCLUDECONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECONTENTLENGTH_ISSET_ID, value);
   }
 
   public boolean isIncludeCreated() {
@@ -174,16 +174,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeCreated() {
-    __isset_vector[__INCLUDECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID);
   }
 
   /** Returns true if field includeCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeCreated() {
-    return __isset_vector[__INCLUDECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID);
   }
 
   public void setIncludeCreatedIsSet(boolean value) {
-    __isset_vector[__INCLUDECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECREATED_ISSET_ID, value);
   }
 
   public boolean isIncludeUpdated() {
@@ -196,16 +196,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeUpdated() {
-    __isset_vector[__INCLUDEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field includeUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeUpdated() {
-    return __isset_vector[__INCLUDEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID);
   }
 
   public void setIncludeUpdatedIsSet(boolean value) {
-    __isset_vector[__INCLUDEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEUPDATED_ISSET_ID, value);
   }
 
   public boolean isIncludeDeleted() {
@@ -218,16 +218,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeDeleted() {
-    __isset_vector[__INCLUDEDELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID);
   }
 
   /** Returns true if field includeDeleted is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeDeleted() {
-    return __isset_vector[__INCLUDEDELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID);
   }
 
   public void setIncludeDeletedIsSet(boolean value) {
-    __isset_vector[__INCLUDEDELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEDELETED_ISSET_ID, value);
   }
 
   public boolean isIncludeUpdateSequenceNum() {
@@ -240,16 +240,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeUpdateSequenceNum() {
-    __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field includeUpdateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeUpdateSequenceNum() {
-    return __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setIncludeUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__INCLUDEUPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEUPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public boolean isIncludeNotebookGuid() {
@@ -262,16 +262,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeNotebookGuid() {
-    __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID);
   }
 
   /** Returns true if field includeNotebookGuid is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotebookGuid() {
-    return __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID);
   }
 
   public void setIncludeNotebookGuidIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEBOOKGUID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEBOOKGUID_ISSET_ID, value);
   }
 
   public boolean isIncludeTagGuids() {
@@ -284,16 +284,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeTagGuids() {
-    __isset_vector[__INCLUDETAGGUIDS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID);
   }
 
   /** Returns true if field includeTagGuids is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTagGuids() {
-    return __isset_vector[__INCLUDETAGGUIDS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID);
   }
 
   public void setIncludeTagGuidsIsSet(boolean value) {
-    __isset_vector[__INCLUDETAGGUIDS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETAGGUIDS_ISSET_ID, value);
   }
 
   public boolean isIncludeAttributes() {
@@ -306,16 +306,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeAttributes() {
-    __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID);
   }
 
   /** Returns true if field includeAttributes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeAttributes() {
-    return __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID);
   }
 
   public void setIncludeAttributesIsSet(boolean value) {
-    __isset_vector[__INCLUDEATTRIBUTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEATTRIBUTES_ISSET_ID, value);
   }
 
   public boolean isIncludeLargestResourceMime() {
@@ -328,16 +328,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeLargestResourceMime() {
-    __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID);
   }
 
   /** Returns true if field includeLargestResourceMime is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLargestResourceMime() {
-    return __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID);
   }
 
   public void setIncludeLargestResourceMimeIsSet(boolean value) {
-    __isset_vector[__INCLUDELARGESTRESOURCEMIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELARGESTRESOURCEMIME_ISSET_ID, value);
   }
 
   public boolean isIncludeLargestResourceSize() {
@@ -350,16 +350,16 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void unsetIncludeLargestResourceSize() {
-    __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID);
   }
 
   /** Returns true if field includeLargestResourceSize is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLargestResourceSize() {
-    return __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID);
   }
 
   public void setIncludeLargestResourceSizeIsSet(boolean value) {
-    __isset_vector[__INCLUDELARGESTRESOURCESIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELARGESTRESOURCESIZE_ISSET_ID, value);
   }
 
   @Override
@@ -479,7 +479,19 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetIncludeTitle() ? TBaseHelper.hashCode(this.includeTitle) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeContentLength() ? TBaseHelper.hashCode(this.includeContentLength) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeCreated() ? TBaseHelper.hashCode(this.includeCreated) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeUpdated() ? TBaseHelper.hashCode(this.includeUpdated) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeDeleted() ? TBaseHelper.hashCode(this.includeDeleted) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeUpdateSequenceNum() ? TBaseHelper.hashCode(this.includeUpdateSequenceNum) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNotebookGuid() ? TBaseHelper.hashCode(this.includeNotebookGuid) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeTagGuids() ? TBaseHelper.hashCode(this.includeTagGuids) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeAttributes() ? TBaseHelper.hashCode(this.includeAttributes) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeLargestResourceMime() ? TBaseHelper.hashCode(this.includeLargestResourceMime) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeLargestResourceSize() ? TBaseHelper.hashCode(this.includeLargestResourceSize) : 0);
+    return hashCode;
   }
 
   public int compareTo(NotesMetadataResultSpec other) {
@@ -593,105 +605,107 @@ public class NotesMetadataResultSpec implements TBase<NotesMetadataResultSpec>,
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 2: // INCLUDE_TITLE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeTitle = iprot.readBool();
             setIncludeTitleIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // INCLUDE_CONTENT_LENGTH
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeContentLength = iprot.readBool();
             setIncludeContentLengthIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // INCLUDE_CREATED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeCreated = iprot.readBool();
             setIncludeCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // INCLUDE_UPDATED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeUpdated = iprot.readBool();
             setIncludeUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // INCLUDE_DELETED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeDeleted = iprot.readBool();
             setIncludeDeletedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // INCLUDE_UPDATE_SEQUENCE_NUM
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeUpdateSequenceNum = iprot.readBool();
             setIncludeUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // INCLUDE_NOTEBOOK_GUID
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNotebookGuid = iprot.readBool();
             setIncludeNotebookGuidIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // INCLUDE_TAG_GUIDS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeTagGuids = iprot.readBool();
             setIncludeTagGuidsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // INCLUDE_ATTRIBUTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeAttributes = iprot.readBool();
             setIncludeAttributesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // INCLUDE_LARGEST_RESOURCE_MIME
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeLargestResourceMime = iprot.readBool();
             setIncludeLargestResourceMimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 21: // INCLUDE_LARGEST_RESOURCE_SIZE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeLargestResourceSize = iprot.readBool();
             setIncludeLargestResourceSizeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -240,7 +240,12 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetNoteGuid() ? this.noteGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPlainText() ? this.plainText.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetFilter() ? this.filter.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetReferenceUri() ? this.referenceUri.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(RelatedQuery other) {
@@ -291,46 +296,48 @@ public class RelatedQuery implements TBase<RelatedQuery>, java.io.Serializable,
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NOTE_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.noteGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // PLAIN_TEXT
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.plainText = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // FILTER
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.filter = new NoteFilter();
             this.filter.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // REFERENCE_URI
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.referenceUri = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -315,7 +315,12 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetNotes() ? this.notes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebooks() ? this.notebooks.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTags() ? this.tags.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContainingNotebooks() ? this.containingNotebooks.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(RelatedResult other) {
@@ -366,21 +371,23 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NOTES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list94 = iprot.readListBegin();
-              this.notes = new ArrayList<com.evernote.edam.type.Note>(_list94.size);
-              for (int _i95 = 0; _i95 < _list94.size; ++_i95)
+              int _list94_size = iprot.readListBeginSize();
+              this.notes = new ArrayList<com.evernote.edam.type.Note>(_list94_size);
+              for (int _i95 = 0; _i95 < _list94_size; ++_i95)
               {
                 com.evernote.edam.type.Note _elem96;
                 _elem96 = new com.evernote.edam.type.Note();
@@ -390,15 +397,15 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list97 = iprot.readListBegin();
-              this.notebooks = new ArrayList<com.evernote.edam.type.Notebook>(_list97.size);
-              for (int _i98 = 0; _i98 < _list97.size; ++_i98)
+              int _list97_size = iprot.readListBeginSize();
+              this.notebooks = new ArrayList<com.evernote.edam.type.Notebook>(_list97_size);
+              for (int _i98 = 0; _i98 < _list97_size; ++_i98)
               {
                 com.evernote.edam.type.Notebook _elem99;
                 _elem99 = new com.evernote.edam.type.Notebook();
@@ -408,15 +415,15 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // TAGS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list100 = iprot.readListBegin();
-              this.tags = new ArrayList<com.evernote.edam.type.Tag>(_list100.size);
-              for (int _i101 = 0; _i101 < _list100.size; ++_i101)
+              int _list100_size = iprot.readListBeginSize();
+              this.tags = new ArrayList<com.evernote.edam.type.Tag>(_list100_size);
+              for (int _i101 = 0; _i101 < _list100_size; ++_i101)
               {
                 com.evernote.edam.type.Tag _elem102;
                 _elem102 = new com.evernote.edam.type.Tag();
@@ -426,15 +433,15 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // CONTAINING_NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list103 = iprot.readListBegin();
-              this.containingNotebooks = new ArrayList<com.evernote.edam.type.NotebookDescriptor>(_list103.size);
-              for (int _i104 = 0; _i104 < _list103.size; ++_i104)
+              int _list103_size = iprot.readListBeginSize();
+              this.containingNotebooks = new ArrayList<com.evernote.edam.type.NotebookDescriptor>(_list103_size);
+              for (int _i104 = 0; _i104 < _list103_size; ++_i104)
               {
                 com.evernote.edam.type.NotebookDescriptor _elem105;
                 _elem105 = new com.evernote.edam.type.NotebookDescriptor();
@@ -444,11 +451,11 @@ public class RelatedResult implements TBase<RelatedResult>, java.io.Serializable
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
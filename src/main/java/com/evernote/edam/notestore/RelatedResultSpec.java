@@ -77,7 +77,7 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   private static final int __MAXTAGS_ISSET_ID = 2;
   private static final int __WRITABLENOTEBOOKSONLY_ISSET_ID = 3;
   private static final int __INCLUDECONTAININGNOTEBOOKS_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
 
   public RelatedResultSpec() {
   }
@@ -86,7 +86,7 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public RelatedResultSpec(RelatedResultSpec other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.maxNotes = other.maxNotes;
     this.maxNotebooks = other.maxNotebooks;
     this.maxTags = other.maxTags;
@@ -121,16 +121,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxNotes() {
-    __isset_vector[__MAXNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
   }
 
   /** Returns true if field maxNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxNotes() {
-    return __isset_vector[__MAXNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXNOTES_ISSET_ID);
   }
 
   public void setMaxNotesIsSet(boolean value) {
-    __isset_vector[__MAXNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTES_ISSET_ID, value);
   }
 
   public int getMaxNotebooks() {
@@ -143,16 +143,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxNotebooks() {
-    __isset_vector[__MAXNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field maxNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxNotebooks() {
-    return __isset_vector[__MAXNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID);
   }
 
   public void setMaxNotebooksIsSet(boolean value) {
-    __isset_vector[__MAXNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXNOTEBOOKS_ISSET_ID, value);
   }
 
   public int getMaxTags() {
@@ -165,16 +165,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetMaxTags() {
-    __isset_vector[__MAXTAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXTAGS_ISSET_ID);
   }
 
   /** Returns true if field maxTags is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxTags() {
-    return __isset_vector[__MAXTAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXTAGS_ISSET_ID);
   }
 
   public void setMaxTagsIsSet(boolean value) {
-    __isset_vector[__MAXTAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXTAGS_ISSET_ID, value);
   }
 
   public boolean isWritableNotebooksOnly() {
@@ -187,16 +187,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetWritableNotebooksOnly() {
-    __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID);
   }
 
   /** Returns true if field writableNotebooksOnly is set (has been asigned a value) and false otherwise */
   public boolean isSetWritableNotebooksOnly() {
-    return __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID);
   }
 
   public void setWritableNotebooksOnlyIsSet(boolean value) {
-    __isset_vector[__WRITABLENOTEBOOKSONLY_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WRITABLENOTEBOOKSONLY_ISSET_ID, value);
   }
 
   public boolean isIncludeContainingNotebooks() {
@@ -209,16 +209,16 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void unsetIncludeContainingNotebooks() {
-    __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeContainingNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeContainingNotebooks() {
-    return __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeContainingNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDECONTAININGNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDECONTAININGNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -284,7 +284,13 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetMaxNotes() ? this.maxNotes : 0);
+    hashCode = 31 * hashCode + (this.isSetMaxNotebooks() ? this.maxNotebooks : 0);
+    hashCode = 31 * hashCode + (this.isSetMaxTags() ? this.maxTags : 0);
+    hashCode = 31 * hashCode + (this.isSetWritableNotebooksOnly() ? TBaseHelper.hashCode(this.writableNotebooksOnly) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeContainingNotebooks() ? TBaseHelper.hashCode(this.includeContainingNotebooks) : 0);
+    return hashCode;
   }
 
   public int compareTo(RelatedResultSpec other) {
@@ -344,57 +350,59 @@ public class RelatedResultSpec implements TBase<RelatedResultSpec>, java.io.Seri
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // MAX_NOTES
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.maxNotes = iprot.readI32();
             setMaxNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // MAX_NOTEBOOKS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.maxNotebooks = iprot.readI32();
             setMaxNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // MAX_TAGS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.maxTags = iprot.readI32();
             setMaxTagsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // WRITABLE_NOTEBOOKS_ONLY
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.writableNotebooksOnly = iprot.readBool();
             setWritableNotebooksOnlyIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // INCLUDE_CONTAINING_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeContainingNotebooks = iprot.readBool();
             setIncludeContainingNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -160,7 +160,7 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   private static final int __CURRENTTIME_ISSET_ID = 0;
   private static final int __CHUNKHIGHUSN_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public SyncChunk() {
   }
@@ -180,7 +180,7 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
    * Performs a deep copy on <i>other</i>.
    */
   public SyncChunk(SyncChunk other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.chunkHighUSN = other.chunkHighUSN;
     this.updateCount = other.updateCount;
@@ -297,16 +297,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public int getChunkHighUSN() {
@@ -319,16 +319,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetChunkHighUSN() {
-    __isset_vector[__CHUNKHIGHUSN_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID);
   }
 
   /** Returns true if field chunkHighUSN is set (has been asigned a value) and false otherwise */
   public boolean isSetChunkHighUSN() {
-    return __isset_vector[__CHUNKHIGHUSN_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID);
   }
 
   public void setChunkHighUSNIsSet(boolean value) {
-    __isset_vector[__CHUNKHIGHUSN_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CHUNKHIGHUSN_ISSET_ID, value);
   }
 
   public int getUpdateCount() {
@@ -341,16 +341,16 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   public int getNotesSize() {
@@ -915,7 +915,22 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.currentTime);
+    hashCode = 31 * hashCode + (this.isSetChunkHighUSN() ? this.chunkHighUSN : 0);
+    hashCode = 31 * hashCode + this.updateCount;
+    hashCode = 31 * hashCode + (this.isSetNotes() ? this.notes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebooks() ? this.notebooks.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTags() ? this.tags.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSearches() ? this.searches.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetResources() ? this.resources.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungedNotes() ? this.expungedNotes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungedNotebooks() ? this.expungedNotebooks.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungedTags() ? this.expungedTags.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungedSearches() ? this.expungedSearches.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLinkedNotebooks() ? this.linkedNotebooks.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungedLinkedNotebooks() ? this.expungedLinkedNotebooks.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(SyncChunk other) {
@@ -1056,234 +1071,311 @@ public class SyncChunk implements TBase<SyncChunk>, java.io.Serializable, Clonea
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    read(iprot, null);
+  }
+
+  /**
+   * Reads this chunk, passing each entry to <i>visitor</i> as it is decoded
+   * instead of adding it to the lists of this chunk. Only the scalar fields
+   * are set afterwards. A null visitor reads the chunk in full.
+   */
+  public void read(TProtocol iprot, SyncChunkVisitor visitor) throws TException {
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // CURRENT_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.currentTime = iprot.readI64();
             setCurrentTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // CHUNK_HIGH_USN
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.chunkHighUSN = iprot.readI32();
             setChunkHighUSNIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // UPDATE_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateCount = iprot.readI32();
             setUpdateCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // NOTES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list0 = iprot.readListBegin();
-              this.notes = new ArrayList<com.evernote.edam.type.Note>(_list0.size);
-              for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+              int _list0_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.notes = new ArrayList<com.evernote.edam.type.Note>(_list0_size);
+              }
+              for (int _i1 = 0; _i1 < _list0_size; ++_i1)
               {
                 com.evernote.edam.type.Note _elem2;
                 _elem2 = new com.evernote.edam.type.Note();
                 _elem2.read(iprot);
-                this.notes.add(_elem2);
+                if (visitor == null) {
+                  this.notes.add(_elem2);
+                } else {
+                  visitor.visitNote(_elem2);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list3 = iprot.readListBegin();
-              this.notebooks = new ArrayList<com.evernote.edam.type.Notebook>(_list3.size);
-              for (int _i4 = 0; _i4 < _list3.size; ++_i4)
+              int _list3_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.notebooks = new ArrayList<com.evernote.edam.type.Notebook>(_list3_size);
+              }
+              for (int _i4 = 0; _i4 < _list3_size; ++_i4)
               {
                 com.evernote.edam.type.Notebook _elem5;
                 _elem5 = new com.evernote.edam.type.Notebook();
                 _elem5.read(iprot);
-                this.notebooks.add(_elem5);
+                if (visitor == null) {
+                  this.notebooks.add(_elem5);
+                } else {
+                  visitor.visitNotebook(_elem5);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // TAGS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list6 = iprot.readListBegin();
-              this.tags = new ArrayList<com.evernote.edam.type.Tag>(_list6.size);
-              for (int _i7 = 0; _i7 < _list6.size; ++_i7)
+              int _list6_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.tags = new ArrayList<com.evernote.edam.type.Tag>(_list6_size);
+              }
+              for (int _i7 = 0; _i7 < _list6_size; ++_i7)
               {
                 com.evernote.edam.type.Tag _elem8;
                 _elem8 = new com.evernote.edam.type.Tag();
                 _elem8.read(iprot);
-                this.tags.add(_elem8);
+                if (visitor == null) {
+                  this.tags.add(_elem8);
+                } else {
+                  visitor.visitTag(_elem8);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // SEARCHES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list9 = iprot.readListBegin();
-              this.searches = new ArrayList<com.evernote.edam.type.SavedSearch>(_list9.size);
-              for (int _i10 = 0; _i10 < _list9.size; ++_i10)
+              int _list9_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.searches = new ArrayList<com.evernote.edam.type.SavedSearch>(_list9_size);
+              }
+              for (int _i10 = 0; _i10 < _list9_size; ++_i10)
               {
                 com.evernote.edam.type.SavedSearch _elem11;
                 _elem11 = new com.evernote.edam.type.SavedSearch();
                 _elem11.read(iprot);
-                this.searches.add(_elem11);
+                if (visitor == null) {
+                  this.searches.add(_elem11);
+                } else {
+                  visitor.visitSearch(_elem11);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // RESOURCES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list12 = iprot.readListBegin();
-              this.resources = new ArrayList<com.evernote.edam.type.Resource>(_list12.size);
-              for (int _i13 = 0; _i13 < _list12.size; ++_i13)
+              int _list12_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.resources = new ArrayList<com.evernote.edam.type.Resource>(_list12_size);
+              }
+              for (int _i13 = 0; _i13 < _list12_size; ++_i13)
               {
                 com.evernote.edam.type.Resource _elem14;
                 _elem14 = new com.evernote.edam.type.Resource();
                 _elem14.read(iprot);
-                this.resources.add(_elem14);
+                if (visitor == null) {
+                  this.resources.add(_elem14);
+                } else {
+                  visitor.visitResource(_elem14);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // EXPUNGED_NOTES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list15 = iprot.readListBegin();
-              this.expungedNotes = new ArrayList<String>(_list15.size);
-              for (int _i16 = 0; _i16 < _list15.size; ++_i16)
+              int _list15_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.expungedNotes = new ArrayList<String>(_list15_size);
+              }
+              for (int _i16 = 0; _i16 < _list15_size; ++_i16)
               {
                 String _elem17;
                 _elem17 = iprot.readString();
-                this.expungedNotes.add(_elem17);
+                if (visitor == null) {
+                  this.expungedNotes.add(_elem17);
+                } else {
+                  visitor.visitExpungedNote(_elem17);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // EXPUNGED_NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list18 = iprot.readListBegin();
-              this.expungedNotebooks = new ArrayList<String>(_list18.size);
-              for (int _i19 = 0; _i19 < _list18.size; ++_i19)
+              int _list18_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.expungedNotebooks = new ArrayList<String>(_list18_size);
+              }
+              for (int _i19 = 0; _i19 < _list18_size; ++_i19)
               {
                 String _elem20;
                 _elem20 = iprot.readString();
-                this.expungedNotebooks.add(_elem20);
+                if (visitor == null) {
+                  this.expungedNotebooks.add(_elem20);
+                } else {
+                  visitor.visitExpungedNotebook(_elem20);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // EXPUNGED_TAGS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list21 = iprot.readListBegin();
-              this.expungedTags = new ArrayList<String>(_list21.size);
-              for (int _i22 = 0; _i22 < _list21.size; ++_i22)
+              int _list21_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.expungedTags = new ArrayList<String>(_list21_size);
+              }
+              for (int _i22 = 0; _i22 < _list21_size; ++_i22)
               {
                 String _elem23;
                 _elem23 = iprot.readString();
-                this.expungedTags.add(_elem23);
+                if (visitor == null) {
+                  this.expungedTags.add(_elem23);
+                } else {
+                  visitor.visitExpungedTag(_elem23);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // EXPUNGED_SEARCHES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list24 = iprot.readListBegin();
-              this.expungedSearches = new ArrayList<String>(_list24.size);
-              for (int _i25 = 0; _i25 < _list24.size; ++_i25)
+              int _list24_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.expungedSearches = new ArrayList<String>(_list24_size);
+              }
+              for (int _i25 = 0; _i25 < _list24_size; ++_i25)
               {
                 String _elem26;
                 _elem26 = iprot.readString();
-                this.expungedSearches.add(_elem26);
+                if (visitor == null) {
+                  this.expungedSearches.add(_elem26);
+                } else {
+                  visitor.visitExpungedSearch(_elem26);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // LINKED_NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list27 = iprot.readListBegin();
-              this.linkedNotebooks = new ArrayList<com.evernote.edam.type.LinkedNotebook>(_list27.size);
-              for (int _i28 = 0; _i28 < _list27.size; ++_i28)
+              int _list27_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.linkedNotebooks = new ArrayList<com.evernote.edam.type.LinkedNotebook>(_list27_size);
+              }
+              for (int _i28 = 0; _i28 < _list27_size; ++_i28)
               {
                 com.evernote.edam.type.LinkedNotebook _elem29;
                 _elem29 = new com.evernote.edam.type.LinkedNotebook();
                 _elem29.read(iprot);
-                this.linkedNotebooks.add(_elem29);
+                if (visitor == null) {
+                  this.linkedNotebooks.add(_elem29);
+                } else {
+                  visitor.visitLinkedNotebook(_elem29);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // EXPUNGED_LINKED_NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list30 = iprot.readListBegin();
-              this.expungedLinkedNotebooks = new ArrayList<String>(_list30.size);
-              for (int _i31 = 0; _i31 < _list30.size; ++_i31)
+              int _list30_size = iprot.readListBeginSize();
+              if (visitor == null) {
+                this.expungedLinkedNotebooks = new ArrayList<String>(_list30_size);
+              }
+              for (int _i31 = 0; _i31 < _list30_size; ++_i31)
               {
                 String _elem32;
                 _elem32 = iprot.readString();
-                this.expungedLinkedNotebooks.add(_elem32);
+                if (visitor == null) {
+                  this.expungedLinkedNotebooks.add(_elem32);
+                } else {
+                  visitor.visitExpungedLinkedNotebook(_elem32);
+                }
               }
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -154,7 +154,7 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   private static final int __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID = 9;
   private static final int __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID = 10;
   private static final int __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID = 11;
-  private boolean[] __isset_vector = new boolean[12];
+  private short __isset_bitfield = 0;
 
   public SyncChunkFilter() {
   }
@@ -163,7 +163,7 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
    * Performs a deep copy on <i>other</i>.
    */
   public SyncChunkFilter(SyncChunkFilter other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeNotes = other.includeNotes;
     this.includeNoteResources = other.includeNoteResources;
     this.includeNoteAttributes = other.includeNoteAttributes;
@@ -223,16 +223,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNotes() {
-    __isset_vector[__INCLUDENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID);
   }
 
   /** Returns true if field includeNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotes() {
-    return __isset_vector[__INCLUDENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID);
   }
 
   public void setIncludeNotesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTES_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteResources() {
@@ -245,16 +245,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteResources() {
-    __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID);
   }
 
   /** Returns true if field includeNoteResources is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteResources() {
-    return __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID);
   }
 
   public void setIncludeNoteResourcesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTERESOURCES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTERESOURCES_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteAttributes() {
@@ -267,16 +267,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteAttributes() {
-    __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID);
   }
 
   /** Returns true if field includeNoteAttributes is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteAttributes() {
-    return __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID);
   }
 
   public void setIncludeNoteAttributesIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEATTRIBUTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEATTRIBUTES_ISSET_ID, value);
   }
 
   public boolean isIncludeNotebooks() {
@@ -289,16 +289,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNotebooks() {
-    __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNotebooks() {
-    return __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeTags() {
@@ -311,16 +311,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeTags() {
-    __isset_vector[__INCLUDETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID);
   }
 
   /** Returns true if field includeTags is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeTags() {
-    return __isset_vector[__INCLUDETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID);
   }
 
   public void setIncludeTagsIsSet(boolean value) {
-    __isset_vector[__INCLUDETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDETAGS_ISSET_ID, value);
   }
 
   public boolean isIncludeSearches() {
@@ -333,16 +333,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeSearches() {
-    __isset_vector[__INCLUDESEARCHES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID);
   }
 
   /** Returns true if field includeSearches is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeSearches() {
-    return __isset_vector[__INCLUDESEARCHES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID);
   }
 
   public void setIncludeSearchesIsSet(boolean value) {
-    __isset_vector[__INCLUDESEARCHES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDESEARCHES_ISSET_ID, value);
   }
 
   public boolean isIncludeResources() {
@@ -355,16 +355,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeResources() {
-    __isset_vector[__INCLUDERESOURCES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID);
   }
 
   /** Returns true if field includeResources is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeResources() {
-    return __isset_vector[__INCLUDERESOURCES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID);
   }
 
   public void setIncludeResourcesIsSet(boolean value) {
-    __isset_vector[__INCLUDERESOURCES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDERESOURCES_ISSET_ID, value);
   }
 
   public boolean isIncludeLinkedNotebooks() {
@@ -377,16 +377,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeLinkedNotebooks() {
-    __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeLinkedNotebooks() {
-    return __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDELINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDELINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeExpunged() {
@@ -399,16 +399,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeExpunged() {
-    __isset_vector[__INCLUDEEXPUNGED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID);
   }
 
   /** Returns true if field includeExpunged is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeExpunged() {
-    return __isset_vector[__INCLUDEEXPUNGED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID);
   }
 
   public void setIncludeExpungedIsSet(boolean value) {
-    __isset_vector[__INCLUDEEXPUNGED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEEXPUNGED_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteApplicationDataFullMap() {
@@ -421,16 +421,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteApplicationDataFullMap() {
-    __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeNoteApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteApplicationDataFullMap() {
-    return __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeNoteApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public boolean isIncludeResourceApplicationDataFullMap() {
@@ -443,16 +443,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeResourceApplicationDataFullMap() {
-    __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeResourceApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeResourceApplicationDataFullMap() {
-    return __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeResourceApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public boolean isIncludeNoteResourceApplicationDataFullMap() {
@@ -465,16 +465,16 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void unsetIncludeNoteResourceApplicationDataFullMap() {
-    __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   /** Returns true if field includeNoteResourceApplicationDataFullMap is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeNoteResourceApplicationDataFullMap() {
-    return __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID);
   }
 
   public void setIncludeNoteResourceApplicationDataFullMapIsSet(boolean value) {
-    __isset_vector[__INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDENOTERESOURCEAPPLICATIONDATAFULLMAP_ISSET_ID, value);
   }
 
   public String getRequireNoteContentClass() {
@@ -635,7 +635,21 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetIncludeNotes() ? TBaseHelper.hashCode(this.includeNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNoteResources() ? TBaseHelper.hashCode(this.includeNoteResources) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNoteAttributes() ? TBaseHelper.hashCode(this.includeNoteAttributes) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNotebooks() ? TBaseHelper.hashCode(this.includeNotebooks) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeTags() ? TBaseHelper.hashCode(this.includeTags) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeSearches() ? TBaseHelper.hashCode(this.includeSearches) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeResources() ? TBaseHelper.hashCode(this.includeResources) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeLinkedNotebooks() ? TBaseHelper.hashCode(this.includeLinkedNotebooks) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeExpunged() ? TBaseHelper.hashCode(this.includeExpunged) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNoteApplicationDataFullMap() ? TBaseHelper.hashCode(this.includeNoteApplicationDataFullMap) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeResourceApplicationDataFullMap() ? TBaseHelper.hashCode(this.includeResourceApplicationDataFullMap) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeNoteResourceApplicationDataFullMap() ? TBaseHelper.hashCode(this.includeNoteResourceApplicationDataFullMap) : 0);
+    hashCode = 31 * hashCode + (this.isSetRequireNoteContentClass() ? this.requireNoteContentClass.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(SyncChunkFilter other) {
@@ -767,120 +781,122 @@ public class SyncChunkFilter implements TBase<SyncChunkFilter>, java.io.Serializ
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // INCLUDE_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNotes = iprot.readBool();
             setIncludeNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // INCLUDE_NOTE_RESOURCES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNoteResources = iprot.readBool();
             setIncludeNoteResourcesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // INCLUDE_NOTE_ATTRIBUTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNoteAttributes = iprot.readBool();
             setIncludeNoteAttributesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // INCLUDE_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNotebooks = iprot.readBool();
             setIncludeNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // INCLUDE_TAGS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeTags = iprot.readBool();
             setIncludeTagsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // INCLUDE_SEARCHES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeSearches = iprot.readBool();
             setIncludeSearchesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // INCLUDE_RESOURCES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeResources = iprot.readBool();
             setIncludeResourcesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // INCLUDE_LINKED_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeLinkedNotebooks = iprot.readBool();
             setIncludeLinkedNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // INCLUDE_EXPUNGED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeExpunged = iprot.readBool();
             setIncludeExpungedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // INCLUDE_NOTE_APPLICATION_DATA_FULL_MAP
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNoteApplicationDataFullMap = iprot.readBool();
             setIncludeNoteApplicationDataFullMapIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // INCLUDE_RESOURCE_APPLICATION_DATA_FULL_MAP
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeResourceApplicationDataFullMap = iprot.readBool();
             setIncludeResourceApplicationDataFullMapIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // INCLUDE_NOTE_RESOURCE_APPLICATION_DATA_FULL_MAP
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeNoteResourceApplicationDataFullMap = iprot.readBool();
             setIncludeNoteResourceApplicationDataFullMapIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // REQUIRE_NOTE_CONTENT_CLASS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.requireNoteContentClass = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.edam.notestore;
+
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.Tag;
+
+/**
+ * Receives the entries of a {@link SyncChunk} one at a time, as they are
+ * decoded from the wire, instead of collected into the chunk's lists. Entries
+ * arrive in wire order: all notes, then notebooks, tags, searches, resources,
+ * expunged GUIDs and linked notebooks. Nothing keeps a reference to an entry
+ * once its method returns.
+ * 
+ * If a method throws, decoding stops and the client closes its input
+ * transport, discarding the rest of the response. A
+ * {@link com.evernote.thrift.transport.THttpClient} drains a short remainder
+ * or drops the connection, and is ready for the next call; a client on any
+ * other transport must reopen it before it is used again.
+ */
+public interface SyncChunkVisitor {
+
+  void visitNote(Note note);
+
+  void visitNotebook(Notebook notebook);
+
+  void visitTag(Tag tag);
+
+  void visitSearch(SavedSearch search);
+
+  void visitResource(Resource resource);
+
+  void visitExpungedNote(String guid);
+
+  void visitExpungedNotebook(String guid);
+
+  void visitExpungedTag(String guid);
+
+  void visitExpungedSearch(String guid);
+
+  void visitLinkedNotebook(LinkedNotebook linkedNotebook);
+
+  void visitExpungedLinkedNotebook(String guid);
+}
@@ -73,7 +73,7 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   private static final int __FULLSYNCBEFORE_ISSET_ID = 1;
   private static final int __UPDATECOUNT_ISSET_ID = 2;
   private static final int __UPLOADED_ISSET_ID = 3;
-  private boolean[] __isset_vector = new boolean[4];
+  private byte __isset_bitfield = 0;
 
   public SyncState() {
   }
@@ -96,7 +96,7 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
    * Performs a deep copy on <i>other</i>.
    */
   public SyncState(SyncState other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.fullSyncBefore = other.fullSyncBefore;
     this.updateCount = other.updateCount;
@@ -128,16 +128,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public long getFullSyncBefore() {
@@ -150,16 +150,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetFullSyncBefore() {
-    __isset_vector[__FULLSYNCBEFORE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID);
   }
 
   /** Returns true if field fullSyncBefore is set (has been asigned a value) and false otherwise */
   public boolean isSetFullSyncBefore() {
-    return __isset_vector[__FULLSYNCBEFORE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID);
   }
 
   public void setFullSyncBeforeIsSet(boolean value) {
-    __isset_vector[__FULLSYNCBEFORE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FULLSYNCBEFORE_ISSET_ID, value);
   }
 
   public int getUpdateCount() {
@@ -172,16 +172,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetUpdateCount() {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   /** Returns true if field updateCount is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateCount() {
-    return __isset_vector[__UPDATECOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID);
   }
 
   public void setUpdateCountIsSet(boolean value) {
-    __isset_vector[__UPDATECOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATECOUNT_ISSET_ID, value);
   }
 
   public long getUploaded() {
@@ -194,16 +194,16 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void unsetUploaded() {
-    __isset_vector[__UPLOADED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADED_ISSET_ID);
   }
 
   /** Returns true if field uploaded is set (has been asigned a value) and false otherwise */
   public boolean isSetUploaded() {
-    return __isset_vector[__UPLOADED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADED_ISSET_ID);
   }
 
   public void setUploadedIsSet(boolean value) {
-    __isset_vector[__UPLOADED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADED_ISSET_ID, value);
   }
 
   @Override
@@ -260,7 +260,12 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.currentTime);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.fullSyncBefore);
+    hashCode = 31 * hashCode + this.updateCount;
+    hashCode = 31 * hashCode + (this.isSetUploaded() ? TBaseHelper.hashCode(this.uploaded) : 0);
+    return hashCode;
   }
 
   public int compareTo(SyncState other) {
@@ -311,49 +316,51 @@ public class SyncState implements TBase<SyncState>, java.io.Serializable, Clonea
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // CURRENT_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.currentTime = iprot.readI64();
             setCurrentTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // FULL_SYNC_BEFORE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.fullSyncBefore = iprot.readI64();
             setFullSyncBeforeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // UPDATE_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateCount = iprot.readI32();
             setUpdateCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // UPLOADED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.uploaded = iprot.readI64();
             setUploadedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
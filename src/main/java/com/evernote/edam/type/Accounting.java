@@ -170,7 +170,7 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   private static final int __BUSINESSID_ISSET_ID = 11;
   private static final int __UNITDISCOUNT_ISSET_ID = 12;
   private static final int __NEXTCHARGEDATE_ISSET_ID = 13;
-  private boolean[] __isset_vector = new boolean[14];
+  private short __isset_bitfield = 0;
 
   public Accounting() {
   }
@@ -179,7 +179,7 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public Accounting(Accounting other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.uploadLimit = other.uploadLimit;
     this.uploadLimitEnd = other.uploadLimitEnd;
     this.uploadLimitNextMonth = other.uploadLimitNextMonth;
@@ -277,16 +277,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimit() {
-    __isset_vector[__UPLOADLIMIT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID);
   }
 
   /** Returns true if field uploadLimit is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimit() {
-    return __isset_vector[__UPLOADLIMIT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID);
   }
 
   public void setUploadLimitIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMIT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMIT_ISSET_ID, value);
   }
 
   public long getUploadLimitEnd() {
@@ -299,16 +299,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimitEnd() {
-    __isset_vector[__UPLOADLIMITEND_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID);
   }
 
   /** Returns true if field uploadLimitEnd is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimitEnd() {
-    return __isset_vector[__UPLOADLIMITEND_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID);
   }
 
   public void setUploadLimitEndIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMITEND_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMITEND_ISSET_ID, value);
   }
 
   public long getUploadLimitNextMonth() {
@@ -321,16 +321,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUploadLimitNextMonth() {
-    __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID);
   }
 
   /** Returns true if field uploadLimitNextMonth is set (has been asigned a value) and false otherwise */
   public boolean isSetUploadLimitNextMonth() {
-    return __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID);
   }
 
   public void setUploadLimitNextMonthIsSet(boolean value) {
-    __isset_vector[__UPLOADLIMITNEXTMONTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOADLIMITNEXTMONTH_ISSET_ID, value);
   }
 
   /**
@@ -420,16 +420,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetPremiumServiceStart() {
-    __isset_vector[__PREMIUMSERVICESTART_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID);
   }
 
   /** Returns true if field premiumServiceStart is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumServiceStart() {
-    return __isset_vector[__PREMIUMSERVICESTART_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID);
   }
 
   public void setPremiumServiceStartIsSet(boolean value) {
-    __isset_vector[__PREMIUMSERVICESTART_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMSERVICESTART_ISSET_ID, value);
   }
 
   public String getPremiumServiceSKU() {
@@ -465,16 +465,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastSuccessfulCharge() {
-    __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastSuccessfulCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastSuccessfulCharge() {
-    return __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID);
   }
 
   public void setLastSuccessfulChargeIsSet(boolean value) {
-    __isset_vector[__LASTSUCCESSFULCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTSUCCESSFULCHARGE_ISSET_ID, value);
   }
 
   public long getLastFailedCharge() {
@@ -487,16 +487,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastFailedCharge() {
-    __isset_vector[__LASTFAILEDCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastFailedCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastFailedCharge() {
-    return __isset_vector[__LASTFAILEDCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID);
   }
 
   public void setLastFailedChargeIsSet(boolean value) {
-    __isset_vector[__LASTFAILEDCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTFAILEDCHARGE_ISSET_ID, value);
   }
 
   public String getLastFailedChargeReason() {
@@ -532,16 +532,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetNextPaymentDue() {
-    __isset_vector[__NEXTPAYMENTDUE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID);
   }
 
   /** Returns true if field nextPaymentDue is set (has been asigned a value) and false otherwise */
   public boolean isSetNextPaymentDue() {
-    return __isset_vector[__NEXTPAYMENTDUE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID);
   }
 
   public void setNextPaymentDueIsSet(boolean value) {
-    __isset_vector[__NEXTPAYMENTDUE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NEXTPAYMENTDUE_ISSET_ID, value);
   }
 
   public long getPremiumLockUntil() {
@@ -554,16 +554,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetPremiumLockUntil() {
-    __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID);
   }
 
   /** Returns true if field premiumLockUntil is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumLockUntil() {
-    return __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID);
   }
 
   public void setPremiumLockUntilIsSet(boolean value) {
-    __isset_vector[__PREMIUMLOCKUNTIL_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMLOCKUNTIL_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -576,16 +576,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public String getPremiumSubscriptionNumber() {
@@ -621,16 +621,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetLastRequestedCharge() {
-    __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID);
   }
 
   /** Returns true if field lastRequestedCharge is set (has been asigned a value) and false otherwise */
   public boolean isSetLastRequestedCharge() {
-    return __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID);
   }
 
   public void setLastRequestedChargeIsSet(boolean value) {
-    __isset_vector[__LASTREQUESTEDCHARGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTREQUESTEDCHARGE_ISSET_ID, value);
   }
 
   public String getCurrency() {
@@ -666,16 +666,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUnitPrice() {
-    __isset_vector[__UNITPRICE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UNITPRICE_ISSET_ID);
   }
 
   /** Returns true if field unitPrice is set (has been asigned a value) and false otherwise */
   public boolean isSetUnitPrice() {
-    return __isset_vector[__UNITPRICE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UNITPRICE_ISSET_ID);
   }
 
   public void setUnitPriceIsSet(boolean value) {
-    __isset_vector[__UNITPRICE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UNITPRICE_ISSET_ID, value);
   }
 
   public int getBusinessId() {
@@ -688,16 +688,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   public String getBusinessName() {
@@ -764,16 +764,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetUnitDiscount() {
-    __isset_vector[__UNITDISCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID);
   }
 
   /** Returns true if field unitDiscount is set (has been asigned a value) and false otherwise */
   public boolean isSetUnitDiscount() {
-    return __isset_vector[__UNITDISCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID);
   }
 
   public void setUnitDiscountIsSet(boolean value) {
-    __isset_vector[__UNITDISCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UNITDISCOUNT_ISSET_ID, value);
   }
 
   public long getNextChargeDate() {
@@ -786,16 +786,16 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void unsetNextChargeDate() {
-    __isset_vector[__NEXTCHARGEDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID);
   }
 
   /** Returns true if field nextChargeDate is set (has been asigned a value) and false otherwise */
   public boolean isSetNextChargeDate() {
-    return __isset_vector[__NEXTCHARGEDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID);
   }
 
   public void setNextChargeDateIsSet(boolean value) {
-    __isset_vector[__NEXTCHARGEDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NEXTCHARGEDATE_ISSET_ID, value);
   }
 
   @Override
@@ -1023,7 +1023,31 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetUploadLimit() ? TBaseHelper.hashCode(this.uploadLimit) : 0);
+    hashCode = 31 * hashCode + (this.isSetUploadLimitEnd() ? TBaseHelper.hashCode(this.uploadLimitEnd) : 0);
+    hashCode = 31 * hashCode + (this.isSetUploadLimitNextMonth() ? TBaseHelper.hashCode(this.uploadLimitNextMonth) : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumServiceStatus() ? this.premiumServiceStatus.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumOrderNumber() ? this.premiumOrderNumber.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumCommerceService() ? this.premiumCommerceService.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumServiceStart() ? TBaseHelper.hashCode(this.premiumServiceStart) : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumServiceSKU() ? this.premiumServiceSKU.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLastSuccessfulCharge() ? TBaseHelper.hashCode(this.lastSuccessfulCharge) : 0);
+    hashCode = 31 * hashCode + (this.isSetLastFailedCharge() ? TBaseHelper.hashCode(this.lastFailedCharge) : 0);
+    hashCode = 31 * hashCode + (this.isSetLastFailedChargeReason() ? this.lastFailedChargeReason.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNextPaymentDue() ? TBaseHelper.hashCode(this.nextPaymentDue) : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumLockUntil() ? TBaseHelper.hashCode(this.premiumLockUntil) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdated() ? TBaseHelper.hashCode(this.updated) : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumSubscriptionNumber() ? this.premiumSubscriptionNumber.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLastRequestedCharge() ? TBaseHelper.hashCode(this.lastRequestedCharge) : 0);
+    hashCode = 31 * hashCode + (this.isSetCurrency() ? this.currency.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUnitPrice() ? this.unitPrice : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessId() ? this.businessId : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessName() ? this.businessName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessRole() ? this.businessRole.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUnitDiscount() ? this.unitDiscount : 0);
+    hashCode = 31 * hashCode + (this.isSetNextChargeDate() ? TBaseHelper.hashCode(this.nextChargeDate) : 0);
+    return hashCode;
   }
 
   public int compareTo(Accounting other) {
@@ -1245,192 +1269,194 @@ public class Accounting implements TBase<Accounting>, java.io.Serializable, Clon
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // UPLOAD_LIMIT
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.uploadLimit = iprot.readI64();
             setUploadLimitIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // UPLOAD_LIMIT_END
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.uploadLimitEnd = iprot.readI64();
             setUploadLimitEndIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // UPLOAD_LIMIT_NEXT_MONTH
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.uploadLimitNextMonth = iprot.readI64();
             setUploadLimitNextMonthIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // PREMIUM_SERVICE_STATUS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.premiumServiceStatus = PremiumOrderStatus.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // PREMIUM_ORDER_NUMBER
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.premiumOrderNumber = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // PREMIUM_COMMERCE_SERVICE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.premiumCommerceService = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // PREMIUM_SERVICE_START
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.premiumServiceStart = iprot.readI64();
             setPremiumServiceStartIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // PREMIUM_SERVICE_SKU
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.premiumServiceSKU = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // LAST_SUCCESSFUL_CHARGE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.lastSuccessfulCharge = iprot.readI64();
             setLastSuccessfulChargeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // LAST_FAILED_CHARGE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.lastFailedCharge = iprot.readI64();
             setLastFailedChargeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // LAST_FAILED_CHARGE_REASON
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.lastFailedChargeReason = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // NEXT_PAYMENT_DUE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.nextPaymentDue = iprot.readI64();
             setNextPaymentDueIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // PREMIUM_LOCK_UNTIL
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.premiumLockUntil = iprot.readI64();
             setPremiumLockUntilIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.updated = iprot.readI64();
             setUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // PREMIUM_SUBSCRIPTION_NUMBER
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.premiumSubscriptionNumber = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // LAST_REQUESTED_CHARGE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.lastRequestedCharge = iprot.readI64();
             setLastRequestedChargeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 18: // CURRENCY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.currency = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 19: // UNIT_PRICE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.unitPrice = iprot.readI32();
             setUnitPriceIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // BUSINESS_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.businessId = iprot.readI32();
             setBusinessIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 21: // BUSINESS_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.businessName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 22: // BUSINESS_ROLE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.businessRole = BusinessUserRole.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 23: // UNIT_DISCOUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.unitDiscount = iprot.readI32();
             setUnitDiscountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 24: // NEXT_CHARGE_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.nextChargeDate = iprot.readI64();
             setNextChargeDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
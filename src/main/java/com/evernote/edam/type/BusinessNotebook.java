@@ -58,7 +58,7 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
 
   // isset id assignments
   private static final int __RECOMMENDED_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public BusinessNotebook() {
   }
@@ -67,7 +67,7 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public BusinessNotebook(BusinessNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetNotebookDescription()) {
       this.notebookDescription = other.notebookDescription;
     }
@@ -152,16 +152,16 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
   }
 
   public void unsetRecommended() {
-    __isset_vector[__RECOMMENDED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECOMMENDED_ISSET_ID);
   }
 
   /** Returns true if field recommended is set (has been asigned a value) and false otherwise */
   public boolean isSetRecommended() {
-    return __isset_vector[__RECOMMENDED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __RECOMMENDED_ISSET_ID);
   }
 
   public void setRecommendedIsSet(boolean value) {
-    __isset_vector[__RECOMMENDED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECOMMENDED_ISSET_ID, value);
   }
 
   @Override
@@ -209,7 +209,11 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetNotebookDescription() ? this.notebookDescription.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPrivilege() ? this.privilege.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRecommended() ? TBaseHelper.hashCode(this.recommended) : 0);
+    return hashCode;
   }
 
   public int compareTo(BusinessNotebook other) {
@@ -251,39 +255,41 @@ public class BusinessNotebook implements TBase<BusinessNotebook>, java.io.Serial
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NOTEBOOK_DESCRIPTION
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookDescription = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // PRIVILEGE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.privilege = SharedNotebookPrivilegeLevel.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // RECOMMENDED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.recommended = iprot.readBool();
             setRecommendedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
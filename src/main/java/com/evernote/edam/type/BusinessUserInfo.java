@@ -53,7 +53,7 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
 
   // isset id assignments
   private static final int __BUSINESSID_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public BusinessUserInfo() {
   }
@@ -62,7 +62,7 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public BusinessUserInfo(BusinessUserInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.businessId = other.businessId;
     if (other.isSetBusinessName()) {
       this.businessName = other.businessName;
@@ -97,16 +97,16 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   public String getBusinessName() {
@@ -240,7 +240,12 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetBusinessId() ? this.businessId : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessName() ? this.businessName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRole() ? this.role.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetEmail() ? this.email.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(BusinessUserInfo other) {
@@ -291,46 +296,48 @@ public class BusinessUserInfo implements TBase<BusinessUserInfo>, java.io.Serial
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // BUSINESS_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.businessId = iprot.readI32();
             setBusinessIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // BUSINESS_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.businessName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // ROLE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.role = BusinessUserRole.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // EMAIL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.email = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
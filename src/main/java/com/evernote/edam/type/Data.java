@@ -52,12 +52,18 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
 
   private byte[] bodyHash;
   private int size;
-  private byte[] body;
+  private volatile byte[] body;
+  // Body when read lazily, copied into body only if getBody() is called.
+  // Readers take bodyBuffer before body: getBody() publishes body before it
+  // clears bodyBuffer, so a reader that finds bodyBuffer cleared sees body.
+  private transient volatile java.nio.ByteBuffer bodyBuffer;
+  // Body to upload from a file or stream without loading it into memory
+  private transient TBinarySource bodySource;
 
 
   // isset id assignments
   private static final int __SIZE_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public Data() {
   }
@@ -66,16 +72,21 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
    * Performs a deep copy on <i>other</i>.
    */
   public Data(Data other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetBodyHash()) {
       this.bodyHash = new byte[other.bodyHash.length];
       System.arraycopy(other.bodyHash, 0, bodyHash, 0, other.bodyHash.length);
     }
     this.size = other.size;
-    if (other.isSetBody()) {
-      this.body = new byte[other.body.length];
-      System.arraycopy(other.body, 0, body, 0, other.body.length);
+    java.nio.ByteBuffer otherBodyBuffer = other.bodyBuffer;
+    byte[] otherBody = other.body;
+    if (otherBody != null) {
+      this.body = new byte[otherBody.length];
+      System.arraycopy(otherBody, 0, body, 0, otherBody.length);
+    } else {
+      this.bodyBuffer = otherBodyBuffer;
     }
+    this.bodySource = other.bodySource;
   }
 
   public Data deepCopy() {
@@ -87,6 +98,8 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     setSizeIsSet(false);
     this.size = 0;
     this.body = null;
+    this.bodyBuffer = null;
+    this.bodySource = null;
   }
 
   public byte[] getBodyHash() {
@@ -122,38 +135,99 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   }
 
   public void unsetSize() {
-    __isset_vector[__SIZE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SIZE_ISSET_ID);
   }
 
   /** Returns true if field size is set (has been asigned a value) and false otherwise */
   public boolean isSetSize() {
-    return __isset_vector[__SIZE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SIZE_ISSET_ID);
   }
 
   public void setSizeIsSet(boolean value) {
-    __isset_vector[__SIZE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SIZE_ISSET_ID, value);
   }
 
+  /**
+   * Returns the body. A body set through {@link #setBodySource} is read into
+   * memory on every call.
+   */
   public byte[] getBody() {
-    return this.body;
+    java.nio.ByteBuffer bodyBuffer = this.bodyBuffer;
+    byte[] body = this.body;
+    if (body == null && bodyBuffer != null) {
+      body = TBaseHelper.byteBufferToByteArray(bodyBuffer);
+      this.body = body;
+      this.bodyBuffer = null;
+    }
+    if (body == null && this.bodySource != null) {
+      try {
+        return this.bodySource.toByteArray();
+      } catch (java.io.IOException e) {
+        throw new IllegalStateException("Couldn't read body from " + this.bodySource, e);
+      }
+    }
+    return body;
+  }
+
+  /**
+   * Sets a body that is streamed from <i>bodySource</i> when this Data is
+   * written, instead of being held in memory. The caller still sets
+   * {@link #setSize size} and {@link #setBodyHash bodyHash} to match it.
+   */
+  public void setBodySource(TBinarySource bodySource) {
+    this.body = null;
+    this.bodyBuffer = null;
+    this.bodySource = bodySource;
+  }
+
+  public TBinarySource getBodySource() {
+    return this.bodySource;
+  }
+
+  /**
+   * Returns the body as a buffer without copying it out of a lazily read
+   * response. The buffer must not be modified.
+   */
+  public java.nio.ByteBuffer bufferForBody() {
+    java.nio.ByteBuffer bodyBuffer = this.bodyBuffer;
+    if (bodyBuffer != null) {
+      return bodyBuffer.duplicate();
+    }
+    byte[] body = this.body;
+    return body == null ? null : java.nio.ByteBuffer.wrap(body);
+  }
+
+  // The body to compare, without copying a lazily read body out of its buffer
+  private java.nio.ByteBuffer bodyForComparison() {
+    java.nio.ByteBuffer buffer = bufferForBody();
+    if (buffer == null && this.bodySource != null) {
+      buffer = java.nio.ByteBuffer.wrap(getBody());
+    }
+    return buffer;
   }
 
   public void setBody(byte[] body) {
     this.body = body;
+    this.bodyBuffer = null;
+    this.bodySource = null;
   }
 
   public void unsetBody() {
     this.body = null;
+    this.bodyBuffer = null;
+    this.bodySource = null;
   }
 
   /** Returns true if field body is set (has been asigned a value) and false otherwise */
   public boolean isSetBody() {
-    return this.body != null;
+    return this.bodyBuffer != null || this.body != null || this.bodySource != null;
   }
 
   public void setBodyIsSet(boolean value) {
     if (!value) {
       this.body = null;
+      this.bodyBuffer = null;
+      this.bodySource = null;
     }
   }
 
@@ -193,7 +267,7 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     if (this_present_body || that_present_body) {
       if (!(this_present_body && that_present_body))
         return false;
-      if (TBaseHelper.compareTo(this.body, that.body) != 0)
+      if (!this.bodyForComparison().equals(that.bodyForComparison()))
         return false;
     }
 
@@ -202,7 +276,15 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetBodyHash() ? TBaseHelper.hashCode(this.bodyHash) : 0);
+    hashCode = 31 * hashCode + (this.isSetSize() ? this.size : 0);
+    // The hash stands in for the body when set, so a lazily read body is left
+    // in its buffer
+    if (!this.isSetBodyHash()) {
+      hashCode = 31 * hashCode + (this.isSetBody() ? this.bodyForComparison().hashCode() : 0);
+    }
+    return hashCode;
   }
 
   public int compareTo(Data other) {
@@ -235,7 +317,7 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     if (lastComparison != 0) {
       return lastComparison;
     }
-    if (isSetBody()) {      lastComparison = TBaseHelper.compareTo(this.body, typedOther.body);
+    if (isSetBody()) {      lastComparison = TBaseHelper.compareTo(this.getBody(), typedOther.getBody());
       if (lastComparison != 0) {
         return lastComparison;
       }
@@ -244,39 +326,47 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // BODY_HASH
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.bodyHash = iprot.readBytes();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // SIZE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.size = iprot.readI32();
             setSizeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // BODY
-          if (field.type == TType.STRING) {
-            this.body = iprot.readBytes();
+          if (fieldType == TType.STRING) {
+            if (iprot.isLazyDecoding()) {
+              this.body = null;
+              this.bodyBuffer = iprot.readBinarySlice();
+            } else {
+              this.body = iprot.readBytes();
+              this.bodyBuffer = null;
+            }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -300,12 +390,20 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
       oprot.writeI32(this.size);
       oprot.writeFieldEnd();
     }
-    if (this.body != null) {
-      if (isSetBody()) {
-        oprot.writeFieldBegin(BODY_FIELD_DESC);
-        oprot.writeBinary(this.body);
-        oprot.writeFieldEnd();
-      }
+    java.nio.ByteBuffer bodyBuffer = this.bodyBuffer;
+    byte[] body = this.body;
+    if (body != null) {
+      oprot.writeFieldBegin(BODY_FIELD_DESC);
+      oprot.writeBinary(body);
+      oprot.writeFieldEnd();
+    } else if (bodyBuffer != null) {
+      oprot.writeFieldBegin(BODY_FIELD_DESC);
+      oprot.writeBinary(bodyBuffer);
+      oprot.writeFieldEnd();
+    } else if (this.bodySource != null) {
+      oprot.writeFieldBegin(BODY_FIELD_DESC);
+      oprot.writeBinary(this.bodySource);
+      oprot.writeFieldEnd();
     }
     oprot.writeFieldStop();
     oprot.writeStructEnd();
@@ -334,10 +432,18 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     if (isSetBody()) {
       if (!first) sb.append(", ");
       sb.append("body:");
-      if (this.body == null) {
-        sb.append("null");
+      java.nio.ByteBuffer bodyBuffer = this.bodyBuffer;
+      byte[] body = this.body;
+      if (body != null) {
+        TBaseHelper.toString(body, sb);
+      } else if (this.bodySource != null) {
+        sb.append(this.bodySource);
+      } else if (bodyBuffer != null) {
+        int offset = bodyBuffer.arrayOffset() + bodyBuffer.position();
+        TBaseHelper.toString(bodyBuffer.array(), offset,
+            offset + bodyBuffer.remaining(), sb);
       } else {
-        TBaseHelper.toString(this.body, sb);
+        sb.append("null");
       }
       first = false;
     }
@@ -349,5 +455,23 @@ public class Data implements TBase<Data>, java.io.Serializable, Cloneable {
     // check for required fields
   }
 
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    // bodyBuffer and bodySource are transient, so write the body they hold in
+    // place of the field, without keeping it in memory or dropping the source
+    java.nio.ByteBuffer bodyBuffer = this.bodyBuffer;
+    byte[] body = this.body;
+    if (body == null && bodyBuffer != null) {
+      body = TBaseHelper.byteBufferToByteArray(bodyBuffer);
+    } else if (body == null && this.bodySource != null) {
+      body = this.bodySource.toByteArray();
+    }
+    java.io.ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("bodyHash", this.bodyHash);
+    fields.put("size", this.size);
+    fields.put("body", body);
+    fields.put("__isset_bitfield", this.__isset_bitfield);
+    out.writeFields();
+  }
+
 }
 
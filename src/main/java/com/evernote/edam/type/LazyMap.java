@@ -204,7 +204,10 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetKeysOnly() ? this.keysOnly.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetFullMap() ? this.fullMap.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(LazyMap other) {
@@ -237,21 +240,23 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // KEYS_ONLY
-          if (field.type == TType.SET) {
+          if (fieldType == TType.SET) {
             {
-              TSet _set8 = iprot.readSetBegin();
-              this.keysOnly = new HashSet<String>(2*_set8.size);
-              for (int _i9 = 0; _i9 < _set8.size; ++_i9)
+              int _set8_size = iprot.readSetBeginSize();
+              this.keysOnly = new HashSet<String>(2*_set8_size);
+              for (int _i9 = 0; _i9 < _set8_size; ++_i9)
               {
                 String _elem10;
                 _elem10 = iprot.readString();
@@ -260,15 +265,15 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
               iprot.readSetEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // FULL_MAP
-          if (field.type == TType.MAP) {
+          if (fieldType == TType.MAP) {
             {
-              TMap _map11 = iprot.readMapBegin();
-              this.fullMap = new HashMap<String,String>(2*_map11.size);
-              for (int _i12 = 0; _i12 < _map11.size; ++_i12)
+              int _map11_size = iprot.readMapBeginSize();
+              this.fullMap = new HashMap<String,String>(2*_map11_size);
+              for (int _i12 = 0; _i12 < _map11_size; ++_i12)
               {
                 String _key13;
                 String _val14;
@@ -279,11 +284,11 @@ public class LazyMap implements TBase<LazyMap>, java.io.Serializable, Cloneable
               iprot.readMapEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -118,7 +118,7 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   // isset id assignments
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 0;
   private static final int __BUSINESSID_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
 
   public LinkedNotebook() {
   }
@@ -127,7 +127,7 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public LinkedNotebook(LinkedNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetShareName()) {
       this.shareName = other.shareName;
     }
@@ -327,16 +327,16 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNoteStoreUrl() {
@@ -418,16 +418,16 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void unsetBusinessId() {
-    __isset_vector[__BUSINESSID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   /** Returns true if field businessId is set (has been asigned a value) and false otherwise */
   public boolean isSetBusinessId() {
-    return __isset_vector[__BUSINESSID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __BUSINESSID_ISSET_ID);
   }
 
   public void setBusinessIdIsSet(boolean value) {
-    __isset_vector[__BUSINESSID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BUSINESSID_ISSET_ID, value);
   }
 
   @Override
@@ -547,7 +547,19 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetShareName() ? this.shareName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUsername() ? this.username.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetShardId() ? this.shardId.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetShareKey() ? this.shareKey.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUri() ? this.uri.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateSequenceNum() ? this.updateSequenceNum : 0);
+    hashCode = 31 * hashCode + (this.isSetNoteStoreUrl() ? this.noteStoreUrl.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetWebApiUrlPrefix() ? this.webApiUrlPrefix.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetStack() ? this.stack.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessId() ? this.businessId : 0);
+    return hashCode;
   }
 
   public int compareTo(LinkedNotebook other) {
@@ -661,96 +673,98 @@ public class LinkedNotebook implements TBase<LinkedNotebook>, java.io.Serializab
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 2: // SHARE_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shareName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // USERNAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.username = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // SHARD_ID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shardId = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // SHARE_KEY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shareKey = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // URI
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.uri = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // NOTE_STORE_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.noteStoreUrl = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // WEB_API_URL_PREFIX
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.webApiUrlPrefix = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // STACK
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.stack = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // BUSINESS_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.businessId = iprot.readI32();
             setBusinessIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
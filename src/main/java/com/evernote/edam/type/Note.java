@@ -165,7 +165,12 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
   private String guid;
   private String title;
-  private String content;
+  private volatile String content;
+  // Raw UTF-8 content when read lazily, decoded into content on first access.
+  // Readers take contentBuffer before content: getContent() publishes content
+  // before it clears contentBuffer, so a reader that finds it cleared sees
+  // content.
+  private transient volatile java.nio.ByteBuffer contentBuffer;
   private byte[] contentHash;
   private int contentLength;
   private long created;
@@ -187,7 +192,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   private static final int __DELETED_ISSET_ID = 3;
   private static final int __ACTIVE_ISSET_ID = 4;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
 
   public Note() {
   }
@@ -196,15 +201,19 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
    * Performs a deep copy on <i>other</i>.
    */
   public Note(Note other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
     if (other.isSetTitle()) {
       this.title = other.title;
     }
-    if (other.isSetContent()) {
-      this.content = other.content;
+    java.nio.ByteBuffer otherContentBuffer = other.contentBuffer;
+    String otherContent = other.content;
+    if (otherContent != null) {
+      this.content = otherContent;
+    } else {
+      this.contentBuffer = otherContentBuffer;
     }
     if (other.isSetContentHash()) {
       this.contentHash = new byte[other.contentHash.length];
@@ -253,6 +262,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     this.guid = null;
     this.title = null;
     this.content = null;
+    this.contentBuffer = null;
     this.contentHash = null;
     setContentLengthIsSet(false);
     this.contentLength = 0;
@@ -320,25 +330,35 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public String getContent() {
-    return this.content;
+    java.nio.ByteBuffer contentBuffer = this.contentBuffer;
+    String content = this.content;
+    if (content == null && contentBuffer != null) {
+      content = TBaseHelper.decodeUtf8(contentBuffer);
+      this.content = content;
+      this.contentBuffer = null;
+    }
+    return content;
   }
 
   public void setContent(String content) {
     this.content = content;
+    this.contentBuffer = null;
   }
 
   public void unsetContent() {
     this.content = null;
+    this.contentBuffer = null;
   }
 
   /** Returns true if field content is set (has been asigned a value) and false otherwise */
   public boolean isSetContent() {
-    return this.content != null;
+    return this.contentBuffer != null || this.content != null;
   }
 
   public void setContentIsSet(boolean value) {
     if (!value) {
       this.content = null;
+      this.contentBuffer = null;
     }
   }
 
@@ -375,16 +395,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetContentLength() {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   /** Returns true if field contentLength is set (has been asigned a value) and false otherwise */
   public boolean isSetContentLength() {
-    return __isset_vector[__CONTENTLENGTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID);
   }
 
   public void setContentLengthIsSet(boolean value) {
-    __isset_vector[__CONTENTLENGTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CONTENTLENGTH_ISSET_ID, value);
   }
 
   public long getCreated() {
@@ -397,16 +417,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetCreated() {
-    __isset_vector[__CREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   /** Returns true if field created is set (has been asigned a value) and false otherwise */
   public boolean isSetCreated() {
-    return __isset_vector[__CREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   public void setCreatedIsSet(boolean value) {
-    __isset_vector[__CREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATED_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -419,16 +439,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getDeleted() {
@@ -441,16 +461,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetDeleted() {
-    __isset_vector[__DELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   /** Returns true if field deleted is set (has been asigned a value) and false otherwise */
   public boolean isSetDeleted() {
-    return __isset_vector[__DELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   public void setDeletedIsSet(boolean value) {
-    __isset_vector[__DELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DELETED_ISSET_ID, value);
   }
 
   public boolean isActive() {
@@ -463,16 +483,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetActive() {
-    __isset_vector[__ACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   /** Returns true if field active is set (has been asigned a value) and false otherwise */
   public boolean isSetActive() {
-    return __isset_vector[__ACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   public void setActiveIsSet(boolean value) {
-    __isset_vector[__ACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ACTIVE_ISSET_ID, value);
   }
 
   public int getUpdateSequenceNum() {
@@ -485,16 +505,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -693,7 +713,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     if (this_present_content || that_present_content) {
       if (!(this_present_content && that_present_content))
         return false;
-      if (!this.content.equals(that.content))
+      if (!this.getContent().equals(that.getContent()))
         return false;
     }
 
@@ -810,7 +830,23 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTitle() ? this.title.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContent() ? this.getContent().hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContentHash() ? TBaseHelper.hashCode(this.contentHash) : 0);
+    hashCode = 31 * hashCode + (this.isSetContentLength() ? this.contentLength : 0);
+    hashCode = 31 * hashCode + (this.isSetCreated() ? TBaseHelper.hashCode(this.created) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdated() ? TBaseHelper.hashCode(this.updated) : 0);
+    hashCode = 31 * hashCode + (this.isSetDeleted() ? TBaseHelper.hashCode(this.deleted) : 0);
+    hashCode = 31 * hashCode + (this.isSetActive() ? TBaseHelper.hashCode(this.active) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateSequenceNum() ? this.updateSequenceNum : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookGuid() ? this.notebookGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTagGuids() ? this.tagGuids.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetResources() ? this.resources.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAttributes() ? this.attributes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTagNames() ? this.tagNames.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(Note other) {
@@ -843,7 +879,7 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     if (lastComparison != 0) {
       return lastComparison;
     }
-    if (isSetContent()) {      lastComparison = TBaseHelper.compareTo(this.content, typedOther.content);
+    if (isSetContent()) {      lastComparison = TBaseHelper.compareTo(this.getContent(), typedOther.getContent());
       if (lastComparison != 0) {
         return lastComparison;
       }
@@ -960,104 +996,118 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
+    java.util.BitSet projected = iprot.getProjectedFields(Note.class);
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      if (projected != null && !projected.get(TProtocol.fieldId(field))) {
+        TProtocolUtil.skip(iprot, fieldType);
+        iprot.readFieldEnd();
+        continue;
+      }
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TITLE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.title = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // CONTENT
-          if (field.type == TType.STRING) {
-            this.content = iprot.readString();
+          if (fieldType == TType.STRING) {
+            if (iprot.isLazyDecoding()) {
+              this.content = null;
+              this.contentBuffer = iprot.readBinarySlice();
+            } else {
+              this.content = iprot.readString();
+              this.contentBuffer = null;
+            }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // CONTENT_HASH
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.contentHash = iprot.readBytes();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // CONTENT_LENGTH
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.contentLength = iprot.readI32();
             setContentLengthIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // CREATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.created = iprot.readI64();
             setCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.updated = iprot.readI64();
             setUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // DELETED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.deleted = iprot.readI64();
             setDeletedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // ACTIVE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.active = iprot.readBool();
             setActiveIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // NOTEBOOK_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // TAG_GUIDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list22 = iprot.readListBegin();
-              this.tagGuids = new ArrayList<String>(_list22.size);
-              for (int _i23 = 0; _i23 < _list22.size; ++_i23)
+              int _list22_size = iprot.readListBeginSize();
+              this.tagGuids = new ArrayList<String>(_list22_size);
+              for (int _i23 = 0; _i23 < _list22_size; ++_i23)
               {
                 String _elem24;
                 _elem24 = iprot.readString();
@@ -1066,15 +1116,15 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // RESOURCES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list25 = iprot.readListBegin();
-              this.resources = new ArrayList<Resource>(_list25.size);
-              for (int _i26 = 0; _i26 < _list25.size; ++_i26)
+              int _list25_size = iprot.readListBeginSize();
+              this.resources = new ArrayList<Resource>(_list25_size);
+              for (int _i26 = 0; _i26 < _list25_size; ++_i26)
               {
                 Resource _elem27;
                 _elem27 = new Resource();
@@ -1084,23 +1134,23 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // ATTRIBUTES
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.attributes = new NoteAttributes();
             this.attributes.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // TAG_NAMES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list28 = iprot.readListBegin();
-              this.tagNames = new ArrayList<String>(_list28.size);
-              for (int _i29 = 0; _i29 < _list28.size; ++_i29)
+              int _list28_size = iprot.readListBeginSize();
+              this.tagNames = new ArrayList<String>(_list28_size);
+              for (int _i29 = 0; _i29 < _list28_size; ++_i29)
               {
                 String _elem30;
                 _elem30 = iprot.readString();
@@ -1109,11 +1159,11 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -1139,12 +1189,16 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
         oprot.writeFieldEnd();
       }
     }
-    if (this.content != null) {
-      if (isSetContent()) {
-        oprot.writeFieldBegin(CONTENT_FIELD_DESC);
-        oprot.writeString(this.content);
-        oprot.writeFieldEnd();
-      }
+    java.nio.ByteBuffer contentBuffer = this.contentBuffer;
+    String content = this.content;
+    if (content != null) {
+      oprot.writeFieldBegin(CONTENT_FIELD_DESC);
+      oprot.writeString(content);
+      oprot.writeFieldEnd();
+    } else if (contentBuffer != null) {
+      oprot.writeFieldBegin(CONTENT_FIELD_DESC);
+      oprot.writeBinary(contentBuffer);
+      oprot.writeFieldEnd();
     }
     if (this.contentHash != null) {
       if (isSetContentHash()) {
@@ -1270,10 +1324,10 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     if (isSetContent()) {
       if (!first) sb.append(", ");
       sb.append("content:");
-      if (this.content == null) {
+      if (this.getContent() == null) {
         sb.append("null");
       } else {
-        sb.append(this.content);
+        sb.append(this.getContent());
       }
       first = false;
     }
@@ -1381,5 +1435,11 @@ public class Note implements TBase<Note>, java.io.Serializable, Cloneable {
     // check for required fields
   }
 
+  private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+    // contentBuffer is transient, so decode any lazily read content first
+    getContent();
+    out.defaultWriteObject();
+  }
+
 }
 
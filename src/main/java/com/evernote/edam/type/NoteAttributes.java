@@ -242,7 +242,7 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   private static final int __REMINDERTIME_ISSET_ID = 7;
   private static final int __CREATORID_ISSET_ID = 8;
   private static final int __LASTEDITORID_ISSET_ID = 9;
-  private boolean[] __isset_vector = new boolean[10];
+  private short __isset_bitfield = 0;
 
   public NoteAttributes() {
   }
@@ -251,7 +251,7 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public NoteAttributes(NoteAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.subjectDate = other.subjectDate;
     this.latitude = other.latitude;
     this.longitude = other.longitude;
@@ -349,16 +349,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetSubjectDate() {
-    __isset_vector[__SUBJECTDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID);
   }
 
   /** Returns true if field subjectDate is set (has been asigned a value) and false otherwise */
   public boolean isSetSubjectDate() {
-    return __isset_vector[__SUBJECTDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID);
   }
 
   public void setSubjectDateIsSet(boolean value) {
-    __isset_vector[__SUBJECTDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUBJECTDATE_ISSET_ID, value);
   }
 
   public double getLatitude() {
@@ -371,16 +371,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLatitude() {
-    __isset_vector[__LATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   /** Returns true if field latitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLatitude() {
-    return __isset_vector[__LATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   public void setLatitudeIsSet(boolean value) {
-    __isset_vector[__LATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LATITUDE_ISSET_ID, value);
   }
 
   public double getLongitude() {
@@ -393,16 +393,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLongitude() {
-    __isset_vector[__LONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field longitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLongitude() {
-    return __isset_vector[__LONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   public void setLongitudeIsSet(boolean value) {
-    __isset_vector[__LONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LONGITUDE_ISSET_ID, value);
   }
 
   public double getAltitude() {
@@ -415,16 +415,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetAltitude() {
-    __isset_vector[__ALTITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   /** Returns true if field altitude is set (has been asigned a value) and false otherwise */
   public boolean isSetAltitude() {
-    return __isset_vector[__ALTITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   public void setAltitudeIsSet(boolean value) {
-    __isset_vector[__ALTITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALTITUDE_ISSET_ID, value);
   }
 
   public String getAuthor() {
@@ -529,16 +529,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetShareDate() {
-    __isset_vector[__SHAREDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SHAREDATE_ISSET_ID);
   }
 
   /** Returns true if field shareDate is set (has been asigned a value) and false otherwise */
   public boolean isSetShareDate() {
-    return __isset_vector[__SHAREDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SHAREDATE_ISSET_ID);
   }
 
   public void setShareDateIsSet(boolean value) {
-    __isset_vector[__SHAREDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SHAREDATE_ISSET_ID, value);
   }
 
   public long getReminderOrder() {
@@ -551,16 +551,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderOrder() {
-    __isset_vector[__REMINDERORDER_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERORDER_ISSET_ID);
   }
 
   /** Returns true if field reminderOrder is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderOrder() {
-    return __isset_vector[__REMINDERORDER_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERORDER_ISSET_ID);
   }
 
   public void setReminderOrderIsSet(boolean value) {
-    __isset_vector[__REMINDERORDER_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERORDER_ISSET_ID, value);
   }
 
   public long getReminderDoneTime() {
@@ -573,16 +573,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderDoneTime() {
-    __isset_vector[__REMINDERDONETIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID);
   }
 
   /** Returns true if field reminderDoneTime is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderDoneTime() {
-    return __isset_vector[__REMINDERDONETIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID);
   }
 
   public void setReminderDoneTimeIsSet(boolean value) {
-    __isset_vector[__REMINDERDONETIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERDONETIME_ISSET_ID, value);
   }
 
   public long getReminderTime() {
@@ -595,16 +595,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetReminderTime() {
-    __isset_vector[__REMINDERTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERTIME_ISSET_ID);
   }
 
   /** Returns true if field reminderTime is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderTime() {
-    return __isset_vector[__REMINDERTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERTIME_ISSET_ID);
   }
 
   public void setReminderTimeIsSet(boolean value) {
-    __isset_vector[__REMINDERTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERTIME_ISSET_ID, value);
   }
 
   public String getPlaceName() {
@@ -743,16 +743,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetCreatorId() {
-    __isset_vector[__CREATORID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATORID_ISSET_ID);
   }
 
   /** Returns true if field creatorId is set (has been asigned a value) and false otherwise */
   public boolean isSetCreatorId() {
-    return __isset_vector[__CREATORID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATORID_ISSET_ID);
   }
 
   public void setCreatorIdIsSet(boolean value) {
-    __isset_vector[__CREATORID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATORID_ISSET_ID, value);
   }
 
   public int getLastEditorId() {
@@ -765,16 +765,16 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void unsetLastEditorId() {
-    __isset_vector[__LASTEDITORID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LASTEDITORID_ISSET_ID);
   }
 
   /** Returns true if field lastEditorId is set (has been asigned a value) and false otherwise */
   public boolean isSetLastEditorId() {
-    return __isset_vector[__LASTEDITORID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LASTEDITORID_ISSET_ID);
   }
 
   public void setLastEditorIdIsSet(boolean value) {
-    __isset_vector[__LASTEDITORID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LASTEDITORID_ISSET_ID, value);
   }
 
   @Override
@@ -966,7 +966,27 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetSubjectDate() ? TBaseHelper.hashCode(this.subjectDate) : 0);
+    hashCode = 31 * hashCode + (this.isSetLatitude() ? TBaseHelper.hashCode(this.latitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetLongitude() ? TBaseHelper.hashCode(this.longitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetAltitude() ? TBaseHelper.hashCode(this.altitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetAuthor() ? this.author.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSource() ? this.source.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSourceURL() ? this.sourceURL.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSourceApplication() ? this.sourceApplication.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetShareDate() ? TBaseHelper.hashCode(this.shareDate) : 0);
+    hashCode = 31 * hashCode + (this.isSetReminderOrder() ? TBaseHelper.hashCode(this.reminderOrder) : 0);
+    hashCode = 31 * hashCode + (this.isSetReminderDoneTime() ? TBaseHelper.hashCode(this.reminderDoneTime) : 0);
+    hashCode = 31 * hashCode + (this.isSetReminderTime() ? TBaseHelper.hashCode(this.reminderTime) : 0);
+    hashCode = 31 * hashCode + (this.isSetPlaceName() ? this.placeName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContentClass() ? this.contentClass.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetApplicationData() ? this.applicationData.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetLastEditedBy() ? this.lastEditedBy.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetClassifications() ? this.classifications.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetCreatorId() ? this.creatorId : 0);
+    hashCode = 31 * hashCode + (this.isSetLastEditorId() ? this.lastEditorId : 0);
+    return hashCode;
   }
 
   public int compareTo(NoteAttributes other) {
@@ -1152,142 +1172,150 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
+    java.util.BitSet projected = iprot.getProjectedFields(NoteAttributes.class);
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      if (projected != null && !projected.get(TProtocol.fieldId(field))) {
+        TProtocolUtil.skip(iprot, fieldType);
+        iprot.readFieldEnd();
+        continue;
+      }
+      switch (TProtocol.fieldId(field)) {
         case 1: // SUBJECT_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.subjectDate = iprot.readI64();
             setSubjectDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // LATITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.latitude = iprot.readDouble();
             setLatitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // LONGITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.longitude = iprot.readDouble();
             setLongitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // ALTITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.altitude = iprot.readDouble();
             setAltitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // AUTHOR
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.author = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // SOURCE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.source = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // SOURCE_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.sourceURL = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // SOURCE_APPLICATION
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.sourceApplication = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // SHARE_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.shareDate = iprot.readI64();
             setShareDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 18: // REMINDER_ORDER
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.reminderOrder = iprot.readI64();
             setReminderOrderIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 19: // REMINDER_DONE_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.reminderDoneTime = iprot.readI64();
             setReminderDoneTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // REMINDER_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.reminderTime = iprot.readI64();
             setReminderTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 21: // PLACE_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.placeName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 22: // CONTENT_CLASS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.contentClass = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 23: // APPLICATION_DATA
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.applicationData = new LazyMap();
             this.applicationData.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 24: // LAST_EDITED_BY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.lastEditedBy = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 26: // CLASSIFICATIONS
-          if (field.type == TType.MAP) {
+          if (fieldType == TType.MAP) {
             {
-              TMap _map17 = iprot.readMapBegin();
-              this.classifications = new HashMap<String,String>(2*_map17.size);
-              for (int _i18 = 0; _i18 < _map17.size; ++_i18)
+              int _map17_size = iprot.readMapBeginSize();
+              this.classifications = new HashMap<String,String>(2*_map17_size);
+              for (int _i18 = 0; _i18 < _map17_size; ++_i18)
               {
                 String _key19;
                 String _val20;
@@ -1298,27 +1326,27 @@ public class NoteAttributes implements TBase<NoteAttributes>, java.io.Serializab
               iprot.readMapEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 27: // CREATOR_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.creatorId = iprot.readI32();
             setCreatorIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 28: // LAST_EDITOR_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.lastEditorId = iprot.readI32();
             setLastEditorIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
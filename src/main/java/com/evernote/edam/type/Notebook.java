@@ -173,7 +173,7 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   private static final int __SERVICECREATED_ISSET_ID = 2;
   private static final int __SERVICEUPDATED_ISSET_ID = 3;
   private static final int __PUBLISHED_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
 
   public Notebook() {
   }
@@ -182,7 +182,7 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
    * Performs a deep copy on <i>other</i>.
    */
   public Notebook(Notebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -307,16 +307,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public boolean isDefaultNotebook() {
@@ -329,16 +329,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetDefaultNotebook() {
-    __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field defaultNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultNotebook() {
-    return __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID);
   }
 
   public void setDefaultNotebookIsSet(boolean value) {
-    __isset_vector[__DEFAULTNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTNOTEBOOK_ISSET_ID, value);
   }
 
   public long getServiceCreated() {
@@ -351,16 +351,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetServiceCreated() {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   /** Returns true if field serviceCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceCreated() {
-    return __isset_vector[__SERVICECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   public void setServiceCreatedIsSet(boolean value) {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICECREATED_ISSET_ID, value);
   }
 
   public long getServiceUpdated() {
@@ -373,16 +373,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetServiceUpdated() {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field serviceUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceUpdated() {
-    return __isset_vector[__SERVICEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   public void setServiceUpdatedIsSet(boolean value) {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID, value);
   }
 
   public Publishing getPublishing() {
@@ -418,16 +418,16 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void unsetPublished() {
-    __isset_vector[__PUBLISHED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PUBLISHED_ISSET_ID);
   }
 
   /** Returns true if field published is set (has been asigned a value) and false otherwise */
   public boolean isSetPublished() {
-    return __isset_vector[__PUBLISHED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PUBLISHED_ISSET_ID);
   }
 
   public void setPublishedIsSet(boolean value) {
-    __isset_vector[__PUBLISHED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PUBLISHED_ISSET_ID, value);
   }
 
   public String getStack() {
@@ -742,7 +742,22 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetName() ? this.name.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateSequenceNum() ? this.updateSequenceNum : 0);
+    hashCode = 31 * hashCode + (this.isSetDefaultNotebook() ? TBaseHelper.hashCode(this.defaultNotebook) : 0);
+    hashCode = 31 * hashCode + (this.isSetServiceCreated() ? TBaseHelper.hashCode(this.serviceCreated) : 0);
+    hashCode = 31 * hashCode + (this.isSetServiceUpdated() ? TBaseHelper.hashCode(this.serviceUpdated) : 0);
+    hashCode = 31 * hashCode + (this.isSetPublishing() ? this.publishing.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPublished() ? TBaseHelper.hashCode(this.published) : 0);
+    hashCode = 31 * hashCode + (this.isSetStack() ? this.stack.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSharedNotebookIds() ? this.sharedNotebookIds.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSharedNotebooks() ? this.sharedNotebooks.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessNotebook() ? this.businessNotebook.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContact() ? this.contact.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRestrictions() ? this.restrictions.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(Notebook other) {
@@ -883,90 +898,98 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
+    java.util.BitSet projected = iprot.getProjectedFields(Notebook.class);
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      if (projected != null && !projected.get(TProtocol.fieldId(field))) {
+        TProtocolUtil.skip(iprot, fieldType);
+        iprot.readFieldEnd();
+        continue;
+      }
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.name = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // DEFAULT_NOTEBOOK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.defaultNotebook = iprot.readBool();
             setDefaultNotebookIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // SERVICE_CREATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.serviceCreated = iprot.readI64();
             setServiceCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // SERVICE_UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.serviceUpdated = iprot.readI64();
             setServiceUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // PUBLISHING
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.publishing = new Publishing();
             this.publishing.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // PUBLISHED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.published = iprot.readBool();
             setPublishedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // STACK
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.stack = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // SHARED_NOTEBOOK_IDS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list34 = iprot.readListBegin();
-              this.sharedNotebookIds = new ArrayList<Long>(_list34.size);
-              for (int _i35 = 0; _i35 < _list34.size; ++_i35)
+              int _list34_size = iprot.readListBeginSize();
+              this.sharedNotebookIds = new ArrayList<Long>(_list34_size);
+              for (int _i35 = 0; _i35 < _list34_size; ++_i35)
               {
                 long _elem36;
                 _elem36 = iprot.readI64();
@@ -975,15 +998,15 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // SHARED_NOTEBOOKS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list37 = iprot.readListBegin();
-              this.sharedNotebooks = new ArrayList<SharedNotebook>(_list37.size);
-              for (int _i38 = 0; _i38 < _list37.size; ++_i38)
+              int _list37_size = iprot.readListBeginSize();
+              this.sharedNotebooks = new ArrayList<SharedNotebook>(_list37_size);
+              for (int _i38 = 0; _i38 < _list37_size; ++_i38)
               {
                 SharedNotebook _elem39;
                 _elem39 = new SharedNotebook();
@@ -993,35 +1016,35 @@ public class Notebook implements TBase<Notebook>, java.io.Serializable, Cloneabl
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // BUSINESS_NOTEBOOK
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.businessNotebook = new BusinessNotebook();
             this.businessNotebook.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // CONTACT
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.contact = new User();
             this.contact.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // RESTRICTIONS
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.restrictions = new NotebookRestrictions();
             this.restrictions.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -63,7 +63,7 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   // isset id assignments
   private static final int __HASSHAREDNOTEBOOK_ISSET_ID = 0;
   private static final int __JOINEDUSERCOUNT_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
 
   public NotebookDescriptor() {
   }
@@ -72,7 +72,7 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public NotebookDescriptor(NotebookDescriptor other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -179,16 +179,16 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void unsetHasSharedNotebook() {
-    __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field hasSharedNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetHasSharedNotebook() {
-    return __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID);
   }
 
   public void setHasSharedNotebookIsSet(boolean value) {
-    __isset_vector[__HASSHAREDNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HASSHAREDNOTEBOOK_ISSET_ID, value);
   }
 
   public int getJoinedUserCount() {
@@ -201,16 +201,16 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void unsetJoinedUserCount() {
-    __isset_vector[__JOINEDUSERCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID);
   }
 
   /** Returns true if field joinedUserCount is set (has been asigned a value) and false otherwise */
   public boolean isSetJoinedUserCount() {
-    return __isset_vector[__JOINEDUSERCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID);
   }
 
   public void setJoinedUserCountIsSet(boolean value) {
-    __isset_vector[__JOINEDUSERCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __JOINEDUSERCOUNT_ISSET_ID, value);
   }
 
   @Override
@@ -276,7 +276,13 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookDisplayName() ? this.notebookDisplayName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetContactName() ? this.contactName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetHasSharedNotebook() ? TBaseHelper.hashCode(this.hasSharedNotebook) : 0);
+    hashCode = 31 * hashCode + (this.isSetJoinedUserCount() ? this.joinedUserCount : 0);
+    return hashCode;
   }
 
   public int compareTo(NotebookDescriptor other) {
@@ -336,54 +342,56 @@ public class NotebookDescriptor implements TBase<NotebookDescriptor>, java.io.Se
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NOTEBOOK_DISPLAY_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookDisplayName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // CONTACT_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.contactName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // HAS_SHARED_NOTEBOOK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.hasSharedNotebook = iprot.readBool();
             setHasSharedNotebookIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // JOINED_USER_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.joinedUserCount = iprot.readI32();
             setJoinedUserCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -183,7 +183,7 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   private static final int __NOEXPUNGETAGS_ISSET_ID = 15;
   private static final int __NOSETPARENTTAG_ISSET_ID = 16;
   private static final int __NOCREATESHAREDNOTEBOOKS_ISSET_ID = 17;
-  private boolean[] __isset_vector = new boolean[18];
+  private int __isset_bitfield = 0;
 
   public NotebookRestrictions() {
   }
@@ -192,7 +192,7 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public NotebookRestrictions(NotebookRestrictions other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.noReadNotes = other.noReadNotes;
     this.noCreateNotes = other.noCreateNotes;
     this.noUpdateNotes = other.noUpdateNotes;
@@ -274,16 +274,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoReadNotes() {
-    __isset_vector[__NOREADNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOREADNOTES_ISSET_ID);
   }
 
   /** Returns true if field noReadNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoReadNotes() {
-    return __isset_vector[__NOREADNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOREADNOTES_ISSET_ID);
   }
 
   public void setNoReadNotesIsSet(boolean value) {
-    __isset_vector[__NOREADNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOREADNOTES_ISSET_ID, value);
   }
 
   public boolean isNoCreateNotes() {
@@ -296,16 +296,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateNotes() {
-    __isset_vector[__NOCREATENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID);
   }
 
   /** Returns true if field noCreateNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateNotes() {
-    return __isset_vector[__NOCREATENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID);
   }
 
   public void setNoCreateNotesIsSet(boolean value) {
-    __isset_vector[__NOCREATENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATENOTES_ISSET_ID, value);
   }
 
   public boolean isNoUpdateNotes() {
@@ -318,16 +318,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateNotes() {
-    __isset_vector[__NOUPDATENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID);
   }
 
   /** Returns true if field noUpdateNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateNotes() {
-    return __isset_vector[__NOUPDATENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID);
   }
 
   public void setNoUpdateNotesIsSet(boolean value) {
-    __isset_vector[__NOUPDATENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATENOTES_ISSET_ID, value);
   }
 
   public boolean isNoExpungeNotes() {
@@ -340,16 +340,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeNotes() {
-    __isset_vector[__NOEXPUNGENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID);
   }
 
   /** Returns true if field noExpungeNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeNotes() {
-    return __isset_vector[__NOEXPUNGENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID);
   }
 
   public void setNoExpungeNotesIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGENOTES_ISSET_ID, value);
   }
 
   public boolean isNoShareNotes() {
@@ -362,16 +362,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoShareNotes() {
-    __isset_vector[__NOSHARENOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID);
   }
 
   /** Returns true if field noShareNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoShareNotes() {
-    return __isset_vector[__NOSHARENOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID);
   }
 
   public void setNoShareNotesIsSet(boolean value) {
-    __isset_vector[__NOSHARENOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSHARENOTES_ISSET_ID, value);
   }
 
   public boolean isNoEmailNotes() {
@@ -384,16 +384,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoEmailNotes() {
-    __isset_vector[__NOEMAILNOTES_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID);
   }
 
   /** Returns true if field noEmailNotes is set (has been asigned a value) and false otherwise */
   public boolean isSetNoEmailNotes() {
-    return __isset_vector[__NOEMAILNOTES_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID);
   }
 
   public void setNoEmailNotesIsSet(boolean value) {
-    __isset_vector[__NOEMAILNOTES_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEMAILNOTES_ISSET_ID, value);
   }
 
   public boolean isNoSendMessageToRecipients() {
@@ -406,16 +406,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSendMessageToRecipients() {
-    __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID);
   }
 
   /** Returns true if field noSendMessageToRecipients is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSendMessageToRecipients() {
-    return __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID);
   }
 
   public void setNoSendMessageToRecipientsIsSet(boolean value) {
-    __isset_vector[__NOSENDMESSAGETORECIPIENTS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSENDMESSAGETORECIPIENTS_ISSET_ID, value);
   }
 
   public boolean isNoUpdateNotebook() {
@@ -428,16 +428,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateNotebook() {
-    __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noUpdateNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateNotebook() {
-    return __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID);
   }
 
   public void setNoUpdateNotebookIsSet(boolean value) {
-    __isset_vector[__NOUPDATENOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATENOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoExpungeNotebook() {
@@ -450,16 +450,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeNotebook() {
-    __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noExpungeNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeNotebook() {
-    return __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID);
   }
 
   public void setNoExpungeNotebookIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGENOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGENOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoSetDefaultNotebook() {
@@ -472,16 +472,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetDefaultNotebook() {
-    __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID);
   }
 
   /** Returns true if field noSetDefaultNotebook is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetDefaultNotebook() {
-    return __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID);
   }
 
   public void setNoSetDefaultNotebookIsSet(boolean value) {
-    __isset_vector[__NOSETDEFAULTNOTEBOOK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETDEFAULTNOTEBOOK_ISSET_ID, value);
   }
 
   public boolean isNoSetNotebookStack() {
@@ -494,16 +494,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetNotebookStack() {
-    __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID);
   }
 
   /** Returns true if field noSetNotebookStack is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetNotebookStack() {
-    return __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID);
   }
 
   public void setNoSetNotebookStackIsSet(boolean value) {
-    __isset_vector[__NOSETNOTEBOOKSTACK_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETNOTEBOOKSTACK_ISSET_ID, value);
   }
 
   public boolean isNoPublishToPublic() {
@@ -516,16 +516,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoPublishToPublic() {
-    __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID);
   }
 
   /** Returns true if field noPublishToPublic is set (has been asigned a value) and false otherwise */
   public boolean isSetNoPublishToPublic() {
-    return __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID);
   }
 
   public void setNoPublishToPublicIsSet(boolean value) {
-    __isset_vector[__NOPUBLISHTOPUBLIC_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOPUBLISHTOPUBLIC_ISSET_ID, value);
   }
 
   public boolean isNoPublishToBusinessLibrary() {
@@ -538,16 +538,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoPublishToBusinessLibrary() {
-    __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID);
   }
 
   /** Returns true if field noPublishToBusinessLibrary is set (has been asigned a value) and false otherwise */
   public boolean isSetNoPublishToBusinessLibrary() {
-    return __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID);
   }
 
   public void setNoPublishToBusinessLibraryIsSet(boolean value) {
-    __isset_vector[__NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOPUBLISHTOBUSINESSLIBRARY_ISSET_ID, value);
   }
 
   public boolean isNoCreateTags() {
@@ -560,16 +560,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateTags() {
-    __isset_vector[__NOCREATETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID);
   }
 
   /** Returns true if field noCreateTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateTags() {
-    return __isset_vector[__NOCREATETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID);
   }
 
   public void setNoCreateTagsIsSet(boolean value) {
-    __isset_vector[__NOCREATETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATETAGS_ISSET_ID, value);
   }
 
   public boolean isNoUpdateTags() {
@@ -582,16 +582,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoUpdateTags() {
-    __isset_vector[__NOUPDATETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID);
   }
 
   /** Returns true if field noUpdateTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoUpdateTags() {
-    return __isset_vector[__NOUPDATETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID);
   }
 
   public void setNoUpdateTagsIsSet(boolean value) {
-    __isset_vector[__NOUPDATETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOUPDATETAGS_ISSET_ID, value);
   }
 
   public boolean isNoExpungeTags() {
@@ -604,16 +604,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoExpungeTags() {
-    __isset_vector[__NOEXPUNGETAGS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID);
   }
 
   /** Returns true if field noExpungeTags is set (has been asigned a value) and false otherwise */
   public boolean isSetNoExpungeTags() {
-    return __isset_vector[__NOEXPUNGETAGS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID);
   }
 
   public void setNoExpungeTagsIsSet(boolean value) {
-    __isset_vector[__NOEXPUNGETAGS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOEXPUNGETAGS_ISSET_ID, value);
   }
 
   public boolean isNoSetParentTag() {
@@ -626,16 +626,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoSetParentTag() {
-    __isset_vector[__NOSETPARENTTAG_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID);
   }
 
   /** Returns true if field noSetParentTag is set (has been asigned a value) and false otherwise */
   public boolean isSetNoSetParentTag() {
-    return __isset_vector[__NOSETPARENTTAG_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID);
   }
 
   public void setNoSetParentTagIsSet(boolean value) {
-    __isset_vector[__NOSETPARENTTAG_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOSETPARENTTAG_ISSET_ID, value);
   }
 
   public boolean isNoCreateSharedNotebooks() {
@@ -648,16 +648,16 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void unsetNoCreateSharedNotebooks() {
-    __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field noCreateSharedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetNoCreateSharedNotebooks() {
-    return __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   public void setNoCreateSharedNotebooksIsSet(boolean value) {
-    __isset_vector[__NOCREATESHAREDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOCREATESHAREDNOTEBOOKS_ISSET_ID, value);
   }
 
   /**
@@ -920,7 +920,28 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetNoReadNotes() ? TBaseHelper.hashCode(this.noReadNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoCreateNotes() ? TBaseHelper.hashCode(this.noCreateNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoUpdateNotes() ? TBaseHelper.hashCode(this.noUpdateNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoExpungeNotes() ? TBaseHelper.hashCode(this.noExpungeNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoShareNotes() ? TBaseHelper.hashCode(this.noShareNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoEmailNotes() ? TBaseHelper.hashCode(this.noEmailNotes) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoSendMessageToRecipients() ? TBaseHelper.hashCode(this.noSendMessageToRecipients) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoUpdateNotebook() ? TBaseHelper.hashCode(this.noUpdateNotebook) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoExpungeNotebook() ? TBaseHelper.hashCode(this.noExpungeNotebook) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoSetDefaultNotebook() ? TBaseHelper.hashCode(this.noSetDefaultNotebook) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoSetNotebookStack() ? TBaseHelper.hashCode(this.noSetNotebookStack) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoPublishToPublic() ? TBaseHelper.hashCode(this.noPublishToPublic) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoPublishToBusinessLibrary() ? TBaseHelper.hashCode(this.noPublishToBusinessLibrary) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoCreateTags() ? TBaseHelper.hashCode(this.noCreateTags) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoUpdateTags() ? TBaseHelper.hashCode(this.noUpdateTags) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoExpungeTags() ? TBaseHelper.hashCode(this.noExpungeTags) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoSetParentTag() ? TBaseHelper.hashCode(this.noSetParentTag) : 0);
+    hashCode = 31 * hashCode + (this.isSetNoCreateSharedNotebooks() ? TBaseHelper.hashCode(this.noCreateSharedNotebooks) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateWhichSharedNotebookRestrictions() ? this.updateWhichSharedNotebookRestrictions.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetExpungeWhichSharedNotebookRestrictions() ? this.expungeWhichSharedNotebookRestrictions.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(NotebookRestrictions other) {
@@ -1115,175 +1136,177 @@ public class NotebookRestrictions implements TBase<NotebookRestrictions>, java.i
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NO_READ_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noReadNotes = iprot.readBool();
             setNoReadNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NO_CREATE_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noCreateNotes = iprot.readBool();
             setNoCreateNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // NO_UPDATE_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noUpdateNotes = iprot.readBool();
             setNoUpdateNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // NO_EXPUNGE_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noExpungeNotes = iprot.readBool();
             setNoExpungeNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // NO_SHARE_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noShareNotes = iprot.readBool();
             setNoShareNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // NO_EMAIL_NOTES
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noEmailNotes = iprot.readBool();
             setNoEmailNotesIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // NO_SEND_MESSAGE_TO_RECIPIENTS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noSendMessageToRecipients = iprot.readBool();
             setNoSendMessageToRecipientsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // NO_UPDATE_NOTEBOOK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noUpdateNotebook = iprot.readBool();
             setNoUpdateNotebookIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // NO_EXPUNGE_NOTEBOOK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noExpungeNotebook = iprot.readBool();
             setNoExpungeNotebookIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // NO_SET_DEFAULT_NOTEBOOK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noSetDefaultNotebook = iprot.readBool();
             setNoSetDefaultNotebookIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // NO_SET_NOTEBOOK_STACK
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noSetNotebookStack = iprot.readBool();
             setNoSetNotebookStackIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // NO_PUBLISH_TO_PUBLIC
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noPublishToPublic = iprot.readBool();
             setNoPublishToPublicIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // NO_PUBLISH_TO_BUSINESS_LIBRARY
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noPublishToBusinessLibrary = iprot.readBool();
             setNoPublishToBusinessLibraryIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // NO_CREATE_TAGS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noCreateTags = iprot.readBool();
             setNoCreateTagsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // NO_UPDATE_TAGS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noUpdateTags = iprot.readBool();
             setNoUpdateTagsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // NO_EXPUNGE_TAGS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noExpungeTags = iprot.readBool();
             setNoExpungeTagsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // NO_SET_PARENT_TAG
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noSetParentTag = iprot.readBool();
             setNoSetParentTagIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 18: // NO_CREATE_SHARED_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.noCreateSharedNotebooks = iprot.readBool();
             setNoCreateSharedNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 19: // UPDATE_WHICH_SHARED_NOTEBOOK_RESTRICTIONS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateWhichSharedNotebookRestrictions = SharedNotebookInstanceRestrictions.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // EXPUNGE_WHICH_SHARED_NOTEBOOK_RESTRICTIONS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.expungeWhichSharedNotebookRestrictions = SharedNotebookInstanceRestrictions.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
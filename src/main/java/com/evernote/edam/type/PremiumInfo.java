@@ -104,7 +104,7 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   private static final int __PREMIUMCANCELLATIONPENDING_ISSET_ID = 6;
   private static final int __CANPURCHASEUPLOADALLOWANCE_ISSET_ID = 7;
   private static final int __PREMIUMUPGRADABLE_ISSET_ID = 8;
-  private boolean[] __isset_vector = new boolean[9];
+  private short __isset_bitfield = 0;
 
   public PremiumInfo() {
   }
@@ -139,7 +139,7 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
    * Performs a deep copy on <i>other</i>.
    */
   public PremiumInfo(PremiumInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     this.premium = other.premium;
     this.premiumRecurring = other.premiumRecurring;
@@ -194,16 +194,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public boolean isPremium() {
@@ -216,16 +216,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremium() {
-    __isset_vector[__PREMIUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUM_ISSET_ID);
   }
 
   /** Returns true if field premium is set (has been asigned a value) and false otherwise */
   public boolean isSetPremium() {
-    return __isset_vector[__PREMIUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUM_ISSET_ID);
   }
 
   public void setPremiumIsSet(boolean value) {
-    __isset_vector[__PREMIUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUM_ISSET_ID, value);
   }
 
   public boolean isPremiumRecurring() {
@@ -238,16 +238,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumRecurring() {
-    __isset_vector[__PREMIUMRECURRING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID);
   }
 
   /** Returns true if field premiumRecurring is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumRecurring() {
-    return __isset_vector[__PREMIUMRECURRING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID);
   }
 
   public void setPremiumRecurringIsSet(boolean value) {
-    __isset_vector[__PREMIUMRECURRING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMRECURRING_ISSET_ID, value);
   }
 
   public long getPremiumExpirationDate() {
@@ -260,16 +260,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumExpirationDate() {
-    __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID);
   }
 
   /** Returns true if field premiumExpirationDate is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumExpirationDate() {
-    return __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID);
   }
 
   public void setPremiumExpirationDateIsSet(boolean value) {
-    __isset_vector[__PREMIUMEXPIRATIONDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMEXPIRATIONDATE_ISSET_ID, value);
   }
 
   public boolean isPremiumExtendable() {
@@ -282,16 +282,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumExtendable() {
-    __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID);
   }
 
   /** Returns true if field premiumExtendable is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumExtendable() {
-    return __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID);
   }
 
   public void setPremiumExtendableIsSet(boolean value) {
-    __isset_vector[__PREMIUMEXTENDABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMEXTENDABLE_ISSET_ID, value);
   }
 
   public boolean isPremiumPending() {
@@ -304,16 +304,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumPending() {
-    __isset_vector[__PREMIUMPENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID);
   }
 
   /** Returns true if field premiumPending is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumPending() {
-    return __isset_vector[__PREMIUMPENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID);
   }
 
   public void setPremiumPendingIsSet(boolean value) {
-    __isset_vector[__PREMIUMPENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMPENDING_ISSET_ID, value);
   }
 
   public boolean isPremiumCancellationPending() {
@@ -326,16 +326,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumCancellationPending() {
-    __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID);
   }
 
   /** Returns true if field premiumCancellationPending is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumCancellationPending() {
-    return __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID);
   }
 
   public void setPremiumCancellationPendingIsSet(boolean value) {
-    __isset_vector[__PREMIUMCANCELLATIONPENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMCANCELLATIONPENDING_ISSET_ID, value);
   }
 
   public boolean isCanPurchaseUploadAllowance() {
@@ -348,16 +348,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetCanPurchaseUploadAllowance() {
-    __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID);
   }
 
   /** Returns true if field canPurchaseUploadAllowance is set (has been asigned a value) and false otherwise */
   public boolean isSetCanPurchaseUploadAllowance() {
-    return __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID);
   }
 
   public void setCanPurchaseUploadAllowanceIsSet(boolean value) {
-    __isset_vector[__CANPURCHASEUPLOADALLOWANCE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CANPURCHASEUPLOADALLOWANCE_ISSET_ID, value);
   }
 
   public String getSponsoredGroupName() {
@@ -424,16 +424,16 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void unsetPremiumUpgradable() {
-    __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID);
   }
 
   /** Returns true if field premiumUpgradable is set (has been asigned a value) and false otherwise */
   public boolean isSetPremiumUpgradable() {
-    return __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID);
   }
 
   public void setPremiumUpgradableIsSet(boolean value) {
-    __isset_vector[__PREMIUMUPGRADABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREMIUMUPGRADABLE_ISSET_ID, value);
   }
 
   @Override
@@ -553,7 +553,19 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.currentTime);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.premium);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.premiumRecurring);
+    hashCode = 31 * hashCode + (this.isSetPremiumExpirationDate() ? TBaseHelper.hashCode(this.premiumExpirationDate) : 0);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.premiumExtendable);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.premiumPending);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.premiumCancellationPending);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.canPurchaseUploadAllowance);
+    hashCode = 31 * hashCode + (this.isSetSponsoredGroupName() ? this.sponsoredGroupName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSponsoredGroupRole() ? this.sponsoredGroupRole.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumUpgradable() ? TBaseHelper.hashCode(this.premiumUpgradable) : 0);
+    return hashCode;
   }
 
   public int compareTo(PremiumInfo other) {
@@ -667,103 +679,105 @@ public class PremiumInfo implements TBase<PremiumInfo>, java.io.Serializable, Cl
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // CURRENT_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.currentTime = iprot.readI64();
             setCurrentTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // PREMIUM
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premium = iprot.readBool();
             setPremiumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // PREMIUM_RECURRING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premiumRecurring = iprot.readBool();
             setPremiumRecurringIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // PREMIUM_EXPIRATION_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.premiumExpirationDate = iprot.readI64();
             setPremiumExpirationDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // PREMIUM_EXTENDABLE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premiumExtendable = iprot.readBool();
             setPremiumExtendableIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // PREMIUM_PENDING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premiumPending = iprot.readBool();
             setPremiumPendingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // PREMIUM_CANCELLATION_PENDING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premiumCancellationPending = iprot.readBool();
             setPremiumCancellationPendingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // CAN_PURCHASE_UPLOAD_ALLOWANCE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.canPurchaseUploadAllowance = iprot.readBool();
             setCanPurchaseUploadAllowanceIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // SPONSORED_GROUP_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.sponsoredGroupName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // SPONSORED_GROUP_ROLE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.sponsoredGroupRole = SponsoredGroupRole.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // PREMIUM_UPGRADABLE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.premiumUpgradable = iprot.readBool();
             setPremiumUpgradableIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
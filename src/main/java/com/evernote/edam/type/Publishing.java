@@ -72,7 +72,7 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
 
   // isset id assignments
   private static final int __ASCENDING_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public Publishing() {
   }
@@ -81,7 +81,7 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
    * Performs a deep copy on <i>other</i>.
    */
   public Publishing(Publishing other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetUri()) {
       this.uri = other.uri;
     }
@@ -170,16 +170,16 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
   }
 
   public void unsetAscending() {
-    __isset_vector[__ASCENDING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   /** Returns true if field ascending is set (has been asigned a value) and false otherwise */
   public boolean isSetAscending() {
-    return __isset_vector[__ASCENDING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ASCENDING_ISSET_ID);
   }
 
   public void setAscendingIsSet(boolean value) {
-    __isset_vector[__ASCENDING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ASCENDING_ISSET_ID, value);
   }
 
   public String getPublicDescription() {
@@ -259,7 +259,12 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetUri() ? this.uri.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetOrder() ? this.order.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAscending() ? TBaseHelper.hashCode(this.ascending) : 0);
+    hashCode = 31 * hashCode + (this.isSetPublicDescription() ? this.publicDescription.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(Publishing other) {
@@ -310,46 +315,48 @@ public class Publishing implements TBase<Publishing>, java.io.Serializable, Clon
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // URI
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.uri = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // ORDER
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.order = NoteSortOrder.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // ASCENDING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.ascending = iprot.readBool();
             setAscendingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // PUBLIC_DESCRIPTION
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.publicDescription = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -131,7 +131,7 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   private static final int __DURATION_ISSET_ID = 2;
   private static final int __ACTIVE_ISSET_ID = 3;
   private static final int __UPDATESEQUENCENUM_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
 
   public Resource() {
   }
@@ -140,7 +140,7 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
    * Performs a deep copy on <i>other</i>.
    */
   public Resource(Resource other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetGuid()) {
       this.guid = other.guid;
     }
@@ -295,16 +295,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetWidth() {
-    __isset_vector[__WIDTH_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __WIDTH_ISSET_ID);
   }
 
   /** Returns true if field width is set (has been asigned a value) and false otherwise */
   public boolean isSetWidth() {
-    return __isset_vector[__WIDTH_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __WIDTH_ISSET_ID);
   }
 
   public void setWidthIsSet(boolean value) {
-    __isset_vector[__WIDTH_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __WIDTH_ISSET_ID, value);
   }
 
   public short getHeight() {
@@ -317,16 +317,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetHeight() {
-    __isset_vector[__HEIGHT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HEIGHT_ISSET_ID);
   }
 
   /** Returns true if field height is set (has been asigned a value) and false otherwise */
   public boolean isSetHeight() {
-    return __isset_vector[__HEIGHT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HEIGHT_ISSET_ID);
   }
 
   public void setHeightIsSet(boolean value) {
-    __isset_vector[__HEIGHT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HEIGHT_ISSET_ID, value);
   }
 
   public short getDuration() {
@@ -339,16 +339,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetDuration() {
-    __isset_vector[__DURATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DURATION_ISSET_ID);
   }
 
   /** Returns true if field duration is set (has been asigned a value) and false otherwise */
   public boolean isSetDuration() {
-    return __isset_vector[__DURATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DURATION_ISSET_ID);
   }
 
   public void setDurationIsSet(boolean value) {
-    __isset_vector[__DURATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DURATION_ISSET_ID, value);
   }
 
   public boolean isActive() {
@@ -361,16 +361,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetActive() {
-    __isset_vector[__ACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   /** Returns true if field active is set (has been asigned a value) and false otherwise */
   public boolean isSetActive() {
-    return __isset_vector[__ACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   public void setActiveIsSet(boolean value) {
-    __isset_vector[__ACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ACTIVE_ISSET_ID, value);
   }
 
   public Data getRecognition() {
@@ -429,16 +429,16 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void unsetUpdateSequenceNum() {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   /** Returns true if field updateSequenceNum is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdateSequenceNum() {
-    return __isset_vector[__UPDATESEQUENCENUM_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID);
   }
 
   public void setUpdateSequenceNumIsSet(boolean value) {
-    __isset_vector[__UPDATESEQUENCENUM_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATESEQUENCENUM_ISSET_ID, value);
   }
 
   public Data getAlternateData() {
@@ -590,7 +590,20 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetGuid() ? this.guid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNoteGuid() ? this.noteGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetData() ? this.data.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetMime() ? this.mime.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetWidth() ? this.width : 0);
+    hashCode = 31 * hashCode + (this.isSetHeight() ? this.height : 0);
+    hashCode = 31 * hashCode + (this.isSetDuration() ? this.duration : 0);
+    hashCode = 31 * hashCode + (this.isSetActive() ? TBaseHelper.hashCode(this.active) : 0);
+    hashCode = 31 * hashCode + (this.isSetRecognition() ? this.recognition.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAttributes() ? this.attributes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdateSequenceNum() ? this.updateSequenceNum : 0);
+    hashCode = 31 * hashCode + (this.isSetAlternateData() ? this.alternateData.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(Resource other) {
@@ -713,110 +726,118 @@ public class Resource implements TBase<Resource>, java.io.Serializable, Cloneabl
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
+    java.util.BitSet projected = iprot.getProjectedFields(Resource.class);
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      if (projected != null && !projected.get(TProtocol.fieldId(field))) {
+        TProtocolUtil.skip(iprot, fieldType);
+        iprot.readFieldEnd();
+        continue;
+      }
+      switch (TProtocol.fieldId(field)) {
         case 1: // GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.guid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // NOTE_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.noteGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // DATA
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.data = new Data();
             this.data.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // MIME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.mime = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // WIDTH
-          if (field.type == TType.I16) {
+          if (fieldType == TType.I16) {
             this.width = iprot.readI16();
             setWidthIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // HEIGHT
-          if (field.type == TType.I16) {
+          if (fieldType == TType.I16) {
             this.height = iprot.readI16();
             setHeightIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // DURATION
-          if (field.type == TType.I16) {
+          if (fieldType == TType.I16) {
             this.duration = iprot.readI16();
             setDurationIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // ACTIVE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.active = iprot.readBool();
             setActiveIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // RECOGNITION
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.recognition = new Data();
             this.recognition.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // ATTRIBUTES
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.attributes = new ResourceAttributes();
             this.attributes.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // UPDATE_SEQUENCE_NUM
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.updateSequenceNum = iprot.readI32();
             setUpdateSequenceNumIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // ALTERNATE_DATA
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.alternateData = new Data();
             this.alternateData.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
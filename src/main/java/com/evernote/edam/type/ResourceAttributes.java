@@ -133,7 +133,7 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   private static final int __ALTITUDE_ISSET_ID = 3;
   private static final int __CLIENTWILLINDEX_ISSET_ID = 4;
   private static final int __ATTACHMENT_ISSET_ID = 5;
-  private boolean[] __isset_vector = new boolean[6];
+  private byte __isset_bitfield = 0;
 
   public ResourceAttributes() {
   }
@@ -142,7 +142,7 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
    * Performs a deep copy on <i>other</i>.
    */
   public ResourceAttributes(ResourceAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetSourceURL()) {
       this.sourceURL = other.sourceURL;
     }
@@ -227,16 +227,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetTimestamp() {
-    __isset_vector[__TIMESTAMP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
   }
 
   /** Returns true if field timestamp is set (has been asigned a value) and false otherwise */
   public boolean isSetTimestamp() {
-    return __isset_vector[__TIMESTAMP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TIMESTAMP_ISSET_ID);
   }
 
   public void setTimestampIsSet(boolean value) {
-    __isset_vector[__TIMESTAMP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMESTAMP_ISSET_ID, value);
   }
 
   public double getLatitude() {
@@ -249,16 +249,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetLatitude() {
-    __isset_vector[__LATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   /** Returns true if field latitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLatitude() {
-    return __isset_vector[__LATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LATITUDE_ISSET_ID);
   }
 
   public void setLatitudeIsSet(boolean value) {
-    __isset_vector[__LATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LATITUDE_ISSET_ID, value);
   }
 
   public double getLongitude() {
@@ -271,16 +271,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetLongitude() {
-    __isset_vector[__LONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field longitude is set (has been asigned a value) and false otherwise */
   public boolean isSetLongitude() {
-    return __isset_vector[__LONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __LONGITUDE_ISSET_ID);
   }
 
   public void setLongitudeIsSet(boolean value) {
-    __isset_vector[__LONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LONGITUDE_ISSET_ID, value);
   }
 
   public double getAltitude() {
@@ -293,16 +293,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetAltitude() {
-    __isset_vector[__ALTITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   /** Returns true if field altitude is set (has been asigned a value) and false otherwise */
   public boolean isSetAltitude() {
-    return __isset_vector[__ALTITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALTITUDE_ISSET_ID);
   }
 
   public void setAltitudeIsSet(boolean value) {
-    __isset_vector[__ALTITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALTITUDE_ISSET_ID, value);
   }
 
   public String getCameraMake() {
@@ -361,16 +361,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetClientWillIndex() {
-    __isset_vector[__CLIENTWILLINDEX_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID);
   }
 
   /** Returns true if field clientWillIndex is set (has been asigned a value) and false otherwise */
   public boolean isSetClientWillIndex() {
-    return __isset_vector[__CLIENTWILLINDEX_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID);
   }
 
   public void setClientWillIndexIsSet(boolean value) {
-    __isset_vector[__CLIENTWILLINDEX_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CLIENTWILLINDEX_ISSET_ID, value);
   }
 
   public String getRecoType() {
@@ -429,16 +429,16 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void unsetAttachment() {
-    __isset_vector[__ATTACHMENT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ATTACHMENT_ISSET_ID);
   }
 
   /** Returns true if field attachment is set (has been asigned a value) and false otherwise */
   public boolean isSetAttachment() {
-    return __isset_vector[__ATTACHMENT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ATTACHMENT_ISSET_ID);
   }
 
   public void setAttachmentIsSet(boolean value) {
-    __isset_vector[__ATTACHMENT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ATTACHMENT_ISSET_ID, value);
   }
 
   public LazyMap getApplicationData() {
@@ -590,7 +590,20 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetSourceURL() ? this.sourceURL.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTimestamp() ? TBaseHelper.hashCode(this.timestamp) : 0);
+    hashCode = 31 * hashCode + (this.isSetLatitude() ? TBaseHelper.hashCode(this.latitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetLongitude() ? TBaseHelper.hashCode(this.longitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetAltitude() ? TBaseHelper.hashCode(this.altitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetCameraMake() ? this.cameraMake.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetCameraModel() ? this.cameraModel.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetClientWillIndex() ? TBaseHelper.hashCode(this.clientWillIndex) : 0);
+    hashCode = 31 * hashCode + (this.isSetRecoType() ? this.recoType.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetFileName() ? this.fileName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAttachment() ? TBaseHelper.hashCode(this.attachment) : 0);
+    hashCode = 31 * hashCode + (this.isSetApplicationData() ? this.applicationData.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(ResourceAttributes other) {
@@ -713,108 +726,110 @@ public class ResourceAttributes implements TBase<ResourceAttributes>, java.io.Se
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // SOURCE_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.sourceURL = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // TIMESTAMP
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.timestamp = iprot.readI64();
             setTimestampIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // LATITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.latitude = iprot.readDouble();
             setLatitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // LONGITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.longitude = iprot.readDouble();
             setLongitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // ALTITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.altitude = iprot.readDouble();
             setAltitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // CAMERA_MAKE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.cameraMake = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // CAMERA_MODEL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.cameraModel = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // CLIENT_WILL_INDEX
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.clientWillIndex = iprot.readBool();
             setClientWillIndexIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // RECO_TYPE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.recoType = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // FILE_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.fileName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // ATTACHMENT
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.attachment = iprot.readBool();
             setAttachmentIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // APPLICATION_DATA
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.applicationData = new LazyMap();
             this.applicationData.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
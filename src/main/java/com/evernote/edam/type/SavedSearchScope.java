@@ -48,7 +48,7 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   private static final int __INCLUDEACCOUNT_ISSET_ID = 0;
   private static final int __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID = 1;
   private static final int __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public SavedSearchScope() {
   }
@@ -57,7 +57,7 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
    * Performs a deep copy on <i>other</i>.
    */
   public SavedSearchScope(SavedSearchScope other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.includeAccount = other.includeAccount;
     this.includePersonalLinkedNotebooks = other.includePersonalLinkedNotebooks;
     this.includeBusinessLinkedNotebooks = other.includeBusinessLinkedNotebooks;
@@ -86,16 +86,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludeAccount() {
-    __isset_vector[__INCLUDEACCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID);
   }
 
   /** Returns true if field includeAccount is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeAccount() {
-    return __isset_vector[__INCLUDEACCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID);
   }
 
   public void setIncludeAccountIsSet(boolean value) {
-    __isset_vector[__INCLUDEACCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEACCOUNT_ISSET_ID, value);
   }
 
   public boolean isIncludePersonalLinkedNotebooks() {
@@ -108,16 +108,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludePersonalLinkedNotebooks() {
-    __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includePersonalLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludePersonalLinkedNotebooks() {
-    return __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludePersonalLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEPERSONALLINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isIncludeBusinessLinkedNotebooks() {
@@ -130,16 +130,16 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void unsetIncludeBusinessLinkedNotebooks() {
-    __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field includeBusinessLinkedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetIncludeBusinessLinkedNotebooks() {
-    return __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID);
   }
 
   public void setIncludeBusinessLinkedNotebooksIsSet(boolean value) {
-    __isset_vector[__INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INCLUDEBUSINESSLINKEDNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -187,7 +187,11 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetIncludeAccount() ? TBaseHelper.hashCode(this.includeAccount) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludePersonalLinkedNotebooks() ? TBaseHelper.hashCode(this.includePersonalLinkedNotebooks) : 0);
+    hashCode = 31 * hashCode + (this.isSetIncludeBusinessLinkedNotebooks() ? TBaseHelper.hashCode(this.includeBusinessLinkedNotebooks) : 0);
+    return hashCode;
   }
 
   public int compareTo(SavedSearchScope other) {
@@ -229,41 +233,43 @@ public class SavedSearchScope implements TBase<SavedSearchScope>, java.io.Serial
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // INCLUDE_ACCOUNT
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeAccount = iprot.readBool();
             setIncludeAccountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // INCLUDE_PERSONAL_LINKED_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includePersonalLinkedNotebooks = iprot.readBool();
             setIncludePersonalLinkedNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // INCLUDE_BUSINESS_LINKED_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.includeBusinessLinkedNotebooks = iprot.readBool();
             setIncludeBusinessLinkedNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -117,7 +117,7 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   private static final int __SERVICECREATED_ISSET_ID = 4;
   private static final int __SERVICEUPDATED_ISSET_ID = 5;
   private static final int __ALLOWPREVIEW_ISSET_ID = 6;
-  private boolean[] __isset_vector = new boolean[7];
+  private byte __isset_bitfield = 0;
 
   public SharedNotebook() {
   }
@@ -126,7 +126,7 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public SharedNotebook(SharedNotebook other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.id = other.id;
     this.userId = other.userId;
     if (other.isSetNotebookGuid()) {
@@ -191,16 +191,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetId() {
-    __isset_vector[__ID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   /** Returns true if field id is set (has been asigned a value) and false otherwise */
   public boolean isSetId() {
-    return __isset_vector[__ID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   public void setIdIsSet(boolean value) {
-    __isset_vector[__ID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
   }
 
   public int getUserId() {
@@ -213,16 +213,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetUserId() {
-    __isset_vector[__USERID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   /** Returns true if field userId is set (has been asigned a value) and false otherwise */
   public boolean isSetUserId() {
-    return __isset_vector[__USERID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   public void setUserIdIsSet(boolean value) {
-    __isset_vector[__USERID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
   }
 
   public String getNotebookGuid() {
@@ -281,16 +281,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetNotebookModifiable() {
-    __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID);
   }
 
   /** Returns true if field notebookModifiable is set (has been asigned a value) and false otherwise */
   public boolean isSetNotebookModifiable() {
-    return __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID);
   }
 
   public void setNotebookModifiableIsSet(boolean value) {
-    __isset_vector[__NOTEBOOKMODIFIABLE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __NOTEBOOKMODIFIABLE_ISSET_ID, value);
   }
 
   public boolean isRequireLogin() {
@@ -303,16 +303,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetRequireLogin() {
-    __isset_vector[__REQUIRELOGIN_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID);
   }
 
   /** Returns true if field requireLogin is set (has been asigned a value) and false otherwise */
   public boolean isSetRequireLogin() {
-    return __isset_vector[__REQUIRELOGIN_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID);
   }
 
   public void setRequireLoginIsSet(boolean value) {
-    __isset_vector[__REQUIRELOGIN_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUIRELOGIN_ISSET_ID, value);
   }
 
   public long getServiceCreated() {
@@ -325,16 +325,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetServiceCreated() {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   /** Returns true if field serviceCreated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceCreated() {
-    return __isset_vector[__SERVICECREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICECREATED_ISSET_ID);
   }
 
   public void setServiceCreatedIsSet(boolean value) {
-    __isset_vector[__SERVICECREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICECREATED_ISSET_ID, value);
   }
 
   public long getServiceUpdated() {
@@ -347,16 +347,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetServiceUpdated() {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   /** Returns true if field serviceUpdated is set (has been asigned a value) and false otherwise */
   public boolean isSetServiceUpdated() {
-    return __isset_vector[__SERVICEUPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID);
   }
 
   public void setServiceUpdatedIsSet(boolean value) {
-    __isset_vector[__SERVICEUPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SERVICEUPDATED_ISSET_ID, value);
   }
 
   public String getShareKey() {
@@ -446,16 +446,16 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void unsetAllowPreview() {
-    __isset_vector[__ALLOWPREVIEW_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID);
   }
 
   /** Returns true if field allowPreview is set (has been asigned a value) and false otherwise */
   public boolean isSetAllowPreview() {
-    return __isset_vector[__ALLOWPREVIEW_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID);
   }
 
   public void setAllowPreviewIsSet(boolean value) {
-    __isset_vector[__ALLOWPREVIEW_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ALLOWPREVIEW_ISSET_ID, value);
   }
 
   public SharedNotebookRecipientSettings getRecipientSettings() {
@@ -616,7 +616,21 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetId() ? TBaseHelper.hashCode(this.id) : 0);
+    hashCode = 31 * hashCode + (this.isSetUserId() ? this.userId : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookGuid() ? this.notebookGuid.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetEmail() ? this.email.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNotebookModifiable() ? TBaseHelper.hashCode(this.notebookModifiable) : 0);
+    hashCode = 31 * hashCode + (this.isSetRequireLogin() ? TBaseHelper.hashCode(this.requireLogin) : 0);
+    hashCode = 31 * hashCode + (this.isSetServiceCreated() ? TBaseHelper.hashCode(this.serviceCreated) : 0);
+    hashCode = 31 * hashCode + (this.isSetServiceUpdated() ? TBaseHelper.hashCode(this.serviceUpdated) : 0);
+    hashCode = 31 * hashCode + (this.isSetShareKey() ? this.shareKey.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUsername() ? this.username.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPrivilege() ? this.privilege.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAllowPreview() ? TBaseHelper.hashCode(this.allowPreview) : 0);
+    hashCode = 31 * hashCode + (this.isSetRecipientSettings() ? this.recipientSettings.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(SharedNotebook other) {
@@ -748,116 +762,118 @@ public class SharedNotebook implements TBase<SharedNotebook>, java.io.Serializab
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // ID
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.id = iprot.readI64();
             setIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // USER_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.userId = iprot.readI32();
             setUserIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // NOTEBOOK_GUID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.notebookGuid = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // EMAIL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.email = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // NOTEBOOK_MODIFIABLE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.notebookModifiable = iprot.readBool();
             setNotebookModifiableIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // REQUIRE_LOGIN
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.requireLogin = iprot.readBool();
             setRequireLoginIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // SERVICE_CREATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.serviceCreated = iprot.readI64();
             setServiceCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // SERVICE_UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.serviceUpdated = iprot.readI64();
             setServiceUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // SHARE_KEY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shareKey = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // USERNAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.username = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // PRIVILEGE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.privilege = SharedNotebookPrivilegeLevel.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // ALLOW_PREVIEW
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.allowPreview = iprot.readBool();
             setAllowPreviewIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // RECIPIENT_SETTINGS
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.recipientSettings = new SharedNotebookRecipientSettings();
             this.recipientSettings.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -56,7 +56,7 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   // isset id assignments
   private static final int __REMINDERNOTIFYEMAIL_ISSET_ID = 0;
   private static final int __REMINDERNOTIFYINAPP_ISSET_ID = 1;
-  private boolean[] __isset_vector = new boolean[2];
+  private byte __isset_bitfield = 0;
 
   public SharedNotebookRecipientSettings() {
   }
@@ -65,7 +65,7 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
    * Performs a deep copy on <i>other</i>.
    */
   public SharedNotebookRecipientSettings(SharedNotebookRecipientSettings other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.reminderNotifyEmail = other.reminderNotifyEmail;
     this.reminderNotifyInApp = other.reminderNotifyInApp;
   }
@@ -91,16 +91,16 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void unsetReminderNotifyEmail() {
-    __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID);
   }
 
   /** Returns true if field reminderNotifyEmail is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderNotifyEmail() {
-    return __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID);
   }
 
   public void setReminderNotifyEmailIsSet(boolean value) {
-    __isset_vector[__REMINDERNOTIFYEMAIL_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERNOTIFYEMAIL_ISSET_ID, value);
   }
 
   public boolean isReminderNotifyInApp() {
@@ -113,16 +113,16 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void unsetReminderNotifyInApp() {
-    __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID);
   }
 
   /** Returns true if field reminderNotifyInApp is set (has been asigned a value) and false otherwise */
   public boolean isSetReminderNotifyInApp() {
-    return __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID);
   }
 
   public void setReminderNotifyInAppIsSet(boolean value) {
-    __isset_vector[__REMINDERNOTIFYINAPP_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REMINDERNOTIFYINAPP_ISSET_ID, value);
   }
 
   @Override
@@ -161,7 +161,10 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetReminderNotifyEmail() ? TBaseHelper.hashCode(this.reminderNotifyEmail) : 0);
+    hashCode = 31 * hashCode + (this.isSetReminderNotifyInApp() ? TBaseHelper.hashCode(this.reminderNotifyInApp) : 0);
+    return hashCode;
   }
 
   public int compareTo(SharedNotebookRecipientSettings other) {
@@ -194,33 +197,35 @@ public class SharedNotebookRecipientSettings implements TBase<SharedNotebookReci
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // REMINDER_NOTIFY_EMAIL
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.reminderNotifyEmail = iprot.readBool();
             setReminderNotifyEmailIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // REMINDER_NOTIFY_IN_APP
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.reminderNotifyInApp = iprot.readBool();
             setReminderNotifyInAppIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -160,7 +160,7 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   private static final int __UPDATED_ISSET_ID = 2;
   private static final int __DELETED_ISSET_ID = 3;
   private static final int __ACTIVE_ISSET_ID = 4;
-  private boolean[] __isset_vector = new boolean[5];
+  private byte __isset_bitfield = 0;
 
   public User() {
   }
@@ -169,7 +169,7 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
    * Performs a deep copy on <i>other</i>.
    */
   public User(User other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.id = other.id;
     if (other.isSetUsername()) {
       this.username = other.username;
@@ -244,16 +244,16 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void unsetId() {
-    __isset_vector[__ID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   /** Returns true if field id is set (has been asigned a value) and false otherwise */
   public boolean isSetId() {
-    return __isset_vector[__ID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
   }
 
   public void setIdIsSet(boolean value) {
-    __isset_vector[__ID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
   }
 
   public String getUsername() {
@@ -389,16 +389,16 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void unsetCreated() {
-    __isset_vector[__CREATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   /** Returns true if field created is set (has been asigned a value) and false otherwise */
   public boolean isSetCreated() {
-    return __isset_vector[__CREATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CREATED_ISSET_ID);
   }
 
   public void setCreatedIsSet(boolean value) {
-    __isset_vector[__CREATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CREATED_ISSET_ID, value);
   }
 
   public long getUpdated() {
@@ -411,16 +411,16 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void unsetUpdated() {
-    __isset_vector[__UPDATED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   /** Returns true if field updated is set (has been asigned a value) and false otherwise */
   public boolean isSetUpdated() {
-    return __isset_vector[__UPDATED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __UPDATED_ISSET_ID);
   }
 
   public void setUpdatedIsSet(boolean value) {
-    __isset_vector[__UPDATED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPDATED_ISSET_ID, value);
   }
 
   public long getDeleted() {
@@ -433,16 +433,16 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void unsetDeleted() {
-    __isset_vector[__DELETED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   /** Returns true if field deleted is set (has been asigned a value) and false otherwise */
   public boolean isSetDeleted() {
-    return __isset_vector[__DELETED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DELETED_ISSET_ID);
   }
 
   public void setDeletedIsSet(boolean value) {
-    __isset_vector[__DELETED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DELETED_ISSET_ID, value);
   }
 
   public boolean isActive() {
@@ -455,16 +455,16 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void unsetActive() {
-    __isset_vector[__ACTIVE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   /** Returns true if field active is set (has been asigned a value) and false otherwise */
   public boolean isSetActive() {
-    return __isset_vector[__ACTIVE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ACTIVE_ISSET_ID);
   }
 
   public void setActiveIsSet(boolean value) {
-    __isset_vector[__ACTIVE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ACTIVE_ISSET_ID, value);
   }
 
   public String getShardId() {
@@ -735,7 +735,23 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetId() ? this.id : 0);
+    hashCode = 31 * hashCode + (this.isSetUsername() ? this.username.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetEmail() ? this.email.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetName() ? this.name.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTimezone() ? this.timezone.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPrivilege() ? this.privilege.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetCreated() ? TBaseHelper.hashCode(this.created) : 0);
+    hashCode = 31 * hashCode + (this.isSetUpdated() ? TBaseHelper.hashCode(this.updated) : 0);
+    hashCode = 31 * hashCode + (this.isSetDeleted() ? TBaseHelper.hashCode(this.deleted) : 0);
+    hashCode = 31 * hashCode + (this.isSetActive() ? TBaseHelper.hashCode(this.active) : 0);
+    hashCode = 31 * hashCode + (this.isSetShardId() ? this.shardId.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAttributes() ? this.attributes.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAccounting() ? this.accounting.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPremiumInfo() ? this.premiumInfo.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessUserInfo() ? this.businessUserInfo.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(User other) {
@@ -885,131 +901,133 @@ public class User implements TBase<User>, java.io.Serializable, Cloneable {
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.id = iprot.readI32();
             setIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // USERNAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.username = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // EMAIL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.email = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.name = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // TIMEZONE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.timezone = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // PRIVILEGE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.privilege = PrivilegeLevel.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // CREATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.created = iprot.readI64();
             setCreatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // UPDATED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.updated = iprot.readI64();
             setUpdatedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // DELETED
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.deleted = iprot.readI64();
             setDeletedIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // ACTIVE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.active = iprot.readBool();
             setActiveIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // SHARD_ID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shardId = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // ATTRIBUTES
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.attributes = new UserAttributes();
             this.attributes.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // ACCOUNTING
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.accounting = new Accounting();
             this.accounting.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // PREMIUM_INFO
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.premiumInfo = new PremiumInfo();
             this.premiumInfo.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 18: // BUSINESS_USER_INFO
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.businessUserInfo = new BusinessUserInfo();
             this.businessUserInfo.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -279,7 +279,7 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   private static final int __HIDESPONSORBILLING_ISSET_ID = 13;
   private static final int __TAXEXEMPT_ISSET_ID = 14;
   private static final int __USEEMAILAUTOFILING_ISSET_ID = 15;
-  private boolean[] __isset_vector = new boolean[16];
+  private short __isset_bitfield = 0;
 
   public UserAttributes() {
   }
@@ -288,7 +288,7 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public UserAttributes(UserAttributes other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetDefaultLocationName()) {
       this.defaultLocationName = other.defaultLocationName;
     }
@@ -447,16 +447,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDefaultLatitude() {
-    __isset_vector[__DEFAULTLATITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID);
   }
 
   /** Returns true if field defaultLatitude is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultLatitude() {
-    return __isset_vector[__DEFAULTLATITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID);
   }
 
   public void setDefaultLatitudeIsSet(boolean value) {
-    __isset_vector[__DEFAULTLATITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTLATITUDE_ISSET_ID, value);
   }
 
   public double getDefaultLongitude() {
@@ -469,16 +469,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDefaultLongitude() {
-    __isset_vector[__DEFAULTLONGITUDE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID);
   }
 
   /** Returns true if field defaultLongitude is set (has been asigned a value) and false otherwise */
   public boolean isSetDefaultLongitude() {
-    return __isset_vector[__DEFAULTLONGITUDE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID);
   }
 
   public void setDefaultLongitudeIsSet(boolean value) {
-    __isset_vector[__DEFAULTLONGITUDE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DEFAULTLONGITUDE_ISSET_ID, value);
   }
 
   public boolean isPreactivation() {
@@ -491,16 +491,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetPreactivation() {
-    __isset_vector[__PREACTIVATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PREACTIVATION_ISSET_ID);
   }
 
   /** Returns true if field preactivation is set (has been asigned a value) and false otherwise */
   public boolean isSetPreactivation() {
-    return __isset_vector[__PREACTIVATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PREACTIVATION_ISSET_ID);
   }
 
   public void setPreactivationIsSet(boolean value) {
-    __isset_vector[__PREACTIVATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PREACTIVATION_ISSET_ID, value);
   }
 
   public int getViewedPromotionsSize() {
@@ -635,16 +635,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDateAgreedToTermsOfService() {
-    __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID);
   }
 
   /** Returns true if field dateAgreedToTermsOfService is set (has been asigned a value) and false otherwise */
   public boolean isSetDateAgreedToTermsOfService() {
-    return __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID);
   }
 
   public void setDateAgreedToTermsOfServiceIsSet(boolean value) {
-    __isset_vector[__DATEAGREEDTOTERMSOFSERVICE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DATEAGREEDTOTERMSOFSERVICE_ISSET_ID, value);
   }
 
   public int getMaxReferrals() {
@@ -657,16 +657,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetMaxReferrals() {
-    __isset_vector[__MAXREFERRALS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID);
   }
 
   /** Returns true if field maxReferrals is set (has been asigned a value) and false otherwise */
   public boolean isSetMaxReferrals() {
-    return __isset_vector[__MAXREFERRALS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID);
   }
 
   public void setMaxReferralsIsSet(boolean value) {
-    __isset_vector[__MAXREFERRALS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __MAXREFERRALS_ISSET_ID, value);
   }
 
   public int getReferralCount() {
@@ -679,16 +679,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetReferralCount() {
-    __isset_vector[__REFERRALCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID);
   }
 
   /** Returns true if field referralCount is set (has been asigned a value) and false otherwise */
   public boolean isSetReferralCount() {
-    return __isset_vector[__REFERRALCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID);
   }
 
   public void setReferralCountIsSet(boolean value) {
-    __isset_vector[__REFERRALCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REFERRALCOUNT_ISSET_ID, value);
   }
 
   public String getRefererCode() {
@@ -724,16 +724,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetSentEmailDate() {
-    __isset_vector[__SENTEMAILDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID);
   }
 
   /** Returns true if field sentEmailDate is set (has been asigned a value) and false otherwise */
   public boolean isSetSentEmailDate() {
-    return __isset_vector[__SENTEMAILDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID);
   }
 
   public void setSentEmailDateIsSet(boolean value) {
-    __isset_vector[__SENTEMAILDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SENTEMAILDATE_ISSET_ID, value);
   }
 
   public int getSentEmailCount() {
@@ -746,16 +746,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetSentEmailCount() {
-    __isset_vector[__SENTEMAILCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID);
   }
 
   /** Returns true if field sentEmailCount is set (has been asigned a value) and false otherwise */
   public boolean isSetSentEmailCount() {
-    return __isset_vector[__SENTEMAILCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID);
   }
 
   public void setSentEmailCountIsSet(boolean value) {
-    __isset_vector[__SENTEMAILCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SENTEMAILCOUNT_ISSET_ID, value);
   }
 
   public int getDailyEmailLimit() {
@@ -768,16 +768,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetDailyEmailLimit() {
-    __isset_vector[__DAILYEMAILLIMIT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID);
   }
 
   /** Returns true if field dailyEmailLimit is set (has been asigned a value) and false otherwise */
   public boolean isSetDailyEmailLimit() {
-    return __isset_vector[__DAILYEMAILLIMIT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID);
   }
 
   public void setDailyEmailLimitIsSet(boolean value) {
-    __isset_vector[__DAILYEMAILLIMIT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __DAILYEMAILLIMIT_ISSET_ID, value);
   }
 
   public long getEmailOptOutDate() {
@@ -790,16 +790,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetEmailOptOutDate() {
-    __isset_vector[__EMAILOPTOUTDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID);
   }
 
   /** Returns true if field emailOptOutDate is set (has been asigned a value) and false otherwise */
   public boolean isSetEmailOptOutDate() {
-    return __isset_vector[__EMAILOPTOUTDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID);
   }
 
   public void setEmailOptOutDateIsSet(boolean value) {
-    __isset_vector[__EMAILOPTOUTDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EMAILOPTOUTDATE_ISSET_ID, value);
   }
 
   public long getPartnerEmailOptInDate() {
@@ -812,16 +812,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetPartnerEmailOptInDate() {
-    __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID);
   }
 
   /** Returns true if field partnerEmailOptInDate is set (has been asigned a value) and false otherwise */
   public boolean isSetPartnerEmailOptInDate() {
-    return __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID);
   }
 
   public void setPartnerEmailOptInDateIsSet(boolean value) {
-    __isset_vector[__PARTNEREMAILOPTINDATE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTNEREMAILOPTINDATE_ISSET_ID, value);
   }
 
   public String getPreferredLanguage() {
@@ -880,16 +880,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetClipFullPage() {
-    __isset_vector[__CLIPFULLPAGE_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID);
   }
 
   /** Returns true if field clipFullPage is set (has been asigned a value) and false otherwise */
   public boolean isSetClipFullPage() {
-    return __isset_vector[__CLIPFULLPAGE_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID);
   }
 
   public void setClipFullPageIsSet(boolean value) {
-    __isset_vector[__CLIPFULLPAGE_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CLIPFULLPAGE_ISSET_ID, value);
   }
 
   public String getTwitterUserName() {
@@ -1017,16 +1017,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetEducationalDiscount() {
-    __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID);
   }
 
   /** Returns true if field educationalDiscount is set (has been asigned a value) and false otherwise */
   public boolean isSetEducationalDiscount() {
-    return __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID);
   }
 
   public void setEducationalDiscountIsSet(boolean value) {
-    __isset_vector[__EDUCATIONALDISCOUNT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDUCATIONALDISCOUNT_ISSET_ID, value);
   }
 
   public String getBusinessAddress() {
@@ -1062,16 +1062,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetHideSponsorBilling() {
-    __isset_vector[__HIDESPONSORBILLING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID);
   }
 
   /** Returns true if field hideSponsorBilling is set (has been asigned a value) and false otherwise */
   public boolean isSetHideSponsorBilling() {
-    return __isset_vector[__HIDESPONSORBILLING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID);
   }
 
   public void setHideSponsorBillingIsSet(boolean value) {
-    __isset_vector[__HIDESPONSORBILLING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __HIDESPONSORBILLING_ISSET_ID, value);
   }
 
   public boolean isTaxExempt() {
@@ -1084,16 +1084,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetTaxExempt() {
-    __isset_vector[__TAXEXEMPT_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID);
   }
 
   /** Returns true if field taxExempt is set (has been asigned a value) and false otherwise */
   public boolean isSetTaxExempt() {
-    return __isset_vector[__TAXEXEMPT_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID);
   }
 
   public void setTaxExemptIsSet(boolean value) {
-    __isset_vector[__TAXEXEMPT_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TAXEXEMPT_ISSET_ID, value);
   }
 
   public boolean isUseEmailAutoFiling() {
@@ -1106,16 +1106,16 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void unsetUseEmailAutoFiling() {
-    __isset_vector[__USEEMAILAUTOFILING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID);
   }
 
   /** Returns true if field useEmailAutoFiling is set (has been asigned a value) and false otherwise */
   public boolean isSetUseEmailAutoFiling() {
-    return __isset_vector[__USEEMAILAUTOFILING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID);
   }
 
   public void setUseEmailAutoFilingIsSet(boolean value) {
-    __isset_vector[__USEEMAILAUTOFILING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USEEMAILAUTOFILING_ISSET_ID, value);
   }
 
   /**
@@ -1446,7 +1446,39 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetDefaultLocationName() ? this.defaultLocationName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetDefaultLatitude() ? TBaseHelper.hashCode(this.defaultLatitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetDefaultLongitude() ? TBaseHelper.hashCode(this.defaultLongitude) : 0);
+    hashCode = 31 * hashCode + (this.isSetPreactivation() ? TBaseHelper.hashCode(this.preactivation) : 0);
+    hashCode = 31 * hashCode + (this.isSetViewedPromotions() ? this.viewedPromotions.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetIncomingEmailAddress() ? this.incomingEmailAddress.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRecentMailedAddresses() ? this.recentMailedAddresses.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetComments() ? this.comments.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetDateAgreedToTermsOfService() ? TBaseHelper.hashCode(this.dateAgreedToTermsOfService) : 0);
+    hashCode = 31 * hashCode + (this.isSetMaxReferrals() ? this.maxReferrals : 0);
+    hashCode = 31 * hashCode + (this.isSetReferralCount() ? this.referralCount : 0);
+    hashCode = 31 * hashCode + (this.isSetRefererCode() ? this.refererCode.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSentEmailDate() ? TBaseHelper.hashCode(this.sentEmailDate) : 0);
+    hashCode = 31 * hashCode + (this.isSetSentEmailCount() ? this.sentEmailCount : 0);
+    hashCode = 31 * hashCode + (this.isSetDailyEmailLimit() ? this.dailyEmailLimit : 0);
+    hashCode = 31 * hashCode + (this.isSetEmailOptOutDate() ? TBaseHelper.hashCode(this.emailOptOutDate) : 0);
+    hashCode = 31 * hashCode + (this.isSetPartnerEmailOptInDate() ? TBaseHelper.hashCode(this.partnerEmailOptInDate) : 0);
+    hashCode = 31 * hashCode + (this.isSetPreferredLanguage() ? this.preferredLanguage.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPreferredCountry() ? this.preferredCountry.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetClipFullPage() ? TBaseHelper.hashCode(this.clipFullPage) : 0);
+    hashCode = 31 * hashCode + (this.isSetTwitterUserName() ? this.twitterUserName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetTwitterId() ? this.twitterId.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetGroupName() ? this.groupName.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetRecognitionLanguage() ? this.recognitionLanguage.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetReferralProof() ? this.referralProof.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetEducationalDiscount() ? TBaseHelper.hashCode(this.educationalDiscount) : 0);
+    hashCode = 31 * hashCode + (this.isSetBusinessAddress() ? this.businessAddress.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetHideSponsorBilling() ? TBaseHelper.hashCode(this.hideSponsorBilling) : 0);
+    hashCode = 31 * hashCode + (this.isSetTaxExempt() ? TBaseHelper.hashCode(this.taxExempt) : 0);
+    hashCode = 31 * hashCode + (this.isSetUseEmailAutoFiling() ? TBaseHelper.hashCode(this.useEmailAutoFiling) : 0);
+    hashCode = 31 * hashCode + (this.isSetReminderEmailConfig() ? this.reminderEmailConfig.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(UserAttributes other) {
@@ -1740,52 +1772,54 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // DEFAULT_LOCATION_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.defaultLocationName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // DEFAULT_LATITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.defaultLatitude = iprot.readDouble();
             setDefaultLatitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // DEFAULT_LONGITUDE
-          if (field.type == TType.DOUBLE) {
+          if (fieldType == TType.DOUBLE) {
             this.defaultLongitude = iprot.readDouble();
             setDefaultLongitudeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // PREACTIVATION
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.preactivation = iprot.readBool();
             setPreactivationIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // VIEWED_PROMOTIONS
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list0 = iprot.readListBegin();
-              this.viewedPromotions = new ArrayList<String>(_list0.size);
-              for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+              int _list0_size = iprot.readListBeginSize();
+              this.viewedPromotions = new ArrayList<String>(_list0_size);
+              for (int _i1 = 0; _i1 < _list0_size; ++_i1)
               {
                 String _elem2;
                 _elem2 = iprot.readString();
@@ -1794,22 +1828,22 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // INCOMING_EMAIL_ADDRESS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.incomingEmailAddress = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // RECENT_MAILED_ADDRESSES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list3 = iprot.readListBegin();
-              this.recentMailedAddresses = new ArrayList<String>(_list3.size);
-              for (int _i4 = 0; _i4 < _list3.size; ++_i4)
+              int _list3_size = iprot.readListBeginSize();
+              this.recentMailedAddresses = new ArrayList<String>(_list3_size);
+              for (int _i4 = 0; _i4 < _list3_size; ++_i4)
               {
                 String _elem5;
                 _elem5 = iprot.readString();
@@ -1818,192 +1852,192 @@ public class UserAttributes implements TBase<UserAttributes>, java.io.Serializab
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // COMMENTS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.comments = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // DATE_AGREED_TO_TERMS_OF_SERVICE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.dateAgreedToTermsOfService = iprot.readI64();
             setDateAgreedToTermsOfServiceIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // MAX_REFERRALS
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.maxReferrals = iprot.readI32();
             setMaxReferralsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // REFERRAL_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.referralCount = iprot.readI32();
             setReferralCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 14: // REFERER_CODE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.refererCode = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 15: // SENT_EMAIL_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.sentEmailDate = iprot.readI64();
             setSentEmailDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 16: // SENT_EMAIL_COUNT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.sentEmailCount = iprot.readI32();
             setSentEmailCountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 17: // DAILY_EMAIL_LIMIT
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.dailyEmailLimit = iprot.readI32();
             setDailyEmailLimitIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 18: // EMAIL_OPT_OUT_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.emailOptOutDate = iprot.readI64();
             setEmailOptOutDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 19: // PARTNER_EMAIL_OPT_IN_DATE
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.partnerEmailOptInDate = iprot.readI64();
             setPartnerEmailOptInDateIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 20: // PREFERRED_LANGUAGE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.preferredLanguage = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 21: // PREFERRED_COUNTRY
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.preferredCountry = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 22: // CLIP_FULL_PAGE
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.clipFullPage = iprot.readBool();
             setClipFullPageIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 23: // TWITTER_USER_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.twitterUserName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 24: // TWITTER_ID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.twitterId = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 25: // GROUP_NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.groupName = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 26: // RECOGNITION_LANGUAGE
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.recognitionLanguage = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 28: // REFERRAL_PROOF
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.referralProof = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 29: // EDUCATIONAL_DISCOUNT
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.educationalDiscount = iprot.readBool();
             setEducationalDiscountIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 30: // BUSINESS_ADDRESS
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.businessAddress = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 31: // HIDE_SPONSOR_BILLING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.hideSponsorBilling = iprot.readBool();
             setHideSponsorBillingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 32: // TAX_EXEMPT
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.taxExempt = iprot.readBool();
             setTaxExemptIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 33: // USE_EMAIL_AUTO_FILING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.useEmailAutoFiling = iprot.readBool();
             setUseEmailAutoFilingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 34: // REMINDER_EMAIL_CONFIG
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.reminderEmailConfig = ReminderEmailConfig.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
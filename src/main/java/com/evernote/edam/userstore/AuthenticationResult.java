@@ -112,7 +112,7 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   private static final int __CURRENTTIME_ISSET_ID = 0;
   private static final int __EXPIRATION_ISSET_ID = 1;
   private static final int __SECONDFACTORREQUIRED_ISSET_ID = 2;
-  private boolean[] __isset_vector = new boolean[3];
+  private byte __isset_bitfield = 0;
 
   public AuthenticationResult() {
   }
@@ -134,7 +134,7 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
    * Performs a deep copy on <i>other</i>.
    */
   public AuthenticationResult(AuthenticationResult other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.currentTime = other.currentTime;
     if (other.isSetAuthenticationToken()) {
       this.authenticationToken = other.authenticationToken;
@@ -187,16 +187,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetCurrentTime() {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   /** Returns true if field currentTime is set (has been asigned a value) and false otherwise */
   public boolean isSetCurrentTime() {
-    return __isset_vector[__CURRENTTIME_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __CURRENTTIME_ISSET_ID);
   }
 
   public void setCurrentTimeIsSet(boolean value) {
-    __isset_vector[__CURRENTTIME_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __CURRENTTIME_ISSET_ID, value);
   }
 
   public String getAuthenticationToken() {
@@ -232,16 +232,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetExpiration() {
-    __isset_vector[__EXPIRATION_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EXPIRATION_ISSET_ID);
   }
 
   /** Returns true if field expiration is set (has been asigned a value) and false otherwise */
   public boolean isSetExpiration() {
-    return __isset_vector[__EXPIRATION_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __EXPIRATION_ISSET_ID);
   }
 
   public void setExpirationIsSet(boolean value) {
-    __isset_vector[__EXPIRATION_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EXPIRATION_ISSET_ID, value);
   }
 
   public com.evernote.edam.type.User getUser() {
@@ -346,16 +346,16 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void unsetSecondFactorRequired() {
-    __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID);
   }
 
   /** Returns true if field secondFactorRequired is set (has been asigned a value) and false otherwise */
   public boolean isSetSecondFactorRequired() {
-    return __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID);
   }
 
   public void setSecondFactorRequiredIsSet(boolean value) {
-    __isset_vector[__SECONDFACTORREQUIRED_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SECONDFACTORREQUIRED_ISSET_ID, value);
   }
 
   public String getSecondFactorDeliveryHint() {
@@ -480,7 +480,17 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.currentTime);
+    hashCode = 31 * hashCode + (this.isSetAuthenticationToken() ? this.authenticationToken.hashCode() : 0);
+    hashCode = 31 * hashCode + TBaseHelper.hashCode(this.expiration);
+    hashCode = 31 * hashCode + (this.isSetUser() ? this.user.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPublicUserInfo() ? this.publicUserInfo.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNoteStoreUrl() ? this.noteStoreUrl.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetWebApiUrlPrefix() ? this.webApiUrlPrefix.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSecondFactorRequired() ? TBaseHelper.hashCode(this.secondFactorRequired) : 0);
+    hashCode = 31 * hashCode + (this.isSetSecondFactorDeliveryHint() ? this.secondFactorDeliveryHint.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(AuthenticationResult other) {
@@ -576,85 +586,87 @@ public class AuthenticationResult implements TBase<AuthenticationResult>, java.i
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // CURRENT_TIME
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.currentTime = iprot.readI64();
             setCurrentTimeIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // AUTHENTICATION_TOKEN
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.authenticationToken = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // EXPIRATION
-          if (field.type == TType.I64) {
+          if (fieldType == TType.I64) {
             this.expiration = iprot.readI64();
             setExpirationIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // USER
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.user = new com.evernote.edam.type.User();
             this.user.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // PUBLIC_USER_INFO
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.publicUserInfo = new PublicUserInfo();
             this.publicUserInfo.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // NOTE_STORE_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.noteStoreUrl = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // WEB_API_URL_PREFIX
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.webApiUrlPrefix = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // SECOND_FACTOR_REQUIRED
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.secondFactorRequired = iprot.readBool();
             setSecondFactorRequiredIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // SECOND_FACTOR_DELIVERY_HINT
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.secondFactorDeliveryHint = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -131,7 +131,9 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetProfiles() ? this.profiles.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(BootstrapInfo other) {
@@ -155,21 +157,23 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // PROFILES
-          if (field.type == TType.LIST) {
+          if (fieldType == TType.LIST) {
             {
-              TList _list0 = iprot.readListBegin();
-              this.profiles = new ArrayList<BootstrapProfile>(_list0.size);
-              for (int _i1 = 0; _i1 < _list0.size; ++_i1)
+              int _list0_size = iprot.readListBeginSize();
+              this.profiles = new ArrayList<BootstrapProfile>(_list0_size);
+              for (int _i1 = 0; _i1 < _list0_size; ++_i1)
               {
                 BootstrapProfile _elem2;
                 _elem2 = new BootstrapProfile();
@@ -179,11 +183,11 @@ public class BootstrapInfo implements TBase<BootstrapInfo>, java.io.Serializable
               iprot.readListEnd();
             }
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
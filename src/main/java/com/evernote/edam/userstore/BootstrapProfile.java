@@ -156,7 +156,10 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetName() ? this.name.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSettings() ? this.settings.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(BootstrapProfile other) {
@@ -189,32 +192,34 @@ public class BootstrapProfile implements TBase<BootstrapProfile>, java.io.Serial
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // NAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.name = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // SETTINGS
-          if (field.type == TType.STRUCT) {
+          if (fieldType == TType.STRUCT) {
             this.settings = new BootstrapSettings();
             this.settings.read(iprot);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -116,7 +116,7 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   private static final int __ENABLETWITTERSHARING_ISSET_ID = 6;
   private static final int __ENABLELINKEDINSHARING_ISSET_ID = 7;
   private static final int __ENABLEPUBLICNOTEBOOKS_ISSET_ID = 8;
-  private boolean[] __isset_vector = new boolean[9];
+  private short __isset_bitfield = 0;
 
   public BootstrapSettings() {
   }
@@ -138,7 +138,7 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
    * Performs a deep copy on <i>other</i>.
    */
   public BootstrapSettings(BootstrapSettings other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetServiceHost()) {
       this.serviceHost = other.serviceHost;
     }
@@ -293,16 +293,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableFacebookSharing() {
-    __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableFacebookSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableFacebookSharing() {
-    return __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID);
   }
 
   public void setEnableFacebookSharingIsSet(boolean value) {
-    __isset_vector[__ENABLEFACEBOOKSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEFACEBOOKSHARING_ISSET_ID, value);
   }
 
   public boolean isEnableGiftSubscriptions() {
@@ -315,16 +315,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableGiftSubscriptions() {
-    __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID);
   }
 
   /** Returns true if field enableGiftSubscriptions is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableGiftSubscriptions() {
-    return __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID);
   }
 
   public void setEnableGiftSubscriptionsIsSet(boolean value) {
-    __isset_vector[__ENABLEGIFTSUBSCRIPTIONS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEGIFTSUBSCRIPTIONS_ISSET_ID, value);
   }
 
   public boolean isEnableSupportTickets() {
@@ -337,16 +337,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSupportTickets() {
-    __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID);
   }
 
   /** Returns true if field enableSupportTickets is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSupportTickets() {
-    return __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID);
   }
 
   public void setEnableSupportTicketsIsSet(boolean value) {
-    __isset_vector[__ENABLESUPPORTTICKETS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESUPPORTTICKETS_ISSET_ID, value);
   }
 
   public boolean isEnableSharedNotebooks() {
@@ -359,16 +359,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSharedNotebooks() {
-    __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field enableSharedNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSharedNotebooks() {
-    return __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID);
   }
 
   public void setEnableSharedNotebooksIsSet(boolean value) {
-    __isset_vector[__ENABLESHAREDNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESHAREDNOTEBOOKS_ISSET_ID, value);
   }
 
   public boolean isEnableSingleNoteSharing() {
@@ -381,16 +381,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSingleNoteSharing() {
-    __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID);
   }
 
   /** Returns true if field enableSingleNoteSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSingleNoteSharing() {
-    return __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID);
   }
 
   public void setEnableSingleNoteSharingIsSet(boolean value) {
-    __isset_vector[__ENABLESINGLENOTESHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESINGLENOTESHARING_ISSET_ID, value);
   }
 
   public boolean isEnableSponsoredAccounts() {
@@ -403,16 +403,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableSponsoredAccounts() {
-    __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID);
   }
 
   /** Returns true if field enableSponsoredAccounts is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableSponsoredAccounts() {
-    return __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID);
   }
 
   public void setEnableSponsoredAccountsIsSet(boolean value) {
-    __isset_vector[__ENABLESPONSOREDACCOUNTS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLESPONSOREDACCOUNTS_ISSET_ID, value);
   }
 
   public boolean isEnableTwitterSharing() {
@@ -425,16 +425,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableTwitterSharing() {
-    __isset_vector[__ENABLETWITTERSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableTwitterSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableTwitterSharing() {
-    return __isset_vector[__ENABLETWITTERSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID);
   }
 
   public void setEnableTwitterSharingIsSet(boolean value) {
-    __isset_vector[__ENABLETWITTERSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLETWITTERSHARING_ISSET_ID, value);
   }
 
   public boolean isEnableLinkedInSharing() {
@@ -447,16 +447,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnableLinkedInSharing() {
-    __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID);
   }
 
   /** Returns true if field enableLinkedInSharing is set (has been asigned a value) and false otherwise */
   public boolean isSetEnableLinkedInSharing() {
-    return __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID);
   }
 
   public void setEnableLinkedInSharingIsSet(boolean value) {
-    __isset_vector[__ENABLELINKEDINSHARING_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLELINKEDINSHARING_ISSET_ID, value);
   }
 
   public boolean isEnablePublicNotebooks() {
@@ -469,16 +469,16 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void unsetEnablePublicNotebooks() {
-    __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID);
   }
 
   /** Returns true if field enablePublicNotebooks is set (has been asigned a value) and false otherwise */
   public boolean isSetEnablePublicNotebooks() {
-    return __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID);
   }
 
   public void setEnablePublicNotebooksIsSet(boolean value) {
-    __isset_vector[__ENABLEPUBLICNOTEBOOKS_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ENABLEPUBLICNOTEBOOKS_ISSET_ID, value);
   }
 
   @Override
@@ -616,7 +616,21 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + (this.isSetServiceHost() ? this.serviceHost.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetMarketingUrl() ? this.marketingUrl.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetSupportUrl() ? this.supportUrl.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetAccountEmailDomain() ? this.accountEmailDomain.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableFacebookSharing() ? TBaseHelper.hashCode(this.enableFacebookSharing) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableGiftSubscriptions() ? TBaseHelper.hashCode(this.enableGiftSubscriptions) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableSupportTickets() ? TBaseHelper.hashCode(this.enableSupportTickets) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableSharedNotebooks() ? TBaseHelper.hashCode(this.enableSharedNotebooks) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableSingleNoteSharing() ? TBaseHelper.hashCode(this.enableSingleNoteSharing) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableSponsoredAccounts() ? TBaseHelper.hashCode(this.enableSponsoredAccounts) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableTwitterSharing() ? TBaseHelper.hashCode(this.enableTwitterSharing) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnableLinkedInSharing() ? TBaseHelper.hashCode(this.enableLinkedInSharing) : 0);
+    hashCode = 31 * hashCode + (this.isSetEnablePublicNotebooks() ? TBaseHelper.hashCode(this.enablePublicNotebooks) : 0);
+    return hashCode;
   }
 
   public int compareTo(BootstrapSettings other) {
@@ -748,117 +762,119 @@ public class BootstrapSettings implements TBase<BootstrapSettings>, java.io.Seri
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // SERVICE_HOST
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.serviceHost = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // MARKETING_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.marketingUrl = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // SUPPORT_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.supportUrl = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // ACCOUNT_EMAIL_DOMAIN
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.accountEmailDomain = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // ENABLE_FACEBOOK_SHARING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableFacebookSharing = iprot.readBool();
             setEnableFacebookSharingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // ENABLE_GIFT_SUBSCRIPTIONS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableGiftSubscriptions = iprot.readBool();
             setEnableGiftSubscriptionsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 7: // ENABLE_SUPPORT_TICKETS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableSupportTickets = iprot.readBool();
             setEnableSupportTicketsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 8: // ENABLE_SHARED_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableSharedNotebooks = iprot.readBool();
             setEnableSharedNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 9: // ENABLE_SINGLE_NOTE_SHARING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableSingleNoteSharing = iprot.readBool();
             setEnableSingleNoteSharingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 10: // ENABLE_SPONSORED_ACCOUNTS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableSponsoredAccounts = iprot.readBool();
             setEnableSponsoredAccountsIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 11: // ENABLE_TWITTER_SHARING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableTwitterSharing = iprot.readBool();
             setEnableTwitterSharingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 12: // ENABLE_LINKED_IN_SHARING
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enableLinkedInSharing = iprot.readBool();
             setEnableLinkedInSharingIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 13: // ENABLE_PUBLIC_NOTEBOOKS
-          if (field.type == TType.BOOL) {
+          if (fieldType == TType.BOOL) {
             this.enablePublicNotebooks = iprot.readBool();
             setEnablePublicNotebooksIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -71,7 +71,7 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
 
   // isset id assignments
   private static final int __USERID_ISSET_ID = 0;
-  private boolean[] __isset_vector = new boolean[1];
+  private byte __isset_bitfield = 0;
 
   public PublicUserInfo() {
   }
@@ -90,7 +90,7 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
    * Performs a deep copy on <i>other</i>.
    */
   public PublicUserInfo(PublicUserInfo other) {
-    System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+    __isset_bitfield = other.__isset_bitfield;
     this.userId = other.userId;
     if (other.isSetShardId()) {
       this.shardId = other.shardId;
@@ -133,16 +133,16 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
   }
 
   public void unsetUserId() {
-    __isset_vector[__USERID_ISSET_ID] = false;
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   /** Returns true if field userId is set (has been asigned a value) and false otherwise */
   public boolean isSetUserId() {
-    return __isset_vector[__USERID_ISSET_ID];
+    return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
   }
 
   public void setUserIdIsSet(boolean value) {
-    __isset_vector[__USERID_ISSET_ID] = value;
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
   }
 
   public String getShardId() {
@@ -340,7 +340,14 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
 
   @Override
   public int hashCode() {
-    return 0;
+    int hashCode = 1;
+    hashCode = 31 * hashCode + this.userId;
+    hashCode = 31 * hashCode + (this.isSetShardId() ? this.shardId.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetPrivilege() ? this.privilege.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetUsername() ? this.username.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetNoteStoreUrl() ? this.noteStoreUrl.hashCode() : 0);
+    hashCode = 31 * hashCode + (this.isSetWebApiUrlPrefix() ? this.webApiUrlPrefix.hashCode() : 0);
+    return hashCode;
   }
 
   public int compareTo(PublicUserInfo other) {
@@ -409,60 +416,62 @@ public class PublicUserInfo implements TBase<PublicUserInfo>, java.io.Serializab
   }
 
   public void read(TProtocol iprot) throws TException {
-    TField field;
+    int field;
+    byte fieldType;
     iprot.readStructBegin();
     while (true)
     {
-      field = iprot.readFieldBegin();
-      if (field.type == TType.STOP) { 
+      field = iprot.readFieldBeginHeader();
+      fieldType = TProtocol.fieldType(field);
+      if (fieldType == TType.STOP) { 
         break;
       }
-      switch (field.id) {
+      switch (TProtocol.fieldId(field)) {
         case 1: // USER_ID
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.userId = iprot.readI32();
             setUserIdIsSet(true);
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 2: // SHARD_ID
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.shardId = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 3: // PRIVILEGE
-          if (field.type == TType.I32) {
+          if (fieldType == TType.I32) {
             this.privilege = com.evernote.edam.type.PrivilegeLevel.findByValue(iprot.readI32());
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 4: // USERNAME
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.username = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 5: // NOTE_STORE_URL
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.noteStoreUrl = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         case 6: // WEB_API_URL_PREFIX
-          if (field.type == TType.STRING) {
+          if (fieldType == TType.STRING) {
             this.webApiUrlPrefix = iprot.readString();
           } else { 
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
           }
           break;
         default:
-          TProtocolUtil.skip(iprot, field.type);
+          TProtocolUtil.skip(iprot, fieldType);
       }
       iprot.readFieldEnd();
     }
@@ -569,7 +569,7 @@ public class UserStore {
     // isset id assignments
     private static final int __EDAMVERSIONMAJOR_ISSET_ID = 0;
     private static final int __EDAMVERSIONMINOR_ISSET_ID = 1;
-    private boolean[] __isset_vector = new boolean[2];
+    private byte __isset_bitfield = 0;
 
     public checkVersion_args() {
       this.edamVersionMajor = (short)1;
@@ -582,7 +582,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public checkVersion_args(checkVersion_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetClientName()) {
         this.clientName = other.clientName;
       }
@@ -618,11 +618,11 @@ public class UserStore {
 
     /** Returns true if field edamVersionMajor is set (has been asigned a value) and false otherwise */
     public boolean isSetEdamVersionMajor() {
-      return __isset_vector[__EDAMVERSIONMAJOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __EDAMVERSIONMAJOR_ISSET_ID);
     }
 
     public void setEdamVersionMajorIsSet(boolean value) {
-      __isset_vector[__EDAMVERSIONMAJOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDAMVERSIONMAJOR_ISSET_ID, value);
     }
 
     public void setEdamVersionMinor(short edamVersionMinor) {
@@ -632,11 +632,11 @@ public class UserStore {
 
     /** Returns true if field edamVersionMinor is set (has been asigned a value) and false otherwise */
     public boolean isSetEdamVersionMinor() {
-      return __isset_vector[__EDAMVERSIONMINOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __EDAMVERSIONMINOR_ISSET_ID);
     }
 
     public void setEdamVersionMinorIsSet(boolean value) {
-      __isset_vector[__EDAMVERSIONMINOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EDAMVERSIONMINOR_ISSET_ID, value);
     }
 
     public int compareTo(checkVersion_args other) {
@@ -678,40 +678,42 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // CLIENT_NAME
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.clientName = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // EDAM_VERSION_MAJOR
-            if (field.type == TType.I16) {
+            if (fieldType == TType.I16) {
               this.edamVersionMajor = iprot.readI16();
               setEdamVersionMajorIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // EDAM_VERSION_MINOR
-            if (field.type == TType.I16) {
+            if (fieldType == TType.I16) {
               this.edamVersionMinor = iprot.readI16();
               setEdamVersionMinorIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -754,7 +756,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUCCESS_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public checkVersion_result() {
     }
@@ -763,7 +765,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public checkVersion_result(checkVersion_result other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
     }
 
@@ -778,11 +780,11 @@ public class UserStore {
 
     /** Returns true if field success is set (has been asigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return __isset_vector[__SUCCESS_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_vector[__SUCCESS_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public int compareTo(checkVersion_result other) {
@@ -806,25 +808,27 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.success = iprot.readBool();
               setSuccessIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -910,24 +914,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // LOCALE
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.locale = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -1010,25 +1016,27 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new BootstrapInfo();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -1072,7 +1080,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUPPORTSTWOFACTOR_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public authenticate_args() {
     }
@@ -1081,7 +1089,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public authenticate_args(authenticate_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetUsername()) {
         this.username = other.username;
       }
@@ -1153,11 +1161,11 @@ public class UserStore {
 
     /** Returns true if field supportsTwoFactor is set (has been asigned a value) and false otherwise */
     public boolean isSetSupportsTwoFactor() {
-      return __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID);
     }
 
     public void setSupportsTwoFactorIsSet(boolean value) {
-      __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID, value);
     }
 
     public int compareTo(authenticate_args other) {
@@ -1217,53 +1225,55 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USERNAME
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.username = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // PASSWORD
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.password = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // CONSUMER_KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.consumerKey = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // CONSUMER_SECRET
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.consumerSecret = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // SUPPORTS_TWO_FACTOR
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.supportsTwoFactor = iprot.readBool();
               setSupportsTwoFactorIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -1404,41 +1414,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -1494,7 +1506,7 @@ public class UserStore {
 
     // isset id assignments
     private static final int __SUPPORTSTWOFACTOR_ISSET_ID = 0;
-    private boolean[] __isset_vector = new boolean[1];
+    private byte __isset_bitfield = 0;
 
     public authenticateLongSession_args() {
     }
@@ -1503,7 +1515,7 @@ public class UserStore {
      * Performs a deep copy on <i>other</i>.
      */
     public authenticateLongSession_args(authenticateLongSession_args other) {
-      System.arraycopy(other.__isset_vector, 0, __isset_vector, 0, other.__isset_vector.length);
+      __isset_bitfield = other.__isset_bitfield;
       if (other.isSetUsername()) {
         this.username = other.username;
       }
@@ -1601,11 +1613,11 @@ public class UserStore {
 
     /** Returns true if field supportsTwoFactor is set (has been asigned a value) and false otherwise */
     public boolean isSetSupportsTwoFactor() {
-      return __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID];
+      return EncodingUtils.testBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID);
     }
 
     public void setSupportsTwoFactorIsSet(boolean value) {
-      __isset_vector[__SUPPORTSTWOFACTOR_ISSET_ID] = value;
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUPPORTSTWOFACTOR_ISSET_ID, value);
     }
 
     public int compareTo(authenticateLongSession_args other) {
@@ -1683,67 +1695,69 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USERNAME
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.username = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // PASSWORD
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.password = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // CONSUMER_KEY
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.consumerKey = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // CONSUMER_SECRET
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.consumerSecret = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 5: // DEVICE_IDENTIFIER
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.deviceIdentifier = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 6: // DEVICE_DESCRIPTION
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.deviceDescription = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 7: // SUPPORTS_TWO_FACTOR
-            if (field.type == TType.BOOL) {
+            if (fieldType == TType.BOOL) {
               this.supportsTwoFactor = iprot.readBool();
               setSupportsTwoFactorIsSet(true);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -1894,41 +1908,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2094,45 +2110,47 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // ONE_TIME_CODE
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.oneTimeCode = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // DEVICE_IDENTIFIER
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.deviceIdentifier = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 4: // DEVICE_DESCRIPTION
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.deviceDescription = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2270,41 +2288,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2398,24 +2418,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2518,33 +2540,35 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2634,24 +2658,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2774,41 +2800,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -2902,24 +2930,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3042,41 +3072,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new AuthenticationResult();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3170,24 +3202,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3310,41 +3344,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.User();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3438,24 +3474,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // USERNAME
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.username = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3598,49 +3636,51 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new PublicUserInfo();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // NOT_FOUND_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.notFoundException = new com.evernote.edam.error.EDAMNotFoundException();
               this.notFoundException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 3: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3738,24 +3778,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -3878,41 +3920,43 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.success = new com.evernote.edam.type.PremiumInfo();
               this.success.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4006,24 +4050,26 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 1: // AUTHENTICATION_TOKEN
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.authenticationToken = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
@@ -4146,40 +4192,42 @@ public class UserStore {
     }
 
     public void read(TProtocol iprot) throws TException {
-      TField field;
+      int field;
+      byte fieldType;
       iprot.readStructBegin();
       while (true)
       {
-        field = iprot.readFieldBegin();
-        if (field.type == TType.STOP) { 
+        field = iprot.readFieldBeginHeader();
+        fieldType = TProtocol.fieldType(field);
+        if (fieldType == TType.STOP) { 
           break;
         }
-        switch (field.id) {
+        switch (TProtocol.fieldId(field)) {
           case 0: // SUCCESS
-            if (field.type == TType.STRING) {
+            if (fieldType == TType.STRING) {
               this.success = iprot.readString();
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 1: // USER_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.userException = new com.evernote.edam.error.EDAMUserException();
               this.userException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           case 2: // SYSTEM_EXCEPTION
-            if (field.type == TType.STRUCT) {
+            if (fieldType == TType.STRUCT) {
               this.systemException = new com.evernote.edam.error.EDAMSystemException();
               this.systemException.read(iprot);
             } else { 
-              TProtocolUtil.skip(iprot, field.type);
+              TProtocolUtil.skip(iprot, fieldType);
             }
             break;
           default:
-            TProtocolUtil.skip(iprot, field.type);
+            TProtocolUtil.skip(iprot, fieldType);
         }
         iprot.readFieldEnd();
       }
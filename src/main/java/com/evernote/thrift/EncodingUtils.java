@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.evernote.thrift;
+
+/**
+ * Bit twiddling for the isset bitfields of generated structs. Each struct keeps
+ * one primitive field wide enough for all of its primitive-typed members, so
+ * tracking which fields are set costs no extra allocation per instance.
+ */
+public final class EncodingUtils {
+
+  private EncodingUtils() {
+  }
+
+  public static final boolean testBit(byte v, int position) {
+    return testBit((int) v, position);
+  }
+
+  public static final boolean testBit(short v, int position) {
+    return testBit((int) v, position);
+  }
+
+  public static final boolean testBit(int v, int position) {
+    return (v & (1 << position)) != 0;
+  }
+
+  public static final boolean testBit(long v, int position) {
+    return (v & (1L << position)) != 0;
+  }
+
+  public static final byte clearBit(byte v, int position) {
+    return (byte) clearBit((int) v, position);
+  }
+
+  public static final short clearBit(short v, int position) {
+    return (short) clearBit((int) v, position);
+  }
+
+  public static final int clearBit(int v, int position) {
+    return v & ~(1 << position);
+  }
+
+  public static final long clearBit(long v, int position) {
+    return v & ~(1L << position);
+  }
+
+  public static final byte setBit(byte v, int position, boolean value) {
+    return (byte) setBit((int) v, position, value);
+  }
+
+  public static final short setBit(short v, int position, boolean value) {
+    return (short) setBit((int) v, position, value);
+  }
+
+  public static final int setBit(int v, int position, boolean value) {
+    return value ? v | (1 << position) : v & ~(1 << position);
+  }
+
+  public static final long setBit(long v, int position, boolean value) {
+    return value ? v | (1L << position) : v & ~(1L << position);
+  }
+}
@@ -18,6 +18,8 @@
 package com.evernote.thrift;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -32,6 +34,8 @@ public class TBaseHelper {
 
   private static final Comparator comparator = new NestedStructureComparator();
 
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
   public static int compareTo(Object o1, Object o2) {
     if (o1 instanceof Comparable) {
       return compareTo((Comparable)o1, (Comparable)o2);
@@ -120,6 +124,26 @@ public class TBaseHelper {
     return 0;
   }
 
+  public static int hashCode(boolean value) {
+    return value ? 1231 : 1237;
+  }
+
+  public static int hashCode(long value) {
+    return (int) (value ^ (value >>> 32));
+  }
+
+  /**
+   * Generated equals compares doubles with ==, so 0.0 and -0.0 must hash
+   * alike.
+   */
+  public static int hashCode(double value) {
+    return value == 0.0 ? 0 : hashCode(Double.doubleToLongBits(value));
+  }
+
+  public static int hashCode(byte[] value) {
+    return Arrays.hashCode(value);
+  }
+
   public static int compareTo(Comparable a, Comparable b) {
     return a.compareTo(b);
   }
@@ -218,6 +242,31 @@ public class TBaseHelper {
     }
   }
 
+  /**
+   * Returns the bytes between the position and limit of <i>bb</i> as an array
+   * of exactly that length, copying only when the backing array holds more.
+   * The position of <i>bb</i> is not moved.
+   */
+  public static byte[] byteBufferToByteArray(ByteBuffer bb) {
+    byte[] array = bb.array();
+    int offset = bb.arrayOffset() + bb.position();
+    int length = bb.remaining();
+    if (offset == 0 && length == array.length) {
+      return array;
+    }
+    byte[] copy = new byte[length];
+    System.arraycopy(array, offset, copy, 0, length);
+    return copy;
+  }
+
+  /**
+   * Decodes the UTF-8 bytes between the position and limit of <i>bb</i>
+   * without moving its position.
+   */
+  public static String decodeUtf8(ByteBuffer bb) {
+    return UTF8.decode(bb.duplicate()).toString();
+  }
+
   public static void toString(byte[] bytes, StringBuilder sb) {
     toString(bytes, 0, bytes.length, sb);
   }
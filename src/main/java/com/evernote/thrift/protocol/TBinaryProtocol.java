@@ -19,8 +19,11 @@
 
 package com.evernote.thrift.protocol;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 
 import com.evernote.thrift.TException;
 import com.evernote.thrift.transport.TTransport;
@@ -201,13 +204,94 @@ public class TBinaryProtocol extends TProtocol {
     writeI64(Double.doubleToLongBits(dub));
   }
 
+  // Scratch space for encoding strings, allocated on first use; long strings
+  // pass through in pieces
+  private static final int STRING_SCRATCH_SIZE = 8192;
+  private byte[] strout;
+
+  /**
+   * Encodes <i>str</i> as UTF-8 straight into a scratch buffer that is reused
+   * for every string, without a CharsetEncoder or an intermediate array.
+   * Unpaired surrogates are written as '?', as {@link Charset#encode(String)}
+   * does.
+   */
   @Override
   public void writeString(String str) throws TException {
-    ByteBuffer encoded = UTF8.encode(str);
-    byte[] dat = new byte[encoded.remaining()];
-    encoded.get(dat, 0, dat.length);      
-    writeI32(dat.length);
-    trans_.write(dat, 0, dat.length);
+    int len = str.length();
+    writeI32(utf8Length(str));
+    byte[] buf = strout;
+    if (buf == null) {
+      buf = strout = new byte[STRING_SCRATCH_SIZE];
+    }
+    int pos = 0;
+    int i = 0;
+    while (i < len) {
+      // ASCII runs, bounded so the loop needs no per-byte capacity check
+      int asciiEnd = Math.min(len, i + buf.length - pos);
+      char c;
+      while (i < asciiEnd && (c = str.charAt(i)) < 0x80) {
+        buf[pos++] = (byte) c;
+        i++;
+      }
+      if (pos > buf.length - 4) {
+        trans_.write(buf, 0, pos);
+        pos = 0;
+      }
+      if (i == len || (c = str.charAt(i)) < 0x80) {
+        continue;
+      }
+      i++;
+      if (c < 0x800) {
+        buf[pos++] = (byte) (0xc0 | (c >> 6));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+        buf[pos++] = (byte) (0xe0 | (c >> 12));
+        buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (c <= Character.MAX_HIGH_SURROGATE && i < len
+          && Character.isLowSurrogate(str.charAt(i))) {
+        int cp = Character.toCodePoint(c, str.charAt(i++));
+        buf[pos++] = (byte) (0xf0 | (cp >> 18));
+        buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+        buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+        buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+      } else {
+        buf[pos++] = (byte) '?';
+      }
+    }
+    if (pos > 0) {
+      trans_.write(buf, 0, pos);
+    }
+  }
+
+  /**
+   * @return the number of bytes {@link #writeString(String)} writes for
+   *         <i>str</i>, not counting the length prefix
+   */
+  static int utf8Length(String str) {
+    int len = str.length();
+    int i = 0;
+    while (i < len && str.charAt(i) < 0x80) {
+      i++;
+    }
+    int bytes = i;
+    for (; i < len; i++) {
+      char c = str.charAt(i);
+      if (c < 0x80) {
+        bytes += 1;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+        bytes += 3;
+      } else if (c <= Character.MAX_HIGH_SURROGATE && i + 1 < len
+          && Character.isLowSurrogate(str.charAt(i + 1))) {
+        bytes += 4;
+        i++;
+      } else {
+        bytes += 1;
+      }
+    }
+    return bytes;
   }
 
   @Override
@@ -216,6 +300,59 @@ public class TBinaryProtocol extends TProtocol {
     trans_.write(buf, offset, length);
   }
 
+  @Override
+  public void writeBinary(TBinarySource source) throws TException {
+    writeI32((int) source.length());
+    try {
+      source.writeTo(new TransportChannel());
+    } catch (IOException e) {
+      if (e.getCause() instanceof TException) {
+        throw (TException) e.getCause();
+      }
+      throw new TException("Failed to read from " + source, e);
+    }
+  }
+
+  /**
+   * Lets a {@link TBinarySource} write straight to the transport. Heap
+   * buffers are passed through as they are; direct ones, which
+   * {@link java.nio.channels.FileChannel#transferTo} may hand over, are
+   * copied through the string scratch buffer.
+   */
+  private class TransportChannel implements WritableByteChannel {
+
+    public int write(ByteBuffer src) throws IOException {
+      int written = src.remaining();
+      try {
+        if (src.hasArray()) {
+          trans_.write(src.array(), src.arrayOffset() + src.position(), written);
+          src.position(src.limit());
+        } else {
+          if (strout == null) {
+            strout = new byte[STRING_SCRATCH_SIZE];
+          }
+          while (src.hasRemaining()) {
+            int len = Math.min(src.remaining(), strout.length);
+            src.get(strout, 0, len);
+            trans_.write(strout, 0, len);
+          }
+        }
+      } catch (TException e) {
+        IOException iox = new IOException("Failed to write to transport");
+        iox.initCause(e);
+        throw iox;
+      }
+      return written;
+    }
+
+    public boolean isOpen() {
+      return true;
+    }
+
+    public void close() {
+    }
+  }
+
   /**
    * Reading methods.
    */
@@ -255,6 +392,12 @@ public class TBinaryProtocol extends TProtocol {
     return new TField("", type, id);
   }
 
+  @Override
+  public int readFieldBeginHeader() throws TException {
+    byte type = readByte();
+    return fieldHeader(type, type == TType.STOP ? 0 : readI16());
+  }
+
   @Override
   public void readFieldEnd() {}
 
@@ -263,6 +406,13 @@ public class TBinaryProtocol extends TProtocol {
     return new TMap(readByte(), readByte(), readI32());
   }
 
+  @Override
+  public int readMapBeginSize() throws TException {
+    readByte();
+    readByte();
+    return readI32();
+  }
+
   @Override
   public void readMapEnd() {}
 
@@ -271,6 +421,12 @@ public class TBinaryProtocol extends TProtocol {
     return new TList(readByte(), readI32());
   }
 
+  @Override
+  public int readListBeginSize() throws TException {
+    readByte();
+    return readI32();
+  }
+
   @Override
   public void readListEnd() {}
 
@@ -279,6 +435,12 @@ public class TBinaryProtocol extends TProtocol {
     return new TSet(readByte(), readI32());
   }
 
+  @Override
+  public int readSetBeginSize() throws TException {
+    readByte();
+    return readI32();
+  }
+
   @Override
   public void readSetEnd() {}
 
@@ -373,9 +535,9 @@ public class TBinaryProtocol extends TProtocol {
   public String readString() throws TException {
     int size = readI32();
 
-    if (trans_.getBytesRemainingInBuffer() >= size) {
-      String s = UTF8.decode(ByteBuffer.wrap(trans_.getBuffer(),
-          trans_.getBufferPosition(), size)).toString();
+    if (size >= 0 && trans_.getBytesRemainingInBuffer() >= size) {
+      String s = decodeString(trans_.getBuffer(), trans_.getBufferPosition(),
+          size);
       trans_.consumeBuffer(size);
       return s;
     }
@@ -385,9 +547,101 @@ public class TBinaryProtocol extends TProtocol {
 
   public String readStringBody(int size) throws TException {
     checkReadLength(size);
-    byte[] buf = new byte[size];
+    byte[] buf;
+    if (size <= STRING_READ_SCRATCH_SIZE) {
+      if (strin == null) {
+        strin = new byte[STRING_READ_SCRATCH_SIZE];
+      }
+      buf = strin;
+    } else {
+      buf = new byte[size];
+    }
     trans_.readAll(buf, 0, size);
-    return UTF8.decode(ByteBuffer.wrap(buf)).toString();
+    return decodeString(buf, 0, size);
+  }
+
+  /**
+   * @param interner if not null, GUIDs read by this protocol are resolved
+   *   through it so that equal GUIDs share one String instance
+   */
+  public void setStringInterner(TStringInterner interner) {
+    interner_ = interner;
+  }
+
+  public TStringInterner getStringInterner() {
+    return interner_;
+  }
+
+  // Scratch space for decoding strings that fit, allocated on first use
+  private static final int STRING_READ_SCRATCH_SIZE = 1024;
+  private byte[] strin;
+  private char[] charin;
+  private TStringInterner interner_;
+
+  /**
+   * Decodes UTF-8 without a CharsetDecoder: ASCII is widened in a tight loop
+   * and well formed multi-byte sequences are decoded by hand. Anything
+   * malformed goes through {@link Charset#decode(ByteBuffer)} so replacement
+   * characters come out exactly as before.
+   */
+  private String decodeString(byte[] buf, int off, int len) {
+    if (interner_ != null && len == TStringInterner.GUID_LENGTH) {
+      String guid = interner_.intern(buf, off, len);
+      if (guid != null) {
+        return guid;
+      }
+    }
+    char[] chars;
+    if (len <= STRING_READ_SCRATCH_SIZE) {
+      if (charin == null) {
+        charin = new char[STRING_READ_SCRATCH_SIZE];
+      }
+      chars = charin;
+    } else {
+      chars = new char[len];
+    }
+    int end = off + len;
+    int i = off;
+    int n = 0;
+    while (i < end && buf[i] >= 0) {
+      chars[n++] = (char) buf[i++];
+    }
+    while (i < end) {
+      int b0 = buf[i] & 0xff;
+      if (b0 < 0x80) {
+        chars[n++] = (char) b0;
+        i++;
+      } else if (b0 >= 0xc2 && b0 <= 0xdf && i + 1 < end
+          && isContinuation(buf[i + 1])) {
+        chars[n++] = (char) (((b0 & 0x1f) << 6) | (buf[i + 1] & 0x3f));
+        i += 2;
+      } else if (b0 >= 0xe0 && b0 <= 0xef && i + 2 < end
+          && isContinuation(buf[i + 1]) && isContinuation(buf[i + 2])
+          && (b0 != 0xe0 || (buf[i + 1] & 0xff) >= 0xa0)
+          && (b0 != 0xed || (buf[i + 1] & 0xff) <= 0x9f)) {
+        chars[n++] = (char) (((b0 & 0x0f) << 12)
+            | ((buf[i + 1] & 0x3f) << 6) | (buf[i + 2] & 0x3f));
+        i += 3;
+      } else if (b0 >= 0xf0 && b0 <= 0xf4 && i + 3 < end
+          && isContinuation(buf[i + 1]) && isContinuation(buf[i + 2])
+          && isContinuation(buf[i + 3])
+          && (b0 != 0xf0 || (buf[i + 1] & 0xff) >= 0x90)
+          && (b0 != 0xf4 || (buf[i + 1] & 0xff) <= 0x8f)) {
+        int cp = ((b0 & 0x07) << 18) | ((buf[i + 1] & 0x3f) << 12)
+            | ((buf[i + 2] & 0x3f) << 6) | (buf[i + 3] & 0x3f);
+        cp -= 0x10000;
+        chars[n++] = (char) (Character.MIN_HIGH_SURROGATE + (cp >> 10));
+        chars[n++] = (char) (Character.MIN_LOW_SURROGATE + (cp & 0x3ff));
+        i += 4;
+      } else {
+        return UTF8.decode(ByteBuffer.wrap(buf, off, len)).toString();
+      }
+    }
+    return new String(chars, 0, n);
+  }
+
+  private static boolean isContinuation(byte b) {
+    return (b & 0xc0) == 0x80;
   }
 
   @Override
@@ -406,6 +660,113 @@ public class TBinaryProtocol extends TProtocol {
     return ByteBuffer.wrap(buf);
   }
 
+  /**
+   * Values at least this large are sliced out of a transport buffer that the
+   * transport agrees to give up, rather than copied.
+   */
+  static final int MIN_SHARED_SLICE_SIZE = 16 * 1024;
+
+  @Override
+  public ByteBuffer readBinarySlice() throws TException {
+    int size = readI32();
+    checkReadLength(size);
+
+    if (size >= MIN_SHARED_SLICE_SIZE
+        && trans_.getBytesRemainingInBuffer() >= size && trans_.shareBuffer()) {
+      ByteBuffer bb = ByteBuffer.wrap(trans_.getBuffer(), trans_.getBufferPosition(), size);
+      trans_.consumeBuffer(size);
+      return bb;
+    }
+
+    byte[] buf = new byte[size];
+    trans_.readAll(buf, 0, size);
+    return ByteBuffer.wrap(buf);
+  }
+
+  @Override
+  public boolean skipPrimitive(byte type) throws TException {
+    switch (type) {
+    case TType.BOOL:
+    case TType.BYTE:
+      skipBytes(1);
+      return true;
+    case TType.I16:
+      skipBytes(2);
+      return true;
+    case TType.I32:
+      skipBytes(4);
+      return true;
+    case TType.I64:
+    case TType.DOUBLE:
+      skipBytes(8);
+      return true;
+    case TType.STRING:
+      int size = readI32();
+      checkReadLength(size);
+      skipBytes(size);
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Binary values passed to a channel are read in pieces of this size when
+   * they are not already buffered.
+   */
+  static final int BINARY_CHUNK_SIZE = 64 * 1024;
+
+  @Override
+  public int readBinary(WritableByteChannel out, MessageDigest digest) throws TException {
+    int size = readI32();
+    checkReadLength(size);
+
+    if (trans_.getBytesRemainingInBuffer() >= size) {
+      byte[] buf = trans_.getBuffer();
+      int pos = trans_.getBufferPosition();
+      if (digest != null) {
+        digest.update(buf, pos, size);
+      }
+      writeFully(out, ByteBuffer.wrap(buf, pos, size));
+      trans_.consumeBuffer(size);
+      return size;
+    }
+
+    byte[] chunk = new byte[Math.min(size, BINARY_CHUNK_SIZE)];
+    ByteBuffer bb = ByteBuffer.wrap(chunk);
+    for (int remaining = size; remaining > 0;) {
+      int len = Math.min(remaining, chunk.length);
+      trans_.readAll(chunk, 0, len);
+      if (digest != null) {
+        digest.update(chunk, 0, len);
+      }
+      bb.clear();
+      bb.limit(len);
+      writeFully(out, bb);
+      remaining -= len;
+    }
+    return size;
+  }
+
+  /**
+   * Moves past <i>len</i> bytes of input, within the transport buffer when it
+   * holds them and otherwise by reading them into scratch space.
+   */
+  private void skipBytes(int len) throws TException {
+    if (trans_.getBytesRemainingInBuffer() >= len) {
+      trans_.consumeBuffer(len);
+      return;
+    }
+    if (strin == null) {
+      strin = new byte[STRING_READ_SCRATCH_SIZE];
+    }
+    while (len > 0) {
+      int chunk = Math.min(len, STRING_READ_SCRATCH_SIZE);
+      trans_.readAll(strin, 0, chunk);
+      len -= chunk;
+    }
+  }
+
   @Override
   public byte[] readBytes() throws TException {
     int size = readI32();
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A binary value that is written from a file, a file region or a stream
+ * rather than from an array, so that large values such as resource bodies
+ * can be sent without holding them in memory.
+ *
+ * Files and file regions are passed on with {@link FileChannel#transferTo},
+ * and may be written any number of times. A stream can only be written
+ * once.
+ */
+public abstract class TBinarySource {
+
+  private static final int COPY_BUFFER_SIZE = 8192;
+
+  private final long length_;
+
+  protected TBinarySource(long length) {
+    if (length < 0 || length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid binary length: " + length);
+    }
+    length_ = length;
+  }
+
+  /** @return the number of bytes {@link #writeTo} writes */
+  public long length() {
+    return length_;
+  }
+
+  /**
+   * Writes exactly {@link #length()} bytes to <i>out</i>.
+   */
+  public abstract void writeTo(WritableByteChannel out) throws IOException;
+
+  /**
+   * Reads the whole value into memory.
+   */
+  public byte[] toByteArray() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream((int) length_);
+    writeTo(Channels.newChannel(out));
+    return out.toByteArray();
+  }
+
+  /**
+   * @return a source that reads <i>file</i>, whose length is taken now
+   */
+  public static TBinarySource fromFile(final File file) {
+    return new TBinarySource(file.length()) {
+      @Override
+      public void writeTo(WritableByteChannel out) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+          transfer(in.getChannel(), 0, length(), out);
+        } finally {
+          in.close();
+        }
+      }
+
+      @Override
+      public String toString() {
+        return file.toString();
+      }
+    };
+  }
+
+  /**
+   * @return a source for <i>count</i> bytes of <i>channel</i> starting at
+   *   <i>position</i>. The channel is not closed.
+   */
+  public static TBinarySource fromChannel(final FileChannel channel,
+      final long position, long count) {
+    return new TBinarySource(count) {
+      @Override
+      public void writeTo(WritableByteChannel out) throws IOException {
+        transfer(channel, position, length(), out);
+      }
+    };
+  }
+
+  /**
+   * @return a source that reads <i>length</i> bytes from <i>in</i> the one
+   *   time it is written. The stream is not closed.
+   */
+  public static TBinarySource fromStream(final InputStream in, long length) {
+    return new TBinarySource(length) {
+      @Override
+      public void writeTo(WritableByteChannel out) throws IOException {
+        byte[] buf = new byte[(int) Math.min(length(), COPY_BUFFER_SIZE)];
+        ByteBuffer bb = ByteBuffer.wrap(buf);
+        for (long remaining = length(); remaining > 0;) {
+          int n = in.read(buf, 0, (int) Math.min(remaining, buf.length));
+          if (n < 0) {
+            throw new EOFException("Stream ended " + remaining
+                + " bytes short of its length");
+          }
+          bb.clear();
+          bb.limit(n);
+          while (bb.hasRemaining()) {
+            out.write(bb);
+          }
+          remaining -= n;
+        }
+      }
+    };
+  }
+
+  private static void transfer(FileChannel channel, long position, long count,
+      WritableByteChannel out) throws IOException {
+    long end = position + count;
+    while (position < end) {
+      long n = channel.transferTo(position, end - position, out);
+      if (n <= 0) {
+        throw new EOFException("File ended " + (end - position)
+            + " bytes short of its length");
+      }
+      position += n;
+    }
+  }
+}
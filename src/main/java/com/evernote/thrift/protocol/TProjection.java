@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.evernote.thrift.TBase;
+
+/**
+ * Declares which fields of which structs a client wants decoded. Set on a
+ * {@link TProtocol}, it makes the generated readers of the listed struct
+ * types skip every other field without allocating anything for it; struct
+ * types that are not listed are decoded in full.
+ *
+ * Structs read through a projection are incomplete, so don't send them back
+ * to the service in update calls.
+ *
+ * Build a projection before sharing it; after that it is safe for
+ * concurrent use.
+ */
+public class TProjection {
+
+  private final Map<Class<?>, BitSet> fields_ = new HashMap<Class<?>, BitSet>();
+
+  /**
+   * Adds fields of <i>type</i> to decode. Calling this again for the same
+   * type adds to the fields already listed.
+   *
+   * @param type a generated struct class, for example Note.class
+   * @param fieldNames field names as they appear in the IDL, for example
+   *   "guid" or "updateSequenceNum"
+   * @throws IllegalArgumentException if <i>type</i> has no such field
+   */
+  public TProjection include(Class<? extends TBase<?>> type, String... fieldNames) {
+    Map<String, Short> ids = fieldIds(type);
+    BitSet fields = fields_.get(type);
+    if (fields == null) {
+      fields = new BitSet();
+      fields_.put(type, fields);
+    }
+    for (String name : fieldNames) {
+      Short id = ids.get(name);
+      if (id == null) {
+        throw new IllegalArgumentException(type.getSimpleName()
+            + " has no field " + name);
+      }
+      fields.set(id);
+    }
+    return this;
+  }
+
+  /**
+   * @return the ids of the fields of <i>type</i> to decode, or null if all
+   *   of them are wanted. The result must not be modified.
+   */
+  public BitSet getFields(Class<?> type) {
+    return fields_.get(type);
+  }
+
+  private static Map<String, Short> fieldIds(Class<?> type) {
+    Map<String, Short> ids = new HashMap<String, Short>();
+    for (Field field : type.getDeclaredFields()) {
+      if (Modifier.isStatic(field.getModifiers())
+          && field.getType() == TField.class) {
+        try {
+          field.setAccessible(true);
+          TField desc = (TField) field.get(null);
+          ids.put(desc.name, desc.id);
+        } catch (IllegalAccessException e) {
+          throw new IllegalArgumentException("Can't read fields of " + type, e);
+        }
+      }
+    }
+    return ids;
+  }
+}
@@ -22,6 +22,9 @@ package com.evernote.thrift.protocol;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+import java.util.BitSet;
 
 import com.evernote.thrift.TException;
 import com.evernote.thrift.transport.TTransport;
@@ -42,6 +45,10 @@ public abstract class TProtocol {
    */
   protected TTransport trans_;
 
+  private boolean lazyDecoding_ = false;
+
+  private TProjection projection_;
+
   /**
    * Constructor
    */
@@ -56,6 +63,40 @@ public abstract class TProtocol {
     return trans_;
   }
 
+  /**
+   * @param lazyDecoding if true, generated structs keep large string and
+   *   binary fields such as note content and resource bodies as raw bytes,
+   *   read through {@link #readBinarySlice()}, and only turn them into a
+   *   String or byte[] when they are first accessed
+   */
+  public void setLazyDecoding(boolean lazyDecoding) {
+    lazyDecoding_ = lazyDecoding;
+  }
+
+  public boolean isLazyDecoding() {
+    return lazyDecoding_;
+  }
+
+  /**
+   * @param projection the fields that generated structs read through this
+   *   protocol should decode, or null to decode every field
+   */
+  public void setProjection(TProjection projection) {
+    projection_ = projection;
+  }
+
+  public TProjection getProjection() {
+    return projection_;
+  }
+
+  /**
+   * @return the ids of the fields of <i>type</i> to decode, or null to
+   *   decode all of them
+   */
+  public BitSet getProjectedFields(Class<?> type) {
+    return projection_ == null ? null : projection_.getFields(type);
+  }
+
   /**
    * Writing methods.
    */
@@ -123,6 +164,19 @@ public abstract class TProtocol {
     writeBinary(buf, 0, buf.length);
   }
 
+  /**
+   * Writes a binary value read from <i>source</i>. Protocols should override
+   * this to pass the value to the transport in pieces; the default reads it
+   * into memory first.
+   */
+  public void writeBinary(TBinarySource source) throws TException {
+    try {
+      writeBinary(source.toByteArray());
+    } catch (IOException e) {
+      throw new TException("Failed to read from " + source, e);
+    }
+  }
+
   /**
    * Reading methods.
    */
@@ -169,6 +223,103 @@ public abstract class TProtocol {
 
   public abstract byte[] readBytes() throws TException;
 
+  /**
+   * Reads a string or binary value as raw bytes that the caller may keep.
+   * Protocols that can safely hand out a view of their input should override
+   * this to avoid the copy.
+   */
+  public ByteBuffer readBinarySlice() throws TException {
+    return ByteBuffer.wrap(readBytes());
+  }
+
+  /**
+   * Skips a value of a fixed width type or a string without decoding it.
+   * Returns false, having consumed nothing, for structs and containers or
+   * when the protocol has no shortcut for the type, in which case
+   * {@link TProtocolUtil#skip} reads the value instead.
+   */
+  public boolean skipPrimitive(byte type) throws TException {
+    return false;
+  }
+
+  /**
+   * Reads a binary value into <i>out</i> instead of returning it. Protocols
+   * should override this to pass the value through in bounded pieces; the
+   * default reads it whole first.
+   *
+   * @param digest if not null, updated with every byte of the value
+   * @return the length of the value
+   */
+  public int readBinary(WritableByteChannel out, MessageDigest digest) throws TException {
+    ByteBuffer bb = readBinary();
+    int length = bb.remaining();
+    if (digest != null) {
+      digest.update(bb.array(), bb.arrayOffset() + bb.position(), length);
+    }
+    writeFully(out, bb);
+    return length;
+  }
+
+  protected static void writeFully(WritableByteChannel out, ByteBuffer bb) throws TException {
+    try {
+      while (bb.hasRemaining()) {
+        out.write(bb);
+      }
+    } catch (IOException e) {
+      throw new TException("Failed to write to channel", e);
+    }
+  }
+
+  /**
+   * Reads a field header like {@link #readFieldBegin()}, but returns the type
+   * and id packed into an int instead of a new {@link TField}. Generated
+   * structs read every field through this, so protocols should override it
+   * to avoid the allocation.
+   *
+   * @return the header, to be unpacked with {@link #fieldType(int)} and
+   *   {@link #fieldId(int)}
+   */
+  public int readFieldBeginHeader() throws TException {
+    TField field = readFieldBegin();
+    return fieldHeader(field.type, field.id);
+  }
+
+  /**
+   * Reads a list header like {@link #readListBegin()} and returns only its
+   * size, without allocating a {@link TList}.
+   */
+  public int readListBeginSize() throws TException {
+    return readListBegin().size;
+  }
+
+  /**
+   * Reads a set header like {@link #readSetBegin()} and returns only its
+   * size, without allocating a {@link TSet}.
+   */
+  public int readSetBeginSize() throws TException {
+    return readSetBegin().size;
+  }
+
+  /**
+   * Reads a map header like {@link #readMapBegin()} and returns only its
+   * size, without allocating a {@link TMap}.
+   */
+  public int readMapBeginSize() throws TException {
+    return readMapBegin().size;
+  }
+
+  public static int fieldHeader(byte type, short id) {
+    return (type << 16) | (id & 0xffff);
+  }
+
+  public static byte fieldType(int fieldHeader) {
+    return (byte) (fieldHeader >> 16);
+  }
+
+  public static short fieldId(int fieldHeader) {
+    return (short) fieldHeader;
+  }
+
   /**
    * Reset any internal state back to a blank slate. This method only needs to
    * be implemented for stateful protocols.
@@ -73,6 +73,9 @@ public class TProtocolUtil {
     if (maxDepth <= 0) {
       throw new TException("Maximum skip depth exceeded");
     }
+    if (prot.skipPrimitive(type)) {
+      return;
+    }
     switch (type) {
     case TType.BOOL:
       {
@@ -113,11 +116,11 @@ public class TProtocolUtil {
       {
         prot.readStructBegin();
         while (true) {
-          TField field = prot.readFieldBegin();
-          if (field.type == TType.STOP) {
+          byte fieldType = TProtocol.fieldType(prot.readFieldBeginHeader());
+          if (fieldType == TType.STOP) {
             break;
           }
-          skip(prot, field.type, maxDepth - 1);
+          skip(prot, fieldType, maxDepth - 1);
           prot.readFieldEnd();
         }
         prot.readStructEnd();
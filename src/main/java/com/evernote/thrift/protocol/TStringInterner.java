@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.protocol;
+
+/**
+ * A bounded cache of GUID strings, shared by the {@link TBinaryProtocol}
+ * instances it is set on so that the notebook, tag and note GUIDs repeated
+ * across many structs and accounts decode to one String instance each.
+ *
+ * The cache is a fixed size direct-mapped table: a GUID displaces whatever
+ * other GUID hashed to the same slot, so memory stays bounded and lookups
+ * take no locks. Only strings of the 36 character GUID form are cached; a
+ * hit allocates nothing.
+ *
+ * This class is thread safe.
+ */
+public class TStringInterner {
+
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  static final int GUID_LENGTH = 36;
+
+  private final String[] table_;
+  private final int mask_;
+
+  public TStringInterner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param capacity the number of slots, rounded up to a power of two
+   */
+  public TStringInterner(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    table_ = new String[size];
+    mask_ = size - 1;
+  }
+
+  public int getCapacity() {
+    return table_.length;
+  }
+
+  /**
+   * Returns the cached string equal to the ASCII bytes <i>buf[off..off+len)</i>,
+   * caching a new one if there is none. Returns null if the bytes are not
+   * shaped like a GUID.
+   */
+  String intern(byte[] buf, int off, int len) {
+    if (len != GUID_LENGTH) {
+      return null;
+    }
+    int hash = 0;
+    for (int i = 0; i < len; i++) {
+      byte b = buf[off + i];
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (b != '-') {
+          return null;
+        }
+      } else if (!((b >= '0' && b <= '9') || (b >= 'a' && b <= 'f')
+          || (b >= 'A' && b <= 'F'))) {
+        return null;
+      }
+      hash = 31 * hash + b;
+    }
+    // Same hash as String.hashCode, spread so nearby GUIDs use distinct slots
+    int slot = (hash ^ (hash >>> 16)) & mask_;
+    String cached = table_[slot];
+    if (cached != null && matches(cached, buf, off)) {
+      return cached;
+    }
+    char[] chars = new char[len];
+    for (int i = 0; i < len; i++) {
+      chars[i] = (char) buf[off + i];
+    }
+    String guid = new String(chars);
+    table_[slot] = guid;
+    return guid;
+  }
+
+  private static boolean matches(String cached, byte[] buf, int off) {
+    for (int i = 0; i < GUID_LENGTH; i++) {
+      if (cached.charAt(i) != buf[off + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
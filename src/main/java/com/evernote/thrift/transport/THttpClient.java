@@ -19,26 +19,42 @@
 
 package com.evernote.thrift.transport;
 
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import java.net.URL;
 import java.net.HttpURLConnection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.evernote.thrift.TByteArrayOutputStream;
+
 /**
  * HTTP implementation of the TTransport interface. Used for working with a
  * Thrift web services implementation.
  *
+ * By default each request goes through {@link HttpURLConnection}. When a
+ * {@link THttpConnectionPool} is supplied, requests are sent over persistent
+ * connections leased from that pool instead.
+ *
+ * With {@link #setBufferResponse(boolean)} enabled, each response body is read
+ * in full into a reusable buffer, which lets {@link com.evernote.thrift.protocol.TBinaryProtocol}
+ * decode directly from memory instead of pulling a few bytes at a time from
+ * the socket stream.
+ *
+ * With {@link #setChunkedStreamingMode(int)} enabled, a request that grows
+ * beyond one chunk is sent while it is still being serialized, using chunked
+ * transfer encoding, so a large upload is never held in memory a second time.
+ *
  */
 public class THttpClient extends TTransport {
 
   private URL url_ = null;
 
-  private final ByteArrayOutputStream requestBuffer_ =
-    new ByteArrayOutputStream();
+  private TByteArrayOutputStream requestBuffer_ =
+    new TByteArrayOutputStream();
 
   private InputStream inputStream_ = null;
 
@@ -48,12 +64,52 @@ public class THttpClient extends TTransport {
 
   private Map<String,String> customHeaders_ = null;
 
+  private final THttpConnectionPool connectionPool_;
+
+  /**
+   * Response buffers larger than this are dropped after use rather than kept
+   * around for the next request.
+   */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private static final int MIN_BUFFER_SIZE = 8192;
+
+  private boolean bufferResponse_ = false;
+
+  private byte[] responseBuffer_ = null;
+
+  private int responsePos_ = 0;
+
+  private int responseLen_ = -1;
+
+  // Set once a reader keeps slices of responseBuffer_, which then must not be reused
+  private boolean responseBufferShared_ = false;
+
+  private int chunkSize_ = 0;
+
+  private OutputStream requestStream_ = null;
+
+  private HttpURLConnection streamingConnection_ = null;
+
+  private THttpConnection streamingPooledConnection_ = null;
+
   public THttpClient(String url) throws TTransportException {
+    this(url, null);
+  }
+
+  /**
+   * @param url the Thrift endpoint
+   * @param connectionPool pool to lease persistent connections from, or null
+   *   to open a new {@link HttpURLConnection} per request
+   */
+  public THttpClient(String url, THttpConnectionPool connectionPool)
+      throws TTransportException {
     try {
       url_ = new URL(url);
     } catch (IOException iox) {
       throw new TTransportException(iox);
     }
+    connectionPool_ = connectionPool;
   }
 
   public void setConnectTimeout(int timeout) {
@@ -75,9 +131,36 @@ public class THttpClient extends TTransport {
     customHeaders_.put(key, value);
   }
 
+  /**
+   * @param bufferResponse if true, read each response body completely into
+   *   memory before it is decoded
+   */
+  public void setBufferResponse(boolean bufferResponse) {
+    bufferResponse_ = bufferResponse;
+  }
+
+  public boolean isBufferResponse() {
+    return bufferResponse_;
+  }
+
+  /**
+   * @param chunkSize once a request grows past this many bytes, open the
+   *   connection and stream the rest of it in chunks of this size. Zero, the
+   *   default, buffers each request in full and sends it with a Content-Length.
+   */
+  public void setChunkedStreamingMode(int chunkSize) {
+    if (chunkSize < 0) {
+      throw new IllegalArgumentException("chunkSize must not be negative");
+    }
+    chunkSize_ = chunkSize;
+  }
+
   public void open() {}
 
   public void close() {
+    if (requestStream_ != null) {
+      abortStreaming();
+    }
     if (null != inputStream_) {
       try {
         inputStream_.close();
@@ -86,6 +169,13 @@ public class THttpClient extends TTransport {
       }
       inputStream_ = null;
     }
+    responsePos_ = 0;
+    responseLen_ = -1;
+    if (responseBuffer_ != null && (responseBufferShared_
+        || responseBuffer_.length > MAX_RETAINED_BUFFER_SIZE)) {
+      responseBuffer_ = null;
+      responseBufferShared_ = false;
+    }
   }
 
   public boolean isOpen() {
@@ -93,6 +183,16 @@ public class THttpClient extends TTransport {
   }
 
   public int read(byte[] buf, int off, int len) throws TTransportException {
+    if (responseLen_ >= 0) {
+      int remaining = responseLen_ - responsePos_;
+      if (remaining <= 0) {
+        throw new TTransportException("No more data available.");
+      }
+      int ret = Math.min(len, remaining);
+      System.arraycopy(responseBuffer_, responsePos_, buf, off, ret);
+      responsePos_ += ret;
+      return ret;
+    }
     if (inputStream_ == null) {
       throw new TTransportException("Response buffer is empty, no request.");
     }
@@ -107,51 +207,270 @@ public class THttpClient extends TTransport {
     }
   }
 
-  public void write(byte[] buf, int off, int len) {
+  public void write(byte[] buf, int off, int len) throws TTransportException {
+    if (requestStream_ == null && chunkSize_ > 0
+        && requestBuffer_.len() + len >= chunkSize_) {
+      // Start sending before a large write lands in the buffer, so that it
+      // goes straight to the stream instead of being copied onto the heap
+      startStreaming();
+    }
+    if (requestStream_ != null) {
+      try {
+        requestStream_.write(buf, off, len);
+      } catch (IOException iox) {
+        abortStreaming();
+        throw new TTransportException(iox);
+      }
+      return;
+    }
     requestBuffer_.write(buf, off, len);
   }
 
+  /** @return the capacity of the request buffer, for tests */
+  int getRequestBufferCapacity() {
+    return requestBuffer_.get().length;
+  }
+
+  public byte[] getBuffer() {
+    return responseLen_ >= 0 ? responseBuffer_ : null;
+  }
+
+  public int getBufferPosition() {
+    return responseLen_ >= 0 ? responsePos_ : 0;
+  }
+
+  public int getBytesRemainingInBuffer() {
+    return responseLen_ >= 0 ? responseLen_ - responsePos_ : -1;
+  }
+
+  public void consumeBuffer(int len) {
+    responsePos_ += len;
+  }
+
+  public boolean shareBuffer() {
+    if (responseLen_ < 0) {
+      return false;
+    }
+    responseBufferShared_ = true;
+    return true;
+  }
+
   public void flush() throws TTransportException {
-    // Extract request and reset buffer
-    byte[] data = requestBuffer_.toByteArray();
-    requestBuffer_.reset();
+    if (requestStream_ != null) {
+      finishStreaming();
+      return;
+    }
+
+    // Send the request straight from the buffer, without copying it
+    byte[] data = requestBuffer_.get();
+    int len = requestBuffer_.len();
+
+    // Let go of the previous response so its connection can be reused
+    close();
 
     try {
-      // Create connection object
-      HttpURLConnection connection = (HttpURLConnection)url_.openConnection();
+      if (connectionPool_ != null) {
+        inputStream_ = postPooled(data, len);
+        if (bufferResponse_) {
+          readResponse(-1);
+        }
+        return;
+      }
+
+      HttpURLConnection connection = openConnection();
+      connection.setFixedLengthStreamingMode(len);
+      connection.connect();
+      connection.getOutputStream().write(data, 0, len);
+      receive(connection);
+    } catch (IOException iox) {
+      throw toTransportException(iox);
+    } finally {
+      resetRequestBuffer();
+    }
+  }
+
+  private HttpURLConnection openConnection() throws IOException {
+    // Create connection object
+    HttpURLConnection connection = (HttpURLConnection)url_.openConnection();
 
-      // Timeouts, only if explicitly set
-      if (connectTimeout_ > 0) {
-        connection.setConnectTimeout(connectTimeout_);
+    // Timeouts, only if explicitly set
+    if (connectTimeout_ > 0) {
+      connection.setConnectTimeout(connectTimeout_);
+    }
+    if (readTimeout_ > 0) {
+      connection.setReadTimeout(readTimeout_);
+    }
+
+    // Make the request
+    connection.setRequestMethod("POST");
+    for (Map.Entry<String, String> header : requestHeaders().entrySet()) {
+      connection.setRequestProperty(header.getKey(), header.getValue());
+    }
+    connection.setDoOutput(true);
+    return connection;
+  }
+
+  private void receive(HttpURLConnection connection) throws IOException {
+    int responseCode = connection.getResponseCode();
+    if (responseCode != HttpURLConnection.HTTP_OK) {
+      throw new THttpConnection.THttpStatusException(responseCode);
+    }
+
+    // Read the responses
+    inputStream_ = connection.getInputStream();
+    if (bufferResponse_) {
+      readResponse(connection.getContentLength());
+    }
+  }
+
+  /**
+   * Opens the connection for a request that has outgrown one chunk and sends
+   * what has been buffered so far.
+   */
+  private void startStreaming() throws TTransportException {
+    close();
+    try {
+      if (connectionPool_ != null) {
+        streamingPooledConnection_ = connectionPool_.lease(url_, connectTimeout_);
+        requestStream_ = streamingPooledConnection_.beginChunkedPost(
+            requestPath(), readTimeout_, requestHeaders(), chunkSize_);
+      } else {
+        streamingConnection_ = openConnection();
+        streamingConnection_.setChunkedStreamingMode(chunkSize_);
+        streamingConnection_.connect();
+        requestStream_ = streamingConnection_.getOutputStream();
       }
-      if (readTimeout_ > 0) {
-        connection.setReadTimeout(readTimeout_);
+      requestStream_.write(requestBuffer_.get(), 0, requestBuffer_.len());
+    } catch (IOException iox) {
+      abortStreaming();
+      throw new TTransportException(iox);
+    } finally {
+      resetRequestBuffer();
+    }
+  }
+
+  private void finishStreaming() throws TTransportException {
+    try {
+      requestStream_.close();
+      requestStream_ = null;
+      if (streamingPooledConnection_ != null) {
+        // From here on the response stream owns the connection
+        THttpConnection connection = streamingPooledConnection_;
+        inputStream_ = connection.readResponse();
+        streamingPooledConnection_ = null;
+        if (bufferResponse_) {
+          readResponse(-1);
+        }
+      } else {
+        HttpURLConnection connection = streamingConnection_;
+        streamingConnection_ = null;
+        receive(connection);
       }
+    } catch (IOException iox) {
+      abortStreaming();
+      throw toTransportException(iox);
+    }
+  }
 
-      // Make the request
-      connection.setRequestMethod("POST");
-      connection.setRequestProperty("Content-Type", "application/x-thrift");
-      connection.setRequestProperty("Accept", "application/x-thrift");
-      connection.setRequestProperty("User-Agent", "Java/THttpClient");
-      if (customHeaders_ != null) {
-        for (Map.Entry<String, String> header : customHeaders_.entrySet()) {
-          connection.setRequestProperty(header.getKey(), header.getValue());
+  private void abortStreaming() {
+    requestStream_ = null;
+    if (streamingPooledConnection_ != null) {
+      connectionPool_.release(streamingPooledConnection_, false);
+      streamingPooledConnection_ = null;
+    }
+    if (streamingConnection_ != null) {
+      streamingConnection_.disconnect();
+      streamingConnection_ = null;
+    }
+  }
+
+  private void resetRequestBuffer() {
+    if (requestBuffer_.get().length > MAX_RETAINED_BUFFER_SIZE) {
+      requestBuffer_ = new TByteArrayOutputStream();
+    } else {
+      requestBuffer_.reset();
+    }
+  }
+
+  private static TTransportException toTransportException(IOException iox) {
+    if (iox instanceof THttpConnection.THttpStatusException) {
+      return new TTransportException(iox.getMessage());
+    }
+    return new TTransportException(iox);
+  }
+
+  /**
+   * Drains the response stream into the response buffer and closes it.
+   *
+   * @param contentLength the advertised body length, or -1 if unknown
+   */
+  private void readResponse(int contentLength) throws IOException {
+    InputStream in = inputStream_;
+    inputStream_ = null;
+    try {
+      byte[] buf = responseBuffer_;
+      int wanted = Math.max(contentLength, MIN_BUFFER_SIZE);
+      if (buf == null || buf.length < wanted || responseBufferShared_) {
+        buf = new byte[wanted];
+        responseBufferShared_ = false;
+      }
+      int len = 0;
+      while (true) {
+        if (len == buf.length) {
+          byte[] grown = new byte[buf.length * 2];
+          System.arraycopy(buf, 0, grown, 0, len);
+          buf = grown;
+        }
+        int ret = in.read(buf, len, buf.length - len);
+        if (ret == -1) {
+          break;
         }
+        len += ret;
       }
-      connection.setDoOutput(true);
-      connection.connect();
-      connection.getOutputStream().write(data);
+      responseBuffer_ = buf;
+      responsePos_ = 0;
+      responseLen_ = len;
+    } finally {
+      in.close();
+    }
+  }
+
+  private InputStream postPooled(byte[] data, int len) throws IOException,
+      TTransportException {
+    String path = requestPath();
+    Map<String, String> headers = requestHeaders();
 
-      int responseCode = connection.getResponseCode();
-      if (responseCode != HttpURLConnection.HTTP_OK) {
-        throw new TTransportException("HTTP Response code: " + responseCode);
+    for (int attempt = 0;; attempt++) {
+      THttpConnection connection = connectionPool_.lease(url_, connectTimeout_);
+      try {
+        return connection.post(path, readTimeout_, headers, data, 0, len);
+      } catch (THttpConnection.StaleConnectionException sce) {
+        // The server dropped an idle keep-alive connection, try another once.
+        // Calls are not idempotent, so never more than that.
+        connectionPool_.release(connection, false);
+        if (attempt > 0) {
+          throw sce;
+        }
+      } catch (IOException iox) {
+        connectionPool_.release(connection, false);
+        throw iox;
       }
+    }
+  }
 
-      // Read the responses
-      inputStream_ = connection.getInputStream();
+  private String requestPath() {
+    String path = url_.getFile();
+    return path.length() == 0 ? "/" : path;
+  }
 
-    } catch (IOException iox) {
-      throw new TTransportException(iox);
+  private Map<String, String> requestHeaders() {
+    Map<String, String> headers = new LinkedHashMap<String, String>();
+    headers.put("Content-Type", "application/x-thrift");
+    headers.put("Accept", "application/x-thrift");
+    headers.put("User-Agent", "Java/THttpClient");
+    if (customHeaders_ != null) {
+      headers.putAll(customHeaders_);
     }
+    return headers;
   }
 }
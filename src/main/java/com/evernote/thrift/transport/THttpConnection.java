@@ -0,0 +1,656 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A single persistent HTTP/1.1 connection owned by a
+ * {@link THttpConnectionPool}. Speaks just enough HTTP to POST a Thrift
+ * request and stream back the response body.
+ *
+ */
+class THttpConnection {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /** Unread response bytes we are willing to drain to keep the socket alive. */
+  private static final int MAX_DRAIN = 64 * 1024;
+
+  private static final byte[] CRLF = { '\r', '\n' };
+  private static final byte[] LAST_CHUNK = { '0', '\r', '\n', '\r', '\n' };
+
+  // Subject alternative name types, RFC 5280 section 4.2.1.6
+  private static final int SAN_DNS = 2;
+  private static final int SAN_IP = 7;
+
+  private final THttpConnectionPool pool_;
+  private final String route_;
+  private final String hostHeader_;
+  private final Socket socket_;
+  private final InputStream in_;
+  private final OutputStream out_;
+  private final long createdAt_;
+
+  private long lastUsedAt_;
+  private int useCount_ = 0;
+
+  THttpConnection(THttpConnectionPool pool, String route, String host,
+      int port, boolean secure, int connectTimeout) throws IOException {
+    pool_ = pool;
+    route_ = route;
+    hostHeader_ = port == (secure ? 443 : 80) ? host : host + ":" + port;
+
+    Socket socket = new Socket();
+    try {
+      socket.setTcpNoDelay(true);
+      socket.setKeepAlive(true);
+      socket.connect(new InetSocketAddress(host, port), connectTimeout);
+      if (secure) {
+        SSLSocketFactory factory = pool.getSSLSocketFactory();
+        SSLSocket sslSocket = (SSLSocket)factory.createSocket(socket, host, port, true);
+        socket = sslSocket;
+        sslSocket.startHandshake();
+        Certificate[] chain = sslSocket.getSession().getPeerCertificates();
+        if (chain.length == 0 || !(chain[0] instanceof X509Certificate)
+            || !verifyHostname(host, (X509Certificate)chain[0])) {
+          throw new IOException("Hostname verification failed for " + host);
+        }
+      }
+    } catch (IOException iox) {
+      closeQuietly(socket);
+      throw iox;
+    }
+
+    socket_ = socket;
+    in_ = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+    out_ = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+    createdAt_ = System.currentTimeMillis();
+    lastUsedAt_ = createdAt_;
+  }
+
+  String getRoute() {
+    return route_;
+  }
+
+  long getCreatedAt() {
+    return createdAt_;
+  }
+
+  long getLastUsedAt() {
+    return lastUsedAt_;
+  }
+
+  /**
+   * @return true if this connection has already carried a previous exchange,
+   *   in which case the server may have closed it while it sat idle.
+   */
+  boolean isReused() {
+    return useCount_ > 0;
+  }
+
+  /**
+   * Sends a POST and reads the response headers.
+   *
+   * @return a stream over the response body. Reading it to the end, or
+   *   closing it, hands the connection back to the pool.
+   * @throws THttpStatusException if the server answered with anything but 200
+   */
+  InputStream post(String path, int readTimeout, Map<String, String> headers,
+      byte[] data, int off, int len) throws IOException {
+    try {
+      writeHead(path, readTimeout, headers, len);
+      out_.write(data, off, len);
+      out_.flush();
+    } catch (IOException iox) {
+      if (isStale(iox)) {
+        throw new StaleConnectionException(iox);
+      }
+      throw iox;
+    }
+    return readResponse();
+  }
+
+  /**
+   * Starts a POST whose body is sent with chunked transfer encoding. Once the
+   * returned stream has been closed, call {@link #readResponse()}.
+   *
+   * @param chunkSize bytes to collect before each chunk goes on the wire
+   */
+  OutputStream beginChunkedPost(String path, int readTimeout,
+      Map<String, String> headers, int chunkSize) throws IOException {
+    writeHead(path, readTimeout, headers, -1);
+    return new ChunkedRequestBody(chunkSize);
+  }
+
+  private void writeHead(String path, int readTimeout,
+      Map<String, String> headers, int contentLength) throws IOException {
+    socket_.setSoTimeout(readTimeout);
+
+    StringBuilder head = new StringBuilder(256);
+    head.append("POST ").append(path).append(" HTTP/1.1\r\n");
+    head.append("Host: ").append(hostHeader_).append("\r\n");
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+    }
+    if (contentLength >= 0) {
+      head.append("Content-Length: ").append(contentLength).append("\r\n");
+    } else {
+      head.append("Transfer-Encoding: chunked\r\n");
+    }
+    head.append("Connection: keep-alive\r\n\r\n");
+    out_.write(head.toString().getBytes("ISO-8859-1"));
+  }
+
+  /**
+   * Reads the status line and headers of the response to the request just
+   * sent.
+   *
+   * @return a stream over the response body
+   * @throws THttpStatusException if the server answered with anything but 200
+   */
+  InputStream readResponse() throws IOException {
+    // Only a failure before the first byte of the response can mean that
+    // the server dropped the idle connection without seeing the request
+    int first;
+    try {
+      first = in_.read();
+    } catch (IOException iox) {
+      if (isStale(iox)) {
+        throw new StaleConnectionException(iox);
+      }
+      throw iox;
+    }
+    if (first == -1) {
+      if (isReused()) {
+        throw new StaleConnectionException(null);
+      }
+      throw new IOException("Connection closed by server before response");
+    }
+    String statusLine = readLine(first);
+    boolean keepAlive = statusLine.startsWith("HTTP/1.1");
+    int responseCode = parseStatus(statusLine);
+
+    long contentLength = -1;
+    boolean chunked = false;
+    String line;
+    while ((line = readLine()) != null && line.length() > 0) {
+      int colon = line.indexOf(':');
+      if (colon <= 0) {
+        continue;
+      }
+      String name = line.substring(0, colon).trim();
+      String value = line.substring(colon + 1).trim();
+      if ("Content-Length".equalsIgnoreCase(name)) {
+        try {
+          contentLength = Long.parseLong(value);
+        } catch (NumberFormatException nfe) {
+          throw new IOException("Bad Content-Length: " + value);
+        }
+      } else if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+        chunked = value.toLowerCase().indexOf("chunked") >= 0;
+      } else if ("Connection".equalsIgnoreCase(name)) {
+        if ("close".equalsIgnoreCase(value)) {
+          keepAlive = false;
+        } else if ("keep-alive".equalsIgnoreCase(value)) {
+          keepAlive = true;
+        }
+      }
+    }
+    if (line == null) {
+      throw new IOException("Connection closed while reading response headers");
+    }
+    useCount_++;
+
+    if (responseCode != 200) {
+      throw new THttpStatusException(responseCode);
+    }
+    if (!chunked && contentLength < 0) {
+      // Body is delimited by the server closing the socket
+      keepAlive = false;
+    }
+    return new ResponseBody(chunked, contentLength, keepAlive);
+  }
+
+  void close() {
+    closeQuietly(socket_);
+  }
+
+  private static int parseStatus(String statusLine) throws IOException {
+    int start = statusLine.indexOf(' ');
+    if (!statusLine.startsWith("HTTP/") || start < 0) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+    int end = statusLine.indexOf(' ', start + 1);
+    try {
+      return Integer.parseInt(statusLine.substring(start + 1,
+          end < 0 ? statusLine.length() : end));
+    } catch (NumberFormatException nfe) {
+      throw new IOException("Malformed HTTP status line: " + statusLine);
+    }
+  }
+
+  /**
+   * A reused connection that fails with a reset or EOF is taken to have been
+   * closed by the server while idle. A timeout is not: the server may be
+   * working on the request.
+   */
+  private boolean isStale(IOException iox) {
+    return isReused() && !(iox instanceof InterruptedIOException);
+  }
+
+  /**
+   * Reads a CRLF terminated header line, or returns null on a clean EOF.
+   */
+  private String readLine() throws IOException {
+    return readLine(in_.read());
+  }
+
+  /**
+   * @param b the first byte of the line, already read
+   */
+  private String readLine(int b) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+    for (; b != -1; b = in_.read()) {
+      if (b == '\n') {
+        break;
+      }
+      if (b != '\r') {
+        line.write(b);
+      }
+    }
+    if (b == -1 && line.size() == 0) {
+      return null;
+    }
+    return line.toString("ISO-8859-1");
+  }
+
+  /**
+   * Checks that <i>cert</i> was issued for <i>host</i>, following RFC 2818:
+   * an IP address must equal one of the IP subject alternative names, and a
+   * host name must match one of the DNS names, or the most specific common
+   * name if the certificate has no DNS names. A wildcard may only stand for
+   * the whole leftmost label.
+   */
+  static boolean verifyHostname(String host, X509Certificate cert) {
+    String name = host.toLowerCase();
+    boolean ip = isIpAddress(name);
+    boolean hasDnsNames = false;
+    Collection<List<?>> altNames;
+    try {
+      altNames = cert.getSubjectAlternativeNames();
+    } catch (CertificateParsingException cpe) {
+      return false;
+    }
+    if (altNames != null) {
+      for (List<?> altName : altNames) {
+        int type = ((Integer)altName.get(0)).intValue();
+        Object value = altName.get(1);
+        if (!(value instanceof String)) {
+          continue;
+        }
+        if (type == SAN_IP && ip && name.equalsIgnoreCase((String)value)) {
+          return true;
+        }
+        if (type == SAN_DNS) {
+          hasDnsNames = true;
+          if (!ip && matchesDnsName(name, ((String)value).toLowerCase())) {
+            return true;
+          }
+        }
+      }
+    }
+    if (ip || hasDnsNames) {
+      return false;
+    }
+    String commonName = null;
+    try {
+      LdapName subject = new LdapName(cert.getSubjectX500Principal().getName());
+      // Rdns are ordered from the least specific, so the last CN wins
+      for (Rdn rdn : subject.getRdns()) {
+        if ("CN".equalsIgnoreCase(rdn.getType())) {
+          commonName = String.valueOf(rdn.getValue());
+        }
+      }
+    } catch (InvalidNameException ine) {
+      return false;
+    }
+    return commonName != null && matchesDnsName(name, commonName.toLowerCase());
+  }
+
+  private static boolean matchesDnsName(String host, String pattern) {
+    if (!pattern.startsWith("*.")) {
+      return host.equals(pattern);
+    }
+    int dot = host.indexOf('.');
+    return dot > 0 && host.substring(dot).equals(pattern.substring(1));
+  }
+
+  private static boolean isIpAddress(String host) {
+    if (host.indexOf(':') >= 0) {
+      return true;
+    }
+    for (int i = 0; i < host.length(); i++) {
+      char c = host.charAt(i);
+      if (c != '.' && (c < '0' || c > '9')) {
+        return false;
+      }
+    }
+    return host.length() > 0;
+  }
+
+  private static void closeQuietly(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException ioe) {
+      ;
+    }
+  }
+
+  /**
+   * Thrown when a reused connection turns out to have been closed or reset
+   * by the server before it sent a single byte, so the request may be
+   * retried once on another connection.
+   */
+  static class StaleConnectionException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    StaleConnectionException(IOException cause) {
+      super("Connection closed by server before response");
+      if (cause != null) {
+        initCause(cause);
+      }
+    }
+  }
+
+  /**
+   * Thrown for a complete non-200 response.
+   */
+  static class THttpStatusException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    final int responseCode;
+
+    THttpStatusException(int responseCode) {
+      super("HTTP Response code: " + responseCode);
+      this.responseCode = responseCode;
+    }
+  }
+
+  /**
+   * Request body stream that frames writes into HTTP chunks. Small writes are
+   * collected until a full chunk is available; large ones go straight out.
+   */
+  private class ChunkedRequestBody extends OutputStream {
+    private final byte[] chunk_;
+    private int count_ = 0;
+    private boolean closed_ = false;
+
+    ChunkedRequestBody(int chunkSize) {
+      chunk_ = new byte[chunkSize];
+    }
+
+    public void write(int b) throws IOException {
+      if (count_ == chunk_.length) {
+        flushChunk();
+      }
+      chunk_[count_++] = (byte)b;
+    }
+
+    public void write(byte[] buf, int off, int len) throws IOException {
+      if (closed_) {
+        throw new IOException("Request body already closed");
+      }
+      if (len >= chunk_.length) {
+        flushChunk();
+        writeChunk(buf, off, len);
+        return;
+      }
+      if (len > chunk_.length - count_) {
+        flushChunk();
+      }
+      System.arraycopy(buf, off, chunk_, count_, len);
+      count_ += len;
+    }
+
+    public void close() throws IOException {
+      if (closed_) {
+        return;
+      }
+      closed_ = true;
+      flushChunk();
+      out_.write(LAST_CHUNK);
+      out_.flush();
+    }
+
+    private void flushChunk() throws IOException {
+      if (count_ > 0) {
+        writeChunk(chunk_, 0, count_);
+        count_ = 0;
+      }
+    }
+
+    private void writeChunk(byte[] buf, int off, int len) throws IOException {
+      out_.write((Integer.toHexString(len) + "\r\n").getBytes("ISO-8859-1"));
+      out_.write(buf, off, len);
+      out_.write(CRLF);
+    }
+  }
+
+  /**
+   * Response body stream. Returns the connection to the pool once the body has
+   * been fully consumed, or discards it if the exchange cannot be completed.
+   */
+  private class ResponseBody extends InputStream {
+    private final boolean chunked_;
+    private final boolean keepAlive_;
+    private long remaining_;
+    private boolean eof_ = false;
+    private boolean released_ = false;
+
+    ResponseBody(boolean chunked, long contentLength, boolean keepAlive) {
+      chunked_ = chunked;
+      keepAlive_ = keepAlive;
+      remaining_ = chunked ? 0 : contentLength;
+      if (!chunked && contentLength == 0) {
+        finish();
+      }
+    }
+
+    public int read() throws IOException {
+      byte[] one = new byte[1];
+      int ret = read(one, 0, 1);
+      return ret == -1 ? -1 : one[0] & 0xff;
+    }
+
+    public int read(byte[] buf, int off, int len) throws IOException {
+      if (eof_) {
+        return -1;
+      }
+      if (released_) {
+        throw new IOException("Response body already closed");
+      }
+      if (len == 0) {
+        return 0;
+      }
+      try {
+        if (chunked_ && remaining_ == 0) {
+          nextChunk();
+          if (eof_) {
+            return -1;
+          }
+        }
+        int want = remaining_ < 0 ? len : (int)Math.min(len, remaining_);
+        int ret = in_.read(buf, off, want);
+        if (ret == -1) {
+          if (remaining_ < 0) {
+            finish();
+            return -1;
+          }
+          throw new IOException("Connection closed mid-response");
+        }
+        if (remaining_ > 0) {
+          remaining_ -= ret;
+          if (remaining_ == 0) {
+            if (chunked_) {
+              finishIfLastChunkBuffered();
+            } else {
+              finish();
+            }
+          }
+        }
+        return ret;
+      } catch (IOException iox) {
+        abandon();
+        throw iox;
+      }
+    }
+
+    public int available() throws IOException {
+      if (eof_ || released_ || remaining_ <= 0) {
+        return 0;
+      }
+      return (int)Math.min(in_.available(), remaining_);
+    }
+
+    public void close() throws IOException {
+      if (released_) {
+        return;
+      }
+      if (eof_) {
+        return;
+      }
+      // Try to drain a short tail so the socket stays usable
+      if (keepAlive_ && (chunked_ || remaining_ <= MAX_DRAIN)) {
+        try {
+          byte[] skip = new byte[BUFFER_SIZE];
+          long drained = 0;
+          int ret;
+          while (drained <= MAX_DRAIN && (ret = read(skip, 0, skip.length)) != -1) {
+            drained += ret;
+          }
+          if (eof_) {
+            return;
+          }
+        } catch (IOException iox) {
+          return;
+        }
+      }
+      abandon();
+    }
+
+    private void nextChunk() throws IOException {
+      String size = readLine();
+      if (size != null && size.length() == 0) {
+        // CRLF that terminated the previous chunk
+        size = readLine();
+      }
+      if (size == null) {
+        throw new IOException("Connection closed mid-chunk");
+      }
+      int semi = size.indexOf(';');
+      if (semi >= 0) {
+        size = size.substring(0, semi);
+      }
+      try {
+        remaining_ = Long.parseLong(size.trim(), 16);
+      } catch (NumberFormatException nfe) {
+        throw new IOException("Bad chunk size: " + size);
+      }
+      if (remaining_ == 0) {
+        // Skip trailers
+        String trailer;
+        while ((trailer = readLine()) != null && trailer.length() > 0) {
+          ;
+        }
+        finish();
+      }
+    }
+
+    /**
+     * Thrift reads exactly the message and never asks for the terminal chunk,
+     * so if it has already arrived behind the data, consume it now and hand
+     * the connection back instead of holding it until the next request.
+     */
+    private void finishIfLastChunkBuffered() throws IOException {
+      int len = CRLF.length + LAST_CHUNK.length;
+      if (in_.available() < len) {
+        return;
+      }
+      in_.mark(len);
+      byte[] tail = new byte[len];
+      int read = 0;
+      while (read < len) {
+        int ret = in_.read(tail, read, len - read);
+        if (ret == -1) {
+          break;
+        }
+        read += ret;
+      }
+      if (read == len && tail[0] == CRLF[0] && tail[1] == CRLF[1]) {
+        boolean last = true;
+        for (int i = 0; i < LAST_CHUNK.length; i++) {
+          last &= tail[CRLF.length + i] == LAST_CHUNK[i];
+        }
+        if (last) {
+          finish();
+          return;
+        }
+      }
+      in_.reset();
+    }
+
+    private void finish() {
+      eof_ = true;
+      if (!released_) {
+        released_ = true;
+        lastUsedAt_ = System.currentTimeMillis();
+        pool_.release(THttpConnection.this, keepAlive_);
+      }
+    }
+
+    private void abandon() {
+      if (!released_) {
+        released_ = true;
+        pool_.release(THttpConnection.this, false);
+      }
+    }
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.evernote.thrift.transport;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * A bounded pool of persistent HTTP/1.1 connections, keyed by scheme, host and
+ * port. Share one instance between every {@link THttpClient} that talks to the
+ * same set of NoteStore shards so that requests reuse warm TCP/TLS sessions
+ * instead of handshaking per call.
+ *
+ * At most {@link #getMaxConnectionsPerHost()} connections are open to any one
+ * host. When they are all leased, callers wait up to the lease timeout for one
+ * to be returned. Idle connections are dropped once they exceed the idle
+ * timeout or the maximum lifetime; this happens lazily on lease and release,
+ * or eagerly through {@link #closeExpiredConnections()}.
+ *
+ * This class is thread safe.
+ *
+ */
+public class THttpConnectionPool {
+
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+  public static final long DEFAULT_IDLE_TIMEOUT = 30 * 1000L;
+  public static final long DEFAULT_MAX_LIFETIME = 10 * 60 * 1000L;
+  public static final long DEFAULT_LEASE_TIMEOUT = 60 * 1000L;
+
+  private final int maxConnectionsPerHost_;
+  private long idleTimeout_ = DEFAULT_IDLE_TIMEOUT;
+  private long maxLifetime_ = DEFAULT_MAX_LIFETIME;
+  private long leaseTimeout_ = DEFAULT_LEASE_TIMEOUT;
+  private SSLSocketFactory sslSocketFactory_ = null;
+
+  private final Map<String, Route> routes_ = new HashMap<String, Route>();
+  private boolean closed_ = false;
+
+  // Metrics, guarded by this
+  private int leased_ = 0;
+  private int idle_ = 0;
+  private long created_ = 0;
+  private long reused_ = 0;
+  private long evicted_ = 0;
+  private long exhausted_ = 0;
+  private long leaseTimeouts_ = 0;
+
+  public THttpConnectionPool() {
+    this(DEFAULT_MAX_CONNECTIONS_PER_HOST);
+  }
+
+  public THttpConnectionPool(int maxConnectionsPerHost) {
+    if (maxConnectionsPerHost <= 0) {
+      throw new IllegalArgumentException("maxConnectionsPerHost must be positive");
+    }
+    maxConnectionsPerHost_ = maxConnectionsPerHost;
+  }
+
+  /**
+   * @param millis how long a connection may sit unused in the pool before it
+   *   is closed. Keep this below the server's keep-alive timeout.
+   */
+  public synchronized void setIdleTimeout(long millis) {
+    idleTimeout_ = millis;
+  }
+
+  /**
+   * @param millis how long a connection may live in total, regardless of use.
+   *   Bounds how long traffic stays pinned to one server behind a balancer.
+   */
+  public synchronized void setMaxLifetime(long millis) {
+    maxLifetime_ = millis;
+  }
+
+  /**
+   * @param millis how long a lease waits for a connection when the host is at
+   *   capacity, before failing with a {@link TTransportException}.
+   */
+  public synchronized void setLeaseTimeout(long millis) {
+    leaseTimeout_ = millis;
+  }
+
+  /**
+   * @param factory creates the TLS sockets of https connections, for example
+   *   to trust a private certificate authority. Null, the default, uses
+   *   {@link SSLSocketFactory#getDefault()}. Server certificates are checked
+   *   against the host name either way.
+   */
+  public synchronized void setSSLSocketFactory(SSLSocketFactory factory) {
+    sslSocketFactory_ = factory;
+  }
+
+  synchronized SSLSocketFactory getSSLSocketFactory() {
+    return sslSocketFactory_ != null ? sslSocketFactory_
+        : (SSLSocketFactory)SSLSocketFactory.getDefault();
+  }
+
+  public int getMaxConnectionsPerHost() {
+    return maxConnectionsPerHost_;
+  }
+
+  /** @return connections currently handed out to clients */
+  public synchronized int getLeasedConnections() {
+    return leased_;
+  }
+
+  /** @return open connections waiting in the pool */
+  public synchronized int getIdleConnections() {
+    return idle_;
+  }
+
+  /** @return connections opened since the pool was created */
+  public synchronized long getCreatedConnections() {
+    return created_;
+  }
+
+  /** @return leases served by an already open connection */
+  public synchronized long getReusedConnections() {
+    return reused_;
+  }
+
+  /** @return idle connections closed for exceeding the idle timeout or lifetime */
+  public synchronized long getEvictedConnections() {
+    return evicted_;
+  }
+
+  /** @return leases that found their host at capacity and had to wait */
+  public synchronized long getExhaustedLeases() {
+    return exhausted_;
+  }
+
+  /** @return leases that gave up after waiting for the lease timeout */
+  public synchronized long getLeaseTimeouts() {
+    return leaseTimeouts_;
+  }
+
+  /**
+   * Closes every idle connection that has outlived the idle timeout or the
+   * maximum lifetime. Long running services may call this periodically;
+   * otherwise it happens as a side effect of leasing.
+   */
+  public void closeExpiredConnections() {
+    List<THttpConnection> expired = new ArrayList<THttpConnection>();
+    synchronized (this) {
+      long now = System.currentTimeMillis();
+      for (Route route : routes_.values()) {
+        collectExpired(route, now, expired);
+      }
+    }
+    closeAll(expired);
+  }
+
+  /**
+   * Closes all idle connections and refuses further leases. Connections that
+   * are currently leased are closed as they are returned.
+   */
+  public void close() {
+    List<THttpConnection> idle = new ArrayList<THttpConnection>();
+    synchronized (this) {
+      closed_ = true;
+      for (Route route : routes_.values()) {
+        idle.addAll(route.idle);
+        idle_ -= route.idle.size();
+        route.idle.clear();
+      }
+      notifyAll();
+    }
+    closeAll(idle);
+  }
+
+  /**
+   * Leases a connection to the host of <i>url</i>, opening one if the host is
+   * below capacity. The caller must hand it back through the response stream
+   * or {@link #release(THttpConnection, boolean)}.
+   */
+  THttpConnection lease(URL url, int connectTimeout) throws TTransportException {
+    String protocol = url.getProtocol().toLowerCase();
+    boolean secure = "https".equals(protocol);
+    if (!secure && !"http".equals(protocol)) {
+      throw new TTransportException("Unsupported protocol: " + protocol);
+    }
+    String host = url.getHost();
+    int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+    String key = protocol + "://" + host + ":" + port;
+
+    List<THttpConnection> expired = new ArrayList<THttpConnection>();
+    THttpConnection connection = null;
+    try {
+      synchronized (this) {
+        Route route = routes_.get(key);
+        if (route == null) {
+          route = new Route();
+          routes_.put(key, route);
+        }
+        long deadline = System.currentTimeMillis() + leaseTimeout_;
+        boolean waited = false;
+        while (true) {
+          if (closed_) {
+            throw new TTransportException(TTransportException.NOT_OPEN,
+                "Connection pool is closed");
+          }
+          long now = System.currentTimeMillis();
+          collectExpired(route, now, expired);
+          if (!route.idle.isEmpty()) {
+            // Most recently used first, it is the least likely to be stale
+            connection = route.idle.removeLast();
+            idle_--;
+            route.leased++;
+            leased_++;
+            reused_++;
+            return connection;
+          }
+          if (route.leased < maxConnectionsPerHost_) {
+            route.leased++;
+            leased_++;
+            break;
+          }
+          if (!waited) {
+            exhausted_++;
+            waited = true;
+          }
+          long remaining = deadline - now;
+          if (remaining <= 0) {
+            leaseTimeouts_++;
+            throw new TTransportException(TTransportException.TIMED_OUT,
+                "Timed out waiting for a connection to " + key);
+          }
+          try {
+            wait(remaining);
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new TTransportException(TTransportException.TIMED_OUT,
+                "Interrupted waiting for a connection to " + key);
+          }
+        }
+      }
+    } finally {
+      closeAll(expired);
+    }
+
+    try {
+      connection = new THttpConnection(this, key, host, port, secure,
+          connectTimeout);
+    } catch (IOException iox) {
+      synchronized (this) {
+        routes_.get(key).leased--;
+        leased_--;
+        notifyAll();
+      }
+      throw new TTransportException(iox);
+    }
+    synchronized (this) {
+      created_++;
+    }
+    return connection;
+  }
+
+  /**
+   * Returns a leased connection. If <i>reusable</i> is false, or the pool has
+   * been closed, the connection is closed instead of being pooled.
+   */
+  void release(THttpConnection connection, boolean reusable) {
+    boolean close = !reusable;
+    synchronized (this) {
+      Route route = routes_.get(connection.getRoute());
+      route.leased--;
+      leased_--;
+      if (reusable && !closed_ && !isExpired(connection, System.currentTimeMillis())) {
+        route.idle.addLast(connection);
+        idle_++;
+      } else {
+        close = true;
+      }
+      notifyAll();
+    }
+    if (close) {
+      connection.close();
+    }
+  }
+
+  private void collectExpired(Route route, long now, List<THttpConnection> expired) {
+    for (Iterator<THttpConnection> it = route.idle.iterator(); it.hasNext();) {
+      THttpConnection connection = it.next();
+      if (isExpired(connection, now)) {
+        it.remove();
+        idle_--;
+        evicted_++;
+        expired.add(connection);
+      }
+    }
+  }
+
+  private boolean isExpired(THttpConnection connection, long now) {
+    return now - connection.getLastUsedAt() > idleTimeout_
+        || now - connection.getCreatedAt() > maxLifetime_;
+  }
+
+  private static void closeAll(List<THttpConnection> connections) {
+    for (THttpConnection connection : connections) {
+      connection.close();
+    }
+  }
+
+  private static class Route {
+    final LinkedList<THttpConnection> idle = new LinkedList<THttpConnection>();
+    int leased = 0;
+  }
+}
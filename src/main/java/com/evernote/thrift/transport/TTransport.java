@@ -151,4 +151,13 @@ public abstract class TTransport {
    * @param len
    */
   public void consumeBuffer(int len) {}
+
+  /**
+   * Promise not to reuse the current buffer for later reads, so that callers
+   * may keep slices of it. Returns false if this transport cannot make that
+   * promise, in which case callers must copy what they keep.
+   */
+  public boolean shareBuffer() {
+    return false;
+  }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.stub;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.notestore.NoteStoreIface;
+import com.evernote.edam.type.Notebook;
+
+public class AsyncNoteStoreClientTest {
+
+  final Set<String> IGNORE_METHODS = new HashSet<String>(Arrays.asList(
+      "getOutputProtocol", "getInputProtocol"));
+
+  final Executor sameThreadExecutor = new Executor() {
+    public void execute(Runnable command) {
+      command.run();
+    }
+  };
+
+  NoteStoreClient noteStoreClient;
+  AsyncNoteStoreClient client;
+  final List<String> returned = new ArrayList<String>();
+
+  @Before
+  public void initialize() throws Exception {
+    noteStoreClient = mock(NoteStoreClient.class);
+    StoreClientPool<NoteStoreClient> pool = new StoreClientPool<NoteStoreClient>(
+        null, NoteStoreClient.class, "https://example.com/shard/s1", "token", 0) {
+      @Override
+      NoteStoreClient lease() {
+        return noteStoreClient;
+      }
+
+      @Override
+      void release(NoteStoreClient c) {
+        returned.add("release");
+      }
+
+      @Override
+      void invalidate(NoteStoreClient c) {
+        returned.add("invalidate");
+      }
+    };
+    client = new AsyncNoteStoreClient(pool, sameThreadExecutor);
+  }
+
+  @Test
+  public void testWrappedMethods() {
+    Set<String> originalMethodNames = new HashSet<String>();
+    for (Method m : NoteStoreIface.class.getDeclaredMethods()) {
+      originalMethodNames.add(m.getName());
+    }
+    for (Method m : AsyncNoteStoreClient.class.getDeclaredMethods()) {
+      originalMethodNames.remove(m.getName());
+    }
+    originalMethodNames.removeAll(IGNORE_METHODS);
+
+    if (!originalMethodNames.isEmpty()) {
+      fail("Following methods are not implemented: "
+          + originalMethodNames.toString());
+    }
+  }
+
+  @Test
+  public void testCallbackReceivesResult() throws Exception {
+    final List<Notebook> notebooks = new ArrayList<Notebook>();
+    stub(noteStoreClient.listNotebooks()).toReturn(notebooks);
+
+    final List<Object> received = new ArrayList<Object>();
+    List<Notebook> result = client.listNotebooks(
+        new OnClientCallback<List<Notebook>>() {
+          public void onSuccess(List<Notebook> data) {
+            received.add(data);
+          }
+
+          public void onException(Exception exception) {
+            received.add(exception);
+          }
+        }).get();
+
+    assertSame(notebooks, result);
+    assertEquals(1, received.size());
+    assertSame(notebooks, received.get(0));
+  }
+
+  @Test
+  public void testExceptionIsDelivered() throws Exception {
+    EDAMNotFoundException notFound = new EDAMNotFoundException();
+    stub(noteStoreClient.getNotebook(anyString())).toThrow(notFound);
+
+    final List<Exception> received = new ArrayList<Exception>();
+    try {
+      client.getNotebook("guid", new OnClientCallback<Notebook>() {
+        public void onSuccess(Notebook data) {
+          fail("call should fail");
+        }
+
+        public void onException(Exception exception) {
+          received.add(exception);
+        }
+      }).get();
+      fail("call should fail");
+    } catch (ExecutionException e) {
+      assertSame(notFound, e.getCause());
+    }
+    assertEquals(1, received.size());
+    assertSame(notFound, received.get(0));
+  }
+
+  @Test
+  public void testThrowingSuccessCallbackKeepsResult() throws Exception {
+    final List<Notebook> notebooks = new ArrayList<Notebook>();
+    stub(noteStoreClient.listNotebooks()).toReturn(notebooks);
+
+    final List<String> releasedBeforeCallback = new ArrayList<String>();
+    List<Notebook> result = client.listNotebooks(
+        new OnClientCallback<List<Notebook>>() {
+          public void onSuccess(List<Notebook> data) {
+            releasedBeforeCallback.addAll(returned);
+            throw new IllegalStateException("callback failed");
+          }
+
+          public void onException(Exception exception) {
+            fail("call should succeed");
+          }
+        }).get();
+
+    assertSame(notebooks, result);
+    assertEquals(Arrays.asList("release"), releasedBeforeCallback);
+  }
+
+  @Test
+  public void testThrowingExceptionCallbackKeepsFailure() throws Exception {
+    EDAMNotFoundException notFound = new EDAMNotFoundException();
+    stub(noteStoreClient.getNotebook(anyString())).toThrow(notFound);
+
+    final List<String> releasedBeforeCallback = new ArrayList<String>();
+    try {
+      client.getNotebook("guid", new OnClientCallback<Notebook>() {
+        public void onSuccess(Notebook data) {
+          fail("call should fail");
+        }
+
+        public void onException(Exception exception) {
+          releasedBeforeCallback.addAll(returned);
+          throw new IllegalStateException("callback failed");
+        }
+      }).get();
+      fail("call should fail");
+    } catch (ExecutionException e) {
+      assertSame(notFound, e.getCause());
+    }
+    assertEquals(Arrays.asList("release"), releasedBeforeCallback);
+  }
+
+}
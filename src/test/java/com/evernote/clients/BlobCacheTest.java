@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BlobCacheTest {
+
+  File directory;
+
+  @Before
+  public void initialize() throws Exception {
+    directory = File.createTempFile("blobcache", "");
+    directory.delete();
+  }
+
+  @After
+  public void cleanup() {
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void testMemoryEvictsLeastRecentlyUsed() {
+    MemoryBlobCache cache = new MemoryBlobCache(30);
+    cache.put("a", new byte[10]);
+    cache.put("b", new byte[10]);
+    cache.put("c", new byte[10]);
+    cache.get("a");
+    cache.put("d", new byte[10]);
+
+    assertNull(cache.get("b"));
+    assertEquals(10, cache.get("a").length);
+    assertEquals(10, cache.get("d").length);
+    assertEquals(30, cache.getSize());
+
+    cache.put("huge", new byte[31]);
+    assertNull(cache.get("huge"));
+    assertEquals(3, cache.getHits());
+    assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void testDiskSurvivesRestart() throws Exception {
+    DiskBlobCache disk = new DiskBlobCache(directory, 25);
+    disk.put("k1", new byte[] { 1, 2, 3 });
+    disk.put("k2", new byte[20]);
+    disk.put("k3", new byte[5]);
+    assertNull(disk.get("k1"));
+    assertEquals(25, disk.getSize());
+
+    disk = new DiskBlobCache(directory, 25);
+    assertEquals(25, disk.getSize());
+    assertEquals(20, disk.get("k2").length);
+    disk.remove("k2");
+    assertNull(disk.get("k2"));
+    assertEquals(5, disk.getSize());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDiskRejectsPathKeys() throws Exception {
+    new DiskBlobCache(directory, 25).put("../escape", new byte[1]);
+  }
+
+  @Test
+  public void testMemoryInFrontOfDisk() throws Exception {
+    DiskBlobCache disk = new DiskBlobCache(directory, 1000);
+    MemoryBlobCache memory = new MemoryBlobCache(10, disk);
+    byte[] value = new byte[] { 4, 5, 6, 7, 8, 9 };
+    memory.put("first", value);
+    memory.put("second", new byte[6]);
+
+    // Evicted from memory, but still on disk
+    assertArrayEquals(value, memory.get("first"));
+    assertEquals(12, disk.getSize());
+    assertEquals(6, memory.getSize());
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMNotFoundException;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.type.Note;
+
+public class BulkNoteFetcherTest {
+
+  @Test
+  public void testFetchesConcurrently() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient();
+    BulkNoteFetcher fetcher = new BulkNoteFetcher(client);
+    fetcher.setMaxConcurrency(3);
+    RecordingHandler handler = new RecordingHandler();
+
+    fetcher.getNotes(guids(20), true, false, false, false, handler);
+
+    assertEquals(20, handler.notes.size());
+    assertTrue(handler.failures.isEmpty());
+    for (String guid : guids(20)) {
+      assertEquals(guid, handler.notes.get(guid).getGuid());
+      assertTrue(handler.notes.get(guid).isSetContent());
+    }
+    assertEquals(20, client.calls.get());
+    assertTrue(client.maxConcurrent.get() > 1);
+    assertTrue(client.maxConcurrent.get() <= 3);
+  }
+
+  @Test
+  public void testFailureDoesNotStopOthers() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient();
+    client.missing = "note-4";
+    BulkNoteFetcher fetcher = new BulkNoteFetcher(client);
+    RecordingHandler handler = new RecordingHandler();
+
+    fetcher.getNotes(guids(10), false, false, false, false, handler);
+
+    assertEquals(9, handler.notes.size());
+    assertFalse(handler.notes.containsKey("note-4"));
+    assertFalse(handler.notes.get("note-0").isSetContent());
+    assertEquals(1, handler.failures.size());
+    assertTrue(handler.failures.get("note-4") instanceof EDAMNotFoundException);
+  }
+
+  @Test
+  public void testSharedExecutor() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      FakeNoteStoreClient client = new FakeNoteStoreClient();
+      BulkNoteFetcher fetcher = new BulkNoteFetcher(client);
+      fetcher.setMaxConcurrency(8);
+      fetcher.setExecutor(executor);
+      RecordingHandler handler = new RecordingHandler();
+
+      fetcher.getNotes(guids(12), false, false, false, false, handler);
+
+      assertEquals(12, handler.notes.size());
+      assertTrue(client.maxConcurrent.get() <= 2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(timeout = 5000)
+  public void testThrowingHandlerDoesNotStallFetch() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient();
+    BulkNoteFetcher fetcher = new BulkNoteFetcher(client);
+    fetcher.setMaxConcurrency(1);
+    final RuntimeException bug = new IllegalStateException("handler bug");
+    RecordingHandler handler = new RecordingHandler() {
+      @Override
+      public void onNote(String guid, Note note) {
+        super.onNote(guid, note);
+        throw bug;
+      }
+    };
+
+    try {
+      fetcher.getNotes(guids(5), false, false, false, false, handler);
+      fail("the handler's exception should be rethrown");
+    } catch (IllegalStateException e) {
+      assertSame(bug, e);
+    }
+    assertEquals(5, handler.notes.size());
+  }
+
+  private static List<String> guids(int count) {
+    List<String> guids = new ArrayList<String>();
+    for (int i = 0; i < count; i++) {
+      guids.add("note-" + i);
+    }
+    return guids;
+  }
+
+  static class RecordingHandler implements BulkNoteHandler {
+    final Map<String, Note> notes = new ConcurrentHashMap<String, Note>();
+    final Map<String, Exception> failures =
+        new ConcurrentHashMap<String, Exception>();
+
+    public void onNote(String guid, Note note) {
+      notes.put(guid, note);
+    }
+
+    public void onException(String guid, Exception exception) {
+      failures.put(guid, exception);
+    }
+  }
+
+  static class FakeNoteStoreClient extends NoteStoreClient {
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    volatile String missing;
+
+    FakeNoteStoreClient() {
+      super("token");
+    }
+
+    @Override
+    public Note getNote(String guid, boolean withContent,
+        boolean withResourcesData, boolean withResourcesRecognition,
+        boolean withResourcesAlternateData) throws EDAMNotFoundException,
+        EDAMSystemException {
+      calls.incrementAndGet();
+      int now = running.incrementAndGet();
+      try {
+        synchronized (maxConcurrent) {
+          maxConcurrent.set(Math.max(maxConcurrent.get(), now));
+        }
+        Thread.sleep(20);
+        if (guid.equals(missing)) {
+          throw new EDAMNotFoundException();
+        }
+        Note note = new Note();
+        note.setGuid(guid);
+        if (withContent) {
+          note.setContent("<en-note/>");
+        }
+        return note;
+      } catch (InterruptedException e) {
+        throw new EDAMSystemException();
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.stub;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.Tag;
+
+public class CachingNoteStoreClientTest {
+
+  NoteStoreClient delegate;
+  CachingNoteStoreClient client;
+  List<Notebook> notebooks;
+
+  @Before
+  public void initialize() throws Exception {
+    delegate = mock(NoteStoreClient.class);
+    stub(delegate.getToken()).toReturn("token");
+    notebooks = new ArrayList<Notebook>();
+    Notebook notebook = new Notebook();
+    notebook.setGuid("notebook-1");
+    notebook.setName("Inbox");
+    notebooks.add(notebook);
+    stub(delegate.listNotebooks()).toReturn(notebooks);
+    client = new CachingNoteStoreClient(delegate);
+  }
+
+  @Test
+  public void testRefetchedOnlyWhenUpdateCountMoves() throws Exception {
+    stub(delegate.getSyncState()).toReturn(syncState(10))
+        .toReturn(syncState(10)).toReturn(syncState(11));
+
+    assertEquals("Inbox", client.listNotebooks().get(0).getName());
+    assertEquals("Inbox", client.listNotebooks().get(0).getName());
+    verify(delegate, times(1)).listNotebooks();
+
+    client.listNotebooks();
+    verify(delegate, times(2)).listNotebooks();
+    verify(delegate, times(3)).getSyncState();
+  }
+
+  @Test
+  public void testReturnsCopies() throws Exception {
+    stub(delegate.getSyncState()).toReturn(syncState(10));
+
+    List<Notebook> first = client.listNotebooks();
+    first.get(0).setName("Changed");
+    first.clear();
+
+    List<Notebook> second = client.listNotebooks();
+    assertEquals("Inbox", second.get(0).getName());
+    assertNotSame(notebooks.get(0), second.get(0));
+    verify(delegate, times(1)).listNotebooks();
+  }
+
+  @Test
+  public void testRevalidateInterval() throws Exception {
+    stub(delegate.getSyncState()).toReturn(syncState(10));
+    stub(delegate.listTagsByNotebook("notebook-1")).toReturn(
+        new ArrayList<Tag>());
+    client.setRevalidateInterval(60 * 1000L);
+
+    client.listNotebooks();
+    client.listNotebooks();
+    client.listTagsByNotebook("notebook-1");
+    client.listTagsByNotebook("notebook-1");
+    verify(delegate, times(1)).getSyncState();
+    verify(delegate, times(1)).listNotebooks();
+    verify(delegate, times(1)).listTagsByNotebook("notebook-1");
+
+    // A change made through the client is seen at once
+    client.updateNotebook(notebooks.get(0));
+    client.listNotebooks();
+    verify(delegate, times(2)).getSyncState();
+    verify(delegate, times(2)).listNotebooks();
+
+    // Including a note change that creates a tag
+    stub(delegate.listTags()).toReturn(new ArrayList<Tag>());
+    client.listTags();
+    Note note = new Note();
+    note.setNotebookGuid("notebook-1");
+    note.addToTagNames("new tag");
+    client.createNote(note);
+    client.listTags();
+    client.listTagsByNotebook("notebook-1");
+    verify(delegate, times(2)).listTags();
+    verify(delegate, times(2)).listTagsByNotebook("notebook-1");
+  }
+
+  @Test
+  public void testResourceBodyDownloadedOnce() throws Exception {
+    byte[] body = "attachment".getBytes("UTF-8");
+    byte[] hash = MessageDigest.getInstance("MD5").digest(body);
+    stub(delegate.getNote("note-1", false, false, false, false)).toReturn(
+        noteWithResource("note-1", "resource-1", hash));
+    stub(delegate.getNote("note-2", false, false, false, false)).toReturn(
+        noteWithResource("note-2", "resource-2", hash));
+    stub(delegate.getResourceData("resource-1")).toReturn(body);
+    client.setResourceCache(new MemoryBlobCache(1024));
+
+    Note first = client.getNote("note-1", false, true, false, false);
+    Note copy = client.getNote("note-2", false, true, false, false);
+    assertArrayEquals(body, first.getResources().get(0).getData().getBody());
+    assertArrayEquals(body, copy.getResources().get(0).getData().getBody());
+    assertArrayEquals(body, client.getResourceData("resource-2"));
+
+    verify(delegate, times(1)).getResourceData("resource-1");
+    verify(delegate, never()).getResourceData("resource-2");
+    verify(delegate, never()).getNote("note-1", false, true, false, false);
+  }
+
+  @Test
+  public void testResourceFlagsForwarded() throws Exception {
+    byte[] body = "attachment".getBytes("UTF-8");
+    byte[] hash = MessageDigest.getInstance("MD5").digest(body);
+    Resource metadata = noteWithResource("note-1", "resource-1", hash)
+        .getResources().get(0);
+    Resource full = metadata.deepCopy();
+    full.getData().setBody(body);
+    // withAttributes set, withAlternateData not
+    stub(delegate.getResource("resource-1", false, false, true, false))
+        .toReturn(metadata);
+    stub(delegate.getResource("resource-1", true, false, true, false))
+        .toReturn(full);
+
+    assertSame(metadata, client.getResource("resource-1", false, false, true,
+        false));
+
+    client.setResourceCache(new MemoryBlobCache(1024));
+    assertArrayEquals(body, client.getResource("resource-1", true, false,
+        true, false).getData().getBody());
+    assertArrayEquals(body, client.getResource("resource-1", true, false,
+        true, false).getData().getBody());
+    verify(delegate, times(1)).getResource("resource-1", true, false, true,
+        false);
+    verify(delegate, times(2)).getResource("resource-1", false, false, true,
+        false);
+  }
+
+  @Test
+  public void testCorruptResourceBodyIgnored() throws Exception {
+    byte[] body = "attachment".getBytes("UTF-8");
+    byte[] hash = MessageDigest.getInstance("MD5").digest(body);
+    MemoryBlobCache cache = new MemoryBlobCache(1024);
+    cache.put(hex(hash), "tampered".getBytes("UTF-8"));
+    stub(delegate.getNote("note-1", false, false, false, false)).toReturn(
+        noteWithResource("note-1", "resource-1", hash));
+    stub(delegate.getResourceData("resource-1")).toReturn(body);
+    client.setResourceCache(cache);
+
+    Note note = client.getNote("note-1", false, true, false, false);
+    assertArrayEquals(body, note.getResources().get(0).getData().getBody());
+    assertArrayEquals(body, cache.get(hex(hash)));
+  }
+
+  @Test
+  public void testContentCachedByUpdateSequenceNum() throws Exception {
+    stub(delegate.getNote("note-1", true, false, false, false)).toReturn(
+        note("note-1", 5, "<en-note>v5</en-note>")).toReturn(
+        note("note-1", 6, "<en-note>v6</en-note>"));
+    stub(delegate.getNote("note-1", false, false, false, false)).toReturn(
+        note("note-1", 5, null)).toReturn(note("note-1", 6, null));
+    MemoryBlobCache cache = new MemoryBlobCache(1024);
+    client.setContentCache(cache);
+
+    assertEquals("<en-note>v5</en-note>", client.getNoteContent("note-1", 5));
+    assertEquals("<en-note>v5</en-note>", client.getNoteContent("note-1", 5));
+    verify(delegate, times(1)).getNote("note-1", true, false, false, false);
+
+    // Unchanged according to its metadata
+    assertEquals("<en-note>v5</en-note>", client.getNoteContent("note-1"));
+    verify(delegate, times(1)).getNote("note-1", true, false, false, false);
+
+    // Changed since
+    Note note = client.getNote("note-1", true, false, false, false);
+    assertEquals("<en-note>v6</en-note>", note.getContent());
+    assertEquals(6, note.getUpdateSequenceNum());
+    verify(delegate, times(2)).getNote("note-1", true, false, false, false);
+    verify(delegate, never()).getNoteContent("note-1");
+    assertEquals(42, cache.getSize());
+  }
+
+  private static Note note(String guid, int updateSequenceNum, String content) {
+    Note note = new Note();
+    note.setGuid(guid);
+    note.setUpdateSequenceNum(updateSequenceNum);
+    if (content != null) {
+      note.setContent(content);
+    }
+    return note;
+  }
+
+  private static Note noteWithResource(String noteGuid, String resourceGuid,
+      byte[] hash) {
+    Data data = new Data();
+    data.setBodyHash(hash);
+    Resource resource = new Resource();
+    resource.setGuid(resourceGuid);
+    resource.setNoteGuid(noteGuid);
+    resource.setData(data);
+    Note note = new Note();
+    note.setGuid(noteGuid);
+    note.addToResources(resource);
+    return note;
+  }
+
+  private static String hex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  private static SyncState syncState(int updateCount) {
+    SyncState syncState = new SyncState();
+    syncState.setUpdateCount(updateCount);
+    return syncState;
+  }
+}
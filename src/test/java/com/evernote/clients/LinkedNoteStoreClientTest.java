@@ -31,6 +31,8 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.stub;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -129,4 +131,33 @@ public class LinkedNoteStoreClientTest {
     assertTrue(isNotebookWritable);
   }
 
+  @Test
+  public void testSharedNotebookIsCached() throws Exception {
+    NoteStoreClient noteStoreClient = mock(NoteStoreClient.class);
+    SharedNotebook sharedNotebook = new SharedNotebook();
+    sharedNotebook.setNotebookGuid("notebook");
+    stub(noteStoreClient.getSharedNotebookByAuth()).toReturn(sharedNotebook);
+    Notebook notebook = new Notebook();
+    notebook.setRestrictions(new NotebookRestrictions());
+    stub(noteStoreClient.getNotebook("notebook")).toReturn(notebook);
+
+    AuthenticationResult authenticationResult = new AuthenticationResult();
+    authenticationResult.setCurrentTime(1000L);
+    authenticationResult.setExpiration(1000L + 60 * 1000L);
+    LinkedNoteStoreClient cachingClient = new LinkedNoteStoreClient(null,
+        noteStoreClient, authenticationResult);
+    LinkedNotebook shared = new LinkedNotebook();
+    shared.setShareKey("key");
+
+    assertTrue(cachingClient.isNotebookWritable(shared));
+    assertTrue(cachingClient.isNotebookWritable(shared));
+    cachingClient.createNote(new Note(), shared);
+    verify(noteStoreClient, times(1)).getSharedNotebookByAuth();
+    verify(noteStoreClient, times(1)).getNotebook("notebook");
+
+    cachingClient.setCacheTimeToLive(0);
+    cachingClient.isNotebookWritable(shared);
+    verify(noteStoreClient, times(2)).getSharedNotebookByAuth();
+  }
+
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.userstore.AuthenticationResult;
+
+public class LinkedNotebookSyncCoordinatorTest {
+
+  ExecutorService executor;
+  Map<String, AtomicInteger> active;
+  Map<String, Integer> maxActive;
+  AtomicInteger createdClients;
+  Map<String, Integer> completed;
+  Map<String, Exception> failed;
+  volatile EDAMSystemException failure;
+  LinkedNotebookSyncCoordinator coordinator;
+  LinkedNotebookSyncHandler handler;
+
+  @Before
+  public void initialize() {
+    executor = Executors.newFixedThreadPool(8);
+    active = new ConcurrentHashMap<String, AtomicInteger>();
+    maxActive = new ConcurrentHashMap<String, Integer>();
+    createdClients = new AtomicInteger();
+    completed = new ConcurrentHashMap<String, Integer>();
+    failed = new ConcurrentHashMap<String, Exception>();
+    coordinator = new LinkedNotebookSyncCoordinator(mock(ClientFactory.class),
+        executor) {
+      @Override
+      LinkedNoteStoreClient createClient(LinkedNotebook linkedNotebook) {
+        createdClients.incrementAndGet();
+        return new LinkedNoteStoreClient(null, new ShardClient(
+            linkedNotebook.getShardId()), new AuthenticationResult());
+      }
+    };
+    handler = new LinkedNotebookSyncHandler() {
+      public int getAfterUSN(LinkedNotebook linkedNotebook) {
+        return 0;
+      }
+
+      public SyncChunkSink getSink(LinkedNotebook linkedNotebook) {
+        return new SyncChunkSink() {
+          public void onChunk(SyncChunk chunk) {
+          }
+        };
+      }
+
+      public void onComplete(LinkedNotebook linkedNotebook, int updateCount) {
+        completed.put(linkedNotebook.getShareKey(), updateCount);
+      }
+
+      public void onException(LinkedNotebook linkedNotebook, Exception e) {
+        failed.put(linkedNotebook.getShareKey(), e);
+      }
+    };
+  }
+
+  @After
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testShardConcurrencyIsBounded() throws Exception {
+    List<LinkedNotebook> notebooks = new ArrayList<LinkedNotebook>();
+    for (int i = 0; i < 6; i++) {
+      notebooks.add(linkedNotebook("s1", "key-s1-" + i));
+      notebooks.add(linkedNotebook("s2", "key-s2-" + i));
+    }
+    coordinator.setMaxConcurrencyPerShard(2);
+
+    coordinator.sync(notebooks, handler);
+
+    assertEquals(12, completed.size());
+    assertEquals(Integer.valueOf(5), completed.get("key-s1-0"));
+    assertEquals(Integer.valueOf(2), maxActive.get("s1"));
+    assertEquals(Integer.valueOf(2), maxActive.get("s2"));
+  }
+
+  @Test
+  public void testClientIsReusedPerShareKey() throws Exception {
+    List<LinkedNotebook> notebooks = new ArrayList<LinkedNotebook>();
+    notebooks.add(linkedNotebook("s1", "a"));
+    notebooks.add(linkedNotebook("s2", "b"));
+
+    coordinator.sync(notebooks, handler);
+    coordinator.sync(notebooks, handler);
+
+    assertEquals(2, createdClients.get());
+    assertEquals(2, coordinator.getCachedClients());
+  }
+
+  @Test
+  public void testFailureIsReportedAndClientDropped() throws Exception {
+    List<LinkedNotebook> notebooks = new ArrayList<LinkedNotebook>();
+    notebooks.add(linkedNotebook("s1", "a"));
+    failure = new EDAMSystemException(EDAMErrorCode.INTERNAL_ERROR);
+
+    coordinator.sync(notebooks, handler);
+
+    assertSame(failure, failed.get("a"));
+    assertTrue(completed.isEmpty());
+    assertEquals(0, coordinator.getCachedClients());
+  }
+
+  @Test(timeout = 5000)
+  public void testThrowingHandlerDoesNotStallSync() throws Exception {
+    List<LinkedNotebook> notebooks = new ArrayList<LinkedNotebook>();
+    for (int i = 0; i < 3; i++) {
+      notebooks.add(linkedNotebook("s1", "key-" + i));
+    }
+    coordinator.setMaxConcurrencyPerShard(1);
+    final RuntimeException bug = new IllegalStateException("handler bug");
+    final AtomicInteger calls = new AtomicInteger();
+    LinkedNotebookSyncHandler throwing = new LinkedNotebookSyncHandler() {
+      public int getAfterUSN(LinkedNotebook linkedNotebook) {
+        return 0;
+      }
+
+      public SyncChunkSink getSink(LinkedNotebook linkedNotebook) {
+        return handler.getSink(linkedNotebook);
+      }
+
+      public void onComplete(LinkedNotebook linkedNotebook, int updateCount) {
+        calls.incrementAndGet();
+        throw bug;
+      }
+
+      public void onException(LinkedNotebook linkedNotebook, Exception e) {
+        calls.incrementAndGet();
+        throw bug;
+      }
+    };
+
+    try {
+      coordinator.sync(notebooks, throwing);
+      fail("the handler's exception should be rethrown");
+    } catch (IllegalStateException e) {
+      assertSame(bug, e);
+    }
+    assertEquals(3, calls.get());
+  }
+
+  static LinkedNotebook linkedNotebook(String shardId, String shareKey) {
+    LinkedNotebook linkedNotebook = new LinkedNotebook();
+    linkedNotebook.setShardId(shardId);
+    linkedNotebook.setShareKey(shareKey);
+    linkedNotebook.setNoteStoreUrl("https://www.evernote.com/shard/"
+        + shardId + "/notestore");
+    return linkedNotebook;
+  }
+
+  /**
+   * Serves a linked notebook with a single chunk and records how many syncs
+   * of its shard run at once.
+   */
+  class ShardClient extends NoteStoreClient {
+    final String shard;
+
+    ShardClient(String shard) {
+      super("token");
+      this.shard = shard;
+    }
+
+    @Override
+    public SyncState getLinkedNotebookSyncState(LinkedNotebook linkedNotebook)
+        throws EDAMSystemException {
+      if (failure != null) {
+        throw failure;
+      }
+      AtomicInteger counter;
+      int now;
+      synchronized (active) {
+        counter = active.get(shard);
+        if (counter == null) {
+          counter = new AtomicInteger();
+          active.put(shard, counter);
+        }
+        now = counter.incrementAndGet();
+        Integer max = maxActive.get(shard);
+        if (max == null || max < now) {
+          maxActive.put(shard, now);
+        }
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      counter.decrementAndGet();
+      SyncState state = new SyncState();
+      state.setUpdateCount(5);
+      return state;
+    }
+
+    @Override
+    public SyncChunk getLinkedNotebookSyncChunk(LinkedNotebook linkedNotebook,
+        int afterUSN, int maxEntries, boolean fullSyncOnly) {
+      SyncChunk chunk = new SyncChunk();
+      chunk.setUpdateCount(5);
+      chunk.setChunkHighUSN(5);
+      chunk.addToExpungedNotes("gone");
+      return chunk;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.NoteFilter;
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.notestore.NotesMetadataResultSpec;
+
+public class NotesMetadataIteratorTest {
+
+  @Test
+  public void testAllNotesInOrder() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient(1003, 100);
+    NotesMetadataIterator it = new NotesMetadataIterator(client,
+        new NoteFilter(), new NotesMetadataResultSpec());
+    it.setMaxConcurrentPages(4);
+
+    List<String> guids = new ArrayList<String>();
+    while (it.hasNext()) {
+      guids.add(it.next().getGuid());
+    }
+    assertEquals(1003, it.getTotalNotes());
+    assertEquals(1003, guids.size());
+    for (int i = 0; i < guids.size(); i++) {
+      assertEquals("note-" + i, guids.get(i));
+    }
+    assertEquals(11, client.calls.get());
+    assertTrue(client.maxConcurrent.get() > 1);
+    assertTrue(client.maxConcurrent.get() <= 4);
+  }
+
+  @Test
+  public void testEmptyResult() throws Exception {
+    NotesMetadataIterator it = new NotesMetadataIterator(
+        new FakeNoteStoreClient(0, 100), new NoteFilter(),
+        new NotesMetadataResultSpec());
+    assertFalse(it.hasNext());
+    assertEquals(0, it.getTotalNotes());
+  }
+
+  @Test
+  public void testFailedPage() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient(500, 100);
+    client.failAtOffset = 300;
+    NotesMetadataIterator it = new NotesMetadataIterator(client,
+        new NoteFilter(), new NotesMetadataResultSpec());
+    int seen = 0;
+    try {
+      while (it.hasNext()) {
+        it.next();
+        seen++;
+      }
+      fail("iteration should fail");
+    } catch (NotesMetadataIterator.PageException e) {
+      assertSame(EDAMErrorCode.RATE_LIMIT_REACHED,
+          ((EDAMSystemException) e.getCause()).getErrorCode());
+    }
+    assertEquals(300, seen);
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  public void testCloseWaitsForFetchInFlight() throws Exception {
+    FakeNoteStoreClient client = new FakeNoteStoreClient(200, 100);
+    client.blockMillis = 300;
+    NotesMetadataIterator it = new NotesMetadataIterator(client,
+        new NoteFilter(), new NotesMetadataResultSpec());
+    assertTrue(it.hasNext());
+    long deadline = System.currentTimeMillis() + 5000;
+    while (client.calls.get() < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(2, client.calls.get());
+
+    it.close();
+    assertEquals(0, client.running.get());
+    assertFalse(it.hasNext());
+  }
+
+  static class FakeNoteStoreClient extends NoteStoreClient {
+    final int total;
+    final int maxPage;
+    final AtomicInteger calls = new AtomicInteger();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    volatile int failAtOffset = -1;
+    volatile long blockMillis = 0;
+
+    FakeNoteStoreClient(int total, int maxPage) {
+      super("token");
+      this.total = total;
+      this.maxPage = maxPage;
+    }
+
+    @Override
+    public NotesMetadataList findNotesMetadata(NoteFilter filter, int offset,
+        int maxNotes, NotesMetadataResultSpec resultSpec)
+        throws EDAMSystemException {
+      calls.incrementAndGet();
+      int now = running.incrementAndGet();
+      try {
+        synchronized (maxConcurrent) {
+          maxConcurrent.set(Math.max(maxConcurrent.get(), now));
+        }
+        if (offset > 0 && blockMillis > 0) {
+          block();
+        }
+        Thread.sleep(20);
+        if (offset == failAtOffset) {
+          throw new EDAMSystemException(EDAMErrorCode.RATE_LIMIT_REACHED);
+        }
+        NotesMetadataList list = new NotesMetadataList();
+        list.setStartIndex(offset);
+        list.setTotalNotes(total);
+        list.setNotes(new ArrayList<NoteMetadata>());
+        int end = Math.min(total, offset + Math.min(maxNotes, maxPage));
+        for (int i = offset; i < end; i++) {
+          NoteMetadata metadata = new NoteMetadata();
+          metadata.setGuid("note-" + i);
+          list.addToNotes(metadata);
+        }
+        return list;
+      } catch (InterruptedException e) {
+        throw new EDAMSystemException(EDAMErrorCode.INTERNAL_ERROR);
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+
+    // Like a blocking socket read, ignores interrupts
+    private void block() {
+      long end = System.currentTimeMillis() + blockMillis;
+      boolean interrupted = false;
+      long left = blockMillis;
+      while (left > 0) {
+        try {
+          Thread.sleep(left);
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+        left = end - System.currentTimeMillis();
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.notestore.NoteStoreIface;
+import com.evernote.edam.type.Note;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.transport.TTransport;
+import com.evernote.thrift.transport.TTransportException;
+
+public class PooledNoteStoreClientTest {
+
+  final Set<String> IGNORE_METHODS = new HashSet<String>(Arrays.asList(
+      "getOutputProtocol", "getInputProtocol"));
+
+  final AtomicInteger inFlight = new AtomicInteger();
+  final AtomicInteger maxInFlight = new AtomicInteger();
+
+  StoreClientPool<NoteStoreClient> pool;
+  PooledNoteStoreClient client;
+
+  @Before
+  public void initialize() throws Exception {
+    pool = new StoreClientPool<NoteStoreClient>(null, NoteStoreClient.class,
+        "https://example.com/shard/s1", "token", 2) {
+      @Override
+      NoteStoreClient newClient() {
+        return new NoteStoreClient("token") {
+          @Override
+          public Note getNote(String guid, boolean withContent,
+              boolean withResourcesData, boolean withResourcesRecognition,
+              boolean withResourcesAlternateData) throws TTransportException {
+            int current = inFlight.incrementAndGet();
+            synchronized (maxInFlight) {
+              maxInFlight.set(Math.max(maxInFlight.get(), current));
+            }
+            try {
+              Thread.sleep(5);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            if ("broken".equals(guid)) {
+              throw new TTransportException("broken");
+            }
+            Note note = new Note();
+            note.setGuid(guid);
+            return note;
+          }
+        };
+      }
+    };
+    client = new PooledNoteStoreClient(pool);
+  }
+
+  @Test
+  public void testWrappedMethods() {
+    Set<String> originalMethodNames = new HashSet<String>();
+    for (Method m : NoteStoreIface.class.getDeclaredMethods()) {
+      originalMethodNames.add(m.getName());
+    }
+    for (Method m : CallingNoteStoreClient.class.getDeclaredMethods()) {
+      originalMethodNames.remove(m.getName());
+    }
+    originalMethodNames.removeAll(IGNORE_METHODS);
+
+    if (!originalMethodNames.isEmpty()) {
+      fail("Following methods are not implemented: "
+          + originalMethodNames.toString());
+    }
+  }
+
+  @Test
+  public void testConcurrentCallsAreBounded() throws Exception {
+    final List<Throwable> failures = new ArrayList<Throwable>();
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < 8; i++) {
+      final String guid = "guid-" + i;
+      Thread thread = new Thread(new Runnable() {
+        public void run() {
+          try {
+            for (int j = 0; j < 5; j++) {
+              assertEquals(guid,
+                  client.getNote(guid, false, false, false, false).getGuid());
+            }
+          } catch (Throwable t) {
+            synchronized (failures) {
+              failures.add(t);
+            }
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertTrue(failures.toString(), failures.isEmpty());
+    assertTrue(maxInFlight.get() <= 2);
+    assertEquals(2, pool.getCreatedClients());
+    assertEquals(2, client.getIdleClients());
+  }
+
+  @Test
+  public void testFailedClientIsDiscarded() throws Exception {
+    try {
+      client.getNote("broken", false, false, false, false);
+      fail("call should fail");
+    } catch (TTransportException e) {
+      // expected
+    }
+    assertEquals(0, client.getIdleClients());
+
+    client.getNote("guid", false, false, false, false);
+    assertEquals(2, client.getCreatedClients());
+    assertEquals(1, client.getIdleClients());
+  }
+
+  @Test
+  public void testInvalidateClosesTransport() throws Exception {
+    TTransport transport = mock(TTransport.class);
+    final NoteStoreClient broken = new NoteStoreClient(new TBinaryProtocol(
+        transport), new TBinaryProtocol(transport), "token");
+    StoreClientPool<NoteStoreClient> brokenPool =
+        new StoreClientPool<NoteStoreClient>(null, NoteStoreClient.class,
+            "https://example.com/shard/s1", "token", 1) {
+      @Override
+      NoteStoreClient newClient() {
+        return broken;
+      }
+    };
+
+    brokenPool.invalidate(brokenPool.lease());
+    // Input and output share the transport
+    verify(transport, times(2)).close();
+
+    // The permit was returned
+    brokenPool.release(brokenPool.lease());
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.stub;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.SyncState;
+
+public class RateLimitSchedulerTest {
+
+  static final String TOKEN = "S=s1:U=11a1a:E=222b22bbb22:C=33c333c3333:P=4dd:A=en-devtoken:V=2:H=e5555ee5ee55555555eee555ee55e5ee";
+  static final String OTHER_USER_TOKEN = "S=s1:U=22b2b:E=222b22bbb22:C=33c333c3333:P=4dd:A=en-devtoken:V=2:H=e5555ee5ee55555555eee555ee55e5ee";
+
+  RateLimitScheduler scheduler;
+  NoteStoreClient delegate;
+  RateLimitedNoteStoreClient client;
+
+  @Before
+  public void initialize() throws Exception {
+    scheduler = new RateLimitScheduler();
+    delegate = mock(NoteStoreClient.class);
+    stub(delegate.getToken()).toReturn(TOKEN);
+    client = new RateLimitedNoteStoreClient(delegate, scheduler);
+  }
+
+  @Test
+  public void testKeys() {
+    assertEquals("A=en-devtoken:U=11a1a", RateLimitScheduler.userKey(TOKEN));
+    assertEquals("A=en-devtoken", RateLimitScheduler.apiKey(TOKEN));
+    assertNull(RateLimitScheduler.apiKey("opaque"));
+  }
+
+  @Test
+  public void testWindowIsPerUser() {
+    scheduler.rateLimitReached(TOKEN, 60);
+
+    assertTrue(scheduler.getRemainingWaitMillis(TOKEN) > 0);
+    assertEquals(0, scheduler.getRemainingWaitMillis(OTHER_USER_TOKEN));
+
+    scheduler.setApiKeyWide(true);
+    scheduler.rateLimitReached(TOKEN, 60);
+    assertTrue(scheduler.getRemainingWaitMillis(OTHER_USER_TOKEN) > 0);
+  }
+
+  @Test
+  public void testRateLimitedCallIsRetried() throws Exception {
+    EDAMSystemException rateLimited = new EDAMSystemException(
+        EDAMErrorCode.RATE_LIMIT_REACHED);
+    rateLimited.setRateLimitDuration(1);
+    SyncState syncState = new SyncState();
+    stub(delegate.getSyncState()).toThrow(rateLimited).toReturn(syncState);
+    scheduler.setMaxRetries(1);
+
+    long start = System.currentTimeMillis();
+    assertSame(syncState, client.getSyncState());
+
+    assertTrue(System.currentTimeMillis() - start >= 900);
+    verify(delegate, times(2)).getSyncState();
+    assertEquals(1, scheduler.getRateLimitedCalls());
+    assertEquals(1, scheduler.getDelayedCalls());
+    assertEquals(0, scheduler.getQueueDepth());
+  }
+
+  @Test
+  public void testOtherErrorsPassThrough() throws Exception {
+    EDAMSystemException internal = new EDAMSystemException(
+        EDAMErrorCode.INTERNAL_ERROR);
+    stub(delegate.getSyncState()).toThrow(internal);
+    scheduler.setMaxRetries(1);
+
+    try {
+      client.getSyncState();
+      fail("call should fail");
+    } catch (EDAMSystemException e) {
+      assertSame(internal, e);
+    }
+    assertEquals(0, scheduler.getRateLimitedCalls());
+    assertEquals(0, scheduler.getRemainingWaitMillis(TOKEN));
+  }
+
+}
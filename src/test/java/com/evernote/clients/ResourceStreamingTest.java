@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.security.MessageDigest;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.Data;
+import com.evernote.thrift.TException;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TBinarySource;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+import com.evernote.thrift.transport.MemoryTransport;
+
+public class ResourceStreamingTest {
+
+  static final byte[] BODY = new byte[200 * 1024];
+  static {
+    new Random(42).nextBytes(BODY);
+  }
+
+  @Test
+  public void testBodyIsStreamedAndVerified() throws Exception {
+    byte[] hash = MessageDigest.getInstance("MD5").digest(BODY);
+    for (boolean buffered : new boolean[] {false, true}) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      NoteStoreClient client = clientReplying("getResourceData", buffered);
+      int length = client.getResourceData("guid", Channels.newChannel(out), hash);
+      assertEquals(BODY.length, length);
+      assertArrayEquals(BODY, out.toByteArray());
+    }
+  }
+
+  @Test
+  public void testHashIsOptional() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    NoteStoreClient client = clientReplying("getResourceAlternateData", false);
+    client.getResourceAlternateData("guid", Channels.newChannel(out), null);
+    assertArrayEquals(BODY, out.toByteArray());
+  }
+
+  @Test
+  public void testHashMismatch() throws Exception {
+    NoteStoreClient client = clientReplying("getResourceData", false);
+    try {
+      client.getResourceData("guid",
+          Channels.newChannel(new ByteArrayOutputStream()), new byte[16]);
+      fail("body should not match");
+    } catch (TException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testBodySourcesAreStreamedOnWrite() throws Exception {
+    File file = File.createTempFile("body", ".bin");
+    file.deleteOnExit();
+    FileOutputStream fos = new FileOutputStream(file);
+    fos.write(BODY);
+    fos.close();
+
+    assertArrayEquals(BODY, roundTrip(TBinarySource.fromFile(file)));
+
+    FileInputStream in = new FileInputStream(file);
+    try {
+      byte[] region = roundTrip(TBinarySource.fromChannel(in.getChannel(), 100, 1000));
+      assertEquals(1000, region.length);
+      assertEquals(BODY[100], region[0]);
+      assertEquals(BODY[1099], region[999]);
+    } finally {
+      in.close();
+    }
+
+    assertArrayEquals(BODY, roundTrip(TBinarySource.fromStream(
+        new ByteArrayInputStream(BODY), BODY.length)));
+  }
+
+  @Test
+  public void testSerializationKeepsBodySource() throws Exception {
+    File file = File.createTempFile("body", ".bin");
+    file.deleteOnExit();
+    FileOutputStream fos = new FileOutputStream(file);
+    fos.write(BODY);
+    fos.close();
+    Data data = new Data();
+    TBinarySource source = TBinarySource.fromFile(file);
+    data.setBodySource(source);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(data);
+    out.close();
+
+    assertSame(source, data.getBodySource());
+    Data copy = (Data) new ObjectInputStream(new ByteArrayInputStream(
+        bytes.toByteArray())).readObject();
+    assertArrayEquals(BODY, copy.getBody());
+    assertNull(copy.getBodySource());
+  }
+
+  @Test(expected = IOException.class)
+  public void testSerializationReportsSourceFailure() throws Exception {
+    Data data = new Data();
+    data.setBodySource(TBinarySource.fromStream(new ByteArrayInputStream(BODY),
+        BODY.length + 1));
+    new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(data);
+  }
+
+  @Test(expected = TException.class)
+  public void testShortStreamFails() throws Exception {
+    roundTrip(TBinarySource.fromStream(new ByteArrayInputStream(BODY),
+        BODY.length + 1));
+  }
+
+  static byte[] roundTrip(TBinarySource source) throws Exception {
+    Data data = new Data();
+    data.setBodySource(source);
+    MemoryTransport transport = new MemoryTransport();
+    data.write(new TBinaryProtocol(transport));
+    Data read = new Data();
+    read.read(new TBinaryProtocol(transport));
+    return read.getBody();
+  }
+
+  static NoteStoreClient clientReplying(String method, boolean buffered)
+      throws Exception {
+    MemoryTransport reply = new MemoryTransport(buffered);
+    TProtocol prot = new TBinaryProtocol(reply);
+    prot.writeMessageBegin(new TMessage(method, TMessageType.REPLY, 1));
+    prot.writeStructBegin(new TStruct("result"));
+    prot.writeFieldBegin(new TField("success", TType.STRING, (short) 0));
+    prot.writeBinary(BODY);
+    prot.writeFieldEnd();
+    prot.writeFieldStop();
+    prot.writeStructEnd();
+    prot.writeMessageEnd();
+    return new NoteStoreClient(new TBinaryProtocol(reply),
+        new TBinaryProtocol(new MemoryTransport()), "token");
+  }
+}
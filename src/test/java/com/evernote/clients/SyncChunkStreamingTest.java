@@ -0,0 +1,224 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncChunkVisitor;
+import com.evernote.edam.type.LinkedNotebook;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.Notebook;
+import com.evernote.edam.type.Resource;
+import com.evernote.edam.type.SavedSearch;
+import com.evernote.edam.type.Tag;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+import com.evernote.thrift.protocol.TField;
+import com.evernote.thrift.protocol.TMessage;
+import com.evernote.thrift.protocol.TMessageType;
+import com.evernote.thrift.protocol.TProtocol;
+import com.evernote.thrift.protocol.TStruct;
+import com.evernote.thrift.protocol.TType;
+import com.evernote.thrift.transport.MemoryTransport;
+
+public class SyncChunkStreamingTest {
+
+  SyncChunk chunk;
+  List<String> visited;
+  SyncChunkVisitor recorder;
+
+  @Before
+  public void initialize() {
+    chunk = new SyncChunk();
+    chunk.setCurrentTime(1000L);
+    chunk.setChunkHighUSN(7);
+    chunk.setUpdateCount(9);
+    for (int i = 1; i <= 2; i++) {
+      Note note = new Note();
+      note.setGuid("note-" + i);
+      chunk.addToNotes(note);
+    }
+    Notebook notebook = new Notebook();
+    notebook.setGuid("notebook");
+    chunk.addToNotebooks(notebook);
+    Tag tag = new Tag();
+    tag.setGuid("tag");
+    chunk.addToTags(tag);
+    chunk.addToExpungedNotes("gone");
+
+    visited = new ArrayList<String>();
+    recorder = new SyncChunkVisitor() {
+      public void visitNote(Note note) {
+        visited.add(note.getGuid());
+      }
+
+      public void visitNotebook(Notebook notebook) {
+        visited.add(notebook.getGuid());
+      }
+
+      public void visitTag(Tag tag) {
+        visited.add(tag.getGuid());
+      }
+
+      public void visitSearch(SavedSearch search) {
+        visited.add(search.getGuid());
+      }
+
+      public void visitResource(Resource resource) {
+        visited.add(resource.getGuid());
+      }
+
+      public void visitExpungedNote(String guid) {
+        visited.add("expunged " + guid);
+      }
+
+      public void visitExpungedNotebook(String guid) {
+        visited.add("expunged " + guid);
+      }
+
+      public void visitExpungedTag(String guid) {
+        visited.add("expunged " + guid);
+      }
+
+      public void visitExpungedSearch(String guid) {
+        visited.add("expunged " + guid);
+      }
+
+      public void visitLinkedNotebook(LinkedNotebook linkedNotebook) {
+        visited.add(linkedNotebook.getGuid());
+      }
+
+      public void visitExpungedLinkedNotebook(String guid) {
+        visited.add("expunged " + guid);
+      }
+    };
+  }
+
+  @Test
+  public void testEntriesAreVisitedInsteadOfCollected() throws Exception {
+    NoteStoreClient client = clientReplying(0, chunk);
+
+    SyncChunk header = client.getSyncChunk(0, 100, false, recorder);
+
+    assertEquals(5, visited.size());
+    assertEquals("note-1", visited.get(0));
+    assertEquals("note-2", visited.get(1));
+    assertEquals("notebook", visited.get(2));
+    assertEquals("tag", visited.get(3));
+    assertEquals("expunged gone", visited.get(4));
+    assertEquals(1000L, header.getCurrentTime());
+    assertEquals(7, header.getChunkHighUSN());
+    assertEquals(9, header.getUpdateCount());
+    assertFalse(header.isSetNotes());
+    assertNull(header.getExpungedNotes());
+  }
+
+  @Test
+  public void testFullReadIsUnchanged() throws Exception {
+    NoteStoreClient client = clientReplying(0, chunk);
+    assertEquals(chunk, client.getSyncChunk(0, 100, false));
+  }
+
+  @Test
+  public void testExceptionResult() throws Exception {
+    EDAMSystemException failure = new EDAMSystemException(
+        EDAMErrorCode.INTERNAL_ERROR);
+    NoteStoreClient client = clientReplying(2, failure);
+    try {
+      client.getFilteredSyncChunk(0, 100, null, recorder);
+      fail("call should fail");
+    } catch (EDAMSystemException e) {
+      assertSame(EDAMErrorCode.INTERNAL_ERROR, e.getErrorCode());
+    }
+    assertEquals(0, visited.size());
+  }
+
+  @Test
+  public void testVisitorExceptionClosesTransport() throws Exception {
+    final boolean[] closed = new boolean[1];
+    MemoryTransport reply = new MemoryTransport() {
+      @Override
+      public void close() {
+        closed[0] = true;
+      }
+    };
+    NoteStoreClient client = clientReplying(reply, 0, chunk);
+    final RuntimeException failure = new IllegalStateException("visitor bug");
+    SyncChunkVisitor visitor = mock(SyncChunkVisitor.class);
+    doThrow(failure).when(visitor).visitNotebook(any(Notebook.class));
+    try {
+      client.getSyncChunk(0, 100, false, visitor);
+      fail("call should fail");
+    } catch (IllegalStateException e) {
+      assertSame(failure, e);
+    }
+    assertTrue(closed[0]);
+  }
+
+  /**
+   * Builds a client whose input holds a single reply carrying <i>value</i> as
+   * result field <i>fieldId</i>.
+   */
+  static NoteStoreClient clientReplying(int fieldId, Object value)
+      throws Exception {
+    return clientReplying(new MemoryTransport(), fieldId, value);
+  }
+
+  static NoteStoreClient clientReplying(MemoryTransport reply, int fieldId,
+      Object value) throws Exception {
+    TProtocol prot = new TBinaryProtocol(reply);
+    prot.writeMessageBegin(new TMessage("getSyncChunk", TMessageType.REPLY, 1));
+    prot.writeStructBegin(new TStruct("result"));
+    prot.writeFieldBegin(new TField("result", TType.STRUCT, (short) fieldId));
+    if (value instanceof SyncChunk) {
+      ((SyncChunk) value).write(prot);
+    } else {
+      ((EDAMSystemException) value).write(prot);
+    }
+    prot.writeFieldEnd();
+    prot.writeFieldStop();
+    prot.writeStructEnd();
+    prot.writeMessageEnd();
+    return new NoteStoreClient(new TBinaryProtocol(reply),
+        new TBinaryProtocol(new MemoryTransport()), "token");
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.clients;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.error.EDAMErrorCode;
+import com.evernote.edam.error.EDAMSystemException;
+import com.evernote.edam.notestore.SyncChunk;
+import com.evernote.edam.notestore.SyncState;
+import com.evernote.edam.type.Note;
+
+public class SyncEngineTest {
+
+  FakeNoteStoreClient client;
+  SyncEngine engine;
+  List<SyncChunk> applied;
+  SyncChunkSink collector;
+
+  @Before
+  public void initialize() {
+    client = new FakeNoteStoreClient(25);
+    engine = new SyncEngine(client);
+    engine.setEntryLimits(10, 10);
+    applied = new ArrayList<SyncChunk>();
+    collector = new SyncChunkSink() {
+      public void onChunk(SyncChunk chunk) {
+        applied.add(chunk);
+      }
+    };
+  }
+
+  @Test
+  public void testFullSyncPagesToUpdateCount() throws Exception {
+    assertEquals(25, engine.fullSync(collector));
+
+    assertEquals(3, applied.size());
+    assertEquals(10, applied.get(0).getChunkHighUSN());
+    assertEquals(20, applied.get(1).getChunkHighUSN());
+    assertEquals(25, applied.get(2).getChunkHighUSN());
+    assertEquals(25, applied.get(2).getNotes().get(4).getUpdateSequenceNum());
+    assertEquals(25, engine.getLastSyncState().getUpdateCount());
+  }
+
+  @Test
+  public void testIncrementalSync() throws Exception {
+    assertEquals(25, engine.sync(18, collector));
+    assertEquals(1, applied.size());
+    assertEquals(19, applied.get(0).getNotes().get(0).getUpdateSequenceNum());
+
+    applied.clear();
+    assertEquals(25, engine.sync(25, collector));
+    assertEquals(0, applied.size());
+    assertEquals(1, client.chunkCalls);
+  }
+
+  @Test
+  public void testFullSyncBeforeForcesFullSync() throws Exception {
+    client.state.setFullSyncBefore(2000L);
+    assertEquals(25, engine.sync(20, 1000L, collector));
+    assertEquals(1, applied.get(0).getNotes().get(0).getUpdateSequenceNum());
+  }
+
+  @Test
+  public void testNextChunkIsPrefetched() throws Exception {
+    final CountDownLatch secondRequest = new CountDownLatch(2);
+    client.requests = secondRequest;
+    final boolean[] overlapped = new boolean[1];
+    engine.sync(0, new SyncChunkSink() {
+      public void onChunk(SyncChunk chunk) {
+        if (chunk.getChunkHighUSN() == 10) {
+          try {
+            overlapped[0] = secondRequest.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    });
+    assertTrue(overlapped[0]);
+  }
+
+  @Test
+  public void testEntriesAdaptToLatency() throws Exception {
+    client = new FakeNoteStoreClient(10000);
+    engine = new SyncEngine(client);
+    engine.setTargetLatencyMillis(60 * 1000L);
+    engine.fullSync(collector);
+    assertEquals(SyncEngine.DEFAULT_MAX_ENTRIES, engine.getNextEntries());
+
+    client.latencyMillis = 50;
+    engine.setTargetLatencyMillis(10);
+    engine.sync(9000, collector);
+    assertTrue(engine.getNextEntries() < SyncEngine.DEFAULT_MAX_ENTRIES);
+  }
+
+  @Test
+  public void testFailureIsRethrown() throws Exception {
+    EDAMSystemException failure = new EDAMSystemException(
+        EDAMErrorCode.INTERNAL_ERROR);
+    client.failAfterUSN = 10;
+    client.failure = failure;
+    try {
+      engine.fullSync(collector);
+      fail("sync should fail");
+    } catch (EDAMSystemException e) {
+      assertSame(failure, e);
+    }
+    assertEquals(10, applied.get(applied.size() - 1).getChunkHighUSN());
+  }
+
+  @Test
+  public void testCancelledPrefetchIsAwaited() throws Exception {
+    final CountDownLatch secondRequest = new CountDownLatch(2);
+    client.requests = secondRequest;
+    client.latencyMillis = 200;
+    try {
+      engine.sync(0, new SyncChunkSink() {
+        public void onChunk(SyncChunk chunk) {
+          try {
+            secondRequest.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new IllegalStateException("sink failed");
+        }
+      });
+      fail("sync should fail");
+    } catch (IllegalStateException e) {
+      assertEquals("sink failed", e.getMessage());
+    }
+    assertEquals(0, client.inFlight.get());
+  }
+
+  /**
+   * An account holding one note per USN.
+   */
+  static class FakeNoteStoreClient extends NoteStoreClient {
+    final SyncState state = new SyncState();
+    final AtomicInteger inFlight = new AtomicInteger();
+    volatile int chunkCalls = 0;
+    volatile long latencyMillis = 0;
+    volatile CountDownLatch requests;
+    volatile int failAfterUSN = -1;
+    volatile EDAMSystemException failure;
+
+    FakeNoteStoreClient(int updateCount) {
+      super("token");
+      state.setCurrentTime(1000L);
+      state.setUpdateCount(updateCount);
+    }
+
+    @Override
+    public SyncState getSyncState() {
+      return state;
+    }
+
+    @Override
+    public SyncChunk getSyncChunk(int afterUSN, int maxEntries,
+        boolean fullSyncOnly) throws EDAMSystemException {
+      inFlight.incrementAndGet();
+      try {
+        return fetch(afterUSN, maxEntries);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+
+    private SyncChunk fetch(int afterUSN, int maxEntries)
+        throws EDAMSystemException {
+      chunkCalls++;
+      if (requests != null) {
+        requests.countDown();
+      }
+      if (afterUSN == failAfterUSN) {
+        throw failure;
+      }
+      if (latencyMillis > 0) {
+        // Like a blocking socket read, the request ignores interrupts
+        long end = System.currentTimeMillis() + latencyMillis;
+        boolean interrupted = false;
+        long left = latencyMillis;
+        while (left > 0) {
+          try {
+            Thread.sleep(left);
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+          left = end - System.currentTimeMillis();
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      SyncChunk chunk = new SyncChunk();
+      chunk.setCurrentTime(state.getCurrentTime());
+      chunk.setUpdateCount(state.getUpdateCount());
+      int high = Math.min(afterUSN + maxEntries, state.getUpdateCount());
+      for (int usn = afterUSN + 1; usn <= high; usn++) {
+        Note note = new Note();
+        note.setGuid("note-" + usn);
+        note.setUpdateSequenceNum(usn);
+        chunk.addToNotes(note);
+      }
+      if (high > afterUSN) {
+        chunk.setChunkHighUSN(high);
+      }
+      return chunk;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.edam.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class HashCodeTest {
+
+  private static Note note() {
+    Note note = new Note();
+    note.setGuid("0a1b2c3d-0000-1111-2222-333344445555");
+    note.setTitle("Title");
+    note.setContentHash(new byte[] {1, 2, 3, 4});
+    note.setContentLength(42);
+    note.setCreated(1234567890123L);
+    note.setActive(true);
+    note.addToTagGuids("tag");
+    NoteAttributes attributes = new NoteAttributes();
+    attributes.setLatitude(-0.0);
+    note.setAttributes(attributes);
+    return note;
+  }
+
+  @Test
+  public void testEqualStructsHashAlike() {
+    Note a = note();
+    Note b = note();
+    b.getAttributes().setLatitude(0.0);
+    assertTrue(a.equals(b));
+    assertEquals(a.hashCode(), b.hashCode());
+    assertEquals(a.hashCode(), a.deepCopy().hashCode());
+  }
+
+  @Test
+  public void testUnsetFieldsDoNotContribute() {
+    Note a = note();
+    Note b = note();
+    b.setUpdated(1234567890456L);
+    assertFalse(a.equals(b));
+    assertFalse(a.hashCode() == b.hashCode());
+
+    b.setUpdatedIsSet(false);
+    assertEquals(a.hashCode(), b.hashCode());
+  }
+
+  @Test
+  public void testHashSetDeduplicates() {
+    Set<Note> notes = new HashSet<Note>();
+    notes.add(note());
+    notes.add(note());
+    Note other = note();
+    other.setTitle("Other");
+    notes.add(other);
+    assertEquals(2, notes.size());
+  }
+}
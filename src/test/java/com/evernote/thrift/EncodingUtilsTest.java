@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.evernote.edam.type.NotebookRestrictions;
+
+public class EncodingUtilsTest {
+
+  @Test
+  public void testBitOperations() {
+    byte b = EncodingUtils.setBit((byte) 0, 7, true);
+    assertTrue(EncodingUtils.testBit(b, 7));
+    assertFalse(EncodingUtils.testBit(b, 6));
+    assertEquals(0, EncodingUtils.clearBit(b, 7));
+
+    short s = EncodingUtils.setBit((short) 0, 15, true);
+    assertTrue(EncodingUtils.testBit(s, 15));
+    assertEquals(0, EncodingUtils.setBit(s, 15, false));
+
+    long l = EncodingUtils.setBit(0L, 63, true);
+    assertTrue(EncodingUtils.testBit(l, 63));
+    assertFalse(EncodingUtils.testBit(l, 31));
+    assertEquals(0L, EncodingUtils.clearBit(l, 63));
+  }
+
+  @Test
+  public void testIssetFieldsAreIndependent() {
+    NotebookRestrictions restrictions = new NotebookRestrictions();
+    restrictions.setNoCreateSharedNotebooks(false);
+    restrictions.setNoReadNotes(true);
+    assertTrue(restrictions.isSetNoCreateSharedNotebooks());
+    assertTrue(restrictions.isSetNoReadNotes());
+    assertFalse(restrictions.isSetNoSetParentTag());
+
+    NotebookRestrictions copy = restrictions.deepCopy();
+    assertTrue(copy.isSetNoCreateSharedNotebooks());
+    copy.unsetNoReadNotes();
+    assertFalse(copy.isSetNoReadNotes());
+    assertTrue(restrictions.isSetNoReadNotes());
+    assertTrue(copy.isSetNoCreateSharedNotebooks());
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+import com.evernote.edam.notestore.NoteMetadata;
+import com.evernote.edam.notestore.NotesMetadataList;
+import com.evernote.edam.type.Data;
+import com.evernote.edam.type.LazyMap;
+import com.evernote.edam.type.Note;
+import com.evernote.edam.type.NoteAttributes;
+import com.evernote.edam.type.Resource;
+import com.evernote.thrift.transport.MemoryTransport;
+
+public class TBinaryProtocolTest {
+
+  static final Charset UTF8 = Charset.forName("UTF-8");
+
+  static final String[] STRINGS = { "", "0a1b2c3d-4e5f-6789-abcd-ef0123456789",
+      "caf\u00e9", "\u65e5\u672c\u8a9e", "\ud83d\ude00 emoji",
+      "unpaired \ud83d high", "unpaired \ude00 low", "trailing \ud83d" };
+
+  @Test
+  public void testWriteStringMatchesCharsetEncoder() throws Exception {
+    for (String str : STRINGS) {
+      assertEncoding(str);
+    }
+  }
+
+  @Test
+  public void testWriteLongString() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      sb.append("<div>\u00e9\u65e5\ud83d\ude00</div>");
+    }
+    assertEncoding(sb.toString());
+
+    // Multi-byte characters straddling the scratch buffer boundary
+    for (int offset = 8185; offset < 8195; offset++) {
+      sb.setLength(0);
+      for (int i = 0; i < offset; i++) {
+        sb.append('a');
+      }
+      sb.append("\u65e5\ud83d\ude00\u00e9");
+      assertEncoding(sb.toString());
+    }
+  }
+
+  @Test
+  public void testStringRoundTrip() throws Exception {
+    MemoryTransport transport = new MemoryTransport(true);
+    TBinaryProtocol prot = new TBinaryProtocol(transport);
+    for (String str : STRINGS) {
+      if (str.indexOf("unpaired") < 0 && str.indexOf("trailing") < 0) {
+        prot.writeString(str);
+      }
+    }
+    for (String str : STRINGS) {
+      if (str.indexOf("unpaired") < 0 && str.indexOf("trailing") < 0) {
+        assertEquals(str, prot.readString());
+      }
+    }
+  }
+
+  @Test
+  public void testReadStringMatchesCharsetDecoder() throws Exception {
+    byte[][] inputs = { "plain ascii".getBytes(UTF8),
+        STRINGS[2].getBytes(UTF8), STRINGS[3].getBytes(UTF8),
+        STRINGS[4].getBytes(UTF8),
+        // Truncated, overlong, encoded surrogate, out of range, stray
+        { 'a', (byte) 0xe6, (byte) 0x97 }, { (byte) 0xc0, (byte) 0x80 },
+        { (byte) 0xed, (byte) 0xa0, (byte) 0x80 },
+        { (byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80 },
+        { (byte) 0x80, 'b' } };
+    for (boolean buffered : new boolean[] { false, true }) {
+      MemoryTransport transport = new MemoryTransport(buffered);
+      TBinaryProtocol prot = new TBinaryProtocol(transport);
+      for (byte[] input : inputs) {
+        prot.writeBinary(input, 0, input.length);
+      }
+      for (byte[] input : inputs) {
+        assertEquals(UTF8.decode(ByteBuffer.wrap(input)).toString(),
+            prot.readString());
+      }
+    }
+  }
+
+  @Test
+  public void testGuidsAreInterned() throws Exception {
+    String guid = STRINGS[1];
+    TStringInterner interner = new TStringInterner(16);
+    for (boolean buffered : new boolean[] { false, true }) {
+      MemoryTransport transport = new MemoryTransport(buffered);
+      TBinaryProtocol prot = new TBinaryProtocol(transport);
+      prot.setStringInterner(interner);
+      prot.writeString(guid);
+      prot.writeString(guid);
+      prot.writeString("not-a-guid-but-thirty-six-characters");
+
+      String first = prot.readString();
+      assertEquals(guid, first);
+      assertSame(first, prot.readString());
+      String other = prot.readString();
+      assertEquals("not-a-guid-but-thirty-six-characters", other);
+    }
+    assertEquals(16, interner.getCapacity());
+  }
+
+  @Test
+  public void testHeadersReadAsPrimitives() throws Exception {
+    MemoryTransport transport = new MemoryTransport(true);
+    TBinaryProtocol prot = new TBinaryProtocol(transport);
+    prot.writeFieldBegin(new TField("f", TType.LIST, (short) 300));
+    prot.writeListBegin(new TList(TType.STRING, 7));
+    prot.writeMapBegin(new TMap(TType.STRING, TType.I32, 2));
+    prot.writeFieldBegin(new TField("neg", TType.I32, (short) -1));
+    prot.writeFieldStop();
+
+    int header = prot.readFieldBeginHeader();
+    assertEquals(TType.LIST, TProtocol.fieldType(header));
+    assertEquals(300, TProtocol.fieldId(header));
+    assertEquals(7, prot.readListBeginSize());
+    assertEquals(2, prot.readMapBeginSize());
+    header = prot.readFieldBeginHeader();
+    assertEquals(TType.I32, TProtocol.fieldType(header));
+    assertEquals(-1, TProtocol.fieldId(header));
+    assertEquals(TType.STOP, TProtocol.fieldType(prot.readFieldBeginHeader()));
+  }
+
+  @Test
+  public void testStructRoundTrip() throws Exception {
+    NotesMetadataList list = new NotesMetadataList();
+    list.setStartIndex(0);
+    list.setTotalNotes(2);
+    list.setUpdateCount(42);
+    for (int i = 0; i < 2; i++) {
+      NoteMetadata metadata = new NoteMetadata();
+      metadata.setGuid(STRINGS[1]);
+      metadata.setTitle(STRINGS[3] + i);
+      metadata.addToTagGuids("tag-" + i);
+      metadata.addToTagGuids("tag-shared");
+      NoteAttributes attributes = new NoteAttributes();
+      attributes.setAuthor(STRINGS[2]);
+      metadata.setAttributes(attributes);
+      list.addToNotes(metadata);
+    }
+    list.addToSearchedWords("word");
+
+    MemoryTransport transport = new MemoryTransport(true);
+    list.write(new TBinaryProtocol(transport));
+    NotesMetadataList read = new NotesMetadataList();
+    read.read(new TBinaryProtocol(transport));
+    assertEquals(list, read);
+  }
+
+  @Test
+  public void testLazyDecoding() throws Exception {
+    StringBuilder content = new StringBuilder();
+    while (content.length() < TBinaryProtocol.MIN_SHARED_SLICE_SIZE) {
+      content.append(STRINGS[3]).append(STRINGS[4]);
+    }
+    Note note = new Note();
+    note.setGuid(STRINGS[1]);
+    note.setContent(content.toString());
+    Resource small = new Resource();
+    small.setData(new Data());
+    small.getData().setBody(new byte[] {1, 2, 3});
+    Resource large = new Resource();
+    large.setData(new Data());
+    large.getData().setBody(new byte[TBinaryProtocol.MIN_SHARED_SLICE_SIZE]);
+    large.getData().setBodyHash(new byte[] {4, 5, 6});
+    note.addToResources(small);
+    note.addToResources(large);
+
+    MemoryTransport transport = new MemoryTransport(true);
+    note.write(new TBinaryProtocol(transport));
+    byte[] written = transport.getWritten();
+    TBinaryProtocol prot = new TBinaryProtocol(transport);
+    prot.setLazyDecoding(true);
+    Note read = new Note();
+    read.read(prot);
+
+    // Large bodies are sliced out of the transport buffer, small ones copied
+    ByteBuffer largeBody = read.getResources().get(1).getData().bufferForBody();
+    assertEquals(written.length, largeBody.array().length);
+    ByteBuffer smallBody = read.getResources().get(0).getData().bufferForBody();
+    assertEquals(3, smallBody.array().length);
+
+    // Writing an untouched note sends the raw bytes back unchanged
+    MemoryTransport rewritten = new MemoryTransport();
+    read.write(new TBinaryProtocol(rewritten));
+    assertArrayEquals(written, rewritten.getWritten());
+
+    assertTrue(read.isSetContent());
+    assertEquals(note, read);
+    assertEquals(large.getData().hashCode(),
+        read.getResources().get(1).getData().hashCode());
+    // Comparing and hashing leave lazily read bodies in the response buffer
+    largeBody = read.getResources().get(1).getData().bufferForBody();
+    assertEquals(written.length, largeBody.array().length);
+    assertEquals(content.toString(), read.getContent());
+    assertArrayEquals(new byte[] {1, 2, 3}, read.getResources().get(0).getData().getBody());
+  }
+
+  @Test
+  public void testProjection() throws Exception {
+    Note note = new Note();
+    note.setGuid(STRINGS[1]);
+    note.setTitle(STRINGS[3]);
+    note.setContent(STRINGS[4]);
+    note.setUpdateSequenceNum(7);
+    note.addToTagGuids("tag");
+    Resource resource = new Resource();
+    resource.setGuid(STRINGS[1]);
+    resource.setData(new Data());
+    resource.getData().setBody(new byte[] {1, 2, 3});
+    note.addToResources(resource);
+    NoteAttributes attributes = new NoteAttributes();
+    attributes.setAuthor(STRINGS[2]);
+    attributes.setSource("mobile");
+    note.setAttributes(attributes);
+
+    MemoryTransport transport = new MemoryTransport(true);
+    note.write(new TBinaryProtocol(transport));
+    TBinaryProtocol prot = new TBinaryProtocol(transport);
+    prot.setProjection(new TProjection()
+        .include(Note.class, "guid", "updateSequenceNum", "resources", "attributes")
+        .include(Resource.class, "guid")
+        .include(NoteAttributes.class, "author"));
+    Note read = new Note();
+    read.read(prot);
+
+    assertEquals(STRINGS[1], read.getGuid());
+    assertEquals(7, read.getUpdateSequenceNum());
+    assertFalse(read.isSetTitle());
+    assertFalse(read.isSetContent());
+    assertFalse(read.isSetTagGuids());
+    assertEquals(STRINGS[1], read.getResources().get(0).getGuid());
+    assertFalse(read.getResources().get(0).isSetData());
+    assertEquals(STRINGS[2], read.getAttributes().getAuthor());
+    assertFalse(read.getAttributes().isSetSource());
+    assertEquals(0, transport.getBytesRemainingInBuffer());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testProjectionRejectsUnknownField() {
+    new TProjection().include(Note.class, "guid", "noSuchField");
+  }
+
+  @Test
+  public void testSkip() throws Exception {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      content.append(STRINGS[4]);
+    }
+    Note note = new Note();
+    note.setGuid(STRINGS[1]);
+    note.setContent(content.toString());
+    note.setContentHash(new byte[16]);
+    note.setCreated(1L);
+    note.setActive(true);
+    note.addToTagGuids("a");
+    note.addToTagGuids("b");
+    NoteAttributes attributes = new NoteAttributes();
+    attributes.setLatitude(1.5);
+    LazyMap applicationData = new LazyMap();
+    applicationData.addToKeysOnly("key");
+    applicationData.putToFullMap("key", "value");
+    attributes.setApplicationData(applicationData);
+    note.setAttributes(attributes);
+
+    for (boolean buffered : new boolean[] {false, true}) {
+      MemoryTransport transport = new MemoryTransport(buffered);
+      TBinaryProtocol prot = new TBinaryProtocol(transport);
+      note.write(prot);
+      prot.writeI32(42);
+      TProtocolUtil.skip(prot, TType.STRUCT);
+      assertEquals(42, prot.readI32());
+    }
+  }
+
+  static void assertEncoding(String str) throws Exception {
+    MemoryTransport transport = new MemoryTransport();
+    new TBinaryProtocol(transport).writeString(str);
+
+    ByteBuffer encoded = UTF8.encode(str);
+    byte[] expected = new byte[4 + encoded.remaining()];
+    ByteBuffer.wrap(expected).putInt(encoded.remaining()).put(encoded);
+    assertArrayEquals(str, expected, transport.getWritten());
+    assertEquals(expected.length - 4, TBinaryProtocol.utf8Length(str));
+  }
+}
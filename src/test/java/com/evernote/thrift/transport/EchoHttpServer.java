@@ -0,0 +1,227 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift.transport;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Minimal HTTP/1.1 server for transport tests. Echoes every POST body back,
+ * either with a Content-Length or chunked, and keeps connections alive.
+ */
+class EchoHttpServer implements Runnable {
+
+  private final ServerSocket serverSocket;
+  private final String scheme;
+  private volatile boolean chunked = false;
+  private volatile int accepted = 0;
+  private volatile String lastTransferEncoding = null;
+  private volatile int requestsPerConnection = 0;
+  private volatile boolean stalled = false;
+  private volatile int requests = 0;
+
+  EchoHttpServer() throws IOException {
+    this(new ServerSocket(0), "http");
+  }
+
+  /**
+   * @param serverSocket a bound socket to accept connections on, for example
+   *   an SSLServerSocket for https
+   */
+  EchoHttpServer(ServerSocket serverSocket, String scheme) {
+    this.serverSocket = serverSocket;
+    this.scheme = scheme;
+    Thread thread = new Thread(this, "EchoHttpServer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  String getUrl() {
+    return getUrl("localhost");
+  }
+
+  String getUrl(String host) {
+    return scheme + "://" + host + ":" + serverSocket.getLocalPort() + "/shard/s1/notestore";
+  }
+
+  int getAcceptedConnections() {
+    return accepted;
+  }
+
+  String getLastTransferEncoding() {
+    return lastTransferEncoding;
+  }
+
+  int getRequests() {
+    return requests;
+  }
+
+  void setChunked(boolean chunked) {
+    this.chunked = chunked;
+  }
+
+  /**
+   * @param requestsPerConnection the requests answered on a connection before
+   *   it is closed without notice, as an idle keep-alive connection would be.
+   *   0 keeps connections open.
+   */
+  void setRequestsPerConnection(int requestsPerConnection) {
+    this.requestsPerConnection = requestsPerConnection;
+  }
+
+  /**
+   * @param stalled whether requests are read but never answered
+   */
+  void setStalled(boolean stalled) {
+    this.stalled = stalled;
+  }
+
+  void close() throws IOException {
+    serverSocket.close();
+  }
+
+  public void run() {
+    while (true) {
+      final Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (IOException e) {
+        return;
+      }
+      accepted++;
+      Thread worker = new Thread(new Runnable() {
+        public void run() {
+          try {
+            serve(socket);
+          } catch (IOException e) {
+            // client went away
+          } finally {
+            try {
+              socket.close();
+            } catch (IOException e) {
+              // ignore
+            }
+          }
+        }
+      });
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  private void serve(Socket socket) throws IOException {
+    InputStream in = new BufferedInputStream(socket.getInputStream());
+    OutputStream out = socket.getOutputStream();
+    for (int served = 0;; served++) {
+      if (requestsPerConnection > 0 && served == requestsPerConnection) {
+        return;
+      }
+      String line = readLine(in);
+      if (line == null) {
+        return;
+      }
+      int contentLength = -1;
+      String transferEncoding = null;
+      while ((line = readLine(in)) != null && line.length() > 0) {
+        String lower = line.toLowerCase();
+        if (lower.startsWith("content-length:")) {
+          contentLength = Integer.parseInt(line.substring(15).trim());
+        } else if (lower.startsWith("transfer-encoding:")) {
+          transferEncoding = line.substring(18).trim();
+        }
+      }
+      lastTransferEncoding = transferEncoding;
+
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      if (contentLength >= 0) {
+        for (int i = 0; i < contentLength; i++) {
+          body.write(in.read());
+        }
+      } else {
+        while (true) {
+          int size = Integer.parseInt(readLine(in).trim(), 16);
+          for (int i = 0; i < size; i++) {
+            body.write(in.read());
+          }
+          readLine(in);
+          if (size == 0) {
+            break;
+          }
+        }
+      }
+
+      requests++;
+      if (stalled) {
+        // Hold the connection until the client gives up
+        while (in.read() != -1) {
+          ;
+        }
+        return;
+      }
+
+      byte[] data = body.toByteArray();
+      if (chunked) {
+        out.write("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n".getBytes("ISO-8859-1"));
+        int half = data.length / 2;
+        writeChunk(out, data, 0, half);
+        writeChunk(out, data, half, data.length - half);
+        out.write("0\r\n\r\n".getBytes("ISO-8859-1"));
+      } else {
+        out.write(("HTTP/1.1 200 OK\r\nContent-Length: " + data.length + "\r\n\r\n").getBytes("ISO-8859-1"));
+        out.write(data);
+      }
+      out.flush();
+    }
+  }
+
+  private static void writeChunk(OutputStream out, byte[] data, int off, int len) throws IOException {
+    if (len == 0) {
+      return;
+    }
+    out.write((Integer.toHexString(len) + "\r\n").getBytes("ISO-8859-1"));
+    out.write(data, off, len);
+    out.write("\r\n".getBytes("ISO-8859-1"));
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    int b;
+    while ((b = in.read()) != -1 && b != '\n') {
+      if (b != '\r') {
+        sb.append((char) b);
+      }
+    }
+    if (b == -1 && sb.length() == 0) {
+      return null;
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift.transport;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * In-memory transport for protocol tests. Bytes written are read back in
+ * order. When buffered, reads are also offered through the buffer API, the
+ * way {@link THttpClient} serves a buffered response.
+ */
+public class MemoryTransport extends TTransport {
+
+  private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+  private final boolean buffered;
+  private byte[] input;
+  private int pos;
+
+  public MemoryTransport() {
+    this(false);
+  }
+
+  public MemoryTransport(boolean buffered) {
+    this.buffered = buffered;
+  }
+
+  /** @return everything written so far */
+  public byte[] getWritten() {
+    return written.toByteArray();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public void open() {
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public int read(byte[] buf, int off, int len) {
+    int n = Math.min(len, input().length - pos);
+    System.arraycopy(input, pos, buf, off, n);
+    pos += n;
+    return n;
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) {
+    written.write(buf, off, len);
+    input = null;
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return buffered ? input() : null;
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return buffered ? pos : 0;
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return buffered ? input().length - pos : -1;
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    pos += len;
+  }
+
+  @Override
+  public boolean shareBuffer() {
+    // input is a fresh snapshot that is never written to
+    return buffered;
+  }
+
+  private byte[] input() {
+    if (input == null) {
+      input = written.toByteArray();
+    }
+    return input;
+  }
+}
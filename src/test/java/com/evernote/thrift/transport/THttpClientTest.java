@@ -0,0 +1,172 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.evernote.edam.type.Note;
+import com.evernote.thrift.protocol.TBinaryProtocol;
+
+public class THttpClientTest {
+
+  EchoHttpServer server;
+
+  @Before
+  public void initialize() throws Exception {
+    server = new EchoHttpServer();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    server.close();
+  }
+
+  @Test
+  public void testBufferedResponse() throws Exception {
+    THttpClient transport = new THttpClient(server.getUrl());
+    transport.setBufferResponse(true);
+
+    Note note = createNote();
+    Note echoed = roundTrip(transport, note);
+
+    assertEquals(note, echoed);
+    assertEquals(0, transport.getBytesRemainingInBuffer());
+  }
+
+  @Test
+  public void testBufferedResponseOverPool() throws Exception {
+    THttpConnectionPool pool = new THttpConnectionPool();
+    server.setChunked(true);
+    THttpClient transport = new THttpClient(server.getUrl(), pool);
+    transport.setBufferResponse(true);
+
+    Note note = createNote();
+    assertEquals(note, roundTrip(transport, note));
+    assertEquals(note, roundTrip(transport, note));
+    assertEquals(1, pool.getCreatedConnections());
+    pool.close();
+  }
+
+  @Test
+  public void testChunkedStreamingRequest() throws Exception {
+    THttpClient transport = new THttpClient(server.getUrl());
+    transport.setChunkedStreamingMode(4096);
+
+    Note note = createNote();
+    assertEquals(note, roundTrip(transport, note));
+    assertEquals("chunked", server.getLastTransferEncoding());
+  }
+
+  @Test
+  public void testLargeWriteIsNotBuffered() throws Exception {
+    THttpConnectionPool pool = new THttpConnectionPool();
+    THttpClient transport = new THttpClient(server.getUrl(), pool);
+    transport.setChunkedStreamingMode(4096);
+
+    byte[] head = new byte[100];
+    byte[] body = new byte[1024 * 1024];
+    new Random(7).nextBytes(body);
+    transport.write(head);
+    transport.write(body);
+    transport.flush();
+
+    // Only the small write was ever buffered
+    assertTrue(transport.getRequestBufferCapacity() < 4096);
+    byte[] echoed = new byte[head.length + body.length];
+    transport.readAll(echoed, 0, echoed.length);
+    for (int i = 0; i < body.length; i++) {
+      assertEquals(body[i], echoed[head.length + i]);
+    }
+    assertEquals("chunked", server.getLastTransferEncoding());
+    pool.close();
+  }
+
+  @Test
+  public void testChunkedStreamingRequestOverPool() throws Exception {
+    THttpConnectionPool pool = new THttpConnectionPool();
+    THttpClient transport = new THttpClient(server.getUrl(), pool);
+    transport.setChunkedStreamingMode(4096);
+    transport.setBufferResponse(true);
+
+    Note note = createNote();
+    assertEquals(note, roundTrip(transport, note));
+    assertEquals("chunked", server.getLastTransferEncoding());
+
+    // Requests below one chunk are still sent with a Content-Length
+    Note small = new Note();
+    small.setGuid("small");
+    assertEquals(small, roundTrip(transport, small));
+    assertNull(server.getLastTransferEncoding());
+    assertEquals(1, pool.getCreatedConnections());
+    pool.close();
+  }
+
+  @Test
+  public void testUnbufferedResponse() throws Exception {
+    THttpClient transport = new THttpClient(server.getUrl());
+
+    Note note = createNote();
+    assertEquals(note, roundTrip(transport, note));
+    assertEquals(-1, transport.getBytesRemainingInBuffer());
+  }
+
+  private static Note roundTrip(THttpClient transport, Note note)
+      throws Exception {
+    TBinaryProtocol protocol = new TBinaryProtocol(transport);
+    note.write(protocol);
+    transport.flush();
+    Note echoed = new Note();
+    echoed.read(protocol);
+    return echoed;
+  }
+
+  private static Note createNote() {
+    Note note = new Note();
+    note.setGuid("0b1d5ab8-6c1a-4d8e-9a36-2e4f0a7b9c11");
+    note.setTitle("THttpClientTest");
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      content.append("<div>line ").append(i).append("</div>");
+    }
+    note.setContent(content.toString());
+    note.setUpdateSequenceNum(42);
+    List<String> tagGuids = new ArrayList<String>();
+    tagGuids.add("tag-1");
+    tagGuids.add("tag-2");
+    note.setTagGuids(tagGuids);
+    return note;
+  }
+}
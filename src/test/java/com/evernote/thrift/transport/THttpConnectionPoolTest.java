@@ -0,0 +1,215 @@
+/*
+ * Copyright 2013 Evernote Corporation
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+ * BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE
+ * OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.evernote.thrift.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.security.KeyStore;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class THttpConnectionPoolTest {
+
+  EchoHttpServer server;
+  THttpConnectionPool pool;
+
+  @Before
+  public void initialize() throws Exception {
+    server = new EchoHttpServer();
+    pool = new THttpConnectionPool(1);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pool.close();
+    server.close();
+  }
+
+  @Test
+  public void testConnectionIsReused() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    for (int i = 0; i < 3; i++) {
+      byte[] request = ("request " + i).getBytes("UTF-8");
+      assertArrayEquals(request, roundTrip(client, request));
+    }
+
+    assertEquals(1, server.getAcceptedConnections());
+    assertEquals(1, pool.getCreatedConnections());
+    assertEquals(2, pool.getReusedConnections());
+    assertEquals(0, pool.getLeasedConnections());
+    assertEquals(1, pool.getIdleConnections());
+  }
+
+  @Test
+  public void testChunkedResponse() throws Exception {
+    server.setChunked(true);
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    for (int i = 0; i < 2; i++) {
+      byte[] request = ("chunked request " + i).getBytes("UTF-8");
+      assertArrayEquals(request, roundTrip(client, request));
+    }
+    assertEquals(1, pool.getCreatedConnections());
+  }
+
+  @Test
+  public void testChunkedResponseReleasesConnectionWhenRead() throws Exception {
+    server.setChunked(true);
+    pool.setLeaseTimeout(200);
+    // Each client reads its message and is left open; none may keep the
+    // only connection leased past the end of its response
+    for (int i = 0; i < 3; i++) {
+      THttpClient client = new THttpClient(server.getUrl(), pool);
+      byte[] request = ("chunked request " + i).getBytes("UTF-8");
+      assertArrayEquals(request, roundTrip(client, request));
+      assertEquals(0, pool.getLeasedConnections());
+    }
+    assertEquals(0, pool.getLeaseTimeouts());
+    assertEquals(1, pool.getCreatedConnections());
+  }
+
+  @Test
+  public void testLeaseTimesOutWhenExhausted() throws Exception {
+    pool.setLeaseTimeout(50);
+    URL url = new URL(server.getUrl());
+    THttpConnection leased = pool.lease(url, 0);
+    try {
+      pool.lease(url, 0);
+      fail("lease should time out");
+    } catch (TTransportException e) {
+      assertEquals(TTransportException.TIMED_OUT, e.getType());
+    }
+    assertEquals(1, pool.getExhaustedLeases());
+    assertEquals(1, pool.getLeaseTimeouts());
+
+    pool.release(leased, true);
+    pool.release(pool.lease(url, 0), true);
+    assertEquals(1, pool.getReusedConnections());
+  }
+
+  @Test
+  public void testExpiredConnectionsAreEvicted() throws Exception {
+    pool.setIdleTimeout(0);
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    roundTrip(client, new byte[] { 1 });
+    Thread.sleep(5);
+    pool.closeExpiredConnections();
+
+    assertEquals(0, pool.getIdleConnections());
+    assertEquals(1, pool.getEvictedConnections());
+  }
+
+  @Test
+  public void testDroppedConnectionIsRetriedOnce() throws Exception {
+    server.setRequestsPerConnection(1);
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    for (int i = 0; i < 3; i++) {
+      byte[] request = ("request " + i).getBytes("UTF-8");
+      assertArrayEquals(request, roundTrip(client, request));
+    }
+    assertEquals(3, server.getAcceptedConnections());
+    assertEquals(3, server.getRequests());
+  }
+
+  @Test
+  public void testReadTimeoutIsNotRetried() throws Exception {
+    THttpClient client = new THttpClient(server.getUrl(), pool);
+    client.setReadTimeout(200);
+    roundTrip(client, new byte[] { 1 });
+
+    server.setStalled(true);
+    try {
+      roundTrip(client, new byte[] { 2 });
+      fail("request should time out");
+    } catch (TTransportException e) {
+      // expected
+    }
+    assertEquals(2, server.getRequests());
+    assertEquals(1, server.getAcceptedConnections());
+  }
+
+  @Test
+  public void testHttpsVerifiesHostname() throws Exception {
+    // The test certificate is issued to the DNS name localhost only
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    InputStream in = getClass().getResourceAsStream("localhost.jks");
+    try {
+      keyStore.load(in, "changeit".toCharArray());
+    } finally {
+      in.close();
+    }
+    KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(
+        KeyManagerFactory.getDefaultAlgorithm());
+    keyManagers.init(keyStore, "changeit".toCharArray());
+    TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(
+        TrustManagerFactory.getDefaultAlgorithm());
+    trustManagers.init(keyStore);
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(keyManagers.getKeyManagers(),
+        trustManagers.getTrustManagers(), null);
+
+    EchoHttpServer tlsServer = new EchoHttpServer(context
+        .getServerSocketFactory().createServerSocket(0), "https");
+    try {
+      pool.setSSLSocketFactory(context.getSocketFactory());
+      THttpClient client = new THttpClient(tlsServer.getUrl("localhost"), pool);
+      byte[] request = "over tls".getBytes("UTF-8");
+      assertArrayEquals(request, roundTrip(client, request));
+      assertArrayEquals(request, roundTrip(client, request));
+      assertEquals(1, tlsServer.getAcceptedConnections());
+
+      client = new THttpClient(tlsServer.getUrl("127.0.0.1"), pool);
+      try {
+        roundTrip(client, request);
+        fail("the certificate does not name 127.0.0.1");
+      } catch (TTransportException e) {
+        assertTrue(String.valueOf(e.getMessage()).indexOf(
+            "Hostname verification failed") >= 0);
+      }
+    } finally {
+      tlsServer.close();
+    }
+  }
+
+  private static byte[] roundTrip(THttpClient client, byte[] request)
+      throws TTransportException {
+    client.write(request);
+    client.flush();
+    byte[] response = new byte[request.length];
+    client.readAll(response, 0, response.length);
+    return response;
+  }
+}